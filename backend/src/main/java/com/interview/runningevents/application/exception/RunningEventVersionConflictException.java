@@ -0,0 +1,27 @@
+package com.interview.runningevents.application.exception;
+
+/**
+ * Exception thrown when a running event is changed based on a version that is no longer current,
+ * i.e. someone else modified the event after the client read it.
+ */
+public class RunningEventVersionConflictException extends RuntimeException {
+
+    /**
+     * Creates a new RunningEventVersionConflictException with a default message.
+     *
+     * @param id The ID of the running event
+     * @param expectedVersion The version the client expected the event to have
+     */
+    public RunningEventVersionConflictException(Long id, Long expectedVersion) {
+        super("Running event with ID " + id + " no longer has version " + expectedVersion);
+    }
+
+    /**
+     * Creates a new RunningEventVersionConflictException with the specified message.
+     *
+     * @param message The error message
+     */
+    public RunningEventVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,59 @@
+package com.interview.runningevents.application.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of a single item of a batch operation.
+ * Exactly one of id and error is set.
+ */
+@Data
+@AllArgsConstructor
+public class BatchItemResult {
+
+    /**
+     * The position of the item in the submitted batch (0-based).
+     */
+    private final int index;
+
+    /**
+     * The ID assigned to the item, or null if it failed.
+     */
+    private final Long id;
+
+    /**
+     * The reason the item failed, or null if it succeeded.
+     */
+    private final String error;
+
+    /**
+     * Creates a result for an item that was stored.
+     *
+     * @param index The position of the item in the batch
+     * @param id The ID assigned to the item
+     * @return A successful result
+     */
+    public static BatchItemResult created(int index, Long id) {
+        return new BatchItemResult(index, id, null);
+    }
+
+    /**
+     * Creates a result for an item that was rejected or could not be stored.
+     *
+     * @param index The position of the item in the batch
+     * @param error The reason the item failed
+     * @return A failed result
+     */
+    public static BatchItemResult failed(int index, String error) {
+        return new BatchItemResult(index, null, error);
+    }
+
+    /**
+     * Checks whether the item was stored.
+     *
+     * @return true if the item has an ID
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.interview.runningevents.application.model;
+
+import com.interview.runningevents.domain.model.RunningEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A single record read from an import file.
+ * Exactly one of event and error is set.
+ */
+@Data
+@AllArgsConstructor
+public class ImportRecord {
+
+    /**
+     * The line of the file the record starts on (1-based).
+     */
+    private final long lineNumber;
+
+    /**
+     * The parsed running event, or null if the record was rejected.
+     */
+    private final RunningEvent event;
+
+    /**
+     * The reason the record was rejected, or null if it was parsed.
+     */
+    private final String error;
+
+    /**
+     * Creates a record holding a parsed running event.
+     *
+     * @param lineNumber The line the record starts on
+     * @param event The parsed running event
+     * @return A record to be inserted
+     */
+    public static ImportRecord parsed(long lineNumber, RunningEvent event) {
+        return new ImportRecord(lineNumber, event, null);
+    }
+
+    /**
+     * Creates a record that was rejected while reading or storing it.
+     *
+     * @param lineNumber The line the record starts on
+     * @param error The reason the record was rejected
+     * @return A rejected record
+     */
+    public static ImportRecord rejected(long lineNumber, String error) {
+        return new ImportRecord(lineNumber, null, error);
+    }
+
+    /**
+     * Checks whether the record holds a running event to insert.
+     *
+     * @return true if the record was not rejected
+     */
+    public boolean isParsed() {
+        return error == null;
+    }
+}
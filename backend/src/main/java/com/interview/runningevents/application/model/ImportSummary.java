@@ -0,0 +1,36 @@
+package com.interview.runningevents.application.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of a streamed import.
+ * Only the counts cover every record; the rejected records themselves are reported up to a limit,
+ * so the summary of a large import stays small.
+ */
+@Data
+@AllArgsConstructor
+public class ImportSummary {
+
+    /**
+     * The number of running events inserted.
+     */
+    private final long inserted;
+
+    /**
+     * The number of records rejected or not stored.
+     */
+    private final long rejected;
+
+    /**
+     * The rejected records, ordered by line number.
+     */
+    private final List<ImportRecord> rejectedRecords;
+
+    /**
+     * Whether more records were rejected than are listed in rejectedRecords.
+     */
+    private final boolean rejectedRecordsTruncated;
+}
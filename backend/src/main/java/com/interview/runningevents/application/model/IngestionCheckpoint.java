@@ -0,0 +1,52 @@
+package com.interview.runningevents.application.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of ingesting one file. Everything before offset has been committed.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionCheckpoint {
+
+    /**
+     * The name of the ingested file.
+     */
+    private String source;
+
+    /**
+     * Identifies the content of the file (its size and modification time); a checkpoint only
+     * applies to the file it was written for.
+     */
+    private String fingerprint;
+
+    /**
+     * The byte offset of the first record not yet committed.
+     */
+    private long offset;
+
+    /**
+     * The line number at offset (1-based).
+     */
+    private long lineNumber;
+
+    /**
+     * The number of events inserted so far.
+     */
+    private long inserted;
+
+    /**
+     * The number of records rejected so far.
+     */
+    private long rejected;
+
+    /**
+     * Whether the whole file has been ingested.
+     */
+    private boolean completed;
+}
@@ -0,0 +1,150 @@
+package com.interview.runningevents.application.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Position of a keyset (seek) page boundary.
+ * A cursor records the sort key and ID of the event at the edge of a page together with the
+ * ordering it was taken from, so the next page can be fetched with a seek predicate instead of an OFFSET.
+ */
+@Data
+@AllArgsConstructor
+public class PageCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final String FORWARD = "F";
+    private static final String BACKWARD = "B";
+
+    /**
+     * The field the page is ordered by.
+     */
+    private final String sortBy;
+
+    /**
+     * The direction the page is ordered in.
+     */
+    private final SortDirection sortDirection;
+
+    /**
+     * The value of the sort field of the boundary event.
+     */
+    private final Comparable<?> sortKey;
+
+    /**
+     * The ID of the boundary event, used as a tie-breaker for equal sort keys.
+     */
+    private final Long id;
+
+    /**
+     * Whether the cursor points to the events before the boundary (previous page)
+     * rather than the events after it (next page).
+     */
+    private final boolean backward;
+
+    /**
+     * Creates a cursor pointing to the events after the given event.
+     *
+     * @param event The last event of the current page
+     * @param sortBy The field the page is ordered by
+     * @param sortDirection The direction the page is ordered in
+     * @return A cursor for the next page
+     */
+    public static PageCursor after(RunningEvent event, String sortBy, SortDirection sortDirection) {
+        return new PageCursor(sortBy, sortDirection, sortKeyOf(event, sortBy), event.getId(), false);
+    }
+
+    /**
+     * Creates a cursor pointing to the events before the given event.
+     *
+     * @param event The first event of the current page
+     * @param sortBy The field the page is ordered by
+     * @param sortDirection The direction the page is ordered in
+     * @return A cursor for the previous page
+     */
+    public static PageCursor before(RunningEvent event, String sortBy, SortDirection sortDirection) {
+        return new PageCursor(sortBy, sortDirection, sortKeyOf(event, sortBy), event.getId(), true);
+    }
+
+    /**
+     * Checks whether this cursor was taken from a page with the given ordering.
+     *
+     * @param sortBy The field to compare with
+     * @param sortDirection The direction to compare with
+     * @return true if the cursor can be used to continue a listing with the given ordering
+     */
+    public boolean matches(String sortBy, SortDirection sortDirection) {
+        return this.sortBy.equals(sortBy) && this.sortDirection == sortDirection;
+    }
+
+    /**
+     * Encodes this cursor into an opaque, URL-safe token.
+     *
+     * @return The encoded cursor
+     */
+    public String encode() {
+        String raw = String.join(
+                SEPARATOR,
+                sortBy,
+                sortDirection.name(),
+                backward ? BACKWARD : FORWARD,
+                String.valueOf(id),
+                String.valueOf(sortKey));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token The encoded cursor
+     * @return The decoded cursor, or null if the token is null or blank
+     * @throws ValidationException if the token is not a valid cursor
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The sort key is last so that string keys may themselves contain the separator
+            String[] parts = raw.split("\\" + SEPARATOR, 5);
+            if (parts.length != 5 || parts[0].isEmpty()) {
+                throw new ValidationException("Invalid cursor");
+            }
+
+            String sortBy = parts[0];
+            SortDirection sortDirection = SortDirection.valueOf(parts[1]);
+            if (!FORWARD.equals(parts[2]) && !BACKWARD.equals(parts[2])) {
+                throw new ValidationException("Invalid cursor");
+            }
+
+            Long id = Long.valueOf(parts[3]);
+            Comparable<?> sortKey = isNumericField(sortBy) ? Long.valueOf(parts[4]) : parts[4];
+
+            return new PageCursor(sortBy, sortDirection, sortKey, id, BACKWARD.equals(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // Covers malformed Base64, unknown sort directions and unparsable numbers
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    private static Comparable<?> sortKeyOf(RunningEvent event, String sortBy) {
+        return switch (sortBy) {
+            case "id" -> event.getId();
+            case "name" -> event.getName();
+            case "location" -> event.getLocation();
+            default -> event.getDateTime();
+        };
+    }
+
+    private static boolean isNumericField(String sortBy) {
+        return "id".equals(sortBy) || "dateTime".equals(sortBy);
+    }
+}
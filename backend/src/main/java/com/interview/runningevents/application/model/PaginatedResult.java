@@ -17,13 +17,18 @@ import lombok.Data;
 @Builder
 public class PaginatedResult<T> {
 
+    /**
+     * Value of totalItems and totalPages when the matching items were not counted.
+     */
+    public static final int UNKNOWN_TOTAL = -1;
+
     /**
      * The data items in the current page.
      */
     private final List<T> items;
 
     /**
-     * The total number of items across all pages.
+     * The total number of items across all pages, or {@link #UNKNOWN_TOTAL} if not counted.
      */
     private final long totalItems;
 
@@ -38,7 +43,7 @@ public class PaginatedResult<T> {
     private final int pageSize;
 
     /**
-     * The total number of pages.
+     * The total number of pages, or {@link #UNKNOWN_TOTAL} if not counted.
      */
     private final int totalPages;
 
@@ -52,6 +57,38 @@ public class PaginatedResult<T> {
      */
     private final boolean hasNext;
 
+    /**
+     * Cursor for fetching the next page with keyset pagination, or null if there is no next page.
+     */
+    private final PageCursor nextCursor;
+
+    /**
+     * Cursor for fetching the previous page with keyset pagination, or null if there is no previous page.
+     */
+    private final PageCursor prevCursor;
+
+    /**
+     * Creates a paginated result without keyset cursors.
+     *
+     * @param items The list of items
+     * @param totalItems The total number of items
+     * @param page The current page number
+     * @param pageSize The page size
+     * @param totalPages The total number of pages
+     * @param hasPrevious Whether there is a previous page
+     * @param hasNext Whether there is a next page
+     */
+    public PaginatedResult(
+            List<T> items,
+            long totalItems,
+            int page,
+            int pageSize,
+            int totalPages,
+            boolean hasPrevious,
+            boolean hasNext) {
+        this(items, totalItems, page, pageSize, totalPages, hasPrevious, hasNext, null, null);
+    }
+
     /**
      * Creates an empty paginated result.
      *
@@ -79,4 +116,29 @@ public class PaginatedResult<T> {
 
         return new PaginatedResult<>(items, totalItems, page, pageSize, totalPages, hasPrevious, hasNext);
     }
+
+    /**
+     * Creates a paginated result for a page that was fetched without counting the matching items.
+     *
+     * @param <T> The type of elements
+     * @param items The list of items
+     * @param page The current page number
+     * @param pageSize The page size
+     * @param hasPrevious Whether there is a previous page
+     * @param hasNext Whether there is a next page
+     * @param nextCursor Cursor for the next page, or null
+     * @param prevCursor Cursor for the previous page, or null
+     * @return A new paginated result with unknown totals
+     */
+    public static <T> PaginatedResult<T> withoutTotals(
+            List<T> items,
+            int page,
+            int pageSize,
+            boolean hasPrevious,
+            boolean hasNext,
+            PageCursor nextCursor,
+            PageCursor prevCursor) {
+        return new PaginatedResult<>(
+                items, UNKNOWN_TOTAL, page, pageSize, UNKNOWN_TOTAL, hasPrevious, hasNext, nextCursor, prevCursor);
+    }
 }
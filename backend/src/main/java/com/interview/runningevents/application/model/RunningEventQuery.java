@@ -7,7 +7,7 @@ import lombok.Data;
  * Parameter object for filtering and paginating running events.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class RunningEventQuery {
 
     /**
@@ -49,4 +49,18 @@ public class RunningEventQuery {
      */
     @Builder.Default
     private SortDirection sortDirection = SortDirection.ASC;
+
+    /**
+     * Whether to count the matching events to fill in totalItems and totalPages.
+     * When false, the page is fetched as a slice (one extra row to detect a next page) and no count query runs.
+     * Defaults to true if not specified.
+     */
+    @Builder.Default
+    private boolean withTotals = true;
+
+    /**
+     * Keyset position to continue listing from.
+     * When specified, the page is located with a seek predicate on the sort key and the page number is ignored.
+     */
+    private PageCursor cursor;
 }
@@ -0,0 +1,36 @@
+package com.interview.runningevents.application.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A cheap summary of a set of running events, used to tell whether a copy of the events still matches
+ * the stored ones without comparing them one by one.
+ * IDs are never reused and versions only grow, so any insert changes the maximum ID, any delete changes
+ * the count and the sum of the IDs, and any update through the application changes the sum of the
+ * versions. Changes made without incrementing the version, e.g. through the H2 console, are not seen.
+ */
+@Data
+@AllArgsConstructor
+public class RunningEventsFingerprint {
+
+    /**
+     * The number of events.
+     */
+    private final Long count;
+
+    /**
+     * The highest ID, or 0 if there are no events.
+     */
+    private final Long maxId;
+
+    /**
+     * The sum of the IDs, or 0 if there are no events.
+     */
+    private final Long idSum;
+
+    /**
+     * The sum of the versions, or 0 if there are no events.
+     */
+    private final Long versionSum;
+}
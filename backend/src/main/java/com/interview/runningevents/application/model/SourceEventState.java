@@ -0,0 +1,32 @@
+package com.interview.runningevents.application.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * What a sync needs to know about a stored event of a feed: where it is and what was last written.
+ */
+@Data
+@AllArgsConstructor
+public class SourceEventState {
+
+    /**
+     * The ID of the stored event.
+     */
+    private final Long id;
+
+    /**
+     * The key of the event within its feed.
+     */
+    private final String sourceKey;
+
+    /**
+     * The hash of the fields last written by a sync, or null if the event was changed since.
+     */
+    private final String contentHash;
+
+    /**
+     * The version of the stored event, which an update of the sync expects it to still have.
+     */
+    private final Long version;
+}
@@ -0,0 +1,33 @@
+package com.interview.runningevents.application.model;
+
+import com.interview.runningevents.domain.model.RunningEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A running event as published by an external feed, identified by the key the feed gives it.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SourcedRunningEvent {
+
+    /**
+     * The key of the event within its feed.
+     */
+    private String sourceKey;
+
+    /**
+     * The event. Its ID is the ID of the stored event when it is written as an update.
+     */
+    private RunningEvent event;
+
+    /**
+     * The hash of the fields of the event; set by the sync before the event is written.
+     */
+    private String contentHash;
+}
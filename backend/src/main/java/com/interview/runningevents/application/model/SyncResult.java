@@ -0,0 +1,39 @@
+package com.interview.runningevents.application.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of syncing the events of a feed.
+ */
+@Data
+@AllArgsConstructor
+public class SyncResult {
+
+    /**
+     * The number of events that were new in the feed.
+     */
+    private final long inserted;
+
+    /**
+     * The number of events whose fields changed.
+     */
+    private final long updated;
+
+    /**
+     * The number of events no longer in the feed.
+     */
+    private final long deleted;
+
+    /**
+     * The number of events that were left as they were.
+     */
+    private final long unchanged;
+
+    /**
+     * The IDs of the updated and deleted events, whose cached copies are stale.
+     */
+    private final List<Long> changedIds;
+}
@@ -0,0 +1,27 @@
+package com.interview.runningevents.application.port.in;
+
+import java.util.List;
+
+import com.interview.runningevents.application.model.BatchItemResult;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Input port for creating many running events in one request.
+ * Each event is validated on its own; valid events are stored in batched inserts
+ * and invalid ones are reported without failing the rest of the batch.
+ */
+public interface CreateRunningEventsBatchUseCase {
+
+    /**
+     * Creates the given running events.
+     *
+     * @param runningEvents The running events to create. Must not be null. Each event must pass validation
+     *                      and have a null id; events that don't are reported as failed.
+     * @return One result per submitted event, in submission order, holding either the assigned ID
+     *         or the reason the event was not created.
+     *
+     * @throws IllegalArgumentException if the list is null
+     * @throws RuntimeException if there's an error that prevents processing the batch as a whole
+     */
+    List<BatchItemResult> createRunningEvents(List<RunningEvent> runningEvents);
+}
@@ -1,5 +1,7 @@
 package com.interview.runningevents.application.port.in;
 
+import com.interview.runningevents.application.exception.RunningEventVersionConflictException;
+
 /**
  * Input port for deleting a running event.
  * This use case allows clients to remove a running event from the system.
@@ -16,4 +18,17 @@ public interface DeleteRunningEventUseCase {
      * @throws RuntimeException if there's an error during the deletion process
      */
     boolean deleteRunningEvent(Long id);
+
+    /**
+     * Deletes a running event by its unique identifier if it still has the expected version.
+     *
+     * @param id The unique identifier of the running event to delete. Must not be null.
+     * @param expectedVersion The version the event must have, or null to delete it regardless of its version.
+     * @return true if the event was successfully deleted, false if no event exists with the given ID.
+     *
+     * @throws IllegalArgumentException if the ID is null
+     * @throws RunningEventVersionConflictException if the event exists but no longer has the expected version
+     * @throws RuntimeException if there's an error during the deletion process
+     */
+    boolean deleteRunningEvent(Long id, Long expectedVersion);
 }
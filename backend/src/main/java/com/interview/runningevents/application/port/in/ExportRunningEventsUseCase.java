@@ -0,0 +1,25 @@
+package com.interview.runningevents.application.port.in;
+
+import java.util.function.Consumer;
+
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Input port for exporting running events in bulk.
+ * Events are handed over one at a time as they are read, so an export of the whole table
+ * needs neither pagination nor memory proportional to its size.
+ */
+public interface ExportRunningEventsUseCase {
+
+    /**
+     * Passes every running event within an optional date range to the consumer, ordered by date and then by ID.
+     *
+     * @param fromDate Optional minimum date (as Unix timestamp in milliseconds, inclusive)
+     * @param toDate Optional maximum date (as Unix timestamp in milliseconds, inclusive)
+     * @param consumer Receives the events in order. Must not be null.
+     *
+     * @throws IllegalArgumentException if the consumer is null or fromDate is after toDate
+     * @throws RuntimeException if there's an error while reading the events, or the exception thrown by the consumer
+     */
+    void exportRunningEvents(Long fromDate, Long toDate, Consumer<RunningEvent> consumer);
+}
@@ -0,0 +1,26 @@
+package com.interview.runningevents.application.port.in;
+
+import java.util.Iterator;
+
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.application.model.ImportSummary;
+
+/**
+ * Input port for importing running events from a stream of records, such as an uploaded file.
+ * Records are consumed as they are produced and committed in chunks, so the size of an import
+ * is not limited by the available memory.
+ */
+public interface ImportRunningEventsUseCase {
+
+    /**
+     * Imports the given records.
+     *
+     * @param records The records to import, typically parsed lazily from a file. Must not be null.
+     *                Rejected records are reported as they are; parsed ones are inserted in chunks.
+     * @return The number of inserted and rejected records, with the line numbers of the rejected ones
+     *
+     * @throws IllegalArgumentException if records is null
+     * @throws RuntimeException if reading the records fails; the chunks committed before stay committed
+     */
+    ImportSummary importRunningEvents(Iterator<ImportRecord> records);
+}
@@ -0,0 +1,47 @@
+package com.interview.runningevents.application.port.in;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.application.model.IngestionCheckpoint;
+
+/**
+ * Input port for ingesting large files of running events chunk by chunk.
+ * Each chunk is committed together with the checkpoint that follows it, so an ingestion that was
+ * interrupted can resume after the last committed chunk without inserting any event twice.
+ */
+public interface IngestRunningEventsUseCase {
+
+    /**
+     * Finds the checkpoint of a file.
+     *
+     * @param source The name of the file. Must not be null.
+     * @return The checkpoint, or an empty Optional if the file was never ingested
+     * @throws IllegalArgumentException if source is null
+     */
+    Optional<IngestionCheckpoint> findCheckpoint(String source);
+
+    /**
+     * Inserts the parsed records of one chunk and advances the checkpoint past it, in one transaction.
+     *
+     * @param checkpoint The checkpoint at the start of the chunk. Must not be null.
+     * @param records The records of the chunk; rejected records and invalid events are counted, not inserted
+     * @param endOffset The byte offset right after the chunk
+     * @param endLineNumber The line number right after the chunk
+     * @return The checkpoint after the chunk
+     * @throws IllegalArgumentException if an argument is null or the chunk ends before it starts
+     * @throws RuntimeException if the chunk cannot be stored; neither events nor checkpoint are saved then
+     */
+    IngestionCheckpoint ingestChunk(
+            IngestionCheckpoint checkpoint, List<ImportRecord> records, long endOffset, long endLineNumber);
+
+    /**
+     * Marks a file as completely ingested.
+     *
+     * @param checkpoint The checkpoint after the last chunk. Must not be null.
+     * @return The completed checkpoint
+     * @throws IllegalArgumentException if the checkpoint is null
+     */
+    IngestionCheckpoint completeIngestion(IngestionCheckpoint checkpoint);
+}
@@ -20,14 +20,27 @@ public interface ListRunningEventsUseCase {
      *        - pageSize: The number of items per page (defaults to 20)
      *        - sortBy: Field to sort by (defaults to "dateTime")
      *        - sortDirection: Sort direction ("ASC" or "DESC", defaults to "ASC")
+     *        - withTotals: Whether to count the matching events (defaults to true)
+     *        - cursor: Optional keyset position to continue from (page is ignored when set)
      * @return A paginated result containing the matching running events and pagination metadata.
      *         Returns an empty result if no events match the criteria.
+     *         Results fetched without totals or located by cursor report totals as unknown.
      *
      * @throws IllegalArgumentException if the query parameters are invalid:
      *         - If page is negative
      *         - If pageSize is negative or zero
      *         - If fromDate is after toDate
+     *         - If the cursor was taken from a different sort order
      * @throws RuntimeException if there's an error during the retrieval process
      */
     PaginatedResult<RunningEvent> listRunningEvents(RunningEventQuery query);
+
+    /**
+     * Returns a token that changes whenever any running event is created, updated or deleted.
+     * Listing with the same query twice under the same token yields the same result, so the token
+     * can be used to validate cached list pages without running the query.
+     *
+     * @return The current change token
+     */
+    String getChangeToken();
 }
@@ -0,0 +1,26 @@
+package com.interview.runningevents.application.port.in;
+
+import java.util.List;
+
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.model.SourcedRunningEvent;
+import com.interview.runningevents.application.model.SyncResult;
+
+/**
+ * Input port for replacing the events of an external feed with its current contents.
+ */
+public interface SyncRunningEventsUseCase {
+
+    /**
+     * Makes the stored events of a feed match the given complete set of events.
+     * Only the difference is written: events with a new key are inserted, events whose fields changed
+     * are updated and events whose key is missing are deleted, all in one transaction.
+     *
+     * @param source The name of the feed. Must not be null.
+     * @param events The complete set of events of the feed; an empty list deletes all of them
+     * @return The number of inserted, updated, deleted and unchanged events
+     * @throws IllegalArgumentException if source or events is null
+     * @throws ValidationException if a key is missing or used twice, or an event is invalid
+     */
+    SyncResult syncRunningEvents(String source, List<SourcedRunningEvent> events);
+}
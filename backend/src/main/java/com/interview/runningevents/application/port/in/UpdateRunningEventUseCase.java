@@ -2,6 +2,7 @@ package com.interview.runningevents.application.port.in;
 
 import java.util.Optional;
 
+import com.interview.runningevents.application.exception.RunningEventVersionConflictException;
 import com.interview.runningevents.domain.model.RunningEvent;
 
 /**
@@ -14,8 +15,9 @@ public interface UpdateRunningEventUseCase {
      * Updates an existing running event in the system.
      *
      * @param runningEvent The running event with updated information. Must not be null and must pass validation.
-     *                     The id field must correspond to an existing event.
-     * @return An Optional containing the updated running event if the update was successful,
+     *                     The id field must correspond to an existing event. If the version field is set,
+     *                     the event is only updated if it still has this version.
+     * @return An Optional containing the updated running event with its new version if the update was successful,
      *         or empty if no event exists with the given ID.
      *
      * @throws IllegalArgumentException if:
@@ -24,6 +26,7 @@ public interface UpdateRunningEventUseCase {
      *         - The event fails validation:
      *           - If required fields (name, dateTime, location) are missing
      *           - If string fields exceed maximum lengths
+     * @throws RunningEventVersionConflictException if the event exists but no longer has the given version
      * @throws RuntimeException if there's an error during the update process
      */
     Optional<RunningEvent> updateRunningEvent(RunningEvent runningEvent);
@@ -0,0 +1,29 @@
+package com.interview.runningevents.application.port.out;
+
+import java.util.Optional;
+
+import com.interview.runningevents.application.model.IngestionCheckpoint;
+
+/**
+ * Repository interface for the checkpoints of file ingestion.
+ * Checkpoints are saved in the same transaction as the events they account for.
+ */
+public interface IngestionCheckpointRepository {
+
+    /**
+     * Finds the checkpoint of a file.
+     *
+     * @param source The name of the file. Must not be null.
+     * @return The checkpoint, or an empty Optional if the file was never ingested
+     * @throws IllegalArgumentException if source is null
+     */
+    Optional<IngestionCheckpoint> findBySource(String source);
+
+    /**
+     * Creates or replaces the checkpoint of a file.
+     *
+     * @param checkpoint The checkpoint to save. Must not be null.
+     * @throws IllegalArgumentException if the checkpoint or its source is null
+     */
+    void save(IngestionCheckpoint checkpoint);
+}
@@ -0,0 +1,17 @@
+package com.interview.runningevents.application.port.out;
+
+/**
+ * Cache of running events kept in front of the use cases.
+ * Use cases that write running events without going through the caching layer, such as a sync, drop
+ * the cached copies of the events they changed here.
+ */
+public interface RunningEventCache {
+
+    /**
+     * Drops the cached copy of an event. Called after the write has committed; when called inside a
+     * transaction, the entry is dropped again once that transaction has completed.
+     *
+     * @param id The ID of the changed or deleted event, ignored if null
+     */
+    void invalidate(Long id);
+}
@@ -0,0 +1,51 @@
+package com.interview.runningevents.application.port.out;
+
+import java.util.List;
+
+import com.interview.runningevents.application.model.PaginatedResult;
+import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * In-process read model of the running events, answering list queries without a database round trip.
+ * The {@link RunningEventRepository} stays the system of record: the read model is loaded from it and
+ * every use case that writes running events reports its changes here. Changes reported inside a
+ * transaction are only applied once the transaction has committed.
+ */
+public interface RunningEventReadModel {
+
+    /**
+     * Checks whether the read model is loaded and can answer queries.
+     *
+     * @return true once loading has finished, false before that or when the read model is disabled
+     */
+    boolean isReady();
+
+    /**
+     * Finds running events matching the query, with the same paging, ordering and cursors as
+     * {@link RunningEventRepository#findAll(RunningEventQuery)}.
+     *
+     * @param query The query parameters for filtering and pagination. Must not be null.
+     * @return A paginated result with copies of the matching running events
+     * @throws IllegalArgumentException if the query is null
+     * @throws IllegalStateException if the read model is not ready
+     */
+    PaginatedResult<RunningEvent> findAll(RunningEventQuery query);
+
+    /**
+     * Records created or updated running events. An event is only replaced by a copy with the same or
+     * a higher version, so changes that are reported out of order do not bring back older data.
+     *
+     * @param runningEvents The stored events with their IDs and versions. Must not be null.
+     * @throws IllegalArgumentException if the list is null or an event has no ID
+     */
+    void put(List<RunningEvent> runningEvents);
+
+    /**
+     * Records deleted running events.
+     *
+     * @param ids The IDs of the deleted events. Must not be null.
+     * @throws IllegalArgumentException if ids is null
+     */
+    void remove(List<Long> ids);
+}
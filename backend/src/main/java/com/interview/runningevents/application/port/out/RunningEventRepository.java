@@ -1,9 +1,14 @@
 package com.interview.runningevents.application.port.out;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.interview.runningevents.application.model.PaginatedResult;
 import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.application.model.RunningEventsFingerprint;
+import com.interview.runningevents.application.model.SourceEventState;
+import com.interview.runningevents.application.model.SourcedRunningEvent;
 import com.interview.runningevents.domain.model.RunningEvent;
 
 /**
@@ -26,6 +31,31 @@ public interface RunningEventRepository {
      */
     RunningEvent save(RunningEvent runningEvent);
 
+    /**
+     * Inserts new running events using batched statements.
+     * All events are written within the caller's transaction.
+     *
+     * @param runningEvents The running events to insert. Must not be null, and the events must have no ID.
+     * @return The inserted running events with their system-generated IDs, in the same order.
+     * @throws IllegalArgumentException if the list is null or an event already has an ID
+     * @throws RuntimeException if there's a persistence error
+     */
+    List<RunningEvent> saveAll(List<RunningEvent> runningEvents);
+
+    /**
+     * Updates an existing running event in place with a single compare-and-set statement.
+     * The existence and version checks are the update itself: no event is read before it is written.
+     * If the running event has a version, the update is only applied when the stored event still has
+     * that version; without a version the stored event is overwritten unconditionally.
+     *
+     * @param runningEvent The running event with updated information. Must not be null and must have an ID.
+     * @return An Optional containing the updated running event with its new version, or empty if no event
+     *         exists with the given ID (and version, if one was given).
+     * @throws IllegalArgumentException if the running event or its ID is null
+     * @throws RuntimeException if there's a persistence error
+     */
+    Optional<RunningEvent> update(RunningEvent runningEvent);
+
     /**
      * Finds a running event by its unique identifier.
      *
@@ -46,7 +76,12 @@ public interface RunningEventRepository {
      *        - pageSize: The number of items per page (defaults to 20)
      *        - sortBy: Field to sort by (defaults to "dateTime")
      *        - sortDirection: Sort direction ("ASC" or "DESC", defaults to "ASC")
-     * @return A paginated result containing the matching running events and pagination metadata.
+     *        - withTotals: Whether to count the matching events; when false, only hasNext/hasPrevious are
+     *          determined and the totals are reported as unknown
+     *        - cursor: Optional keyset position; when set, the page adjacent to it is located with a
+     *          seek predicate instead of an offset, and no totals are computed
+     * @return A paginated result containing the matching running events and pagination metadata,
+     *         including cursors for the neighbouring pages.
      *         Returns an empty result if no events match the criteria.
      * @throws IllegalArgumentException if the query parameters are invalid
      * @throws RuntimeException if there's a persistence error
@@ -55,6 +90,7 @@ public interface RunningEventRepository {
 
     /**
      * Deletes a running event by its unique identifier.
+     * The existence check is the delete itself: no event is read before it is removed.
      *
      * @param id The unique identifier of the running event to delete. Must not be null.
      * @return true if the running event was successfully deleted, false if no event exists with the given ID.
@@ -63,6 +99,18 @@ public interface RunningEventRepository {
      */
     boolean deleteById(Long id);
 
+    /**
+     * Deletes a running event if it still has the expected version.
+     * The existence and version checks are the delete itself: no event is read before it is removed.
+     *
+     * @param id The unique identifier of the running event to delete. Must not be null.
+     * @param expectedVersion The version the event must have, or null to delete it regardless of its version.
+     * @return true if the running event was deleted, false if no event exists with the given ID and version.
+     * @throws IllegalArgumentException if the ID is null
+     * @throws RuntimeException if there's a persistence error
+     */
+    boolean deleteById(Long id, Long expectedVersion);
+
     /**
      * Checks if a running event exists with the specified ID.
      *
@@ -72,4 +120,90 @@ public interface RunningEventRepository {
      * @throws RuntimeException if there's a persistence error
      */
     boolean existsById(Long id);
+
+    /**
+     * Passes every running event within an optional date range to the given action, ordered by date
+     * and then by ID. Events are read one block at a time, so memory use does not depend on the
+     * number of matching events. Must be called inside a transaction.
+     *
+     * @param fromDate Optional minimum date (inclusive)
+     * @param toDate Optional maximum date (inclusive)
+     * @param action The action to run for each event
+     * @throws RuntimeException if there's a persistence error, or the exception thrown by the action
+     */
+    void forEachInDateRange(Long fromDate, Long toDate, Consumer<RunningEvent> action);
+
+    /**
+     * Summarizes all stored running events with a single aggregate query, without reading the events.
+     *
+     * @return The fingerprint of the stored events
+     * @throws RuntimeException if there's a persistence error
+     */
+    RunningEventsFingerprint fingerprint();
+
+    /**
+     * Adds a feed to the feeds that can be locked, unless it is already there.
+     * Meant to run in a transaction of its own, so that the feed can be locked by any later transaction.
+     *
+     * @param source The name of the feed. Must not be null.
+     * @throws IllegalArgumentException if source is null
+     * @throws org.springframework.dao.DataIntegrityViolationException if a concurrent transaction added the
+     *         feed first
+     * @throws RuntimeException if there's a persistence error
+     */
+    void registerSource(String source);
+
+    /**
+     * Locks a registered feed until the current transaction ends, so that syncs of the same feed run one
+     * after the other. Must be called inside a transaction, before the states of the feed are read.
+     *
+     * @param source The name of the feed. Must not be null.
+     * @throws IllegalArgumentException if source is null
+     * @throws RuntimeException if there's a persistence error
+     */
+    void lockSource(String source);
+
+    /**
+     * Finds the keys and content hashes of the stored events of a feed.
+     *
+     * @param source The name of the feed. Must not be null.
+     * @return One state per stored event of the feed, in no particular order
+     * @throws IllegalArgumentException if source is null
+     * @throws RuntimeException if there's a persistence error
+     */
+    List<SourceEventState> findSourceStates(String source);
+
+    /**
+     * Inserts new events of a feed with batched statements.
+     *
+     * @param source The name of the feed. Must not be null.
+     * @param events The events with their keys and content hashes; the events must not have an ID
+     * @return The inserted running events with their system-generated IDs, in the same order
+     * @throws IllegalArgumentException if an argument is null or an event has an ID
+     * @throws RuntimeException if there's a persistence error, such as a key that is already stored
+     */
+    List<RunningEvent> insertFromSource(String source, List<SourcedRunningEvent> events);
+
+    /**
+     * Overwrites stored events of a feed with batched statements and increments their versions.
+     * Events that no longer exist are skipped.
+     *
+     * @param events The events with their content hashes; each event carries the ID of the stored event and
+     *        the version it must still have, or no version to update it regardless of its version
+     * @return The updated running events with the versions they were stored with, in the same order;
+     *         skipped events are left out
+     * @throws IllegalArgumentException if the events are null or an event has no ID
+     * @throws org.springframework.dao.OptimisticLockingFailureException if an event no longer has its version
+     * @throws RuntimeException if there's a persistence error
+     */
+    List<RunningEvent> updateFromSource(List<SourcedRunningEvent> events);
+
+    /**
+     * Deletes running events with batched statements, regardless of their versions.
+     *
+     * @param ids The IDs of the events to delete; unknown IDs are ignored
+     * @throws IllegalArgumentException if ids is null
+     * @throws RuntimeException if there's a persistence error
+     */
+    void deleteAllById(List<Long> ids);
 }
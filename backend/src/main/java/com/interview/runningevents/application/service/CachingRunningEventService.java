@@ -0,0 +1,285 @@
+package com.interview.runningevents.application.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interview.runningevents.application.model.PageCursor;
+import com.interview.runningevents.application.model.PaginatedResult;
+import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.application.model.SortDirection;
+import com.interview.runningevents.application.port.in.DeleteRunningEventUseCase;
+import com.interview.runningevents.application.port.in.GetRunningEventUseCase;
+import com.interview.runningevents.application.port.in.ListRunningEventsUseCase;
+import com.interview.runningevents.application.port.in.UpdateRunningEventUseCase;
+import com.interview.runningevents.application.port.out.RunningEventCache;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Read-through cache in front of the read use cases of {@link RunningEventService}.
+ * Lookups by ID are answered from a size-bounded Caffeine cache (W-TinyLFU eviction), so they do not
+ * depend on the persistence adapter; updates and deletes go through this class and drop the cached
+ * entry as soon as the write has committed.
+ * List pages are cached under the normalized query together with the current change token, so a
+ * committed write of any kind makes all cached pages unreachable at once; they then age out.
+ * Cache misses are loaded through a {@link SingleFlight}, so concurrent callers asking for the same
+ * event or page share one call to the delegate.
+ */
+@Service
+@Primary
+public class CachingRunningEventService
+        implements GetRunningEventUseCase,
+                ListRunningEventsUseCase,
+                UpdateRunningEventUseCase,
+                DeleteRunningEventUseCase,
+                RunningEventCache {
+
+    private final RunningEventService delegate;
+    private final Cache<Long, RunningEvent> cache;
+    private final Cache<PageKey, PaginatedResult<RunningEvent>> pageCache;
+    private final SingleFlight<Long, RunningEvent> eventLoads = new SingleFlight<>("get");
+    private final SingleFlight<PageKey, PaginatedResult<RunningEvent>> pageLoads = new SingleFlight<>("list");
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Creates a new CachingRunningEventService.
+     *
+     * @param delegate The service that performs the lookups and writes
+     * @param maxSize The maximum number of events kept in the cache
+     * @param ttl How long an event stays cached after it was loaded
+     * @param pageMaxSize The maximum number of list pages kept in the cache
+     * @param pageTtl How long a list page stays cached after it was loaded
+     */
+    public CachingRunningEventService(
+            RunningEventService delegate,
+            @Value("${running-events.cache.use-case.max-size:10000}") long maxSize,
+            @Value("${running-events.cache.use-case.ttl:10m}") Duration ttl,
+            @Value("${running-events.cache.page.max-size:1000}") long pageMaxSize,
+            @Value("${running-events.cache.page.ttl:5m}") Duration pageTtl) {
+        if (maxSize <= 0 || pageMaxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be greater than zero");
+        }
+        this.delegate = delegate;
+        this.cache =
+                Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+        this.pageCache = Caffeine.newBuilder()
+                .maximumSize(pageMaxSize)
+                .expireAfterWrite(pageTtl)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Missing events are not cached, so an event created later is found right away. Calls made inside
+     * a transaction bypass the cache.
+     */
+    @Override
+    public Optional<RunningEvent> getRunningEventById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+        if (inCallerTransaction()) {
+            return delegate.getRunningEventById(id);
+        }
+
+        RunningEvent cached = cache.getIfPresent(id);
+        if (cached == null) {
+            cached = eventLoads.execute(id, () -> loadEvent(id));
+        }
+        // Callers get their own copy so they cannot change the cached instance
+        return Optional.ofNullable(cached).map(event -> event.toBuilder().build());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The change token is read before the page is loaded, so a page loaded while a write commits is
+     * filed under the old token and is not served once the token has moved on. Calls made inside a
+     * transaction bypass the cache.
+     */
+    @Override
+    public PaginatedResult<RunningEvent> listRunningEvents(RunningEventQuery query) {
+        if (query == null || inCallerTransaction()) {
+            return delegate.listRunningEvents(query);
+        }
+
+        PageKey key = PageKey.of(delegate.getChangeToken(), query);
+        PaginatedResult<RunningEvent> cached = pageCache.getIfPresent(key);
+        if (cached == null) {
+            cached = pageLoads.execute(key, () -> {
+                PaginatedResult<RunningEvent> loaded = delegate.listRunningEvents(query);
+                pageCache.put(key, loaded);
+                return loaded;
+            });
+        }
+        return copyOf(cached);
+    }
+
+    /**
+     * @return The single-flight groups coalescing the cache misses of this service
+     */
+    public List<SingleFlight<?, ?>> getSingleFlights() {
+        return List.of(eventLoads, pageLoads);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getChangeToken() {
+        return delegate.getChangeToken();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<RunningEvent> updateRunningEvent(RunningEvent runningEvent) {
+        try {
+            return delegate.updateRunningEvent(runningEvent);
+        } finally {
+            invalidate(runningEvent);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean deleteRunningEvent(Long id) {
+        try {
+            return delegate.deleteRunningEvent(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean deleteRunningEvent(Long id, Long expectedVersion) {
+        try {
+            return delegate.deleteRunningEvent(id, expectedVersion);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Called after the delegate returned, i.e. after its transaction committed. A load that ran
+     * concurrently with the write does not cache what it read, and later lookups do not join it.
+     * When the write joined a surrounding transaction, the entry is dropped again once that
+     * transaction has completed.
+     */
+    @Override
+    public void invalidate(Long id) {
+        if (id == null) {
+            return;
+        }
+
+        evict(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Loads an event from the delegate and caches it, unless an invalidation happened during the load.
+     * The check and the put are one atomic step on the entry, so an invalidation either sees the
+     * loaded event and removes it, or has already moved the counter and the event is not cached.
+     */
+    private RunningEvent loadEvent(Long id) {
+        long stamp = invalidations.get();
+        RunningEvent loaded = delegate.getRunningEventById(id).orElse(null);
+        if (loaded != null) {
+            cache.asMap().compute(id, (key, current) -> invalidations.get() == stamp ? loaded : current);
+        }
+        return loaded;
+    }
+
+    private void evict(Long id) {
+        // Later callers must not join a load that may have read the event before the write
+        invalidations.incrementAndGet();
+        eventLoads.forget(id);
+        cache.invalidate(id);
+    }
+
+    /**
+     * Checks whether the caller runs in its own transaction. Such a transaction may hold writes that
+     * are not committed yet, so what it reads must neither be cached nor answered from the cache.
+     */
+    private static boolean inCallerTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private void invalidate(RunningEvent runningEvent) {
+        if (runningEvent != null) {
+            invalidate(runningEvent.getId());
+        }
+    }
+
+    /**
+     * Copies a cached page so callers cannot change the cached events.
+     */
+    private static PaginatedResult<RunningEvent> copyOf(PaginatedResult<RunningEvent> page) {
+        List<RunningEvent> items = page.getItems() == null
+                ? null
+                : page.getItems().stream()
+                        .map(event -> event.toBuilder().build())
+                        .toList();
+        return new PaginatedResult<>(
+                items,
+                page.getTotalItems(),
+                page.getPage(),
+                page.getPageSize(),
+                page.getTotalPages(),
+                page.isHasPrevious(),
+                page.isHasNext(),
+                page.getNextCursor(),
+                page.getPrevCursor());
+    }
+
+    /**
+     * Cache key of a list page: the change token plus every query parameter that shapes the page,
+     * with unset parameters replaced by their defaults so equivalent queries share one entry.
+     */
+    private record PageKey(
+            String changeToken,
+            Long fromDate,
+            Long toDate,
+            int page,
+            int pageSize,
+            String sortBy,
+            SortDirection sortDirection,
+            boolean withTotals,
+            PageCursor cursor) {
+
+        static PageKey of(String changeToken, RunningEventQuery query) {
+            return new PageKey(
+                    changeToken,
+                    query.getFromDate(),
+                    query.getToDate(),
+                    query.getPage() != null ? query.getPage() : 0,
+                    query.getPageSize() != null ? query.getPageSize() : 20,
+                    query.getSortBy() != null ? query.getSortBy() : "dateTime",
+                    query.getSortDirection() != null ? query.getSortDirection() : SortDirection.ASC,
+                    query.isWithTotals(),
+                    query.getCursor());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.interview.runningevents.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.interview.runningevents.application.model.BatchItemResult;
+import com.interview.runningevents.application.port.in.CreateRunningEventsBatchUseCase;
+import com.interview.runningevents.application.port.out.RunningEventReadModel;
+import com.interview.runningevents.application.port.out.RunningEventRepository;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Service implementation for creating running events in bulk.
+ * Valid events are inserted in chunks; each chunk is written with one batched insert
+ * in its own transaction, so a failing chunk does not roll back the chunks before it.
+ */
+@Service
+public class RunningEventBatchService implements CreateRunningEventsBatchUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RunningEventBatchService.class);
+
+    private final RunningEventRepository runningEventRepository;
+    private final RunningEventChangeCounter changeCounter;
+    private final RunningEventReadModel readModel;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    /**
+     * Creates a new RunningEventBatchService with the necessary dependencies.
+     *
+     * @param runningEventRepository The repository for persisting running events
+     * @param changeCounter The counter bumped by every change to the running events
+     * @param readModel The read model told about the inserted events
+     * @param transactionManager The transaction manager used to commit each chunk
+     * @param chunkSize The number of events inserted per transaction
+     */
+    public RunningEventBatchService(
+            RunningEventRepository runningEventRepository,
+            RunningEventChangeCounter changeCounter,
+            RunningEventReadModel readModel,
+            PlatformTransactionManager transactionManager,
+            @Value("${running-events.batch.chunk-size:500}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Batch chunk size must be greater than zero");
+        }
+        this.runningEventRepository = runningEventRepository;
+        this.changeCounter = changeCounter;
+        this.readModel = readModel;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<BatchItemResult> createRunningEvents(List<RunningEvent> runningEvents) {
+        if (runningEvents == null) {
+            throw new IllegalArgumentException("Running events cannot be null");
+        }
+
+        BatchItemResult[] results = new BatchItemResult[runningEvents.size()];
+        List<Integer> pendingIndexes = new ArrayList<>(runningEvents.size());
+
+        // Reject invalid events up front so they do not take part in the inserts
+        for (int i = 0; i < runningEvents.size(); i++) {
+            String error = validationError(runningEvents.get(i));
+            if (error != null) {
+                results[i] = BatchItemResult.failed(i, error);
+            } else {
+                pendingIndexes.add(i);
+            }
+        }
+
+        for (int start = 0; start < pendingIndexes.size(); start += chunkSize) {
+            List<Integer> chunkIndexes =
+                    pendingIndexes.subList(start, Math.min(start + chunkSize, pendingIndexes.size()));
+            insertChunk(runningEvents, chunkIndexes, results);
+        }
+
+        return List.of(results);
+    }
+
+    /**
+     * Inserts one chunk of events in its own transaction and records the outcome of each of them.
+     */
+    private void insertChunk(List<RunningEvent> runningEvents, List<Integer> chunkIndexes, BatchItemResult[] results) {
+        List<RunningEvent> chunk = chunkIndexes.stream().map(runningEvents::get).toList();
+        try {
+            List<RunningEvent> saved = transactionTemplate.execute(status -> {
+                List<RunningEvent> inserted = runningEventRepository.saveAll(chunk);
+                readModel.put(inserted);
+                changeCounter.markChanged();
+                return inserted;
+            });
+            for (int i = 0; i < chunkIndexes.size(); i++) {
+                int index = chunkIndexes.get(i);
+                results[index] = BatchItemResult.created(index, saved.get(i).getId());
+            }
+        } catch (RuntimeException e) {
+            // The whole chunk was rolled back; report its events as failed and carry on with the next chunk
+            logger.error("Failed to insert a chunk of {} running events", chunk.size(), e);
+            for (int index : chunkIndexes) {
+                results[index] = BatchItemResult.failed(index, "Event could not be stored");
+            }
+        }
+    }
+
+    /**
+     * Validates a single event of the batch.
+     *
+     * @return The validation error, or null if the event is valid
+     */
+    private String validationError(RunningEvent runningEvent) {
+        if (runningEvent == null) {
+            return "Running event cannot be null";
+        }
+        if (runningEvent.getId() != null) {
+            return "ID must be null when creating a new running event";
+        }
+        if (!runningEvent.isValid()) {
+            return "Invalid running event: check required fields, field lengths, and ensure the event date is in the future";
+        }
+        return null;
+    }
+}
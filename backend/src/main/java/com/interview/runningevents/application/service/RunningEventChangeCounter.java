@@ -0,0 +1,50 @@
+package com.interview.runningevents.application.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Table-wide modification counter for running events.
+ * It is incremented after every committed create, update or delete, so two reads that saw the same
+ * token saw the same data. The counter lives in memory: it starts afresh with every application run
+ * (the start time is part of the token) and only covers writes made through this instance.
+ */
+@Component
+public class RunningEventChangeCounter {
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    /**
+     * Returns a token identifying the current state of the running events.
+     *
+     * @return A token that changes whenever a running event is created, updated or deleted
+     */
+    public String currentToken() {
+        return epoch + "-" + modificationCount.get();
+    }
+
+    /**
+     * Records that running events were changed.
+     * Inside a transaction the counter is only incremented once the transaction has committed, so a
+     * reader never pairs the new token with data from before the change. Call it after the change has
+     * been reported to the read model: commit callbacks run in the order they were registered, and the
+     * token must only move once the read model serves the changed events.
+     */
+    public void markChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            modificationCount.incrementAndGet();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                modificationCount.incrementAndGet();
+            }
+        });
+    }
+}
@@ -0,0 +1,239 @@
+package com.interview.runningevents.application.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.interview.runningevents.application.model.BatchItemResult;
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.application.model.ImportSummary;
+import com.interview.runningevents.application.port.in.CreateRunningEventsBatchUseCase;
+import com.interview.runningevents.application.port.in.ImportRunningEventsUseCase;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Service implementation for streamed imports of running events.
+ * The calling thread pulls records from the source and hands the parsed ones to an inserter on a
+ * virtual thread through a bounded queue. The inserter commits them in chunks through the batch use case.
+ * When the inserter falls behind, the queue fills up and the caller blocks, so a slow database slows down
+ * reading the upload instead of buffering it: memory use is bounded by the queue and one chunk.
+ */
+@Service
+public class RunningEventImportService implements ImportRunningEventsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RunningEventImportService.class);
+
+    // Marks the end of the records for the inserter
+    private static final ImportRecord END = ImportRecord.rejected(-1, "end");
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final CreateRunningEventsBatchUseCase createRunningEventsBatchUseCase;
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final int maxReportedRejections;
+
+    /**
+     * Creates a new RunningEventImportService with the necessary dependencies.
+     *
+     * @param createRunningEventsBatchUseCase The use case each chunk of parsed events is inserted with
+     * @param chunkSize The number of events committed per chunk
+     * @param queueCapacity The number of parsed events that may wait for the inserter
+     * @param maxReportedRejections The number of rejected records listed in the summary
+     */
+    public RunningEventImportService(
+            CreateRunningEventsBatchUseCase createRunningEventsBatchUseCase,
+            @Value("${running-events.import.chunk-size:500}") int chunkSize,
+            @Value("${running-events.import.queue-capacity:2000}") int queueCapacity,
+            @Value("${running-events.import.max-reported-rejections:1000}") int maxReportedRejections) {
+        if (chunkSize <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Import chunk size and queue capacity must be greater than zero");
+        }
+        if (maxReportedRejections < 0) {
+            throw new IllegalArgumentException("Maximum number of reported rejections cannot be negative");
+        }
+        this.createRunningEventsBatchUseCase = createRunningEventsBatchUseCase;
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ImportSummary importRunningEvents(Iterator<ImportRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("Records cannot be null");
+        }
+
+        ImportProgress progress = new ImportProgress(maxReportedRejections);
+        BlockingQueue<ImportRecord> queue = new ArrayBlockingQueue<>(queueCapacity);
+        Thread inserter =
+                Thread.ofVirtual().name("running-events-import").start(() -> insertFromQueue(queue, progress));
+
+        try {
+            while (records.hasNext()) {
+                ImportRecord record = records.next();
+                if (record.isParsed()) {
+                    enqueue(queue, record, inserter);
+                } else {
+                    progress.reject(record);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Let the inserter commit what was parsed so far before reporting the failure
+            try {
+                finish(queue, inserter);
+            } catch (RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        finish(queue, inserter);
+
+        return progress.toSummary();
+    }
+
+    /**
+     * Takes parsed records off the queue and inserts them in chunks until the end marker arrives.
+     */
+    private void insertFromQueue(BlockingQueue<ImportRecord> queue, ImportProgress progress) {
+        List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+        try {
+            while (true) {
+                ImportRecord record = queue.take();
+                boolean end = record == END;
+                if (!end) {
+                    chunk.add(record);
+                }
+                if ((end || chunk.size() == chunkSize) && !chunk.isEmpty()) {
+                    insertChunk(chunk, progress);
+                    chunk.clear();
+                }
+                if (end) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Inserts one chunk in its own transaction and records the outcome of each of its events.
+     */
+    private void insertChunk(List<ImportRecord> chunk, ImportProgress progress) {
+        List<RunningEvent> events = chunk.stream().map(ImportRecord::getEvent).toList();
+        List<BatchItemResult> results;
+        try {
+            results = createRunningEventsBatchUseCase.createRunningEvents(events);
+        } catch (RuntimeException e) {
+            logger.error("Failed to import a chunk of {} running events", chunk.size(), e);
+            for (ImportRecord record : chunk) {
+                progress.reject(ImportRecord.rejected(record.getLineNumber(), "Event could not be stored"));
+            }
+            return;
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            BatchItemResult result = results.get(i);
+            if (result.isSuccess()) {
+                progress.inserted();
+            } else {
+                progress.reject(ImportRecord.rejected(chunk.get(i).getLineNumber(), result.getError()));
+            }
+        }
+    }
+
+    /**
+     * Hands a record to the inserter, waiting while the queue is full.
+     */
+    private static void enqueue(BlockingQueue<ImportRecord> queue, ImportRecord record, Thread inserter) {
+        try {
+            while (!queue.offer(record, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!inserter.isAlive()) {
+                    throw new IllegalStateException("Import stopped because the inserter terminated");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            inserter.interrupt();
+            throw new IllegalStateException("Import was interrupted", e);
+        }
+    }
+
+    /**
+     * Signals the end of the records and waits until the inserter has committed the last chunk.
+     */
+    private static void finish(BlockingQueue<ImportRecord> queue, Thread inserter) {
+        try {
+            while (inserter.isAlive() && !queue.offer(END, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                // The inserter is still working off a full queue
+            }
+            inserter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            inserter.interrupt();
+            throw new IllegalStateException("Import was interrupted", e);
+        }
+    }
+
+    /**
+     * Counts inserted and rejected records. Updated by both the reading and the inserting thread.
+     * The reading thread is virtual, so the counters are atomic and the sample of rejected records is
+     * guarded by a ReentrantLock rather than a monitor, which would pin it to its carrier thread.
+     */
+    private static final class ImportProgress {
+
+        private final int maxReportedRejections;
+        private final List<ImportRecord> rejectedRecords = new ArrayList<>();
+        private final ReentrantLock rejectedRecordsLock = new ReentrantLock();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        private ImportProgress(int maxReportedRejections) {
+            this.maxReportedRejections = maxReportedRejections;
+        }
+
+        private void inserted() {
+            inserted.incrementAndGet();
+        }
+
+        private void reject(ImportRecord record) {
+            rejected.incrementAndGet();
+            rejectedRecordsLock.lock();
+            try {
+                if (rejectedRecords.size() < maxReportedRejections) {
+                    rejectedRecords.add(record);
+                }
+            } finally {
+                rejectedRecordsLock.unlock();
+            }
+        }
+
+        private ImportSummary toSummary() {
+            List<ImportRecord> sorted;
+            rejectedRecordsLock.lock();
+            try {
+                sorted = new ArrayList<>(rejectedRecords);
+            } finally {
+                rejectedRecordsLock.unlock();
+            }
+            sorted.sort(Comparator.comparingLong(ImportRecord::getLineNumber));
+            long rejectedCount = rejected.get();
+            return new ImportSummary(inserted.get(), rejectedCount, List.copyOf(sorted), rejectedCount > sorted.size());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.interview.runningevents.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.application.model.IngestionCheckpoint;
+import com.interview.runningevents.application.port.in.IngestRunningEventsUseCase;
+import com.interview.runningevents.application.port.out.IngestionCheckpointRepository;
+import com.interview.runningevents.application.port.out.RunningEventReadModel;
+import com.interview.runningevents.application.port.out.RunningEventRepository;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Service implementation for ingesting files chunk by chunk.
+ * The events of a chunk are written with one batched insert, and the checkpoint after the chunk is
+ * saved in the same transaction: either both are committed or neither is, so resuming from the
+ * checkpoint never skips or repeats an event.
+ */
+@Service
+public class RunningEventIngestionService implements IngestRunningEventsUseCase {
+
+    private final RunningEventRepository runningEventRepository;
+    private final IngestionCheckpointRepository checkpointRepository;
+    private final RunningEventChangeCounter changeCounter;
+    private final RunningEventReadModel readModel;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Creates a new RunningEventIngestionService with the necessary dependencies.
+     *
+     * @param runningEventRepository The repository for persisting running events
+     * @param checkpointRepository The repository for the progress of each file
+     * @param changeCounter The counter bumped by every change to the running events
+     * @param readModel The read model told about the inserted events
+     * @param transactionManager The transaction manager used to commit each chunk
+     */
+    public RunningEventIngestionService(
+            RunningEventRepository runningEventRepository,
+            IngestionCheckpointRepository checkpointRepository,
+            RunningEventChangeCounter changeCounter,
+            RunningEventReadModel readModel,
+            PlatformTransactionManager transactionManager) {
+        this.runningEventRepository = runningEventRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.changeCounter = changeCounter;
+        this.readModel = readModel;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IngestionCheckpoint> findCheckpoint(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+        return checkpointRepository.findBySource(source);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IngestionCheckpoint ingestChunk(
+            IngestionCheckpoint checkpoint, List<ImportRecord> records, long endOffset, long endLineNumber) {
+        if (checkpoint == null || records == null) {
+            throw new IllegalArgumentException("Checkpoint and records cannot be null");
+        }
+        if (endOffset < checkpoint.getOffset() || endLineNumber < checkpoint.getLineNumber()) {
+            throw new IllegalArgumentException("Chunk cannot end before the checkpoint");
+        }
+
+        // Records that fail the domain rules are counted like the ones the reader rejected
+        List<RunningEvent> events = new ArrayList<>(records.size());
+        for (ImportRecord record : records) {
+            RunningEvent event = record.getEvent();
+            if (record.isParsed() && event.getId() == null && event.isValid()) {
+                events.add(event);
+            }
+        }
+
+        IngestionCheckpoint next = checkpoint.toBuilder()
+                .offset(endOffset)
+                .lineNumber(endLineNumber)
+                .inserted(checkpoint.getInserted() + events.size())
+                .rejected(checkpoint.getRejected() + records.size() - events.size())
+                .build();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!events.isEmpty()) {
+                readModel.put(runningEventRepository.saveAll(events));
+                changeCounter.markChanged();
+            }
+            checkpointRepository.save(next);
+        });
+        return next;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IngestionCheckpoint completeIngestion(IngestionCheckpoint checkpoint) {
+        if (checkpoint == null) {
+            throw new IllegalArgumentException("Checkpoint cannot be null");
+        }
+
+        IngestionCheckpoint completed = checkpoint.toBuilder().completed(true).build();
+        checkpointRepository.save(completed);
+        return completed;
+    }
+}
@@ -1,43 +1,60 @@
 package com.interview.runningevents.application.service;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.interview.runningevents.application.exception.RunningEventVersionConflictException;
 import com.interview.runningevents.application.exception.ValidationException;
 import com.interview.runningevents.application.model.PaginatedResult;
 import com.interview.runningevents.application.model.RunningEventQuery;
 import com.interview.runningevents.application.port.in.CreateRunningEventUseCase;
 import com.interview.runningevents.application.port.in.DeleteRunningEventUseCase;
+import com.interview.runningevents.application.port.in.ExportRunningEventsUseCase;
 import com.interview.runningevents.application.port.in.GetRunningEventUseCase;
 import com.interview.runningevents.application.port.in.ListRunningEventsUseCase;
 import com.interview.runningevents.application.port.in.UpdateRunningEventUseCase;
+import com.interview.runningevents.application.port.out.RunningEventReadModel;
 import com.interview.runningevents.application.port.out.RunningEventRepository;
 import com.interview.runningevents.domain.model.RunningEvent;
 
 /**
  * Service implementation for running event use cases.
  * Implements the use case interfaces and coordinates the business logic
- * for creating, retrieving, listing, updating, and deleting running events.
+ * for creating, retrieving, listing, exporting, updating, and deleting running events.
  */
 @Service
 public class RunningEventService
         implements CreateRunningEventUseCase,
                 GetRunningEventUseCase,
                 ListRunningEventsUseCase,
+                ExportRunningEventsUseCase,
                 UpdateRunningEventUseCase,
                 DeleteRunningEventUseCase {
 
     private final RunningEventRepository runningEventRepository;
+    private final RunningEventChangeCounter changeCounter;
+    private final RunningEventReadModel readModel;
 
     /**
      * Creates a new RunningEventService with the necessary dependencies.
      *
      * @param runningEventRepository The repository for persisting and retrieving running events
+     * @param changeCounter The counter bumped by every change to the running events
+     * @param readModel The in-memory read model that answers listings and is told about every change
      */
-    public RunningEventService(RunningEventRepository runningEventRepository) {
+    public RunningEventService(
+            RunningEventRepository runningEventRepository,
+            RunningEventChangeCounter changeCounter,
+            RunningEventReadModel readModel) {
         this.runningEventRepository = runningEventRepository;
+        this.changeCounter = changeCounter;
+        this.readModel = readModel;
     }
 
     /**
@@ -53,7 +70,10 @@ public class RunningEventService
             throw new ValidationException("ID must be null when creating a new running event");
         }
 
-        return runningEventRepository.save(runningEvent);
+        RunningEvent createdEvent = runningEventRepository.save(runningEvent);
+        readModel.put(List.of(createdEvent));
+        changeCounter.markChanged();
+        return createdEvent;
     }
 
     /**
@@ -71,14 +91,45 @@ public class RunningEventService
 
     /**
      * {@inheritDoc}
+     * Once the read model is loaded, pages are served from memory. A caller that runs in its own
+     * transaction is answered by the repository, since only the database sees the caller's uncommitted
+     * writes; for the same reason this method does not start a transaction of its own.
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PaginatedResult<RunningEvent> listRunningEvents(RunningEventQuery query) {
         validateQuery(query);
+        if (readModel.isReady() && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return readModel.findAll(query);
+        }
         return runningEventRepository.findAll(query);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportRunningEvents(Long fromDate, Long toDate, Consumer<RunningEvent> consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+
+        if (fromDate != null && toDate != null && fromDate > toDate) {
+            throw new IllegalArgumentException("From date cannot be after to date");
+        }
+
+        runningEventRepository.forEachInDateRange(fromDate, toDate, consumer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getChangeToken() {
+        return changeCounter.currentToken();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -93,17 +144,18 @@ public class RunningEventService
             throw new ValidationException("ID cannot be null when updating a running event");
         }
 
-        // Check if the event exists
-        if (!runningEventRepository.existsById(runningEvent.getId())) {
-            return Optional.empty();
-        }
-
         // Validate the updated event
         validateRunningEvent(runningEvent);
 
-        // Save the updated event
-        RunningEvent updatedEvent = runningEventRepository.save(runningEvent);
-        return Optional.of(updatedEvent);
+        // A single compare-and-set UPDATE both checks the event and its version and writes it
+        Optional<RunningEvent> updatedEvent = runningEventRepository.update(runningEvent);
+        if (updatedEvent.isEmpty()) {
+            checkVersionConflict(runningEvent.getId(), runningEvent.getVersion());
+        } else {
+            readModel.put(List.of(updatedEvent.get()));
+            changeCounter.markChanged();
+        }
+        return updatedEvent;
     }
 
     /**
@@ -112,17 +164,41 @@ public class RunningEventService
     @Override
     @Transactional
     public boolean deleteRunningEvent(Long id) {
+        return deleteRunningEvent(id, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public boolean deleteRunningEvent(Long id, Long expectedVersion) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null when deleting a running event");
         }
 
-        // Check if the event exists before deleting
-        if (!runningEventRepository.existsById(id)) {
-            return false;
+        // A single DELETE both checks the event and its version and removes it
+        if (runningEventRepository.deleteById(id, expectedVersion)) {
+            readModel.remove(List.of(id));
+            changeCounter.markChanged();
+            return true;
         }
+        checkVersionConflict(id, expectedVersion);
+        return false;
+    }
 
-        runningEventRepository.deleteById(id);
-        return true;
+    /**
+     * Tells apart the two reasons a conditional write can match no row.
+     * Only called after a failed write, so the successful path stays a single statement.
+     *
+     * @param id The ID of the event that was not written
+     * @param expectedVersion The version the write was conditioned on, or null if it was unconditional
+     * @throws RunningEventVersionConflictException if the event exists but has a different version
+     */
+    private void checkVersionConflict(Long id, Long expectedVersion) {
+        if (expectedVersion != null && runningEventRepository.existsById(id)) {
+            throw new RunningEventVersionConflictException(id, expectedVersion);
+        }
     }
 
     /**
@@ -130,6 +206,7 @@ public class RunningEventService
      *
      * @param query The query to validate
      * @throws IllegalArgumentException if the query parameters are invalid
+     * @throws ValidationException if the page lies beyond the deepest offset that can be addressed
      */
     private void validateQuery(RunningEventQuery query) {
         if (query == null) {
@@ -144,9 +221,22 @@ public class RunningEventService
             throw new IllegalArgumentException("Page size must be greater than zero");
         }
 
+        // Offset pages are addressed by an int row offset; deeper pages are reached with the cursor
+        if (query.getCursor() == null
+                && query.getPage() != null
+                && query.getPageSize() != null
+                && (long) query.getPage() * query.getPageSize() > Integer.MAX_VALUE) {
+            throw new ValidationException(
+                    "Page is too deep for offset pagination; follow the nextCursor of a previous page instead");
+        }
+
         if (query.getFromDate() != null && query.getToDate() != null && query.getFromDate() > query.getToDate()) {
             throw new IllegalArgumentException("From date cannot be after to date");
         }
+
+        if (query.getCursor() != null && !query.getCursor().matches(query.getSortBy(), query.getSortDirection())) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort order");
+        }
     }
 
     /**
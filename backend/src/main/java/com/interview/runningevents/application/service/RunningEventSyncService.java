@@ -0,0 +1,206 @@
+package com.interview.runningevents.application.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.model.SourceEventState;
+import com.interview.runningevents.application.model.SourcedRunningEvent;
+import com.interview.runningevents.application.model.SyncResult;
+import com.interview.runningevents.application.port.in.SyncRunningEventsUseCase;
+import com.interview.runningevents.application.port.out.RunningEventCache;
+import com.interview.runningevents.application.port.out.RunningEventReadModel;
+import com.interview.runningevents.application.port.out.RunningEventRepository;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Service implementation for syncing the events of an external feed.
+ * The stored events of the feed are compared with the submitted ones by key and by a hash of their
+ * fields, so a feed that changed 1% of its events causes 1% of the writes. Only the keys, hashes and IDs
+ * of the stored events are read; the changed events are written with batched statements.
+ */
+@Service
+public class RunningEventSyncService implements SyncRunningEventsUseCase {
+
+    private final RunningEventRepository runningEventRepository;
+    private final RunningEventChangeCounter changeCounter;
+    private final RunningEventReadModel readModel;
+    private final RunningEventCache cache;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate registrationTemplate;
+
+    /**
+     * Creates a new RunningEventSyncService with the necessary dependencies.
+     *
+     * @param runningEventRepository The repository for persisting running events
+     * @param changeCounter The counter bumped by every change to the running events
+     * @param readModel The read model told about the inserted, updated and deleted events
+     * @param cache The cache whose copies of updated and deleted events are dropped
+     * @param transactionManager The transaction manager used to apply a sync
+     */
+    public RunningEventSyncService(
+            RunningEventRepository runningEventRepository,
+            RunningEventChangeCounter changeCounter,
+            RunningEventReadModel readModel,
+            RunningEventCache cache,
+            PlatformTransactionManager transactionManager) {
+        this.runningEventRepository = runningEventRepository;
+        this.changeCounter = changeCounter;
+        this.readModel = readModel;
+        this.cache = cache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.registrationTemplate = new TransactionTemplate(transactionManager);
+        this.registrationTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SyncResult syncRunningEvents(String source, List<SourcedRunningEvent> events) {
+        if (source == null || events == null) {
+            throw new IllegalArgumentException("Source and events cannot be null");
+        }
+        validate(events);
+
+        registerSource(source);
+        SyncResult result = transactionTemplate.execute(status -> applyDiff(source, events));
+
+        // The transaction has committed; cached copies of the changed events are stale now
+        result.getChangedIds().forEach(cache::invalidate);
+        return result;
+    }
+
+    /**
+     * Makes sure the feed can be locked. The feed is added in a transaction of its own, so that the first
+     * two syncs of a new feed both find it committed and lock the same row.
+     */
+    private void registerSource(String source) {
+        try {
+            registrationTemplate.executeWithoutResult(status -> runningEventRepository.registerSource(source));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent first sync of the feed added it
+        }
+    }
+
+    private SyncResult applyDiff(String source, List<SourcedRunningEvent> events) {
+        // A second sync of the same feed waits here until this one has committed, and then diffs against
+        // what this one wrote instead of inserting the same new keys again
+        runningEventRepository.lockSource(source);
+        Map<String, SourceEventState> stored = new HashMap<>();
+        for (SourceEventState state : runningEventRepository.findSourceStates(source)) {
+            stored.put(state.getSourceKey(), state);
+        }
+
+        List<SourcedRunningEvent> inserts = new ArrayList<>();
+        List<SourcedRunningEvent> updates = new ArrayList<>();
+        long unchanged = 0;
+        for (SourcedRunningEvent sourced : events) {
+            String hash = contentHash(sourced.getEvent());
+            SourceEventState state = stored.remove(sourced.getSourceKey());
+            if (state == null) {
+                inserts.add(sourced.toBuilder().contentHash(hash).build());
+            } else if (hash.equals(state.getContentHash())) {
+                unchanged++;
+            } else {
+                // A write that lands after the states were read fails the sync instead of being overwritten
+                RunningEvent event = sourced.getEvent().toBuilder()
+                        .id(state.getId())
+                        .version(state.getVersion())
+                        .build();
+                updates.add(sourced.toBuilder().event(event).contentHash(hash).build());
+            }
+        }
+        // Whatever is left was not in the feed any more
+        List<Long> deletes =
+                stored.values().stream().map(SourceEventState::getId).toList();
+
+        if (!inserts.isEmpty()) {
+            readModel.put(runningEventRepository.insertFromSource(source, inserts));
+        }
+        if (!updates.isEmpty()) {
+            readModel.put(runningEventRepository.updateFromSource(updates));
+        }
+        if (!deletes.isEmpty()) {
+            runningEventRepository.deleteAllById(deletes);
+            readModel.remove(deletes);
+        }
+        if (!inserts.isEmpty() || !updates.isEmpty() || !deletes.isEmpty()) {
+            changeCounter.markChanged();
+        }
+
+        List<Long> changedIds = new ArrayList<>(updates.size() + deletes.size());
+        updates.forEach(sourced -> changedIds.add(sourced.getEvent().getId()));
+        changedIds.addAll(deletes);
+        return new SyncResult(inserts.size(), updates.size(), deletes.size(), unchanged, changedIds);
+    }
+
+    /**
+     * Checks the whole feed before anything is written; a feed with a bad item is rejected as a whole,
+     * since leaving the item out would delete its stored event.
+     */
+    private static void validate(List<SourcedRunningEvent> events) {
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            SourcedRunningEvent sourced = events.get(i);
+            if (sourced == null || sourced.getSourceKey() == null || sourced.getEvent() == null) {
+                throw new ValidationException("Item " + i + " must have a key and an event");
+            }
+            if (!keys.add(sourced.getSourceKey())) {
+                throw new ValidationException("Key " + sourced.getSourceKey() + " is used more than once");
+            }
+            if (sourced.getEvent().getId() != null) {
+                throw new ValidationException("ID must be null for synced events");
+            }
+            if (!sourced.getEvent().isValid()) {
+                throw new ValidationException("Invalid running event with key " + sourced.getSourceKey()
+                        + ": check required fields and field lengths");
+            }
+        }
+    }
+
+    /**
+     * Hashes the fields of an event with SHA-256. Each field is prefixed with its length (-1 for null),
+     * so different field values never produce the same input.
+     *
+     * @return The hash as 64 hexadecimal digits
+     */
+    static String contentHash(RunningEvent event) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        update(digest, event.getName());
+        digest.update(
+                ByteBuffer.allocate(Long.BYTES).putLong(event.getDateTime()).array());
+        update(digest, event.getLocation());
+        update(digest, event.getDescription());
+        update(digest, event.getFurtherInformation());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String field) {
+        byte[] bytes = field == null ? new byte[0] : field.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES)
+                .putInt(field == null ? -1 : bytes.length)
+                .array());
+        digest.update(bytes);
+    }
+}
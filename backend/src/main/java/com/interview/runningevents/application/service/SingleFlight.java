@@ -0,0 +1,108 @@
+package com.interview.runningevents.application.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one execution.
+ * The first caller for a key runs the call on its own thread; callers arriving while it is in flight
+ * wait for its future and share its result or exception. Waiting parks the caller without holding a
+ * lock, so virtual threads are not pinned to their carrier.
+ *
+ * @param <K> The type of the call key
+ * @param <V> The type of the call result
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Creates a new SingleFlight.
+     *
+     * @param name The name of the coalesced operation, used to tell instances apart in metrics
+     */
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Runs the call for the given key, or joins the call already in flight for it.
+     *
+     * @param key The key identifying identical calls
+     * @param call The call to run if none is in flight for the key
+     * @return The result of the call
+     * @throws RuntimeException the exception thrown by the call
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+
+        executed.increment();
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Detaches the call in flight for the given key, so later callers start a new call instead of
+     * joining one that may have read data from before a write. Callers already waiting still get its result.
+     *
+     * @param key The key of the call to detach
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * @return The name of the coalesced operation
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The number of calls that were actually run
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * @return The number of calls that joined a call already in flight instead of running
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static <V> V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
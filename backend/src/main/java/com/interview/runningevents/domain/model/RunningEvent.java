@@ -16,7 +16,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class RunningEvent {
 
     private Long id;
@@ -38,6 +38,13 @@ public class RunningEvent {
     @Size(max = 1000, message = "Further information must be at most 1000 characters")
     private String furtherInformation;
 
+    /**
+     * Version of the stored event, incremented on every update.
+     * Null for events that have not been stored yet; when set on an update or delete,
+     * the change is only applied if the stored event still has this version.
+     */
+    private Long version;
+
     /**
      * Validates business rules for the running event.
      *
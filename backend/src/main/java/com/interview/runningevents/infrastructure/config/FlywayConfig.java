@@ -0,0 +1,50 @@
+package com.interview.runningevents.infrastructure.config;
+
+import java.nio.file.Path;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.interview.runningevents.infrastructure.persistence.H2DatabaseBackups;
+
+/**
+ * Decides what Flyway does on startup.
+ * If a backup to restore is configured and the database is still empty, the backup is restored first.
+ * Migrations are only run when some are pending: a database that is already at the latest version, such
+ * as a file-backed database after a restart, is only validated, so the checksums of the applied migrations
+ * are still checked without Flyway taking its migration lock.
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlywayConfig.class);
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            H2DatabaseBackups backups, @Value("${running-events.backup.restore-from:}") String restoreFrom) {
+        return flyway -> {
+            if (!restoreFrom.isBlank()) {
+                backups.restoreIfEmpty(Path.of(restoreFrom));
+            }
+            migrateIfPending(flyway);
+        };
+    }
+
+    static void migrateIfPending(Flyway flyway) {
+        MigrationInfoService info = flyway.info();
+        MigrationInfo current = info.current();
+        if (current != null && !current.getState().isFailed() && info.pending().length == 0) {
+            logger.info("Database schema is current at version {}; no migrations to run", current.getVersion());
+            flyway.validate();
+            return;
+        }
+        flyway.migrate();
+    }
+}
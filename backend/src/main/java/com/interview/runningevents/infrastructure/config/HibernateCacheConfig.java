@@ -0,0 +1,82 @@
+package com.interview.runningevents.infrastructure.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.interview.runningevents.infrastructure.persistence.RunningEventEntity;
+
+/**
+ * Configuration of the Hibernate second-level and query caches.
+ * The cache regions are Caffeine caches behind JCache, created here so that their size and
+ * time-to-live can be set in application.properties, and handed to Hibernate's JCache region factory.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    @Value("${running-events.cache.entity.max-size:10000}")
+    private long entityMaxSize;
+
+    @Value("${running-events.cache.entity.ttl:10m}")
+    private Duration entityTtl;
+
+    @Value("${running-events.cache.query.max-size:1000}")
+    private long queryMaxSize;
+
+    @Value("${running-events.cache.query.ttl:5m}")
+    private Duration queryTtl;
+
+    /**
+     * Creates the JCache manager holding the Hibernate cache regions.
+     * Each application context gets its own manager, so contexts never share or close each other's caches.
+     *
+     * @return The cache manager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(
+                        URI.create("running-events-hibernate-" + UUID.randomUUID()),
+                        getClass().getClassLoader());
+
+        cacheManager.createCache(RunningEventEntity.CACHE_REGION, region(entityMaxSize, entityTtl));
+        cacheManager.createCache(
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(queryMaxSize, queryTtl));
+        // Update timestamps decide whether a cached query result is stale, so they must outlive every query result
+        cacheManager.createCache(
+                RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+
+        return cacheManager;
+    }
+
+    /**
+     * Hands the cache manager to Hibernate's JCache region factory.
+     *
+     * @param hibernateCacheManager The cache manager holding the regions
+     * @return The customizer adding the cache manager to the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        return configuration;
+    }
+}
@@ -0,0 +1,38 @@
+package com.interview.runningevents.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.interview.runningevents.application.service.CachingRunningEventService;
+import com.interview.runningevents.application.service.SingleFlight;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the request coalescing counters of {@link CachingRunningEventService}.
+ * Exposed as {@code running.events.single.flight.calls}, tagged with the operation ({@code get} or
+ * {@code list}) and whether the call was {@code executed} or {@code coalesced} into one in flight.
+ */
+@Configuration
+public class SingleFlightMetricsConfig {
+
+    private static final String METRIC_NAME = "running.events.single.flight.calls";
+    private static final String DESCRIPTION = "Read calls that were run, or coalesced into an identical call in flight";
+
+    @Bean
+    public MeterBinder singleFlightMetrics(CachingRunningEventService cachingRunningEventService) {
+        return registry -> {
+            for (SingleFlight<?, ?> singleFlight : cachingRunningEventService.getSingleFlights()) {
+                FunctionCounter.builder(METRIC_NAME, singleFlight, SingleFlight::getExecutedCount)
+                        .description(DESCRIPTION)
+                        .tags("operation", singleFlight.getName(), "result", "executed")
+                        .register(registry);
+                FunctionCounter.builder(METRIC_NAME, singleFlight, SingleFlight::getCoalescedCount)
+                        .description(DESCRIPTION)
+                        .tags("operation", singleFlight.getName(), "result", "coalesced")
+                        .register(registry);
+            }
+        };
+    }
+}
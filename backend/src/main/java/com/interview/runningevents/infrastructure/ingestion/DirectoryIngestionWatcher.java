@@ -0,0 +1,231 @@
+package com.interview.runningevents.infrastructure.ingestion;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Watches the ingestion directory and hands every CSV or NDJSON file dropped there to the {@link FileIngester}.
+ * A file is only picked up once its size and modification time have not changed for the settle time, so
+ * partners may copy files in place; hidden files and files with other extensions, such as a .part file being
+ * uploaded, are ignored. Ingested files are moved to the "processed" subdirectory and files that failed to
+ * the "failed" one. Files are ingested one at a time on a single background thread.
+ */
+@Component
+@ConditionalOnProperty(name = "running-events.ingestion.enabled", havingValue = "true")
+public class DirectoryIngestionWatcher implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(DirectoryIngestionWatcher.class);
+
+    static final String PROCESSED_DIRECTORY = "processed";
+    static final String FAILED_DIRECTORY = "failed";
+
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final FileIngester fileIngester;
+    private final Path directory;
+    private final Duration settleTime;
+
+    private volatile boolean running;
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    /**
+     * Creates a new DirectoryIngestionWatcher.
+     *
+     * @param fileIngester The ingester each file is handed to
+     * @param directory The directory to watch; it is created if it does not exist
+     * @param settleTime How long a file must stay unchanged before it is ingested
+     */
+    public DirectoryIngestionWatcher(
+            FileIngester fileIngester,
+            @Value("${running-events.ingestion.directory:ingestion}") Path directory,
+            @Value("${running-events.ingestion.settle-time:5s}") Duration settleTime) {
+        if (settleTime.isNegative()) {
+            throw new IllegalArgumentException("Ingestion settle time cannot be negative");
+        }
+        this.fileIngester = fileIngester;
+        this.directory = directory.toAbsolutePath();
+        this.settleTime = settleTime;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory.resolve(PROCESSED_DIRECTORY));
+            Files.createDirectories(directory.resolve(FAILED_DIRECTORY));
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot watch ingestion directory " + directory, e);
+        }
+
+        running = true;
+        watcherThread =
+                Thread.ofPlatform().name("running-events-ingestion").daemon().start(this::watch);
+        logger.info("Watching {} for running event files", directory);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            // Wakes up the watcher thread; an ingestion in progress stops after its current chunk
+            watchService.close();
+            watcherThread.interrupt();
+            watcherThread.join(STOP_TIMEOUT.toMillis());
+        } catch (IOException e) {
+            logger.warn("Failed to close the watch service of {}", directory, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void watch() {
+        // Files seen but not yet ingested, with the size and modification time they were last seen with
+        Map<Path, FileState> pending = new LinkedHashMap<>();
+        scan(pending);
+        long pollMillis = Math.clamp(settleTime.toMillis() / 2, 50, 1000);
+
+        while (running) {
+            try {
+                WatchKey key = watchService.poll(pollMillis, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == OVERFLOW) {
+                            scan(pending);
+                        } else {
+                            Path file = directory.resolve((Path) event.context());
+                            if (isCandidate(file)) {
+                                pending.putIfAbsent(file, FileState.UNKNOWN);
+                            }
+                        }
+                    }
+                    key.reset();
+                }
+                ingestSettledFiles(pending);
+            } catch (ClosedWatchServiceException | InterruptedException e) {
+                break;
+            } catch (RuntimeException e) {
+                logger.error("Unexpected error while watching {}", directory, e);
+            }
+        }
+    }
+
+    private void ingestSettledFiles(Map<Path, FileState> pending) {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Path, FileState>> entries = pending.entrySet().iterator();
+        while (entries.hasNext() && running) {
+            Map.Entry<Path, FileState> entry = entries.next();
+            Path file = entry.getKey();
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            } catch (IOException e) {
+                // Deleted or renamed before it settled
+                entries.remove();
+                continue;
+            }
+
+            FileState state = new FileState(
+                    attributes.size(), attributes.lastModifiedTime().toMillis(), now);
+            if (!state.sameContent(entry.getValue())) {
+                entry.setValue(state);
+            } else if (now - entry.getValue().seenAtNanos() >= settleTime.toNanos()) {
+                entries.remove();
+                ingest(file);
+            }
+        }
+    }
+
+    private void ingest(Path file) {
+        try {
+            fileIngester.ingest(file);
+            moveTo(file, PROCESSED_DIRECTORY);
+        } catch (IOException | RuntimeException e) {
+            if (!running) {
+                // Stopped during the ingestion; the file stays in place and is resumed on the next start
+                logger.info("Ingestion of {} was interrupted", file.getFileName());
+                return;
+            }
+            logger.error("Failed to ingest {}", file.getFileName(), e);
+            moveTo(file, FAILED_DIRECTORY);
+        }
+    }
+
+    private void moveTo(Path file, String subdirectory) {
+        try {
+            Files.move(
+                    file,
+                    directory.resolve(subdirectory).resolve(file.getFileName()),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (NoSuchFileException e) {
+            logger.warn("{} disappeared before it could be moved to {}", file.getFileName(), subdirectory);
+        } catch (IOException e) {
+            logger.error("Failed to move {} to {}", file.getFileName(), subdirectory, e);
+        }
+    }
+
+    private void scan(Map<Path, FileState> pending) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (isCandidate(file)) {
+                    pending.putIfAbsent(file, FileState.UNKNOWN);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to list ingestion directory {}", directory, e);
+        }
+    }
+
+    private static boolean isCandidate(Path file) {
+        return !file.getFileName().toString().startsWith(".")
+                && FileIngester.isSupported(file)
+                && Files.isRegularFile(file);
+    }
+
+    private record FileState(long size, long lastModifiedMillis, long seenAtNanos) {
+
+        static final FileState UNKNOWN = new FileState(-1, -1, 0);
+
+        boolean sameContent(FileState other) {
+            return size == other.size && lastModifiedMillis == other.lastModifiedMillis;
+        }
+    }
+}
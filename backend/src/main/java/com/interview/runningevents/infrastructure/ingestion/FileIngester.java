@@ -0,0 +1,440 @@
+package com.interview.runningevents.infrastructure.ingestion;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.application.model.IngestionCheckpoint;
+import com.interview.runningevents.application.port.in.IngestRunningEventsUseCase;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.importer.CsvImportRecordReader;
+import com.interview.runningevents.infrastructure.web.importer.ImportRecordReader;
+import com.interview.runningevents.infrastructure.web.importer.NdjsonImportRecordReader;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+/**
+ * Ingests CSV and NDJSON files of any size in the formats accepted by POST /api/events/import.
+ * The file is memory-mapped and split every {@code chunk-size} bytes, each split moved to the next record
+ * boundary; the chunks are parsed in parallel on a fork-join pool and committed in file order, each
+ * together with the checkpoint that follows it. An interrupted ingestion therefore resumes after the
+ * last committed chunk. Files must be encoded in UTF-8.
+ */
+@Component
+@ConditionalOnProperty(name = "running-events.ingestion.enabled", havingValue = "true")
+public class FileIngester implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileIngester.class);
+
+    /**
+     * How far past a split offset the start of the next record is looked for.
+     * A UTF-8 character takes at most four bytes, so this holds any record the readers accept.
+     */
+    static final int MAX_RECORD_BYTES = 4 * ImportRecordReader.MAX_LINE_LENGTH;
+
+    private static final int MAX_LOGGED_REJECTIONS = 100;
+
+    private final IngestRunningEventsUseCase ingestRunningEventsUseCase;
+    private final RunningEventRequestValidator requestValidator;
+    private final RunningEventDTOMapper dtoMapper;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int parallelism;
+    private final ForkJoinPool parserPool;
+
+    /**
+     * Creates a new FileIngester with the required dependencies.
+     *
+     * @param ingestRunningEventsUseCase Use case each chunk is committed with
+     * @param requestValidator Validator applied to each record
+     * @param dtoMapper Mapper for converting valid records to domain objects
+     * @param objectMapper Mapper used to parse NDJSON records
+     * @param chunkSize The approximate size of the chunks a file is cut into
+     * @param parallelism The number of chunks parsed at the same time
+     */
+    public FileIngester(
+            IngestRunningEventsUseCase ingestRunningEventsUseCase,
+            RunningEventRequestValidator requestValidator,
+            RunningEventDTOMapper dtoMapper,
+            ObjectMapper objectMapper,
+            @Value("${running-events.ingestion.chunk-size:1MB}") DataSize chunkSize,
+            @Value("${running-events.ingestion.parallelism:4}") int parallelism) {
+        if (chunkSize.toBytes() <= 0 || chunkSize.toBytes() > Integer.MAX_VALUE - MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Ingestion chunk size must be greater than zero and less than 2GB");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Ingestion parallelism must be greater than zero");
+        }
+        this.ingestRunningEventsUseCase = ingestRunningEventsUseCase;
+        this.requestValidator = requestValidator;
+        this.dtoMapper = dtoMapper;
+        this.objectMapper = objectMapper;
+        this.chunkSize = (int) chunkSize.toBytes();
+        this.parallelism = parallelism;
+        this.parserPool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Tells whether a file has a format this ingester reads.
+     *
+     * @param file The file
+     * @return Whether the file name ends with .csv, .ndjson or .jsonl
+     */
+    public static boolean isSupported(Path file) {
+        return Format.of(file) != null;
+    }
+
+    /**
+     * Ingests a file, resuming from its checkpoint if the file was partly ingested before.
+     * A file that was already ingested completely is not read again. The checkpoint is kept by file
+     * name and only applies while the size and modification time of the file are unchanged.
+     *
+     * @param file The file to ingest
+     * @return The checkpoint after the last record of the file
+     * @throws IOException If the file cannot be read
+     * @throws ValidationException If the file is not a supported format or has an invalid CSV header
+     * @throws CancellationException If the thread is interrupted; the file can be resumed later
+     * @throws RuntimeException If a chunk cannot be stored; the chunks before it stay committed
+     */
+    public IngestionCheckpoint ingest(Path file) throws IOException {
+        Format format = Format.of(file);
+        if (format == null) {
+            throw new ValidationException("File must end with .csv, .ndjson or .jsonl: " + file.getFileName());
+        }
+
+        String source = file.getFileName().toString();
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        String fingerprint =
+                attributes.size() + "-" + attributes.lastModifiedTime().toMillis();
+
+        IngestionCheckpoint checkpoint = ingestRunningEventsUseCase
+                .findCheckpoint(source)
+                .filter(existing -> existing.getFingerprint().equals(fingerprint))
+                .orElseGet(() -> IngestionCheckpoint.builder()
+                        .source(source)
+                        .fingerprint(fingerprint)
+                        .lineNumber(1)
+                        .build());
+        if (checkpoint.isCompleted()) {
+            logger.info("Skipping {}: it was already ingested", source);
+            return checkpoint;
+        }
+        if (checkpoint.getOffset() > 0) {
+            logger.info("Resuming {} at line {}", source, checkpoint.getLineNumber());
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            CsvImportRecordReader.Header header = null;
+            if (format == Format.CSV) {
+                HeaderLine headerLine = readHeaderLine(channel, size);
+                header = CsvImportRecordReader.parseHeader(headerLine.text());
+                if (checkpoint.getOffset() < headerLine.end()) {
+                    checkpoint = checkpoint.toBuilder()
+                            .offset(headerLine.end())
+                            .lineNumber(headerLine.lineNumber() + 1)
+                            .build();
+                }
+            }
+
+            checkpoint = ingestRecords(channel, size, format, header, checkpoint);
+        }
+
+        checkpoint = ingestRunningEventsUseCase.completeIngestion(checkpoint);
+        logger.info(
+                "Ingested {}: {} events inserted, {} records rejected",
+                source,
+                checkpoint.getInserted(),
+                checkpoint.getRejected());
+        return checkpoint;
+    }
+
+    /**
+     * Cuts the file into chunks, parses them on the pool and commits them in order.
+     * The file is split at fixed offsets, so this thread only schedules tasks and commits their results.
+     * The tasks count the line feeds and CSV quotes of their split, a running sum of those counts gives
+     * the line number and quote state at each split offset, and each split is then moved to the next
+     * record boundary by the tasks on either side of it. At most twice as many chunks as there are parser
+     * threads are in flight, so the parsed records held in memory are bounded however large the file is.
+     */
+    private IngestionCheckpoint ingestRecords(
+            FileChannel channel,
+            long size,
+            Format format,
+            CsvImportRecordReader.Header header,
+            IngestionCheckpoint checkpoint)
+            throws IOException {
+        boolean csv = format == Format.CSV;
+        Deque<Chunk> inFlight = new ArrayDeque<>();
+        CompletableFuture<SplitState> state =
+                CompletableFuture.completedFuture(new SplitState(checkpoint.getLineNumber(), false));
+        CompletableFuture<Boundary> chunkStart =
+                CompletableFuture.completedFuture(new Boundary(checkpoint.getOffset(), checkpoint.getLineNumber()));
+        long rejectionsLogged = checkpoint.getRejected();
+
+        try {
+            for (long split = checkpoint.getOffset(); split < size; split += chunkSize) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Ingestion of " + checkpoint.getSource() + " was interrupted");
+                }
+                long from = split;
+                long to = Math.min(size, split + chunkSize);
+                CompletableFuture<Tally> tally =
+                        CompletableFuture.supplyAsync(() -> tally(map(channel, from, to), csv), parserPool);
+                state = state.thenCombine(tally, SplitState::after);
+                CompletableFuture<Boundary> chunkEnd = to == size
+                        ? state.thenApply(end -> new Boundary(size, end.lineNumber()))
+                        : state.thenApplyAsync(atSplit -> nextBoundary(channel, to, size, atSplit, csv), parserPool);
+                CompletableFuture<List<ImportRecord>> records = chunkStart.thenCombineAsync(
+                        chunkEnd, (start, end) -> parse(channel, start, end, format, header), parserPool);
+                inFlight.add(new Chunk(records, chunkEnd));
+                chunkStart = chunkEnd;
+
+                if (inFlight.size() >= 2 * parallelism) {
+                    checkpoint = commit(inFlight.poll(), checkpoint, rejectionsLogged);
+                    rejectionsLogged = checkpoint.getRejected();
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                checkpoint = commit(inFlight.poll(), checkpoint, rejectionsLogged);
+                rejectionsLogged = checkpoint.getRejected();
+            }
+        } catch (IOException | RuntimeException e) {
+            // Chunks after the failed one must not be committed, or the checkpoint would skip it
+            inFlight.forEach(chunk -> chunk.records().cancel(true));
+            throw e;
+        }
+        return checkpoint;
+    }
+
+    private IngestionCheckpoint commit(Chunk chunk, IngestionCheckpoint checkpoint, long rejectionsLogged)
+            throws IOException {
+        List<ImportRecord> records = join(chunk.records());
+        Boundary end = join(chunk.end());
+        if (records.isEmpty() && end.offset() == checkpoint.getOffset()) {
+            // A record longer than the chunk size spans the whole split
+            return checkpoint;
+        }
+        IngestionCheckpoint next =
+                ingestRunningEventsUseCase.ingestChunk(checkpoint, records, end.offset(), end.lineNumber());
+
+        for (ImportRecord record : records) {
+            if (!record.isParsed() && rejectionsLogged++ < MAX_LOGGED_REJECTIONS) {
+                logger.warn(
+                        "Rejected line {} of {}: {}",
+                        record.getLineNumber(),
+                        checkpoint.getSource(),
+                        record.getError());
+            }
+        }
+        return next;
+    }
+
+    private List<ImportRecord> parse(
+            FileChannel channel, Boundary start, Boundary end, Format format, CsvImportRecordReader.Header header) {
+        if (end.offset() <= start.offset()) {
+            return List.of();
+        }
+        InputStream input = new ByteBufferInputStream(map(channel, start.offset(), end.offset()));
+        ImportRecordReader reader = format == Format.CSV
+                ? new CsvImportRecordReader(
+                        input, StandardCharsets.UTF_8, header, start.lineNumber(), requestValidator, dtoMapper)
+                : new NdjsonImportRecordReader(
+                        input, StandardCharsets.UTF_8, start.lineNumber(), objectMapper, requestValidator, dtoMapper);
+
+        List<ImportRecord> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+        return records;
+    }
+
+    /**
+     * Moves a split offset to the start of the next record.
+     */
+    private static Boundary nextBoundary(FileChannel channel, long split, long size, SplitState atSplit, boolean csv) {
+        ByteBuffer window = map(channel, split, Math.min(size, split + MAX_RECORD_BYTES));
+        int length = boundary(window, csv, atSplit.quoted());
+        return new Boundary(
+                split + length,
+                atSplit.lineNumber() + tally(window.slice(0, length), false).lineFeeds());
+    }
+
+    /**
+     * Counts the line feeds of a split and, in CSV, whether it holds an odd number of quotes.
+     * A doubled quote inside a quoted field counts twice, so the parity tells whether the quote state
+     * flips across the split.
+     */
+    static Tally tally(ByteBuffer split, boolean csv) {
+        long lineFeeds = 0;
+        boolean oddQuotes = false;
+        for (int i = 0; i < split.limit(); i++) {
+            byte b = split.get(i);
+            if (b == '\n') {
+                lineFeeds++;
+            } else if (b == '"' && csv) {
+                oddQuotes = !oddQuotes;
+            }
+        }
+        return new Tally(lineFeeds, oddQuotes);
+    }
+
+    /**
+     * Finds the first record boundary in a window that starts at a split offset: the position after the
+     * first line feed outside a quoted field. If the window holds none, a quote was left open and the
+     * boundary falls after the first line feed, where the readers reject the broken record; without any
+     * line feed the window holds a single overlong record and the boundary is its end.
+     *
+     * @param window The bytes from the split offset on
+     * @param csv Whether line feeds inside quoted fields are part of the record
+     * @param quoted Whether the split offset lies inside a quoted field
+     * @return The length of the window before the boundary
+     */
+    static int boundary(ByteBuffer window, boolean csv, boolean quoted) {
+        int limit = window.limit();
+        int firstLineFeed = -1;
+        for (int i = 0; i < limit; i++) {
+            byte b = window.get(i);
+            if (b == '"' && csv) {
+                quoted = !quoted;
+            } else if (b == '\n') {
+                if (!quoted || !csv) {
+                    return i + 1;
+                }
+                if (firstLineFeed < 0) {
+                    firstLineFeed = i;
+                }
+            }
+        }
+        return firstLineFeed >= 0 ? firstLineFeed + 1 : limit;
+    }
+
+    private static ByteBuffer map(FileChannel channel, long from, long to) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Waits for a chunk task and rethrows what it failed with.
+     */
+    private static <T> T join(CompletableFuture<T> task) throws IOException {
+        try {
+            return task.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the first non-blank line of a CSV file.
+     */
+    private static HeaderLine readHeaderLine(FileChannel channel, long size) throws IOException {
+        int headLength = (int) Math.min(size, MAX_RECORD_BYTES);
+        MappedByteBuffer head = channel.map(FileChannel.MapMode.READ_ONLY, 0, headLength);
+        int start = 0;
+        long lineNumber = 1;
+        while (start < headLength) {
+            int end = start;
+            while (end < headLength && head.get(end) != '\n') {
+                end++;
+            }
+            if (end == headLength && headLength < size) {
+                break;
+            }
+
+            String line = StandardCharsets.UTF_8
+                    .decode(head.slice(start, end - start))
+                    .toString();
+            if (!line.isBlank()) {
+                if (line.endsWith("\r")) {
+                    line = line.substring(0, line.length() - 1);
+                }
+                return new HeaderLine(line, Math.min(end + 1, headLength), lineNumber);
+            }
+            start = end + 1;
+            lineNumber++;
+        }
+        throw new ValidationException("CSV must start with a header line");
+    }
+
+    /**
+     * Stops the parser threads.
+     */
+    @Override
+    public void close() {
+        parserPool.shutdownNow();
+    }
+
+    private enum Format {
+        CSV,
+        NDJSON;
+
+        static Format of(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            return null;
+        }
+    }
+
+    private record Chunk(CompletableFuture<List<ImportRecord>> records, CompletableFuture<Boundary> end) {}
+
+    /**
+     * The line feeds and quote parity of a split.
+     */
+    record Tally(long lineFeeds, boolean oddQuotes) {}
+
+    /**
+     * The line number and CSV quote state at a split offset.
+     */
+    private record SplitState(long lineNumber, boolean quoted) {
+
+        SplitState after(Tally tally) {
+            return new SplitState(lineNumber + tally.lineFeeds(), quoted != tally.oddQuotes());
+        }
+    }
+
+    /**
+     * The start of a record and the line it starts on.
+     */
+    private record Boundary(long offset, long lineNumber) {}
+
+    private record HeaderLine(String text, long end, long lineNumber) {}
+}
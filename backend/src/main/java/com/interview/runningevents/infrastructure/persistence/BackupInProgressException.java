@@ -0,0 +1,16 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+/**
+ * Exception thrown when a backup is requested while another backup is still being written.
+ */
+public class BackupInProgressException extends RuntimeException {
+
+    /**
+     * Creates a new BackupInProgressException with the specified message.
+     *
+     * @param message The error message
+     */
+    public BackupInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,181 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.interview.runningevents.application.exception.ValidationException;
+
+/**
+ * Online backups of the H2 database, and the restore of a backup into an empty database on startup.
+ * Backups are written to the backup directory with the time they were taken in their name, while the
+ * application keeps serving requests.
+ */
+@Component
+public class H2DatabaseBackups {
+
+    private static final Logger logger = LoggerFactory.getLogger(H2DatabaseBackups.class);
+
+    private static final DateTimeFormatter NAME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS'Z'").withZone(ZoneOffset.UTC);
+
+    /**
+     * The kinds of backup H2 can take.
+     */
+    public enum Format {
+        /**
+         * SQL statements recreating the schema and the rows, compressed with gzip (SCRIPT TO). Works for
+         * in-memory and file-backed databases and can be restored on startup.
+         */
+        SCRIPT(".sql.gz"),
+        /**
+         * A zip of the database file (BACKUP TO), the fastest to take and to restore for large databases.
+         * Only for file-backed databases; restored by unzipping it into the database directory while the
+         * application is stopped.
+         */
+        BACKUP(".zip");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    /**
+     * A backup that was taken.
+     *
+     * @param file The backup file
+     * @param format The kind of backup
+     * @param size The size of the file in bytes
+     * @param durationMillis How long the backup took
+     */
+    public record Backup(Path file, Format format, long size, long durationMillis) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path directory;
+    private final ReentrantLock backupLock = new ReentrantLock();
+
+    /**
+     * Creates a new H2DatabaseBackups.
+     *
+     * @param dataSource The database to back up; used directly, since a restore runs before Flyway and the
+     *                   JdbcTemplate bean waits for Flyway
+     * @param directory The directory backups are written to; it is created if it does not exist
+     */
+    public H2DatabaseBackups(
+            DataSource dataSource, @Value("${running-events.backup.directory:backups}") Path directory) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.directory = directory.toAbsolutePath();
+    }
+
+    /**
+     * Takes a backup of the whole database. Backups are taken one at a time; a request made while a
+     * backup is being written is refused instead of waiting for it.
+     *
+     * @param format The kind of backup
+     * @return The backup that was taken
+     * @throws ValidationException If a BACKUP is requested for an in-memory database
+     * @throws BackupInProgressException If another backup is being written
+     * @throws UncheckedIOException If the backup directory cannot be created
+     * @throws RuntimeException If the database fails to write the backup
+     */
+    public Backup backup(Format format) {
+        if (format == Format.BACKUP && isInMemory()) {
+            throw new ValidationException("An in-memory database has no file to back up; use the script format");
+        }
+        if (!backupLock.tryLock()) {
+            throw new BackupInProgressException("A backup is already being written");
+        }
+        try {
+            return write(format);
+        } finally {
+            backupLock.unlock();
+        }
+    }
+
+    private Backup write(Format format) {
+
+        long started = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create backup directory " + directory, e);
+        }
+        Path file = directory.resolve("runningeventsdb-" + NAME_FORMAT.format(Instant.now()) + format.extension);
+
+        switch (format) {
+            case SCRIPT -> jdbcTemplate.execute("SCRIPT TO " + literal(file) + " COMPRESSION GZIP");
+            case BACKUP -> jdbcTemplate.execute("BACKUP TO " + literal(file));
+        }
+
+        Backup backup =
+                new Backup(file, format, size(file), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        logger.info("Wrote {} backup {} ({} bytes) in {} ms", format, file, backup.size(), backup.durationMillis());
+        return backup;
+    }
+
+    /**
+     * Runs a script backup against the database if the database has no tables yet, so a new database
+     * starts with the contents of the backup. A database that already has tables is left as it is.
+     *
+     * @param file A backup taken in the SCRIPT format
+     * @return Whether the backup was restored
+     * @throws IllegalArgumentException If the file is not a script backup or does not exist
+     * @throws RuntimeException If the database fails to run the script
+     */
+    public boolean restoreIfEmpty(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(Format.SCRIPT.extension)) {
+            throw new IllegalArgumentException("Only " + Format.SCRIPT.extension
+                    + " backups are restored on startup; unzip a " + Format.BACKUP.extension
+                    + " backup into the database directory instead: " + file);
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Backup to restore does not exist: " + file.toAbsolutePath());
+        }
+
+        Integer tables = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC'", Integer.class);
+        if (tables != null && tables > 0) {
+            logger.info("Database is not empty; backup {} is not restored", file);
+            return false;
+        }
+
+        long started = System.nanoTime();
+        jdbcTemplate.execute("RUNSCRIPT FROM " + literal(file.toAbsolutePath()) + " COMPRESSION GZIP");
+        logger.info("Restored backup {} in {} ms", file, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return true;
+    }
+
+    private boolean isInMemory() {
+        // DATABASE_PATH() is null for in-memory databases
+        return jdbcTemplate.queryForObject("SELECT DATABASE_PATH()", String.class) == null;
+    }
+
+    private static String literal(Path file) {
+        return "'" + file.toString().replace("'", "''") + "'";
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read size of backup " + file, e);
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interview.runningevents.application.model.PaginatedResult;
+import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.application.model.RunningEventsFingerprint;
+import com.interview.runningevents.application.port.out.RunningEventReadModel;
+import com.interview.runningevents.application.port.out.RunningEventRepository;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Implementation of the RunningEventReadModel port that keeps every running event in concurrent skip lists.
+ * The events are indexed by (dateTime, id), (name, id) and id, matching the orders a listing can ask for, so
+ * a date-range page is a range lookup of O(log n + k) and a keyset page starts with a single seek. Pages
+ * are assembled by the same {@link RunningEventPageFinder} as in the persistence adapters.
+ * The events are loaded from the repository on startup. Until loading has finished the read model is not
+ * ready and listings are answered by the database. Readers never lock; changes are applied one at a time,
+ * so a reader may briefly miss an event that is being moved within an index.
+ * Only changes reported through this instance are seen; rows written to the database in other ways are
+ * picked up on the next start.
+ * With snapshots enabled, the events are also written to a {@link RunningEventSnapshotFile} periodically
+ * when they have changed and on shutdown. On startup the snapshot is used instead of reading the
+ * database if its fingerprint matches the one of the stored events; otherwise it is ignored.
+ */
+@Component
+public class InMemoryRunningEventReadModel implements RunningEventReadModel, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryRunningEventReadModel.class);
+
+    /**
+     * How long a deleted ID is remembered, so that a late or out-of-order report does not bring it back.
+     * IDs are never reused.
+     */
+    private static final Duration TOMBSTONE_TTL = Duration.ofMinutes(10);
+
+    private final RunningEventRepository runningEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final RunningEventPageFinder pageFinder;
+    private final Path snapshotFile;
+    private final Duration snapshotInterval;
+
+    private final NavigableMap<Long, RunningEvent> byId = new ConcurrentSkipListMap<>();
+    private final NavigableMap<DateKey, RunningEvent> byDate = new ConcurrentSkipListMap<>();
+    private final NavigableMap<NameKey, RunningEvent> byName = new ConcurrentSkipListMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Cache<Long, Boolean> tombstones =
+            Caffeine.newBuilder().expireAfterWrite(TOMBSTONE_TTL).build();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final AtomicLong changes = new AtomicLong();
+
+    private volatile boolean ready;
+    private volatile boolean running;
+    private ScheduledExecutorService snapshotScheduler;
+    // The number of reported changes contained in the snapshot file, or -1 if there is no current snapshot
+    private long snapshotChanges = -1;
+
+    /**
+     * Creates a new InMemoryRunningEventReadModel.
+     *
+     * @param runningEventRepository The repository the events are loaded from
+     * @param transactionManager The transaction manager used to load the events
+     * @param enabled Whether to keep the read model; when false, it is never ready and ignores changes
+     * @param snapshotEnabled Whether to write snapshots and restore from them
+     * @param snapshotFile The snapshot file
+     * @param snapshotInterval How often to check for changes and write a new snapshot
+     */
+    public InMemoryRunningEventReadModel(
+            RunningEventRepository runningEventRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${running-events.read-model.enabled:true}") boolean enabled,
+            @Value("${running-events.read-model.snapshot.enabled:false}") boolean snapshotEnabled,
+            @Value("${running-events.read-model.snapshot.file:read-model.snapshot}") Path snapshotFile,
+            @Value("${running-events.read-model.snapshot.interval:5m}") Duration snapshotInterval) {
+        if (snapshotEnabled && !snapshotInterval.isPositive()) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.runningEventRepository = runningEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.pageFinder = new RunningEventPageFinder(new PageQueries());
+        this.snapshotFile = enabled && snapshotEnabled ? snapshotFile.toAbsolutePath() : null;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        if (!enabled || ready) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        String loadedFrom = "the snapshot";
+        if (!restoreSnapshot()) {
+            loadedFrom = "the database";
+            // Changes committed while loading are applied as they come; versions and tombstones keep the
+            // loader from overwriting them with what it read before
+            transactionTemplate.executeWithoutResult(
+                    status -> runningEventRepository.forEachInDateRange(null, null, this::apply));
+        }
+        ready = true;
+        logger.info(
+                "Loaded {} running events into the read model from {} in {} ms",
+                size.get(),
+                loadedFrom,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        if (snapshotFile != null) {
+            snapshotScheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("running-events-snapshot").daemon().factory());
+            snapshotScheduler.scheduleWithFixedDelay(
+                    this::writeSnapshotIfChanged,
+                    snapshotInterval.toMillis(),
+                    snapshotInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (snapshotScheduler == null) {
+            return;
+        }
+        snapshotScheduler.shutdownNow();
+        try {
+            snapshotScheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        snapshotScheduler = null;
+        // The web server has stopped before this phase, so no more changes are expected
+        writeSnapshotIfChanged();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public PaginatedResult<RunningEvent> findAll(RunningEventQuery query) {
+        if (!ready) {
+            throw new IllegalStateException("The read model is not loaded");
+        }
+        return pageFinder.findAll(query);
+    }
+
+    @Override
+    public void put(List<RunningEvent> runningEvents) {
+        if (runningEvents == null) {
+            throw new IllegalArgumentException("Running events cannot be null");
+        }
+        if (runningEvents.stream().anyMatch(event -> event.getId() == null)) {
+            throw new IllegalArgumentException("Running events must have an ID");
+        }
+        if (!enabled) {
+            return;
+        }
+
+        // Copied now, so later changes to the caller's instances do not reach the read model
+        List<RunningEvent> copies =
+                runningEvents.stream().map(event -> event.toBuilder().build()).toList();
+        afterCommit(() -> {
+            copies.forEach(this::apply);
+            changes.incrementAndGet();
+        });
+    }
+
+    @Override
+    public void remove(List<Long> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("IDs cannot be null");
+        }
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> removed = List.copyOf(ids);
+        afterCommit(() -> {
+            removed.forEach(this::delete);
+            changes.incrementAndGet();
+        });
+    }
+
+    /**
+     * Fills the indexes from the snapshot file if it matches the stored events.
+     *
+     * @return Whether the snapshot was used
+     */
+    private boolean restoreSnapshot() {
+        if (snapshotFile == null || !Files.exists(snapshotFile)) {
+            return false;
+        }
+
+        try {
+            RunningEventSnapshotFile.Snapshot snapshot = RunningEventSnapshotFile.read(snapshotFile);
+            RunningEventsFingerprint stored =
+                    transactionTemplate.execute(status -> runningEventRepository.fingerprint());
+            if (!snapshot.fingerprint().equals(stored)) {
+                logger.info("Snapshot {} does not match the stored running events and is not used", snapshotFile);
+                return false;
+            }
+            snapshot.forEach(this::apply);
+            snapshotChanges = 0;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to restore the read model from {}", snapshotFile, e);
+            clear();
+            return false;
+        }
+    }
+
+    /**
+     * Writes a new snapshot if changes were reported since the last one. Failures are logged; the next
+     * attempt writes the snapshot again.
+     */
+    void writeSnapshotIfChanged() {
+        if (snapshotFile == null || !ready) {
+            return;
+        }
+
+        snapshotLock.lock();
+        try {
+            List<RunningEvent> events;
+            long includedChanges;
+            writeLock.lock();
+            try {
+                includedChanges = changes.get();
+                if (includedChanges == snapshotChanges) {
+                    return;
+                }
+                // Indexed instances are never modified, so they can be written after the lock is released
+                events = new ArrayList<>(byId.values());
+            } finally {
+                writeLock.unlock();
+            }
+
+            long started = System.nanoTime();
+            RunningEventSnapshotFile.write(snapshotFile, events, System.currentTimeMillis());
+            snapshotChanges = includedChanges;
+            logger.debug(
+                    "Wrote a snapshot of {} running events to {} in {} ms",
+                    events.size(),
+                    snapshotFile,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to write a snapshot of the read model to {}", snapshotFile, e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Runs a change once the current transaction has committed, or right away outside a transaction.
+     */
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private void apply(RunningEvent event) {
+        writeLock.lock();
+        try {
+            if (tombstones.getIfPresent(event.getId()) != null) {
+                return;
+            }
+            RunningEvent current = byId.get(event.getId());
+            if (current != null) {
+                if (isNewer(current, event)) {
+                    return;
+                }
+                byDate.remove(DateKey.of(current));
+                byName.remove(NameKey.of(current));
+            } else {
+                size.incrementAndGet();
+            }
+            byId.put(event.getId(), event);
+            byDate.put(DateKey.of(event), event);
+            byName.put(NameKey.of(event), event);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void delete(Long id) {
+        writeLock.lock();
+        try {
+            tombstones.put(id, Boolean.TRUE);
+            RunningEvent current = byId.remove(id);
+            if (current != null) {
+                byDate.remove(DateKey.of(current));
+                byName.remove(NameKey.of(current));
+                size.decrementAndGet();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void clear() {
+        writeLock.lock();
+        try {
+            byId.clear();
+            byDate.clear();
+            byName.clear();
+            size.set(0);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static boolean isNewer(RunningEvent current, RunningEvent candidate) {
+        return current.getVersion() != null
+                && candidate.getVersion() != null
+                && current.getVersion() > candidate.getVersion();
+    }
+
+    /**
+     * Position of an event in the date index; events on the same date are ordered by ID.
+     */
+    private record DateKey(long dateTime, long id) implements Comparable<DateKey> {
+
+        private static final Comparator<DateKey> ORDER =
+                Comparator.comparingLong(DateKey::dateTime).thenComparingLong(DateKey::id);
+
+        static DateKey of(RunningEvent event) {
+            return new DateKey(event.getDateTime(), event.getId());
+        }
+
+        @Override
+        public int compareTo(DateKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * Position of an event in the name index; events with the same name are ordered by ID.
+     */
+    private record NameKey(String name, long id) implements Comparable<NameKey> {
+
+        private static final Comparator<NameKey> ORDER =
+                Comparator.comparing(NameKey::name).thenComparingLong(NameKey::id);
+
+        static NameKey of(RunningEvent event) {
+            return new NameKey(event.getName(), event.getId());
+        }
+
+        @Override
+        public int compareTo(NameKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * The listing queries as lookups in the indexes. A date range is a sub-map of the date index; the
+     * name and ID orders walk their own index and skip events outside the range.
+     */
+    private class PageQueries implements RunningEventPageQueries {
+
+        @Override
+        public List<RunningEvent> findEvents(
+                Long fromDate, Long toDate, String sortField, Sort.Direction direction, long offset, int limit) {
+            Stream<RunningEvent> events =
+                    switch (sortField) {
+                        case "dateTime" -> ordered(dateRange(fromDate, toDate), direction);
+                        case "name" -> inRange(ordered(byName, direction), fromDate, toDate);
+                        case "id" -> inRange(ordered(byId, direction), fromDate, toDate);
+                        default -> throw new IllegalArgumentException("Invalid sort field: " + sortField);
+                    };
+            return copies(events.skip(offset), limit);
+        }
+
+        @Override
+        public List<RunningEvent> findByKeyset(
+                Long fromDate,
+                Long toDate,
+                String sortField,
+                Sort.Direction direction,
+                Comparable<?> sortKey,
+                Long lastId,
+                int limit) {
+            Stream<RunningEvent> events =
+                    switch (sortField) {
+                        case "dateTime" -> after(
+                                dateRange(fromDate, toDate), new DateKey((Long) sortKey, lastId), direction)
+                                .values()
+                                .stream();
+                        case "name" -> inRange(
+                                after(byName, new NameKey((String) sortKey, lastId), direction).values().stream(),
+                                fromDate,
+                                toDate);
+                        case "id" -> inRange(after(byId, lastId, direction).values().stream(), fromDate, toDate);
+                        default -> throw new IllegalArgumentException("Invalid sort field: " + sortField);
+                    };
+            return copies(events, limit);
+        }
+
+        @Override
+        public long countEvents(Long fromDate, Long toDate) {
+            if (fromDate == null && toDate == null) {
+                return size.get();
+            }
+            return dateRange(fromDate, toDate).size();
+        }
+
+        private NavigableMap<DateKey, RunningEvent> dateRange(Long fromDate, Long toDate) {
+            NavigableMap<DateKey, RunningEvent> range = byDate;
+            if (fromDate != null) {
+                range = range.tailMap(new DateKey(fromDate, Long.MIN_VALUE), true);
+            }
+            if (toDate != null) {
+                range = range.headMap(new DateKey(toDate, Long.MAX_VALUE), true);
+            }
+            return range;
+        }
+
+        /**
+         * Returns the entries strictly after the key in the given direction, in that direction.
+         */
+        private <K> NavigableMap<K, RunningEvent> after(
+                NavigableMap<K, RunningEvent> index, K key, Sort.Direction direction) {
+            return direction.isAscending()
+                    ? index.tailMap(key, false)
+                    : index.headMap(key, false).descendingMap();
+        }
+
+        private <K> Stream<RunningEvent> ordered(NavigableMap<K, RunningEvent> index, Sort.Direction direction) {
+            return (direction.isAscending() ? index : index.descendingMap()).values().stream();
+        }
+
+        private Stream<RunningEvent> inRange(Stream<RunningEvent> events, Long fromDate, Long toDate) {
+            return events.filter(event -> (fromDate == null || event.getDateTime() >= fromDate)
+                    && (toDate == null || event.getDateTime() <= toDate));
+        }
+
+        /**
+         * Callers get their own copies, so they cannot change the indexed instances.
+         */
+        private List<RunningEvent> copies(Stream<RunningEvent> events, int limit) {
+            return events.limit(limit).map(event -> event.toBuilder().build()).toList();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA entity for storing the progress of file ingestion.
+ * Maps to the "ingestion_checkpoint" table defined in V5__Create_ingestion_checkpoint_table.sql.
+ */
+@Entity
+@Table(name = "ingestion_checkpoint")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngestionCheckpointEntity {
+
+    @Id
+    @Column(name = "source", length = 255)
+    private String source;
+
+    @Column(name = "fingerprint", nullable = false, length = 100)
+    private String fingerprint;
+
+    @Column(name = "byte_offset", nullable = false)
+    private long offset;
+
+    @Column(name = "line_number", nullable = false)
+    private long lineNumber;
+
+    @Column(name = "inserted", nullable = false)
+    private long inserted;
+
+    @Column(name = "rejected", nullable = false)
+    private long rejected;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private long updatedAt;
+}
@@ -0,0 +1,10 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for IngestionCheckpointEntity.
+ */
+@Repository
+public interface IngestionCheckpointJpaRepository extends JpaRepository<IngestionCheckpointEntity, String> {}
@@ -0,0 +1,60 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.interview.runningevents.application.model.IngestionCheckpoint;
+import com.interview.runningevents.application.port.out.IngestionCheckpointRepository;
+
+/**
+ * Implementation of the IngestionCheckpointRepository port that uses JPA for persistence.
+ */
+@Component
+public class IngestionCheckpointRepositoryImpl implements IngestionCheckpointRepository {
+
+    private final IngestionCheckpointJpaRepository jpaRepository;
+
+    public IngestionCheckpointRepositoryImpl(IngestionCheckpointJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public Optional<IngestionCheckpoint> findBySource(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+
+        return jpaRepository.findById(source).map(IngestionCheckpointRepositoryImpl::toDomain);
+    }
+
+    @Override
+    public void save(IngestionCheckpoint checkpoint) {
+        if (checkpoint == null || checkpoint.getSource() == null) {
+            throw new IllegalArgumentException("Checkpoint and its source cannot be null");
+        }
+
+        jpaRepository.save(IngestionCheckpointEntity.builder()
+                .source(checkpoint.getSource())
+                .fingerprint(checkpoint.getFingerprint())
+                .offset(checkpoint.getOffset())
+                .lineNumber(checkpoint.getLineNumber())
+                .inserted(checkpoint.getInserted())
+                .rejected(checkpoint.getRejected())
+                .completed(checkpoint.isCompleted())
+                .updatedAt(System.currentTimeMillis())
+                .build());
+    }
+
+    private static IngestionCheckpoint toDomain(IngestionCheckpointEntity entity) {
+        return IngestionCheckpoint.builder()
+                .source(entity.getSource())
+                .fingerprint(entity.getFingerprint())
+                .offset(entity.getOffset())
+                .lineNumber(entity.getLineNumber())
+                .inserted(entity.getInserted())
+                .rejected(entity.getRejected())
+                .completed(entity.isCompleted())
+                .build();
+    }
+}
@@ -0,0 +1,436 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+import com.interview.runningevents.application.model.PaginatedResult;
+import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.application.model.RunningEventsFingerprint;
+import com.interview.runningevents.application.model.SourceEventState;
+import com.interview.runningevents.application.model.SourcedRunningEvent;
+import com.interview.runningevents.application.port.out.RunningEventRepository;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Implementation of the RunningEventRepository port with hand-written SQL through {@link JdbcClient}.
+ * Rows are mapped straight into domain objects, so there is no session, dirty-checking or entity cache
+ * between the caller and the database. Statements join the caller's transaction; multi-row writes are
+ * sent as JDBC batches. Selected with running-events.persistence.adapter=jdbc.
+ * IDs are drawn from running_event_seq by {@link RunningEventIdAllocator}, like those of the JPA adapter.
+ */
+@Component
+@ConditionalOnProperty(name = "running-events.persistence.adapter", havingValue = "jdbc")
+public class JdbcRunningEventRepositoryImpl implements RunningEventRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO running_event (id, name, date_time, location, description, "
+            + "further_information, version, source, source_key, content_hash) VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?)";
+
+    private static final String UPDATE_SET = "UPDATE running_event SET name = :name, date_time = :dateTime, "
+            + "location = :location, description = :description, further_information = :furtherInformation, "
+            + "content_hash = NULL, version = version + 1 WHERE id = :id";
+
+    private static final String UPDATE_FROM_SOURCE_SQL = "UPDATE running_event SET name = ?, date_time = ?, "
+            + "location = ?, description = ?, further_information = ?, content_hash = ?, version = version + 1 "
+            + "WHERE id = ? AND (? IS NULL OR version = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcClient jdbcClient;
+    private final RunningEventPageFinder pageFinder;
+    private final RunningEventIdAllocator idAllocator;
+
+    public JdbcRunningEventRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+        this.pageFinder = new RunningEventPageFinder(new PageQueries());
+        this.idAllocator = new RunningEventIdAllocator(jdbcClient);
+    }
+
+    @Override
+    public RunningEvent save(RunningEvent runningEvent) {
+        if (runningEvent == null) {
+            throw new IllegalArgumentException("Running event cannot be null");
+        }
+
+        if (runningEvent.getId() != null) {
+            return update(runningEvent)
+                    .orElseThrow(() -> new OptimisticLockingFailureException(
+                            "Running event " + runningEvent.getId() + " was changed or deleted"));
+        }
+        return saveAll(List.of(runningEvent)).get(0);
+    }
+
+    @Override
+    public List<RunningEvent> saveAll(List<RunningEvent> runningEvents) {
+        if (runningEvents == null) {
+            throw new IllegalArgumentException("Running events cannot be null");
+        }
+        if (runningEvents.stream().anyMatch(event -> event.getId() != null)) {
+            throw new IllegalArgumentException("Running events to insert cannot have an ID");
+        }
+
+        List<Long> ids = idAllocator.allocate(runningEvents.size());
+        List<RunningEvent> saved = new ArrayList<>(runningEvents.size());
+        for (int i = 0; i < runningEvents.size(); i++) {
+            saved.add(
+                    runningEvents.get(i).toBuilder().id(ids.get(i)).version(0L).build());
+        }
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                saved,
+                RunningEventEntity.ID_ALLOCATION_SIZE,
+                (ps, event) -> bindInsert(ps, event.getId(), event, null, null, null));
+        return saved;
+    }
+
+    @Override
+    public Optional<RunningEvent> update(RunningEvent runningEvent) {
+        if (runningEvent == null) {
+            throw new IllegalArgumentException("Running event cannot be null");
+        }
+        if (runningEvent.getId() == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        String sql = runningEvent.getVersion() != null ? UPDATE_SET + " AND version = :version" : UPDATE_SET;
+        JdbcClient.StatementSpec statement = jdbcClient
+                .sql(sql)
+                .param("id", runningEvent.getId())
+                .param("name", runningEvent.getName())
+                .param("dateTime", runningEvent.getDateTime())
+                .param("location", runningEvent.getLocation())
+                .param("description", runningEvent.getDescription())
+                .param("furtherInformation", runningEvent.getFurtherInformation());
+        if (runningEvent.getVersion() != null) {
+            statement = statement.param("version", runningEvent.getVersion());
+        }
+        if (statement.update() == 0) {
+            return Optional.empty();
+        }
+
+        // The new version follows from the expected one; only an unconditional update has to read it back
+        Long newVersion = runningEvent.getVersion() != null
+                ? runningEvent.getVersion() + 1
+                : jdbcClient
+                        .sql("SELECT version FROM running_event WHERE id = :id")
+                        .param("id", runningEvent.getId())
+                        .query(Long.class)
+                        .single();
+
+        return Optional.of(runningEvent.toBuilder().version(newVersion).build());
+    }
+
+    @Override
+    public Optional<RunningEvent> findById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        return jdbcClient
+                .sql("SELECT " + RunningEventSql.COLUMNS + " FROM running_event WHERE id = :id")
+                .param("id", id)
+                .query(RunningEventSql.EVENT_ROW_MAPPER)
+                .optional();
+    }
+
+    @Override
+    public PaginatedResult<RunningEvent> findAll(RunningEventQuery query) {
+        return pageFinder.findAll(query);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return deleteById(id, null);
+    }
+
+    @Override
+    public boolean deleteById(Long id, Long expectedVersion) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        // The affected-row count doubles as the existence and version check
+        if (expectedVersion == null) {
+            return jdbcClient
+                            .sql("DELETE FROM running_event WHERE id = :id")
+                            .param("id", id)
+                            .update()
+                    > 0;
+        }
+        return jdbcClient
+                        .sql("DELETE FROM running_event WHERE id = :id AND version = :version")
+                        .param("id", id)
+                        .param("version", expectedVersion)
+                        .update()
+                > 0;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        return jdbcClient
+                .sql("SELECT 1 FROM running_event WHERE id = :id")
+                .param("id", id)
+                .query(Integer.class)
+                .optional()
+                .isPresent();
+    }
+
+    @Override
+    public void forEachInDateRange(Long fromDate, Long toDate, Consumer<RunningEvent> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+
+        List<Object> params = new ArrayList<>(2);
+        String sql = "SELECT " + RunningEventSql.COLUMNS + " FROM running_event"
+                + RunningEventSql.dateRangeWhere(fromDate, toDate, params) + " ORDER BY date_time ASC, id ASC";
+        jdbcTemplate.query(
+                connection -> {
+                    // Read the rows through a forward-only cursor, one block at a time
+                    PreparedStatement ps =
+                            connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(RunningEventRepositoryImpl.STREAM_FETCH_SIZE);
+                    for (int i = 0; i < params.size(); i++) {
+                        ps.setObject(i + 1, params.get(i));
+                    }
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> action.accept(RunningEventSql.EVENT_ROW_MAPPER.mapRow(rs, rs.getRow())));
+    }
+
+    @Override
+    public void registerSource(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+
+        jdbcClient.sql(RunningEventSourceSql.REGISTER).param("source", source).update();
+    }
+
+    @Override
+    public void lockSource(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+
+        jdbcClient
+                .sql(RunningEventSourceSql.LOCK)
+                .param("source", source)
+                .query()
+                .listOfRows();
+    }
+
+    @Override
+    public List<SourceEventState> findSourceStates(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+
+        return jdbcClient
+                .sql("SELECT id, source_key, content_hash, version FROM running_event WHERE source = :source")
+                .param("source", source)
+                .query(RunningEventSql.SOURCE_STATE_ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public RunningEventsFingerprint fingerprint() {
+        return jdbcClient
+                .sql("SELECT COUNT(*), COALESCE(MAX(id), 0), COALESCE(SUM(id), 0), COALESCE(SUM(version), 0) "
+                        + "FROM running_event")
+                .query((rs, rowNum) ->
+                        new RunningEventsFingerprint(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)))
+                .single();
+    }
+
+    @Override
+    public List<RunningEvent> insertFromSource(String source, List<SourcedRunningEvent> events) {
+        if (source == null || events == null) {
+            throw new IllegalArgumentException("Source and events cannot be null");
+        }
+        if (events.stream().anyMatch(sourced -> sourced.getEvent().getId() != null)) {
+            throw new IllegalArgumentException("Running events to insert cannot have an ID");
+        }
+
+        List<Long> ids = idAllocator.allocate(events.size());
+        List<Integer> indexes = IntStream.range(0, events.size()).boxed().toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, indexes, RunningEventEntity.ID_ALLOCATION_SIZE, (ps, i) -> {
+            SourcedRunningEvent sourced = events.get(i);
+            bindInsert(ps, ids.get(i), sourced.getEvent(), source, sourced.getSourceKey(), sourced.getContentHash());
+        });
+
+        List<RunningEvent> inserted = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            inserted.add(events.get(i).getEvent().toBuilder()
+                    .id(ids.get(i))
+                    .version(0L)
+                    .build());
+        }
+        return inserted;
+    }
+
+    @Override
+    public List<RunningEvent> updateFromSource(List<SourcedRunningEvent> events) {
+        if (events == null) {
+            throw new IllegalArgumentException("Events cannot be null");
+        }
+        if (events.stream().anyMatch(sourced -> sourced.getEvent().getId() == null)) {
+            throw new IllegalArgumentException("Running events to update must have an ID");
+        }
+
+        int[][] updatedRows = jdbcTemplate.batchUpdate(
+                UPDATE_FROM_SOURCE_SQL, events, RunningEventEntity.ID_ALLOCATION_SIZE, (ps, sourced) -> {
+                    RunningEvent event = sourced.getEvent();
+                    ps.setString(1, event.getName());
+                    ps.setLong(2, event.getDateTime());
+                    ps.setString(3, event.getLocation());
+                    ps.setString(4, event.getDescription());
+                    ps.setString(5, event.getFurtherInformation());
+                    ps.setString(6, sourced.getContentHash());
+                    ps.setLong(7, event.getId());
+                    ps.setObject(8, event.getVersion(), Types.BIGINT);
+                    ps.setObject(9, event.getVersion(), Types.BIGINT);
+                });
+
+        // The updated rows stay locked by this transaction, so the versions read back are the ones written
+        Map<Long, Long> versions = new HashMap<>();
+        int groupSize = RunningEventRepositoryImpl.DELETE_GROUP_SIZE;
+        for (int start = 0; start < events.size(); start += groupSize) {
+            List<Long> ids = events.subList(start, Math.min(start + groupSize, events.size())).stream()
+                    .map(sourced -> sourced.getEvent().getId())
+                    .toList();
+            jdbcClient
+                    .sql("SELECT id, version FROM running_event WHERE id IN (:ids)")
+                    .param("ids", ids)
+                    .query((RowCallbackHandler) rs -> versions.put(rs.getLong(1), rs.getLong(2)));
+        }
+
+        // An event that updated no row was either deleted since the sync read the states, and is skipped, or
+        // changed since then, and fails the sync as the versioned UPDATE of the JPA adapter does
+        int index = 0;
+        for (int[] batch : updatedRows) {
+            for (int rows : batch) {
+                Long id = events.get(index++).getEvent().getId();
+                if (rows == 0 && versions.containsKey(id)) {
+                    throw new OptimisticLockingFailureException("Running event " + id + " was changed during the sync");
+                }
+            }
+        }
+
+        List<RunningEvent> updated = new ArrayList<>(events.size());
+        for (SourcedRunningEvent sourced : events) {
+            Long version = versions.get(sourced.getEvent().getId());
+            if (version != null) {
+                updated.add(sourced.getEvent().toBuilder().version(version).build());
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public void deleteAllById(List<Long> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("IDs cannot be null");
+        }
+
+        // One DELETE per group keeps the IN list of each statement bounded
+        int groupSize = RunningEventRepositoryImpl.DELETE_GROUP_SIZE;
+        for (int start = 0; start < ids.size(); start += groupSize) {
+            jdbcClient
+                    .sql("DELETE FROM running_event WHERE id IN (:ids)")
+                    .param("ids", ids.subList(start, Math.min(start + groupSize, ids.size())))
+                    .update();
+        }
+    }
+
+    private static void bindInsert(
+            PreparedStatement ps, Long id, RunningEvent event, String source, String sourceKey, String contentHash)
+            throws SQLException {
+        ps.setLong(1, id);
+        ps.setString(2, event.getName());
+        ps.setLong(3, event.getDateTime());
+        ps.setString(4, event.getLocation());
+        ps.setString(5, event.getDescription());
+        ps.setString(6, event.getFurtherInformation());
+        ps.setString(7, source);
+        ps.setString(8, sourceKey);
+        if (contentHash != null) {
+            ps.setString(9, contentHash);
+        } else {
+            ps.setNull(9, Types.VARCHAR);
+        }
+    }
+
+    /**
+     * The listing queries in plain SQL, with the same predicates and ordering as the JPA repository.
+     */
+    private class PageQueries implements RunningEventPageQueries {
+
+        @Override
+        public List<RunningEvent> findEvents(
+                Long fromDate, Long toDate, String sortField, Sort.Direction direction, long offset, int limit) {
+            List<Object> params = new ArrayList<>(4);
+            String sql = "SELECT " + RunningEventSql.COLUMNS + " FROM running_event"
+                    + RunningEventSql.dateRangeWhere(fromDate, toDate, params)
+                    + RunningEventSql.orderBy(sortField, direction) + " OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+            params.add(offset);
+            params.add(limit);
+            return jdbcClient
+                    .sql(sql)
+                    .params(params)
+                    .query(RunningEventSql.EVENT_ROW_MAPPER)
+                    .list();
+        }
+
+        @Override
+        public List<RunningEvent> findByKeyset(
+                Long fromDate,
+                Long toDate,
+                String sortField,
+                Sort.Direction direction,
+                Comparable<?> sortKey,
+                Long lastId,
+                int limit) {
+            List<Object> params = new ArrayList<>(6);
+            String where = RunningEventSql.dateRangeWhere(fromDate, toDate, params);
+            String seek = RunningEventSql.seek(sortField, direction, sortKey, lastId, params);
+            String sql = "SELECT " + RunningEventSql.COLUMNS + " FROM running_event"
+                    + (where.isEmpty() ? " WHERE " : where + " AND ") + seek
+                    + RunningEventSql.orderBy(sortField, direction) + " FETCH FIRST ? ROWS ONLY";
+            params.add(limit);
+            return jdbcClient
+                    .sql(sql)
+                    .params(params)
+                    .query(RunningEventSql.EVENT_ROW_MAPPER)
+                    .list();
+        }
+
+        @Override
+        public long countEvents(Long fromDate, Long toDate) {
+            List<Object> params = new ArrayList<>(2);
+            String sql =
+                    "SELECT COUNT(*) FROM running_event" + RunningEventSql.dateRangeWhere(fromDate, toDate, params);
+            return jdbcClient.sql(sql).params(params).query(Long.class).single();
+        }
+    }
+}
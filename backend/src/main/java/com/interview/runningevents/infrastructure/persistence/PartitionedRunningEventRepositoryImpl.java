@@ -0,0 +1,713 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.interview.runningevents.application.model.PaginatedResult;
+import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.application.model.RunningEventsFingerprint;
+import com.interview.runningevents.application.model.SourceEventState;
+import com.interview.runningevents.application.model.SourcedRunningEvent;
+import com.interview.runningevents.application.port.out.RunningEventRepository;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Implementation of the RunningEventRepository port over time-partitioned tables, one per UTC year
+ * (see {@link RunningEventPartitions}). Selected with running-events.persistence.adapter=partitioned,
+ * which the partitioned profile sets together with the migration that creates the tables.
+ * <p>
+ * Writes are routed by the date of the event, and an event whose date moves to another year is moved to
+ * that year's table. running_event_directory maps every ID to the year of its event, so lookups by ID read
+ * a single table; writes lock the directory row of the event first, which serializes them per event.
+ * Listings only read the tables of the years in their date range. Date-ordered pages read those tables
+ * one after another, since they do not overlap in time; other orders merge the sorted rows of each table.
+ * IDs are drawn from running_event_seq by {@link RunningEventIdAllocator}, like those of the other adapters.
+ */
+@Component
+@ConditionalOnProperty(name = "running-events.persistence.adapter", havingValue = "partitioned")
+public class PartitionedRunningEventRepositoryImpl implements RunningEventRepository {
+
+    private static final String INSERT_DIRECTORY_SQL = "INSERT INTO running_event_directory "
+            + "(id, partition_year, source, source_key, content_hash) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_DIRECTORY_SQL =
+            "UPDATE running_event_directory SET partition_year = ?, content_hash = ? WHERE id = ?";
+
+    private static final String SET_COLUMNS = "SET name = :name, date_time = :dateTime, location = :location, "
+            + "description = :description, further_information = :furtherInformation, version = version + 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcClient jdbcClient;
+    private final RunningEventPartitions partitions;
+    private final RunningEventPageFinder pageFinder;
+    private final RunningEventIdAllocator idAllocator;
+
+    public PartitionedRunningEventRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+        this.partitions = new RunningEventPartitions(jdbcClient
+                .sql("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = CURRENT_SCHEMA")
+                .query(String.class)
+                .list()
+                .stream()
+                .map(RunningEventPartitions::yearOfTable)
+                .filter(Objects::nonNull)
+                .toList());
+        this.pageFinder = new RunningEventPageFinder(new PageQueries());
+        this.idAllocator = new RunningEventIdAllocator(jdbcClient);
+    }
+
+    @Override
+    @Transactional
+    public RunningEvent save(RunningEvent runningEvent) {
+        if (runningEvent == null) {
+            throw new IllegalArgumentException("Running event cannot be null");
+        }
+
+        if (runningEvent.getId() != null) {
+            return update(runningEvent)
+                    .orElseThrow(() -> new OptimisticLockingFailureException(
+                            "Running event " + runningEvent.getId() + " was changed or deleted"));
+        }
+        return saveAll(List.of(runningEvent)).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<RunningEvent> saveAll(List<RunningEvent> runningEvents) {
+        if (runningEvents == null) {
+            throw new IllegalArgumentException("Running events cannot be null");
+        }
+        if (runningEvents.stream().anyMatch(event -> event.getId() != null)) {
+            throw new IllegalArgumentException("Running events to insert cannot have an ID");
+        }
+
+        List<Long> ids = idAllocator.allocate(runningEvents.size());
+        List<RunningEvent> saved = new ArrayList<>(runningEvents.size());
+        for (int i = 0; i < runningEvents.size(); i++) {
+            saved.add(
+                    runningEvents.get(i).toBuilder().id(ids.get(i)).version(0L).build());
+        }
+        insertDirectory(saved, null, Collections.nCopies(saved.size(), null), Collections.nCopies(saved.size(), null));
+        insertEvents(saved);
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Optional<RunningEvent> update(RunningEvent runningEvent) {
+        if (runningEvent == null) {
+            throw new IllegalArgumentException("Running event cannot be null");
+        }
+        if (runningEvent.getId() == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        Integer storedYear = lockYears(List.of(runningEvent.getId())).get(runningEvent.getId());
+        if (storedYear == null) {
+            return Optional.empty();
+        }
+        String storedTable = partitions.tableOfYear(storedYear);
+        int year = RunningEventPartitions.yearOf(runningEvent.getDateTime());
+        String table = partitions.tableOfYear(year);
+        String versionCheck = runningEvent.getVersion() != null ? " AND version = :version" : "";
+
+        // The statements return the version they wrote or removed, so no separate read is needed
+        Optional<Long> newVersion;
+        if (storedTable.equals(table)) {
+            newVersion = bindEvent(
+                            jdbcClient.sql("SELECT version FROM FINAL TABLE (UPDATE " + table + " " + SET_COLUMNS
+                                    + " WHERE id = :id" + versionCheck + ")"),
+                            runningEvent)
+                    .query(Long.class)
+                    .optional();
+        } else {
+            JdbcClient.StatementSpec delete = jdbcClient
+                    .sql("SELECT version FROM OLD TABLE (DELETE FROM " + storedTable + " WHERE id = :id" + versionCheck
+                            + ")")
+                    .param("id", runningEvent.getId());
+            if (runningEvent.getVersion() != null) {
+                delete = delete.param("version", runningEvent.getVersion());
+            }
+            newVersion = delete.query(Long.class).optional().map(version -> version + 1);
+            newVersion.ifPresent(version -> insertEvents(
+                    List.of(runningEvent.toBuilder().version(version).build())));
+        }
+        if (newVersion.isEmpty()) {
+            return Optional.empty();
+        }
+
+        jdbcTemplate.update(UPDATE_DIRECTORY_SQL, year, null, runningEvent.getId());
+        return Optional.of(runningEvent.toBuilder().version(newVersion.get()).build());
+    }
+
+    @Override
+    public Optional<RunningEvent> findById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        // An event moved to another year between the two reads is looked up again in its new table
+        Integer year = findYear(id);
+        while (year != null) {
+            Optional<RunningEvent> event = jdbcClient
+                    .sql("SELECT " + RunningEventSql.COLUMNS + " FROM " + partitions.tableOfYear(year)
+                            + " WHERE id = :id")
+                    .param("id", id)
+                    .query(RunningEventSql.EVENT_ROW_MAPPER)
+                    .optional();
+            Integer currentYear = findYear(id);
+            if (event.isPresent() || Objects.equals(currentYear, year)) {
+                return event;
+            }
+            year = currentYear;
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public PaginatedResult<RunningEvent> findAll(RunningEventQuery query) {
+        return pageFinder.findAll(query);
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteById(Long id) {
+        return deleteById(id, null);
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteById(Long id, Long expectedVersion) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        Integer year = lockYears(List.of(id)).get(id);
+        if (year == null) {
+            return false;
+        }
+        JdbcClient.StatementSpec delete = jdbcClient
+                .sql("DELETE FROM " + partitions.tableOfYear(year) + " WHERE id = :id"
+                        + (expectedVersion != null ? " AND version = :version" : ""))
+                .param("id", id);
+        if (expectedVersion != null) {
+            delete = delete.param("version", expectedVersion);
+        }
+        if (delete.update() == 0) {
+            return false;
+        }
+        jdbcClient
+                .sql("DELETE FROM running_event_directory WHERE id = :id")
+                .param("id", id)
+                .update();
+        return true;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        return findYear(id) != null;
+    }
+
+    @Override
+    public void forEachInDateRange(Long fromDate, Long toDate, Consumer<RunningEvent> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+
+        // The segments are in time order, so reading them one after another keeps the date order
+        for (RunningEventPartitions.Segment segment : partitions.segments(fromDate, toDate)) {
+            List<Object> params = new ArrayList<>(2);
+            String sql = "SELECT " + RunningEventSql.COLUMNS + " FROM " + segment.table()
+                    + segmentWhere(segment, params) + " ORDER BY date_time ASC, id ASC";
+            jdbcTemplate.query(
+                    connection -> {
+                        // Read the rows through a forward-only cursor, one block at a time
+                        PreparedStatement ps = connection.prepareStatement(
+                                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                        ps.setFetchSize(RunningEventRepositoryImpl.STREAM_FETCH_SIZE);
+                        for (int i = 0; i < params.size(); i++) {
+                            ps.setObject(i + 1, params.get(i));
+                        }
+                        return ps;
+                    },
+                    (RowCallbackHandler) rs -> action.accept(RunningEventSql.EVENT_ROW_MAPPER.mapRow(rs, rs.getRow())));
+        }
+    }
+
+    @Override
+    public void registerSource(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+
+        jdbcClient.sql(RunningEventSourceSql.REGISTER).param("source", source).update();
+    }
+
+    @Override
+    public void lockSource(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+
+        jdbcClient
+                .sql(RunningEventSourceSql.LOCK)
+                .param("source", source)
+                .query()
+                .listOfRows();
+    }
+
+    @Override
+    public List<SourceEventState> findSourceStates(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+
+        // The directory holds the feed keys, the partitions hold the versions
+        String states = partitions.tables().stream()
+                .map(table -> "SELECT d.id, d.source_key, d.content_hash, e.version FROM running_event_directory d "
+                        + "JOIN " + table + " e ON e.id = d.id WHERE d.source = :source")
+                .collect(Collectors.joining(" UNION ALL "));
+        return jdbcClient
+                .sql(states)
+                .param("source", source)
+                .query(RunningEventSql.SOURCE_STATE_ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public RunningEventsFingerprint fingerprint() {
+        String allEvents = partitions.tables().stream()
+                .map(table -> "SELECT id, version FROM " + table)
+                .collect(Collectors.joining(" UNION ALL "));
+        return jdbcClient
+                .sql("SELECT COUNT(*), COALESCE(MAX(id), 0), COALESCE(SUM(id), 0), COALESCE(SUM(version), 0) "
+                        + "FROM (" + allEvents + ")")
+                .query((rs, rowNum) ->
+                        new RunningEventsFingerprint(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)))
+                .single();
+    }
+
+    @Override
+    @Transactional
+    public List<RunningEvent> insertFromSource(String source, List<SourcedRunningEvent> events) {
+        if (source == null || events == null) {
+            throw new IllegalArgumentException("Source and events cannot be null");
+        }
+        if (events.stream().anyMatch(sourced -> sourced.getEvent().getId() != null)) {
+            throw new IllegalArgumentException("Running events to insert cannot have an ID");
+        }
+
+        List<Long> ids = idAllocator.allocate(events.size());
+        List<RunningEvent> inserted = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            inserted.add(events.get(i).getEvent().toBuilder()
+                    .id(ids.get(i))
+                    .version(0L)
+                    .build());
+        }
+        // The unique feed key index of the directory rejects keys that are already stored
+        insertDirectory(
+                inserted,
+                source,
+                events.stream().map(SourcedRunningEvent::getSourceKey).toList(),
+                events.stream().map(SourcedRunningEvent::getContentHash).toList());
+        insertEvents(inserted);
+        return inserted;
+    }
+
+    @Override
+    @Transactional
+    public List<RunningEvent> updateFromSource(List<SourcedRunningEvent> events) {
+        if (events == null) {
+            throw new IllegalArgumentException("Events cannot be null");
+        }
+        if (events.stream().anyMatch(sourced -> sourced.getEvent().getId() == null)) {
+            throw new IllegalArgumentException("Running events to update must have an ID");
+        }
+
+        // Writers lock the directory row of an event first, so the versions read here stay current until
+        // this transaction ends. Events deleted since the sync read the states have no row and are skipped;
+        // events changed since then no longer have the version they carry and fail the sync.
+        Map<Long, Integer> storedYears = lockYears(
+                events.stream().map(sourced -> sourced.getEvent().getId()).toList());
+        Map<Long, Long> versions = new HashMap<>();
+        groupByTable(storedYears.keySet().stream().toList(), id -> partitions.tableOfYear(storedYears.get(id)))
+                .forEach((table, ids) -> inGroups(ids, group -> jdbcClient
+                        .sql("SELECT id, version FROM " + table + " WHERE id IN (:ids)")
+                        .param("ids", group)
+                        .query((RowCallbackHandler) rs -> versions.put(rs.getLong(1), rs.getLong(2)))));
+
+        List<RunningEvent> updated = new ArrayList<>(events.size());
+        List<Object[]> directoryUpdates = new ArrayList<>(events.size());
+        List<RunningEvent> moved = new ArrayList<>();
+        List<Long> movedIds = new ArrayList<>();
+        List<RunningEvent> inPlace = new ArrayList<>();
+        for (SourcedRunningEvent sourced : events) {
+            Long id = sourced.getEvent().getId();
+            Long version = versions.get(id);
+            if (version == null) {
+                continue;
+            }
+            Long expectedVersion = sourced.getEvent().getVersion();
+            if (expectedVersion != null && !expectedVersion.equals(version)) {
+                throw new OptimisticLockingFailureException("Running event " + id + " was changed during the sync");
+            }
+            RunningEvent event =
+                    sourced.getEvent().toBuilder().version(version + 1).build();
+            updated.add(event);
+            int year = RunningEventPartitions.yearOf(event.getDateTime());
+            directoryUpdates.add(new Object[] {year, sourced.getContentHash(), id});
+            if (partitions.tableOfYear(storedYears.get(id)).equals(partitions.tableOfYear(year))) {
+                inPlace.add(event);
+            } else {
+                moved.add(event);
+                movedIds.add(id);
+            }
+        }
+
+        groupByTable(inPlace, event -> partitions.tableOf(event.getDateTime()))
+                .forEach((table, tableEvents) -> jdbcTemplate.batchUpdate(
+                        "UPDATE " + table + " SET name = ?, date_time = ?, location = ?, description = ?, "
+                                + "further_information = ?, version = ? WHERE id = ?",
+                        tableEvents,
+                        RunningEventEntity.ID_ALLOCATION_SIZE,
+                        (ps, event) -> {
+                            ps.setString(1, event.getName());
+                            ps.setLong(2, event.getDateTime());
+                            ps.setString(3, event.getLocation());
+                            ps.setString(4, event.getDescription());
+                            ps.setString(5, event.getFurtherInformation());
+                            ps.setLong(6, event.getVersion());
+                            ps.setLong(7, event.getId());
+                        }));
+        deleteEvents(movedIds, storedYears);
+        insertEvents(moved);
+        jdbcTemplate.batchUpdate(UPDATE_DIRECTORY_SQL, directoryUpdates);
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public void deleteAllById(List<Long> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("IDs cannot be null");
+        }
+
+        Map<Long, Integer> years = lockYears(ids);
+        List<Long> storedIds = years.keySet().stream().toList();
+        deleteEvents(storedIds, years);
+        inGroups(storedIds, group -> jdbcClient
+                .sql("DELETE FROM running_event_directory WHERE id IN (:ids)")
+                .param("ids", group)
+                .update());
+    }
+
+    private Integer findYear(Long id) {
+        return jdbcClient
+                .sql("SELECT partition_year FROM running_event_directory WHERE id = :id")
+                .param("id", id)
+                .query(Integer.class)
+                .optional()
+                .orElse(null);
+    }
+
+    /**
+     * Reads the stored years of events and locks their directory rows until the transaction ends.
+     * Unknown IDs are left out of the result.
+     */
+    private Map<Long, Integer> lockYears(List<Long> ids) {
+        Map<Long, Integer> years = new LinkedHashMap<>();
+        inGroups(ids, group -> jdbcClient
+                .sql("SELECT id, partition_year FROM running_event_directory WHERE id IN (:ids) FOR UPDATE")
+                .param("ids", group)
+                .query((RowCallbackHandler) rs -> years.put(rs.getLong(1), rs.getInt(2))));
+        return years;
+    }
+
+    private void insertDirectory(
+            List<RunningEvent> events, String source, List<String> sourceKeys, List<String> contentHashes) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            RunningEvent event = events.get(i);
+            rows.add(new Object[] {
+                event.getId(),
+                RunningEventPartitions.yearOf(event.getDateTime()),
+                source,
+                sourceKeys.get(i),
+                contentHashes.get(i)
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_DIRECTORY_SQL, rows);
+    }
+
+    /**
+     * Inserts events with their IDs and versions into the tables of their years.
+     */
+    private void insertEvents(List<RunningEvent> events) {
+        groupByTable(events, event -> partitions.tableOf(event.getDateTime()))
+                .forEach((table, tableEvents) -> jdbcTemplate.batchUpdate(
+                        "INSERT INTO " + table + " (" + RunningEventSql.COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)",
+                        tableEvents,
+                        RunningEventEntity.ID_ALLOCATION_SIZE,
+                        (ps, event) -> {
+                            ps.setLong(1, event.getId());
+                            ps.setString(2, event.getName());
+                            ps.setLong(3, event.getDateTime());
+                            ps.setString(4, event.getLocation());
+                            ps.setString(5, event.getDescription());
+                            ps.setString(6, event.getFurtherInformation());
+                            ps.setLong(7, event.getVersion());
+                        }));
+    }
+
+    /**
+     * Deletes events from the tables of their stored years; the directory rows are left to the caller.
+     */
+    private void deleteEvents(List<Long> ids, Map<Long, Integer> years) {
+        groupByTable(ids, id -> partitions.tableOfYear(years.get(id)))
+                .forEach((table, tableIds) -> inGroups(tableIds, group -> jdbcClient
+                        .sql("DELETE FROM " + table + " WHERE id IN (:ids)")
+                        .param("ids", group)
+                        .update()));
+    }
+
+    private static JdbcClient.StatementSpec bindEvent(JdbcClient.StatementSpec statement, RunningEvent event) {
+        statement = statement
+                .param("id", event.getId())
+                .param("name", event.getName())
+                .param("dateTime", event.getDateTime())
+                .param("location", event.getLocation())
+                .param("description", event.getDescription())
+                .param("furtherInformation", event.getFurtherInformation());
+        return event.getVersion() != null ? statement.param("version", event.getVersion()) : statement;
+    }
+
+    private static <T> Map<String, List<T>> groupByTable(List<T> items, Function<T, String> table) {
+        return items.stream().collect(Collectors.groupingBy(table, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * Runs an action per group of items, which keeps the IN list of each statement bounded.
+     */
+    private static <T> void inGroups(List<T> items, Consumer<List<T>> action) {
+        int groupSize = RunningEventRepositoryImpl.DELETE_GROUP_SIZE;
+        for (int start = 0; start < items.size(); start += groupSize) {
+            action.accept(items.subList(start, Math.min(start + groupSize, items.size())));
+        }
+    }
+
+    /**
+     * Builds the WHERE clause for the span of a segment; open ends are left out.
+     */
+    private static String segmentWhere(RunningEventPartitions.Segment segment, List<Object> params) {
+        return RunningEventSql.dateRangeWhere(
+                segment.from() != Long.MIN_VALUE ? segment.from() : null,
+                segment.to() != Long.MAX_VALUE ? segment.to() : null,
+                params);
+    }
+
+    /**
+     * The listing queries, answered from the segments of the requested date range.
+     */
+    private class PageQueries implements RunningEventPageQueries {
+
+        @Override
+        public List<RunningEvent> findEvents(
+                Long fromDate, Long toDate, String sortField, Sort.Direction direction, long offset, int limit) {
+            List<RunningEventPartitions.Segment> segments = inOrder(partitions.segments(fromDate, toDate), direction);
+
+            if ("dateTime".equals(sortField)) {
+                // Whole segments before the offset are skipped by their counts
+                List<RunningEvent> page = new ArrayList<>(limit);
+                long skip = offset;
+                for (RunningEventPartitions.Segment segment : segments) {
+                    if (page.size() >= limit) {
+                        break;
+                    }
+                    if (skip > 0) {
+                        long count = count(segment);
+                        if (count <= skip) {
+                            skip -= count;
+                            continue;
+                        }
+                    }
+                    page.addAll(window(segment, sortField, direction, skip, limit - page.size()));
+                    skip = 0;
+                }
+                return page;
+            }
+
+            // Any segment may hold rows of the page, so each contributes its first offset + limit rows
+            List<List<RunningEvent>> runs = new ArrayList<>(segments.size());
+            for (RunningEventPartitions.Segment segment : segments) {
+                runs.add(window(segment, sortField, direction, 0, offset + limit));
+            }
+            return merge(runs, sortField, direction, offset, limit);
+        }
+
+        @Override
+        public List<RunningEvent> findByKeyset(
+                Long fromDate,
+                Long toDate,
+                String sortField,
+                Sort.Direction direction,
+                Comparable<?> sortKey,
+                Long lastId,
+                int limit) {
+            List<RunningEventPartitions.Segment> segments = inOrder(partitions.segments(fromDate, toDate), direction);
+
+            if ("dateTime".equals(sortField)) {
+                // Segments before the position are skipped, and the page is read from the ones after it
+                long position = ((Number) sortKey).longValue();
+                List<RunningEvent> page = new ArrayList<>(limit);
+                for (RunningEventPartitions.Segment segment : segments) {
+                    if (page.size() >= limit) {
+                        break;
+                    }
+                    if (direction.isAscending() ? segment.to() < position : segment.from() > position) {
+                        continue;
+                    }
+                    page.addAll(after(segment, sortField, direction, sortKey, lastId, limit - page.size()));
+                }
+                return page;
+            }
+
+            List<List<RunningEvent>> runs = new ArrayList<>(segments.size());
+            for (RunningEventPartitions.Segment segment : segments) {
+                runs.add(after(segment, sortField, direction, sortKey, lastId, limit));
+            }
+            return merge(runs, sortField, direction, 0, limit);
+        }
+
+        @Override
+        public long countEvents(Long fromDate, Long toDate) {
+            long count = 0;
+            for (RunningEventPartitions.Segment segment : partitions.segments(fromDate, toDate)) {
+                count += count(segment);
+            }
+            return count;
+        }
+
+        private long count(RunningEventPartitions.Segment segment) {
+            List<Object> params = new ArrayList<>(2);
+            String sql = "SELECT COUNT(*) FROM " + segment.table() + segmentWhere(segment, params);
+            return jdbcClient.sql(sql).params(params).query(Long.class).single();
+        }
+
+        private List<RunningEvent> window(
+                RunningEventPartitions.Segment segment,
+                String sortField,
+                Sort.Direction direction,
+                long offset,
+                long limit) {
+            List<Object> params = new ArrayList<>(4);
+            String sql = "SELECT " + RunningEventSql.COLUMNS + " FROM " + segment.table()
+                    + segmentWhere(segment, params) + RunningEventSql.orderBy(sortField, direction)
+                    + " OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+            params.add(offset);
+            params.add(limit);
+            return jdbcClient
+                    .sql(sql)
+                    .params(params)
+                    .query(RunningEventSql.EVENT_ROW_MAPPER)
+                    .list();
+        }
+
+        private List<RunningEvent> after(
+                RunningEventPartitions.Segment segment,
+                String sortField,
+                Sort.Direction direction,
+                Comparable<?> sortKey,
+                Long lastId,
+                int limit) {
+            List<Object> params = new ArrayList<>(6);
+            String where = segmentWhere(segment, params);
+            String seek = RunningEventSql.seek(sortField, direction, sortKey, lastId, params);
+            String sql = "SELECT " + RunningEventSql.COLUMNS + " FROM " + segment.table()
+                    + (where.isEmpty() ? " WHERE " : where + " AND ") + seek
+                    + RunningEventSql.orderBy(sortField, direction) + " FETCH FIRST ? ROWS ONLY";
+            params.add(limit);
+            return jdbcClient
+                    .sql(sql)
+                    .params(params)
+                    .query(RunningEventSql.EVENT_ROW_MAPPER)
+                    .list();
+        }
+
+        private static List<RunningEventPartitions.Segment> inOrder(
+                List<RunningEventPartitions.Segment> segments, Sort.Direction direction) {
+            List<RunningEventPartitions.Segment> ordered = new ArrayList<>(segments);
+            if (direction.isDescending()) {
+                Collections.reverse(ordered);
+            }
+            return ordered;
+        }
+
+        /**
+         * Merges rows that are each sorted in the listing order, skips the offset and returns up to limit rows.
+         */
+        private static List<RunningEvent> merge(
+                List<List<RunningEvent>> runs, String sortField, Sort.Direction direction, long offset, int limit) {
+            Comparator<RunningEvent> order =
+                    switch (RunningEventSql.column(sortField)) {
+                        case "name" -> Comparator.comparing(RunningEvent::getName)
+                                .thenComparing(RunningEvent::getId);
+                        case "date_time" -> Comparator.comparing(RunningEvent::getDateTime)
+                                .thenComparing(RunningEvent::getId);
+                        default -> Comparator.comparing(RunningEvent::getId);
+                    };
+            Comparator<RunningEvent> listingOrder = direction.isAscending() ? order : order.reversed();
+
+            // One cursor per run; the queue hands out the run whose next row comes first
+            PriorityQueue<int[]> heads = new PriorityQueue<>(
+                    Comparator.comparing((int[] head) -> runs.get(head[0]).get(head[1]), listingOrder));
+            for (int run = 0; run < runs.size(); run++) {
+                if (!runs.get(run).isEmpty()) {
+                    heads.add(new int[] {run, 0});
+                }
+            }
+            List<RunningEvent> merged = new ArrayList<>(limit);
+            long skipped = 0;
+            while (!heads.isEmpty() && merged.size() < limit) {
+                int[] head = heads.poll();
+                List<RunningEvent> run = runs.get(head[0]);
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    merged.add(run.get(head[1]));
+                }
+                if (head[1] + 1 < run.size()) {
+                    heads.add(new int[] {head[0], head[1] + 1});
+                }
+            }
+            return merged;
+        }
+    }
+}
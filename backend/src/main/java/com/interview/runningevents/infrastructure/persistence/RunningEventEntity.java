@@ -1,11 +1,17 @@
 package com.interview.runningevents.infrastructure.persistence;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,17 +20,36 @@ import lombok.NoArgsConstructor;
 /**
  * JPA entity for storing running events in the database.
  * Maps to the "running_event" table defined in data.sql.
+ * IDs are drawn from the "running_event_seq" sequence in blocks of {@link #ID_ALLOCATION_SIZE},
+ * so new entities get their ID without a database round trip and inserts can be batched.
+ * Entities are kept in the second-level cache region {@link #CACHE_REGION} (see HibernateCacheConfig).
  */
 @Entity
 @Table(name = "running_event")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RunningEventEntity.CACHE_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class RunningEventEntity {
 
+    /**
+     * Number of IDs reserved per sequence call; must match the INCREMENT BY of "running_event_seq".
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Name of the second-level cache region holding running events.
+     */
+    public static final String CACHE_REGION = "running-event";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "running_event_seq")
+    @SequenceGenerator(
+            name = "running_event_seq",
+            sequenceName = "running_event_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "name", nullable = false, length = 100)
@@ -41,4 +66,26 @@ public class RunningEventEntity {
 
     @Column(name = "further_information", length = 1000)
     private String furtherInformation;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * The feed a synced event came from, or null for events created through the API.
+     */
+    @Column(name = "source", length = 100)
+    private String source;
+
+    /**
+     * The key of a synced event within its feed.
+     */
+    @Column(name = "source_key", length = 255)
+    private String sourceKey;
+
+    /**
+     * The hash of the fields last written by a sync, or null once the event was changed otherwise.
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 }
@@ -0,0 +1,61 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * Hands out IDs for the adapters that insert with their own statements. IDs come from running_event_seq
+ * in blocks of {@link RunningEventEntity#ID_ALLOCATION_SIZE}, like the JPA adapter (pooled-lo), so all
+ * adapters can be used on the same database.
+ */
+class RunningEventIdAllocator {
+
+    private final JdbcClient jdbcClient;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private long nextId;
+    private long blockEnd;
+
+    RunningEventIdAllocator(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Takes IDs from the in-memory block and draws as many new blocks from the sequence as needed,
+     * all in one round trip. Each sequence value is the first ID of a block (pooled-lo).
+     */
+    List<Long> allocate(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        lock.lock();
+        try {
+            while (ids.size() < count && nextId < blockEnd) {
+                ids.add(nextId++);
+            }
+            int missing = count - ids.size();
+            if (missing == 0) {
+                return ids;
+            }
+
+            int blockSize = RunningEventEntity.ID_ALLOCATION_SIZE;
+            int blocks = (missing + blockSize - 1) / blockSize;
+            List<Long> blockStarts = jdbcClient
+                    .sql("SELECT NEXT VALUE FOR running_event_seq FROM SYSTEM_RANGE(1, :blocks)")
+                    .param("blocks", blocks)
+                    .query(Long.class)
+                    .list();
+            for (Long blockStart : blockStarts) {
+                nextId = blockStart;
+                blockEnd = blockStart + blockSize;
+                while (ids.size() < count && nextId < blockEnd) {
+                    ids.add(nextId++);
+                }
+            }
+            return ids;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
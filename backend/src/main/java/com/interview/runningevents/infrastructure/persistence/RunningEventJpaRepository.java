@@ -3,13 +3,17 @@ package com.interview.runningevents.infrastructure.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data JPA repository for RunningEventEntity.
  */
 @Repository
-public interface RunningEventJpaRepository extends JpaRepository<RunningEventEntity, Long> {
+public interface RunningEventJpaRepository
+        extends JpaRepository<RunningEventEntity, Long>, RunningEventJpaRepositoryCustom {
 
     /**
      * Find running events within a date range.
@@ -21,4 +25,54 @@ public interface RunningEventJpaRepository extends JpaRepository<RunningEventEnt
      * @return A page of running events within the date range
      */
     Page<RunningEventEntity> findByDateTimeBetween(Long startDate, Long endDate, Pageable pageable);
+
+    /**
+     * Overwrites the fields of a running event and increments its version with a single
+     * compare-and-set UPDATE statement.
+     * Hibernate drops the cached copy of the row from the second-level cache; a copy managed by the
+     * current persistence context is left alone, see {@link #evictEvent(Long)}.
+     * The content hash of a synced event is cleared, so the next sync of its feed writes it again.
+     *
+     * @param id The ID of the event to update
+     * @param version The version the event must still have, or null to update regardless of the version
+     * @param name The new name
+     * @param dateTime The new date and time
+     * @param location The new location
+     * @param description The new description
+     * @param furtherInformation The new further information
+     * @return The number of rows updated (0 if no event exists with the given ID and version)
+     */
+    @Modifying
+    @Query("UPDATE RunningEventEntity e SET e.name = :name, e.dateTime = :dateTime, e.location = :location, "
+            + "e.description = :description, e.furtherInformation = :furtherInformation, e.contentHash = NULL, "
+            + "e.version = e.version + 1 "
+            + "WHERE e.id = :id AND (:version IS NULL OR e.version = :version)")
+    int updateById(
+            @Param("id") Long id,
+            @Param("version") Long version,
+            @Param("name") String name,
+            @Param("dateTime") Long dateTime,
+            @Param("location") String location,
+            @Param("description") String description,
+            @Param("furtherInformation") String furtherInformation);
+
+    /**
+     * Deletes a running event with a single DELETE statement, without loading it first.
+     *
+     * @param id The ID of the event to delete
+     * @param version The version the event must still have, or null to delete regardless of the version
+     * @return The number of rows deleted (0 if no event exists with the given ID and version)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RunningEventEntity e WHERE e.id = :id AND (:version IS NULL OR e.version = :version)")
+    int deleteEventById(@Param("id") Long id, @Param("version") Long version);
+
+    /**
+     * Reads only the version of a running event.
+     *
+     * @param id The ID of the event
+     * @return The current version, or null if no event exists with the given ID
+     */
+    @Query("SELECT e.version FROM RunningEventEntity e WHERE e.id = :id")
+    Long findVersionById(@Param("id") Long id);
 }
@@ -0,0 +1,99 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.interview.runningevents.application.model.RunningEventsFingerprint;
+import com.interview.runningevents.application.model.SourceEventState;
+import com.interview.runningevents.application.model.SourcedRunningEvent;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Custom query fragment for RunningEventJpaRepository.
+ * Holds the queries that cannot be expressed as derived or annotated Spring Data queries.
+ * The list queries select their columns straight into {@link RunningEvent} with a constructor
+ * expression, so no managed entities, dirty-checking snapshots or first-level cache entries are
+ * created for the rows of a listing.
+ */
+public interface RunningEventJpaRepositoryCustom extends RunningEventPageQueries {
+
+    /**
+     * Streams the running events within an optional date range, ordered by date and then by ID.
+     * Rows are read through a forward-only cursor in blocks of fetchSize, so memory use does not depend
+     * on the number of matching events. The stream must be consumed and closed inside a transaction.
+     *
+     * @param fromDate Optional minimum date (inclusive)
+     * @param toDate Optional maximum date (inclusive)
+     * @param fetchSize The number of rows fetched from the database at a time
+     * @return The matching events
+     */
+    Stream<RunningEvent> streamEvents(Long fromDate, Long toDate, int fetchSize);
+
+    /**
+     * Inserts new running events in the current transaction.
+     * IDs are taken from the pooled sequence in memory and the inserts are flushed as JDBC batches,
+     * so no per-row round trip is needed.
+     *
+     * @param events The events to insert; their IDs are ignored
+     * @return The assigned IDs, in the order of the given events
+     */
+    List<Long> insertAll(List<RunningEvent> events);
+
+    /**
+     * Inserts new events of a feed in the current transaction, like {@link #insertAll(List)}.
+     *
+     * @param source The name of the feed
+     * @param events The events with their keys and content hashes; their IDs are ignored
+     * @return The assigned IDs, in the order of the given events
+     */
+    List<Long> insertAllFromSource(String source, List<SourcedRunningEvent> events);
+
+    /**
+     * Drops every cached copy of a running event after it was changed with a bulk statement: the copy in the
+     * second-level cache and the copy managed by the current persistence context, if any. Other entities
+     * of the persistence context stay managed.
+     *
+     * @param id The ID of the event
+     */
+    void evictEvent(Long id);
+
+    /**
+     * Overwrites events in the current transaction.
+     * The events are loaded by ID, changed and flushed in groups, so the UPDATE statements are sent as
+     * JDBC batches; each version is incremented. Events that no longer exist are skipped.
+     *
+     * @param events The events with their content hashes; each event carries the ID of the stored event
+     * @return The updated events with their incremented versions, in the same order; skipped events are
+     *         left out
+     */
+    List<RunningEvent> updateAllFromSource(List<SourcedRunningEvent> events);
+
+    /**
+     * Adds the row of a feed unless it is already there.
+     *
+     * @param source The name of the feed
+     */
+    void registerSource(String source);
+
+    /**
+     * Locks the row of a feed until the current transaction ends.
+     *
+     * @param source The name of the feed
+     */
+    void lockSource(String source);
+
+    /**
+     * Finds the key, content hash, ID and version of every event of a feed, without loading the events.
+     *
+     * @param source The name of the feed
+     * @return The states of the stored events of the feed
+     */
+    List<SourceEventState> findSourceStates(String source);
+
+    /**
+     * Summarizes all running events with a single aggregate query.
+     *
+     * @return The count, highest ID and sums of the IDs and versions of the events
+     */
+    RunningEventsFingerprint fingerprint();
+}
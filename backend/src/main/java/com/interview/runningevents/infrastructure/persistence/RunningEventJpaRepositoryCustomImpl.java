@@ -0,0 +1,354 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.interview.runningevents.application.model.RunningEventsFingerprint;
+import com.interview.runningevents.application.model.SourceEventState;
+import com.interview.runningevents.application.model.SourcedRunningEvent;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria API implementation of {@link RunningEventJpaRepositoryCustom}.
+ * Counts, first pages and date-range pages go through the Hibernate query cache; any write to the table
+ * invalidates them. Deeper unfiltered pages and keyset pages are not cached, since each cursor or offset
+ * would add a cache entry that is rarely read again.
+ */
+public class RunningEventJpaRepositoryCustomImpl implements RunningEventJpaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<RunningEvent> findEvents(
+            Long fromDate, Long toDate, String sortField, Sort.Direction direction, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RunningEvent> criteria = cb.createQuery(RunningEvent.class);
+        Root<RunningEventEntity> root = criteria.from(RunningEventEntity.class);
+
+        List<Predicate> predicates = dateRangePredicates(cb, root, fromDate, toDate);
+        criteria.select(projection(cb, root))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(ordering(cb, root, sortField, direction));
+
+        boolean cacheable = offset == 0 || fromDate != null || toDate != null;
+        return entityManager
+                .createQuery(criteria)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .setHint(AvailableHints.HINT_CACHEABLE, cacheable)
+                .getResultList();
+    }
+
+    @Override
+    public List<RunningEvent> findByKeyset(
+            Long fromDate,
+            Long toDate,
+            String sortField,
+            Sort.Direction direction,
+            Comparable<?> sortKey,
+            Long lastId,
+            int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RunningEvent> criteria = cb.createQuery(RunningEvent.class);
+        Root<RunningEventEntity> root = criteria.from(RunningEventEntity.class);
+
+        List<Predicate> predicates = dateRangePredicates(cb, root, fromDate, toDate);
+        predicates.add(seekPredicate(cb, root, sortField, direction, sortKey, lastId));
+
+        criteria.select(projection(cb, root))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(ordering(cb, root, sortField, direction));
+
+        return entityManager.createQuery(criteria).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public long countEvents(Long fromDate, Long toDate) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteria = cb.createQuery(Long.class);
+        Root<RunningEventEntity> root = criteria.from(RunningEventEntity.class);
+
+        criteria.select(cb.count(root))
+                .where(dateRangePredicates(cb, root, fromDate, toDate).toArray(new Predicate[0]));
+
+        return entityManager
+                .createQuery(criteria)
+                .setHint(AvailableHints.HINT_CACHEABLE, true)
+                .getSingleResult();
+    }
+
+    @Override
+    public Stream<RunningEvent> streamEvents(Long fromDate, Long toDate, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RunningEvent> criteria = cb.createQuery(RunningEvent.class);
+        Root<RunningEventEntity> root = criteria.from(RunningEventEntity.class);
+
+        criteria.select(projection(cb, root))
+                .where(dateRangePredicates(cb, root, fromDate, toDate).toArray(new Predicate[0]))
+                .orderBy(ordering(cb, root, "dateTime", Sort.Direction.ASC));
+
+        // Not cacheable: the query cache would hold the whole result in memory
+        return entityManager
+                .createQuery(criteria)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * Selects the event columns into a new RunningEvent, in the order of its all-args constructor.
+     */
+    private CompoundSelection<RunningEvent> projection(CriteriaBuilder cb, Root<RunningEventEntity> root) {
+        return cb.construct(
+                RunningEvent.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("dateTime"),
+                root.get("location"),
+                root.get("description"),
+                root.get("furtherInformation"),
+                root.get("version"));
+    }
+
+    /**
+     * Builds the date bound predicates; each bound is applied on its own so that either can be
+     * answered by a range scan on the date_time index.
+     */
+    private List<Predicate> dateRangePredicates(
+            CriteriaBuilder cb, Root<RunningEventEntity> root, Long fromDate, Long toDate) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (fromDate != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("dateTime"), fromDate));
+        }
+        if (toDate != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("dateTime"), toDate));
+        }
+        return predicates;
+    }
+
+    /**
+     * Orders by the sort field and then by ID, so rows with equal sort keys keep a stable order.
+     */
+    private List<Order> ordering(
+            CriteriaBuilder cb, Root<RunningEventEntity> root, String sortField, Sort.Direction direction) {
+        List<Order> orders = new ArrayList<>();
+        Path<?> sortPath = root.get(sortField);
+        orders.add(direction.isAscending() ? cb.asc(sortPath) : cb.desc(sortPath));
+        if (!"id".equals(sortField)) {
+            Path<Long> idPath = root.get("id");
+            orders.add(direction.isAscending() ? cb.asc(idPath) : cb.desc(idPath));
+        }
+        return orders;
+    }
+
+    /**
+     * Builds the predicate selecting the rows strictly after (sortKey, lastId) in the given direction.
+     * For non-ID sort fields the predicate is written as {@code key >= k AND (key > k OR id > i)}
+     * rather than the equivalent {@code key > k OR (key = k AND id > i)}, so that the leading bound
+     * can be answered by a range scan on the sort column index.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate seekPredicate(
+            CriteriaBuilder cb,
+            Root<RunningEventEntity> root,
+            String sortField,
+            Sort.Direction direction,
+            Comparable sortKey,
+            Long lastId) {
+        Path<Long> idPath = root.get("id");
+        if ("id".equals(sortField)) {
+            return direction.isAscending() ? cb.greaterThan(idPath, lastId) : cb.lessThan(idPath, lastId);
+        }
+
+        Path<Comparable> keyPath = root.get(sortField);
+        if (direction.isAscending()) {
+            return cb.and(
+                    cb.greaterThanOrEqualTo(keyPath, sortKey),
+                    cb.or(cb.greaterThan(keyPath, sortKey), cb.greaterThan(idPath, lastId)));
+        }
+        return cb.and(
+                cb.lessThanOrEqualTo(keyPath, sortKey),
+                cb.or(cb.lessThan(keyPath, sortKey), cb.lessThan(idPath, lastId)));
+    }
+
+    @Override
+    public List<Long> insertAll(List<RunningEvent> events) {
+        return persistAll(events.stream()
+                .map(RunningEventJpaRepositoryCustomImpl::newEntity)
+                .toList());
+    }
+
+    @Override
+    public List<Long> insertAllFromSource(String source, List<SourcedRunningEvent> events) {
+        return persistAll(events.stream()
+                .map(sourced -> {
+                    RunningEventEntity entity = newEntity(sourced.getEvent());
+                    entity.setSource(source);
+                    entity.setSourceKey(sourced.getSourceKey());
+                    entity.setContentHash(sourced.getContentHash());
+                    return entity;
+                })
+                .toList());
+    }
+
+    @Override
+    public void evictEvent(Long id) {
+        entityManager.getEntityManagerFactory().getCache().evict(RunningEventEntity.class, id);
+        // A reference is the managed instance if there is one, and otherwise a proxy that is never loaded
+        entityManager.detach(entityManager.getReference(RunningEventEntity.class, id));
+    }
+
+    @Override
+    public List<RunningEvent> updateAllFromSource(List<SourcedRunningEvent> events) {
+        List<RunningEvent> updated = new ArrayList<>(events.size());
+        int groupSize = RunningEventEntity.ID_ALLOCATION_SIZE;
+        for (int start = 0; start < events.size(); start += groupSize) {
+            List<SourcedRunningEvent> group = events.subList(start, Math.min(start + groupSize, events.size()));
+            List<Long> ids =
+                    group.stream().map(sourced -> sourced.getEvent().getId()).toList();
+            Map<Long, RunningEventEntity> entities = new HashMap<>();
+            entityManager
+                    .createQuery("SELECT e FROM RunningEventEntity e WHERE e.id IN :ids", RunningEventEntity.class)
+                    .setParameter("ids", ids)
+                    .getResultList()
+                    .forEach(entity -> entities.put(entity.getId(), entity));
+
+            List<RunningEvent> changedEvents = new ArrayList<>(group.size());
+            List<RunningEventEntity> changed = new ArrayList<>(group.size());
+            for (SourcedRunningEvent sourced : group) {
+                RunningEvent event = sourced.getEvent();
+                RunningEventEntity entity = entities.get(event.getId());
+                if (entity == null) {
+                    // Deleted since the sync read the states; the next sync inserts it again
+                    continue;
+                }
+                if (event.getVersion() != null && !event.getVersion().equals(entity.getVersion())) {
+                    // Changed since the sync read the states, like the versioned UPDATE fails for a later change
+                    throw new ObjectOptimisticLockingFailureException(RunningEventEntity.class, event.getId());
+                }
+                entity.setName(event.getName());
+                entity.setDateTime(event.getDateTime());
+                entity.setLocation(event.getLocation());
+                entity.setDescription(event.getDescription());
+                entity.setFurtherInformation(event.getFurtherInformation());
+                entity.setContentHash(sourced.getContentHash());
+                changedEvents.add(event);
+                changed.add(entity);
+            }
+
+            // The dirty entities are written as one JDBC batch of versioned UPDATE statements,
+            // after which each entity holds the version it was stored with
+            entityManager.flush();
+            for (int i = 0; i < changed.size(); i++) {
+                updated.add(changedEvents.get(i).toBuilder()
+                        .version(changed.get(i).getVersion())
+                        .build());
+            }
+            entityManager.clear();
+        }
+        return updated;
+    }
+
+    @Override
+    public void registerSource(String source) {
+        entityManager
+                .createNativeQuery(RunningEventSourceSql.REGISTER)
+                .setParameter("source", source)
+                .executeUpdate();
+    }
+
+    @Override
+    public void lockSource(String source) {
+        entityManager
+                .createNativeQuery(RunningEventSourceSql.LOCK)
+                .setParameter("source", source)
+                .getResultList();
+    }
+
+    @Override
+    public List<SourceEventState> findSourceStates(String source) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SourceEventState> criteria = cb.createQuery(SourceEventState.class);
+        Root<RunningEventEntity> root = criteria.from(RunningEventEntity.class);
+
+        criteria.select(cb.construct(
+                        SourceEventState.class,
+                        root.get("id"),
+                        root.get("sourceKey"),
+                        root.get("contentHash"),
+                        root.get("version")))
+                .where(cb.equal(root.get("source"), source));
+
+        // Not cacheable: a sync reads the states once and then changes them
+        return entityManager
+                .createQuery(criteria)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    @Override
+    public RunningEventsFingerprint fingerprint() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RunningEventsFingerprint> criteria = cb.createQuery(RunningEventsFingerprint.class);
+        Root<RunningEventEntity> root = criteria.from(RunningEventEntity.class);
+        Path<Long> id = root.get("id");
+        Path<Long> version = root.get("version");
+
+        criteria.select(cb.construct(
+                RunningEventsFingerprint.class,
+                cb.count(root),
+                cb.coalesce(cb.max(id), 0L),
+                cb.coalesce(cb.sum(id), 0L),
+                cb.coalesce(cb.sum(version), 0L)));
+
+        // Not cacheable: the fingerprint is compared with a copy of the events that may be stale
+        return entityManager.createQuery(criteria).getSingleResult();
+    }
+
+    private static RunningEventEntity newEntity(RunningEvent event) {
+        return RunningEventEntity.builder()
+                .name(event.getName())
+                .dateTime(event.getDateTime())
+                .location(event.getLocation())
+                .description(event.getDescription())
+                .furtherInformation(event.getFurtherInformation())
+                .build();
+    }
+
+    private List<Long> persistAll(List<RunningEventEntity> entities) {
+        List<Long> ids = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            RunningEventEntity entity = entities.get(i);
+            // The ID comes from the in-memory block of the pooled sequence, so persist does not hit the database
+            entityManager.persist(entity);
+            ids.add(entity.getId());
+
+            // Send the pending inserts as one JDBC batch and keep the persistence context small
+            if ((i + 1) % RunningEventEntity.ID_ALLOCATION_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+}
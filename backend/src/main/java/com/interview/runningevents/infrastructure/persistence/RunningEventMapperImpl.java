@@ -28,6 +28,7 @@ public class RunningEventMapperImpl {
                 .location(runningEvent.getLocation())
                 .description(runningEvent.getDescription())
                 .furtherInformation(runningEvent.getFurtherInformation())
+                .version(runningEvent.getVersion())
                 .build();
     }
 
@@ -49,6 +50,7 @@ public class RunningEventMapperImpl {
                 .location(entity.getLocation())
                 .description(entity.getDescription())
                 .furtherInformation(entity.getFurtherInformation())
+                .version(entity.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,166 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.interview.runningevents.application.model.PageCursor;
+import com.interview.runningevents.application.model.PaginatedResult;
+import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.application.model.SortDirection;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Assembles paginated listings of running events from {@link RunningEventPageQueries}, so that every
+ * persistence adapter pages, counts and hands out cursors the same way.
+ */
+class RunningEventPageFinder {
+
+    private final RunningEventPageQueries queries;
+
+    RunningEventPageFinder(RunningEventPageQueries queries) {
+        this.queries = queries;
+    }
+
+    /**
+     * Finds the page of running events described by the query.
+     *
+     * @param query The query parameters for filtering, sorting and pagination
+     * @return The page with its pagination metadata and the cursors of the neighbouring pages
+     * @throws IllegalArgumentException if the query is null
+     */
+    PaginatedResult<RunningEvent> findAll(RunningEventQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+
+        // Normalize the sort direction
+        SortDirection sortDirection =
+                query.getSortDirection() == SortDirection.DESC ? SortDirection.DESC : SortDirection.ASC;
+        org.springframework.data.domain.Sort.Direction direction = sortDirection == SortDirection.DESC
+                ? org.springframework.data.domain.Sort.Direction.DESC
+                : org.springframework.data.domain.Sort.Direction.ASC;
+
+        // Use the sortBy field from the query, defaulting to "dateTime" if null
+        String sortField = query.getSortBy() != null ? query.getSortBy() : "dateTime";
+
+        // Continue from the client's keyset position instead of skipping rows with an OFFSET
+        if (query.getCursor() != null) {
+            return findAllByKeyset(query, sortField, sortDirection);
+        }
+
+        int pageSize = query.getPageSize();
+        long offset = (long) query.getPage() * pageSize;
+
+        // Skip the count query when the client only needs to know whether there is a next page
+        if (!query.isWithTotals()) {
+            return findSlice(query, offset, direction, sortField, sortDirection);
+        }
+
+        List<RunningEvent> items =
+                queries.findEvents(query.getFromDate(), query.getToDate(), sortField, direction, offset, pageSize);
+
+        // A short page that is not past the end of the results already tells us the total
+        boolean lastPageReached = items.size() < pageSize && (!items.isEmpty() || offset == 0);
+        long totalItems =
+                lastPageReached ? offset + items.size() : queries.countEvents(query.getFromDate(), query.getToDate());
+        int totalPages = (int) ((totalItems + pageSize - 1) / pageSize);
+        boolean hasPrevious = query.getPage() > 0;
+        boolean hasNext = query.getPage() + 1 < totalPages;
+
+        return new PaginatedResult<>(
+                items,
+                totalItems,
+                query.getPage(),
+                pageSize,
+                totalPages,
+                hasPrevious,
+                hasNext,
+                nextCursor(items, hasNext, sortField, sortDirection),
+                prevCursor(items, hasPrevious, sortField, sortDirection));
+    }
+
+    /**
+     * Finds the requested page without issuing a count query.
+     * One row beyond the page size is fetched to determine whether a next page exists.
+     */
+    private PaginatedResult<RunningEvent> findSlice(
+            RunningEventQuery query,
+            long offset,
+            org.springframework.data.domain.Sort.Direction direction,
+            String sortField,
+            SortDirection sortDirection) {
+        int pageSize = query.getPageSize();
+        List<RunningEvent> rows =
+                queries.findEvents(query.getFromDate(), query.getToDate(), sortField, direction, offset, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<RunningEvent> items = hasNext ? rows.subList(0, pageSize) : rows;
+        boolean hasPrevious = query.getPage() > 0;
+
+        return PaginatedResult.withoutTotals(
+                items,
+                query.getPage(),
+                pageSize,
+                hasPrevious,
+                hasNext,
+                nextCursor(items, hasNext, sortField, sortDirection),
+                prevCursor(items, hasPrevious, sortField, sortDirection));
+    }
+
+    /**
+     * Finds the page adjacent to the query's cursor using a seek predicate.
+     * No count query is issued, so the totals of the result are unknown.
+     */
+    private PaginatedResult<RunningEvent> findAllByKeyset(
+            RunningEventQuery query, String sortField, SortDirection sortDirection) {
+        PageCursor cursor = query.getCursor();
+        int pageSize = query.getPageSize();
+
+        // A backward cursor seeks in the opposite direction; the rows are flipped back into page order below
+        boolean ascending = (sortDirection == SortDirection.ASC) != cursor.isBackward();
+        org.springframework.data.domain.Sort.Direction seekDirection = ascending
+                ? org.springframework.data.domain.Sort.Direction.ASC
+                : org.springframework.data.domain.Sort.Direction.DESC;
+
+        // Fetch one extra row to find out whether there is another page in the seek direction
+        List<RunningEvent> rows = queries.findByKeyset(
+                query.getFromDate(),
+                query.getToDate(),
+                sortField,
+                seekDirection,
+                cursor.getSortKey(),
+                cursor.getId(),
+                pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+
+        List<RunningEvent> items = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+        if (cursor.isBackward()) {
+            Collections.reverse(items);
+        }
+
+        // The cursor row itself lies on the side we came from
+        boolean hasNext = cursor.isBackward() || hasMore;
+        boolean hasPrevious = !cursor.isBackward() || hasMore;
+
+        return PaginatedResult.withoutTotals(
+                items,
+                query.getPage(),
+                pageSize,
+                hasPrevious,
+                hasNext,
+                nextCursor(items, hasNext, sortField, sortDirection),
+                prevCursor(items, hasPrevious, sortField, sortDirection));
+    }
+
+    private PageCursor nextCursor(
+            List<RunningEvent> items, boolean hasNext, String sortField, SortDirection sortDirection) {
+        return hasNext && !items.isEmpty()
+                ? PageCursor.after(items.get(items.size() - 1), sortField, sortDirection)
+                : null;
+    }
+
+    private PageCursor prevCursor(
+            List<RunningEvent> items, boolean hasPrevious, String sortField, SortDirection sortDirection) {
+        return hasPrevious && !items.isEmpty() ? PageCursor.before(items.get(0), sortField, sortDirection) : null;
+    }
+}
@@ -0,0 +1,62 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * The queries a listing of running events is assembled from, one page at a time.
+ * Implemented by the JPA repository and by the JDBC and partitioned adapters; {@link RunningEventPageFinder} turns them
+ * into a paginated result.
+ */
+public interface RunningEventPageQueries {
+
+    /**
+     * Finds a window of running events by offset.
+     * Events with equal sort field values are ordered by ID, so consecutive windows do not overlap.
+     *
+     * @param fromDate Optional minimum date (inclusive)
+     * @param toDate Optional maximum date (inclusive)
+     * @param sortField The attribute to order by (id, name or dateTime)
+     * @param direction The direction to order in
+     * @param offset The number of matching events to skip
+     * @param limit The maximum number of events to return
+     * @return The events in the window, ordered by sortField and then by ID
+     */
+    List<RunningEvent> findEvents(
+            Long fromDate, Long toDate, String sortField, Sort.Direction direction, long offset, int limit);
+
+    /**
+     * Finds the running events that follow a keyset position in the given order.
+     * The position is applied as a seek predicate on (sortField, id), so the cost of a page
+     * does not depend on how far into the result set it is.
+     *
+     * @param fromDate Optional minimum date (inclusive)
+     * @param toDate Optional maximum date (inclusive)
+     * @param sortField The attribute to order by (id, name or dateTime)
+     * @param direction The direction to seek and order in
+     * @param sortKey The sort field value of the last event seen
+     * @param lastId The ID of the last event seen, used as a tie-breaker
+     * @param limit The maximum number of events to return
+     * @return The events after the position, ordered by sortField and then by ID
+     */
+    List<RunningEvent> findByKeyset(
+            Long fromDate,
+            Long toDate,
+            String sortField,
+            Sort.Direction direction,
+            Comparable<?> sortKey,
+            Long lastId,
+            int limit);
+
+    /**
+     * Counts the running events within an optional date range.
+     *
+     * @param fromDate Optional minimum date (inclusive)
+     * @param toDate Optional maximum date (inclusive)
+     * @return The number of matching events
+     */
+    long countEvents(Long fromDate, Long toDate);
+}
@@ -0,0 +1,126 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * The tables the partitioned adapter stores running events in: one table per UTC year
+ * (running_event_y2025, ...) and running_event_default for the years without a table of their own
+ * (see db/partitioned/V7_1__Partition_running_event_by_year.sql).
+ * The timeline is cut into segments, each a contiguous span of time stored in a single table, so a date
+ * range maps to the tables it touches, in time order.
+ */
+class RunningEventPartitions {
+
+    static final String DEFAULT_TABLE = "running_event_default";
+
+    private static final String YEAR_TABLE_PREFIX = "running_event_y";
+
+    private final TreeSet<Integer> years;
+    private final List<Segment> segments;
+
+    RunningEventPartitions(Collection<Integer> years) {
+        this.years = new TreeSet<>(years);
+        this.segments = buildSegments(this.years);
+    }
+
+    /**
+     * A span of time stored in one table.
+     *
+     * @param table The table the span is stored in
+     * @param from The first instant of the span (inclusive), or Long.MIN_VALUE if it is open
+     * @param to The last instant of the span (inclusive), or Long.MAX_VALUE if it is open
+     */
+    record Segment(String table, long from, long to) {}
+
+    /**
+     * Reads the year of a table name, or returns null if the table is not a year partition.
+     */
+    static Integer yearOfTable(String tableName) {
+        String name = tableName.toLowerCase();
+        if (!name.startsWith(YEAR_TABLE_PREFIX)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(name.substring(YEAR_TABLE_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The UTC year of an instant.
+     */
+    static int yearOf(long dateTime) {
+        return Instant.ofEpochMilli(dateTime).atZone(ZoneOffset.UTC).getYear();
+    }
+
+    /**
+     * The table holding the events of a year.
+     */
+    String tableOfYear(int year) {
+        return years.contains(year) ? YEAR_TABLE_PREFIX + year : DEFAULT_TABLE;
+    }
+
+    /**
+     * The table holding an event at the given instant.
+     */
+    String tableOf(long dateTime) {
+        return tableOfYear(yearOf(dateTime));
+    }
+
+    /**
+     * All tables, year partitions first.
+     */
+    List<String> tables() {
+        List<String> tables = new ArrayList<>(years.size() + 1);
+        years.forEach(year -> tables.add(YEAR_TABLE_PREFIX + year));
+        tables.add(DEFAULT_TABLE);
+        return tables;
+    }
+
+    /**
+     * The segments overlapping an optional date range, in time order and clipped to the range.
+     *
+     * @param fromDate Optional minimum date (inclusive)
+     * @param toDate Optional maximum date (inclusive)
+     * @return The touched segments; empty if the range is empty
+     */
+    List<Segment> segments(Long fromDate, Long toDate) {
+        long from = fromDate != null ? fromDate : Long.MIN_VALUE;
+        long to = toDate != null ? toDate : Long.MAX_VALUE;
+        List<Segment> touched = new ArrayList<>();
+        for (Segment segment : segments) {
+            long clippedFrom = Math.max(from, segment.from());
+            long clippedTo = Math.min(to, segment.to());
+            if (clippedFrom <= clippedTo) {
+                touched.add(new Segment(segment.table(), clippedFrom, clippedTo));
+            }
+        }
+        return touched;
+    }
+
+    private static List<Segment> buildSegments(TreeSet<Integer> years) {
+        List<Segment> segments = new ArrayList<>();
+        long defaultFrom = Long.MIN_VALUE;
+        for (int year : years) {
+            long start = startOfYear(year);
+            if (defaultFrom < start) {
+                segments.add(new Segment(DEFAULT_TABLE, defaultFrom, start - 1));
+            }
+            defaultFrom = startOfYear(year + 1);
+            segments.add(new Segment(YEAR_TABLE_PREFIX + year, start, defaultFrom - 1));
+        }
+        segments.add(new Segment(DEFAULT_TABLE, defaultFrom, Long.MAX_VALUE));
+        return segments;
+    }
+
+    private static long startOfYear(int year) {
+        return LocalDate.of(year, 1, 1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+}
@@ -1,30 +1,50 @@
 package com.interview.runningevents.infrastructure.persistence;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.interview.runningevents.application.model.PaginatedResult;
 import com.interview.runningevents.application.model.RunningEventQuery;
-import com.interview.runningevents.application.model.SortDirection;
+import com.interview.runningevents.application.model.RunningEventsFingerprint;
+import com.interview.runningevents.application.model.SourceEventState;
+import com.interview.runningevents.application.model.SourcedRunningEvent;
 import com.interview.runningevents.application.port.out.RunningEventRepository;
 import com.interview.runningevents.domain.model.RunningEvent;
 
 /**
  * Implementation of the RunningEventRepository port that uses JPA for persistence.
+ * This is the default adapter; set running-events.persistence.adapter=jdbc to use
+ * {@link JdbcRunningEventRepositoryImpl} instead.
  */
 @Component
+@ConditionalOnProperty(name = "running-events.persistence.adapter", havingValue = "jpa", matchIfMissing = true)
 public class RunningEventRepositoryImpl implements RunningEventRepository {
 
+    /**
+     * Number of rows fetched per round trip when streaming events.
+     */
+    static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Number of IDs deleted per statement.
+     */
+    static final int DELETE_GROUP_SIZE = 500;
+
     private final RunningEventJpaRepository jpaRepository;
     private final RunningEventMapperImpl mapper;
+    private final RunningEventPageFinder pageFinder;
 
     public RunningEventRepositoryImpl(RunningEventJpaRepository jpaRepository, RunningEventMapperImpl mapper) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.pageFinder = new RunningEventPageFinder(jpaRepository);
     }
 
     @Override
@@ -38,6 +58,72 @@ public class RunningEventRepositoryImpl implements RunningEventRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<RunningEvent> saveAll(List<RunningEvent> runningEvents) {
+        if (runningEvents == null) {
+            throw new IllegalArgumentException("Running events cannot be null");
+        }
+        if (runningEvents.stream().anyMatch(event -> event.getId() != null)) {
+            throw new IllegalArgumentException("Running events to insert cannot have an ID");
+        }
+
+        List<Long> ids = jpaRepository.insertAll(runningEvents);
+
+        List<RunningEvent> saved = new ArrayList<>(runningEvents.size());
+        for (int i = 0; i < runningEvents.size(); i++) {
+            RunningEvent event = runningEvents.get(i);
+            saved.add(new RunningEvent(
+                    ids.get(i),
+                    event.getName(),
+                    event.getDateTime(),
+                    event.getLocation(),
+                    event.getDescription(),
+                    event.getFurtherInformation(),
+                    0L));
+        }
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Optional<RunningEvent> update(RunningEvent runningEvent) {
+        if (runningEvent == null) {
+            throw new IllegalArgumentException("Running event cannot be null");
+        }
+        if (runningEvent.getId() == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        int updatedRows = jpaRepository.updateById(
+                runningEvent.getId(),
+                runningEvent.getVersion(),
+                runningEvent.getName(),
+                runningEvent.getDateTime(),
+                runningEvent.getLocation(),
+                runningEvent.getDescription(),
+                runningEvent.getFurtherInformation());
+        if (updatedRows == 0) {
+            return Optional.empty();
+        }
+
+        // The new version follows from the expected one; only an unconditional update has to read it back,
+        // which happens in the transaction of the update and so sees the version the update wrote
+        Long newVersion = runningEvent.getVersion() != null
+                ? runningEvent.getVersion() + 1
+                : jpaRepository.findVersionById(runningEvent.getId());
+        jpaRepository.evictEvent(runningEvent.getId());
+
+        return Optional.of(RunningEvent.builder()
+                .id(runningEvent.getId())
+                .name(runningEvent.getName())
+                .dateTime(runningEvent.getDateTime())
+                .location(runningEvent.getLocation())
+                .description(runningEvent.getDescription())
+                .furtherInformation(runningEvent.getFurtherInformation())
+                .version(newVersion)
+                .build());
+    }
+
     @Override
     public Optional<RunningEvent> findById(Long id) {
         if (id == null) {
@@ -49,61 +135,118 @@ public class RunningEventRepositoryImpl implements RunningEventRepository {
 
     @Override
     public PaginatedResult<RunningEvent> findAll(RunningEventQuery query) {
-        if (query == null) {
-            throw new IllegalArgumentException("Query cannot be null");
+        return pageFinder.findAll(query);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return deleteById(id, null);
+    }
+
+    @Override
+    public boolean deleteById(Long id, Long expectedVersion) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
         }
 
-        // Create pageable request with sort direction
-        org.springframework.data.domain.Sort.Direction direction = query.getSortDirection() == SortDirection.DESC
-                ? org.springframework.data.domain.Sort.Direction.DESC
-                : org.springframework.data.domain.Sort.Direction.ASC;
+        // The affected-row count doubles as the existence and version check
+        return jpaRepository.deleteEventById(id, expectedVersion) > 0;
+    }
 
-        // Use the sortBy field from the query, defaulting to "dateTime" if null
-        String sortField = query.getSortBy() != null ? query.getSortBy() : "dateTime";
+    @Override
+    public boolean existsById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
 
-        org.springframework.data.domain.Sort sort = org.springframework.data.domain.Sort.by(direction, sortField);
+        return jpaRepository.existsById(id);
+    }
 
-        PageRequest pageRequest = PageRequest.of(query.getPage(), query.getPageSize(), sort);
+    @Override
+    public void forEachInDateRange(Long fromDate, Long toDate, Consumer<RunningEvent> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
 
-        Page<RunningEventEntity> page;
+        try (Stream<RunningEvent> events = jpaRepository.streamEvents(fromDate, toDate, STREAM_FETCH_SIZE)) {
+            events.forEach(action);
+        }
+    }
 
-        // Execute query with date range filter if specified
-        if (query.getFromDate() != null && query.getToDate() != null) {
-            page = jpaRepository.findByDateTimeBetween(query.getFromDate(), query.getToDate(), pageRequest);
-        } else {
-            page = jpaRepository.findAll(pageRequest);
+    @Override
+    public void registerSource(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
         }
 
-        // Map entities to domain objects
-        return new PaginatedResult<>(
-                page.getContent().stream().map(mapper::toDomain).collect(Collectors.toList()),
-                page.getTotalElements(),
-                query.getPage(),
-                query.getPageSize(),
-                page.getTotalPages(),
-                page.hasPrevious(),
-                page.hasNext());
+        jpaRepository.registerSource(source);
     }
 
     @Override
-    public boolean deleteById(Long id) {
-        if (id == null) {
-            throw new IllegalArgumentException("ID cannot be null");
+    public void lockSource(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
         }
 
-        if (jpaRepository.existsById(id)) {
-            jpaRepository.deleteById(id);
-            return true;
+        jpaRepository.lockSource(source);
+    }
+
+    @Override
+    public List<SourceEventState> findSourceStates(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
         }
-        return false;
+
+        return jpaRepository.findSourceStates(source);
     }
 
     @Override
-    public boolean existsById(Long id) {
-        if (id == null) {
-            throw new IllegalArgumentException("ID cannot be null");
+    public RunningEventsFingerprint fingerprint() {
+        return jpaRepository.fingerprint();
+    }
+
+    @Override
+    public List<RunningEvent> insertFromSource(String source, List<SourcedRunningEvent> events) {
+        if (source == null || events == null) {
+            throw new IllegalArgumentException("Source and events cannot be null");
+        }
+        if (events.stream().anyMatch(sourced -> sourced.getEvent().getId() != null)) {
+            throw new IllegalArgumentException("Running events to insert cannot have an ID");
         }
 
-        return jpaRepository.existsById(id);
+        List<Long> ids = jpaRepository.insertAllFromSource(source, events);
+
+        List<RunningEvent> inserted = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            inserted.add(events.get(i).getEvent().toBuilder()
+                    .id(ids.get(i))
+                    .version(0L)
+                    .build());
+        }
+        return inserted;
+    }
+
+    @Override
+    public List<RunningEvent> updateFromSource(List<SourcedRunningEvent> events) {
+        if (events == null) {
+            throw new IllegalArgumentException("Events cannot be null");
+        }
+        if (events.stream().anyMatch(sourced -> sourced.getEvent().getId() == null)) {
+            throw new IllegalArgumentException("Running events to update must have an ID");
+        }
+
+        return jpaRepository.updateAllFromSource(events);
+    }
+
+    @Override
+    public void deleteAllById(List<Long> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("IDs cannot be null");
+        }
+
+        // One DELETE per group keeps the IN list of each statement bounded
+        for (int start = 0; start < ids.size(); start += DELETE_GROUP_SIZE) {
+            jpaRepository.deleteAllByIdInBatch(ids.subList(start, Math.min(start + DELETE_GROUP_SIZE, ids.size())));
+        }
     }
 }
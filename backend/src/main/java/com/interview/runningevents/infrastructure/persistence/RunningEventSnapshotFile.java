@@ -0,0 +1,253 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+import com.interview.runningevents.application.model.RunningEventsFingerprint;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * Binary snapshot of a set of running events, read through a memory-mapped file.
+ * The file has a fixed-size header, one fixed-width row per event and a heap with the UTF-8 bytes of the
+ * text fields:
+ * <pre>
+ * header  magic, format version, created at, fingerprint (count, max ID, ID sum, version sum),
+ *         heap length, CRC32C of rows and heap                                      (64 bytes)
+ * row     id, dateTime, version, then offset and length in the heap of name, location,
+ *         description and further information; length -1 is null                   (56 bytes)
+ * heap    the text fields; equal strings are stored once
+ * </pre>
+ * A row is decoded with absolute reads at a known position, so restoring does no parsing and no
+ * copying beyond building the strings. A snapshot is written to a temporary file that replaces the
+ * previous snapshot once it is complete, so a reader never sees a partly written file.
+ */
+final class RunningEventSnapshotFile {
+
+    private static final int MAGIC = 0x52455653; // "REVS"
+    private static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int ROW_BYTES = 56;
+    private static final int NULL_LENGTH = -1;
+    private static final long NO_VERSION = -1;
+
+    private RunningEventSnapshotFile() {}
+
+    /**
+     * The fingerprint and contents of a snapshot file.
+     *
+     * @param fingerprint The fingerprint of the events in the file
+     * @param createdAt When the snapshot was written, in milliseconds since the epoch
+     * @param buffer The mapped file
+     */
+    record Snapshot(RunningEventsFingerprint fingerprint, long createdAt, ByteBuffer buffer) {
+
+        /**
+         * Passes every event of the snapshot to the given action, in the order they were written.
+         * Equal strings are shared between the decoded events.
+         */
+        void forEach(Consumer<RunningEvent> action) {
+            int count = Math.toIntExact(fingerprint.getCount());
+            int heapStart = HEADER_BYTES + count * ROW_BYTES;
+            Map<Integer, String> strings = new HashMap<>();
+            for (int row = 0, position = HEADER_BYTES; row < count; row++, position += ROW_BYTES) {
+                long version = buffer.getLong(position + 16);
+                action.accept(RunningEvent.builder()
+                        .id(buffer.getLong(position))
+                        .dateTime(buffer.getLong(position + 8))
+                        .version(version == NO_VERSION ? null : version)
+                        .name(string(position + 24, heapStart, strings))
+                        .location(string(position + 32, heapStart, strings))
+                        .description(string(position + 40, heapStart, strings))
+                        .furtherInformation(string(position + 48, heapStart, strings))
+                        .build());
+            }
+        }
+
+        private String string(int reference, int heapStart, Map<Integer, String> strings) {
+            int length = buffer.getInt(reference + 4);
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+            int offset = heapStart + buffer.getInt(reference);
+            return strings.computeIfAbsent(offset, start -> {
+                byte[] bytes = new byte[length];
+                buffer.get(start, bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            });
+        }
+    }
+
+    /**
+     * Writes the events to the file, replacing any previous snapshot.
+     *
+     * @param file The snapshot file; its directory is created if it does not exist
+     * @param events The events to write; all of them must have an ID
+     * @param createdAt When the snapshot was taken, in milliseconds since the epoch
+     * @return The fingerprint of the written events
+     * @throws IOException If the file cannot be written
+     * @throws IllegalArgumentException If the snapshot would be 2GB or larger
+     */
+    static RunningEventsFingerprint write(Path file, Collection<RunningEvent> events, long createdAt)
+            throws IOException {
+        long rowsBytes = (long) events.size() * ROW_BYTES;
+        if (HEADER_BYTES + rowsBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many running events for a snapshot: " + events.size());
+        }
+
+        ByteBuffer rows = ByteBuffer.allocate((int) rowsBytes);
+        Heap heap = new Heap();
+        long maxId = 0;
+        long idSum = 0;
+        long versionSum = 0;
+        for (RunningEvent event : events) {
+            rows.putLong(event.getId())
+                    .putLong(event.getDateTime())
+                    .putLong(event.getVersion() == null ? NO_VERSION : event.getVersion());
+            heap.add(rows, event.getName());
+            heap.add(rows, event.getLocation());
+            heap.add(rows, event.getDescription());
+            heap.add(rows, event.getFurtherInformation());
+            maxId = Math.max(maxId, event.getId());
+            idSum += event.getId();
+            versionSum += event.getVersion() == null ? 0 : event.getVersion();
+        }
+        rows.flip();
+        ByteBuffer heapBytes = heap.bytes();
+        if (HEADER_BYTES + rowsBytes + heapBytes.remaining() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Running events are too large for a snapshot");
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(rows.duplicate());
+        crc.update(heapBytes.duplicate());
+        RunningEventsFingerprint fingerprint =
+                new RunningEventsFingerprint((long) events.size(), maxId, idSum, versionSum);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(createdAt)
+                .putLong(fingerprint.getCount())
+                .putLong(fingerprint.getMaxId())
+                .putLong(fingerprint.getIdSum())
+                .putLong(fingerprint.getVersionSum())
+                .putLong(heapBytes.remaining())
+                .putLong(crc.getValue())
+                .flip();
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                ByteBuffer[] buffers = {header, rows, heapBytes};
+                long remaining = header.remaining() + rowsBytes + heapBytes.remaining();
+                while (remaining > 0) {
+                    remaining -= channel.write(buffers);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Maps a snapshot file and checks its header and checksum.
+     *
+     * @param file The snapshot file
+     * @return The snapshot; its events are decoded when they are visited
+     * @throws IOException If the file cannot be read, or is not a complete snapshot of this format
+     */
+    static Snapshot read(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a running event snapshot: " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a running event snapshot: " + file);
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format " + buffer.getInt(4) + ": " + file);
+        }
+        RunningEventsFingerprint fingerprint = new RunningEventsFingerprint(
+                buffer.getLong(16), buffer.getLong(24), buffer.getLong(32), buffer.getLong(40));
+        long count = fingerprint.getCount();
+        long heapLength = buffer.getLong(48);
+        if (count < 0 || heapLength < 0 || HEADER_BYTES + count * ROW_BYTES + heapLength != buffer.capacity()) {
+            throw new IOException("Truncated running event snapshot: " + file);
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(HEADER_BYTES, buffer.capacity() - HEADER_BYTES));
+        if (crc.getValue() != buffer.getLong(56)) {
+            throw new IOException("Corrupt running event snapshot: " + file);
+        }
+        return new Snapshot(fingerprint, buffer.getLong(8), buffer);
+    }
+
+    /**
+     * The string heap being written; each distinct string is stored once.
+     */
+    private static class Heap {
+
+        private final Map<String, Reference> references = new HashMap<>();
+        private ByteBuffer bytes = ByteBuffer.allocate(64 * 1024);
+
+        /**
+         * Stores the string if it is new and writes its offset and length to the row.
+         */
+        void add(ByteBuffer row, String value) {
+            if (value == null) {
+                row.putInt(0).putInt(NULL_LENGTH);
+                return;
+            }
+            Reference reference = references.get(value);
+            if (reference == null) {
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                ensureCapacity(encoded.length);
+                reference = new Reference(bytes.position(), encoded.length);
+                bytes.put(encoded);
+                references.put(value, reference);
+            }
+            row.putInt(reference.offset()).putInt(reference.length());
+        }
+
+        ByteBuffer bytes() {
+            return bytes.duplicate().flip();
+        }
+
+        private void ensureCapacity(int length) {
+            if (bytes.remaining() >= length) {
+                return;
+            }
+            long needed = (long) bytes.position() + length;
+            if (needed > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Running events are too large for a snapshot");
+            }
+            int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(needed, 2L * bytes.capacity()));
+            bytes = ByteBuffer.allocate(capacity).put(bytes.flip());
+        }
+
+        private record Reference(int offset, int length) {}
+    }
+}
@@ -0,0 +1,22 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+/**
+ * The statements that lock a feed for a sync (see V8__Create_running_event_source_table.sql), shared by
+ * all adapters. Both are plain SQL so that they run through JDBC and as native JPA queries alike.
+ */
+final class RunningEventSourceSql {
+
+    /**
+     * Adds the row of a feed unless it is already there. If two transactions add the same feed at once,
+     * the primary key fails the later one.
+     */
+    static final String REGISTER = "INSERT INTO running_event_source (source) SELECT CAST(:source AS VARCHAR(100)) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM running_event_source WHERE source = :source)";
+
+    /**
+     * Locks the row of a feed until the transaction ends.
+     */
+    static final String LOCK = "SELECT source FROM running_event_source WHERE source = :source FOR UPDATE";
+
+    private RunningEventSourceSql() {}
+}
@@ -0,0 +1,90 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.interview.runningevents.application.model.SourceEventState;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+/**
+ * The pieces of SQL shared by the adapters that write their own statements: the event columns, the row
+ * mappers and the builders for the date range, seek and ordering clauses of the listing queries.
+ */
+final class RunningEventSql {
+
+    static final String COLUMNS = "id, name, date_time, location, description, further_information, version";
+
+    static final RowMapper<RunningEvent> EVENT_ROW_MAPPER = (rs, rowNum) -> new RunningEvent(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getLong("date_time"),
+            rs.getString("location"),
+            rs.getString("description"),
+            rs.getString("further_information"),
+            rs.getLong("version"));
+
+    static final RowMapper<SourceEventState> SOURCE_STATE_ROW_MAPPER = (rs, rowNum) -> new SourceEventState(
+            rs.getLong("id"), rs.getString("source_key"), rs.getString("content_hash"), rs.getLong("version"));
+
+    private RunningEventSql() {}
+
+    /**
+     * Builds the WHERE clause for an optional date range and adds its bind values to params.
+     * Each bound is applied on its own so that either can be answered by a range scan on the date_time index.
+     */
+    static String dateRangeWhere(Long fromDate, Long toDate, List<Object> params) {
+        List<String> conditions = new ArrayList<>(2);
+        if (fromDate != null) {
+            conditions.add("date_time >= ?");
+            params.add(fromDate);
+        }
+        if (toDate != null) {
+            conditions.add("date_time <= ?");
+            params.add(toDate);
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    /**
+     * Builds the seek predicate for the events after a keyset position and adds its bind values to params.
+     * For non-ID sort fields it is written as {@code key >= k AND (key > k OR id > i)}, so that the leading
+     * bound can be answered by a range scan on the sort column index.
+     */
+    static String seek(
+            String sortField, Sort.Direction direction, Comparable<?> sortKey, Long lastId, List<Object> params) {
+        String sortColumn = column(sortField);
+        String after = direction.isAscending() ? ">" : "<";
+        if ("id".equals(sortColumn)) {
+            params.add(lastId);
+            return "id " + after + " ?";
+        }
+        params.add(sortKey);
+        params.add(sortKey);
+        params.add(lastId);
+        return sortColumn + " " + after + "= ? AND (" + sortColumn + " " + after + " ? OR id " + after + " ?)";
+    }
+
+    /**
+     * Maps a sort attribute to its column; anything else is rejected, since the name ends up in the SQL.
+     */
+    static String column(String sortField) {
+        return switch (sortField) {
+            case "id" -> "id";
+            case "name" -> "name";
+            case "dateTime" -> "date_time";
+            default -> throw new IllegalArgumentException("Invalid sort field: " + sortField);
+        };
+    }
+
+    /**
+     * Orders by the sort column and then by ID, so rows with equal sort keys keep a stable order.
+     */
+    static String orderBy(String sortField, Sort.Direction direction) {
+        String sortColumn = column(sortField);
+        String dir = direction.isAscending() ? "ASC" : "DESC";
+        return "id".equals(sortColumn) ? " ORDER BY id " + dir : " ORDER BY " + sortColumn + " " + dir + ", id " + dir;
+    }
+}
@@ -0,0 +1,16 @@
+package com.interview.runningevents.infrastructure.web;
+
+/**
+ * Exception thrown when a request to an administration endpoint does not carry the admin token.
+ */
+public class AdminAuthenticationException extends RuntimeException {
+
+    /**
+     * Creates a new AdminAuthenticationException with the specified message.
+     *
+     * @param message The error message
+     */
+    public AdminAuthenticationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,134 @@
+package com.interview.runningevents.infrastructure.web;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.infrastructure.persistence.H2DatabaseBackups;
+import com.interview.runningevents.infrastructure.web.dto.BackupResponseDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * REST controller for taking online backups of the database.
+ * Only available when running-events.backup.enabled is true, and only to requests that carry the admin
+ * token from running-events.backup.admin-token as a bearer token; without a configured token every
+ * request is refused.
+ */
+@RestController
+@RequestMapping("/api/admin")
+@Tag(name = "Administration", description = "API for operating the service")
+@ConditionalOnProperty(name = "running-events.backup.enabled", havingValue = "true")
+public class DatabaseBackupController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseBackupController.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final H2DatabaseBackups backups;
+    private final byte[] adminToken;
+
+    /**
+     * Creates a new DatabaseBackupController with the required dependencies.
+     *
+     * @param backups The backups of the database
+     * @param adminToken The token administration requests must present; blank refuses all requests
+     */
+    public DatabaseBackupController(
+            H2DatabaseBackups backups, @Value("${running-events.backup.admin-token:}") String adminToken) {
+        this.backups = backups;
+        this.adminToken = adminToken.isBlank() ? null : adminToken.getBytes(StandardCharsets.UTF_8);
+        if (this.adminToken == null) {
+            logger.warn("No running-events.backup.admin-token is set; backup requests will be refused");
+        }
+    }
+
+    /**
+     * Takes a backup of the whole database while the service keeps running.
+     *
+     * @param authorization The Authorization header, which must hold the admin token as a bearer token
+     * @param format The kind of backup, script (default) or backup
+     * @return HTTP 201 Created with the name and size of the backup file
+     */
+    @PostMapping("/backups")
+    @Operation(
+            summary = "Take an online backup of the database",
+            description = "Writes the backup to the backup directory of the server. The script format is a "
+                    + "gzip-compressed SQL script that can be restored on startup; the backup format is a zip "
+                    + "of the database file and needs a file-backed database. Requires the admin token as a "
+                    + "bearer token; one backup is written at a time.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "201",
+                        description = "Backup written",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = BackupResponseDTO.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Unknown format, or the backup format for an in-memory database",
+                        content = @Content),
+                @ApiResponse(responseCode = "401", description = "Missing or wrong admin token", content = @Content),
+                @ApiResponse(responseCode = "409", description = "Another backup is being written", content = @Content)
+            })
+    public ResponseEntity<BackupResponseDTO> createBackup(
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false)
+                    String authorization,
+            @Parameter(description = "Kind of backup: script or backup", example = "script")
+                    @RequestParam(defaultValue = "script")
+                    String format) {
+        requireAdmin(authorization);
+        H2DatabaseBackups.Backup backup = backups.backup(parseFormat(format));
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(BackupResponseDTO.builder()
+                        .file(backup.file().getFileName().toString())
+                        .format(backup.format().name().toLowerCase(Locale.ROOT))
+                        .size(backup.size())
+                        .durationMillis(backup.durationMillis())
+                        .build());
+    }
+
+    /**
+     * Checks the bearer token in constant time, so the comparison does not reveal how much of it matched.
+     */
+    private void requireAdmin(String authorization) {
+        if (adminToken == null || authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new AdminAuthenticationException("Backups require the admin token");
+        }
+        byte[] presented = authorization.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(adminToken, presented)) {
+            throw new AdminAuthenticationException("Backups require the admin token");
+        }
+    }
+
+    private static H2DatabaseBackups.Format parseFormat(String format) {
+        return switch (format.toLowerCase(Locale.ROOT)) {
+            case "script" -> H2DatabaseBackups.Format.SCRIPT;
+            case "backup" -> H2DatabaseBackups.Format.BACKUP;
+            default -> throw new ValidationException("Format must be script or backup");
+        };
+    }
+}
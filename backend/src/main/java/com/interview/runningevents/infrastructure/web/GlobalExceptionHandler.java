@@ -3,6 +3,11 @@ package com.interview.runningevents.infrastructure.web;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -18,7 +23,9 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import com.interview.runningevents.application.exception.RunningEventNotFoundException;
+import com.interview.runningevents.application.exception.RunningEventVersionConflictException;
 import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.infrastructure.persistence.BackupInProgressException;
 import com.interview.runningevents.infrastructure.web.dto.ErrorResponseDTO;
 
 /**
@@ -52,6 +59,28 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles RunningEventVersionConflictException.
+     * Returns HTTP 412 Precondition Failed.
+     *
+     * @param ex The exception
+     * @param request The web request
+     * @return Error response with 412 status
+     */
+    @ExceptionHandler(RunningEventVersionConflictException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRunningEventVersionConflictException(
+            RunningEventVersionConflictException ex, WebRequest request) {
+
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.builder()
+                .status(HttpStatus.PRECONDITION_FAILED.value())
+                .error(HttpStatus.PRECONDITION_FAILED.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(extractPath(request))
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
     /**
      * Handles ValidationException.
      * Returns HTTP 400 Bad Request.
@@ -73,6 +102,80 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles AdminAuthenticationException.
+     * Returns HTTP 401 Unauthorized with a bearer challenge.
+     *
+     * @param ex The exception
+     * @param request The web request
+     * @return Error response with 401 status
+     */
+    @ExceptionHandler(AdminAuthenticationException.class)
+    public ResponseEntity<ErrorResponseDTO> handleAdminAuthenticationException(
+            AdminAuthenticationException ex, WebRequest request) {
+
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.builder()
+                .status(HttpStatus.UNAUTHORIZED.value())
+                .error(HttpStatus.UNAUTHORIZED.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(extractPath(request))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles BackupInProgressException.
+     * Returns HTTP 409 Conflict.
+     *
+     * @param ex The exception
+     * @param request The web request
+     * @return Error response with 409 status
+     */
+    @ExceptionHandler(BackupInProgressException.class)
+    public ResponseEntity<ErrorResponseDTO> handleBackupInProgressException(
+            BackupInProgressException ex, WebRequest request) {
+
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .error(HttpStatus.CONFLICT.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(extractPath(request))
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles writes that lost a race against a concurrent write: a row whose version moved on, a key
+     * that another transaction stored first, or a lock that another transaction held for too long.
+     * The request can be retried against the new state.
+     * Returns HTTP 409 Conflict; the database message is logged, not returned.
+     *
+     * @param ex The exception
+     * @param request The web request
+     * @return Error response with 409 status
+     */
+    @ExceptionHandler({
+        OptimisticLockingFailureException.class,
+        PessimisticLockingFailureException.class,
+        DataIntegrityViolationException.class
+    })
+    public ResponseEntity<ErrorResponseDTO> handleConcurrentWriteConflict(DataAccessException ex, WebRequest request) {
+        logger.warn("Write conflicted with a concurrent change: {}", ex.getMessage());
+
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .error(HttpStatus.CONFLICT.getReasonPhrase())
+                .message("The data was changed by a concurrent request; retry the request")
+                .path(extractPath(request))
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * Handles MethodArgumentNotValidException for @Valid annotation validation failures.
      * Returns HTTP 400 Bad Request with field-specific validation errors.
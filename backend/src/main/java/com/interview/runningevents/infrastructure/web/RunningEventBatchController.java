@@ -0,0 +1,129 @@
+package com.interview.runningevents.infrastructure.web;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.model.BatchItemResult;
+import com.interview.runningevents.application.port.in.CreateRunningEventsBatchUseCase;
+import com.interview.runningevents.domain.model.RunningEvent;
+import com.interview.runningevents.infrastructure.web.dto.BatchCreateResponseDTO;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventRequestDTO;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * REST controller for bulk operations on running events.
+ */
+@RestController
+@RequestMapping("/api/events")
+@Tag(name = "Running Events", description = "API for managing running events")
+public class RunningEventBatchController {
+
+    private final CreateRunningEventsBatchUseCase createRunningEventsBatchUseCase;
+    private final RunningEventDTOMapper dtoMapper;
+    private final RunningEventRequestValidator requestValidator;
+    private final int maxItems;
+
+    /**
+     * Creates a new RunningEventBatchController with the required dependencies.
+     *
+     * @param createRunningEventsBatchUseCase Use case for creating running events in bulk
+     * @param dtoMapper                       Mapper for converting between domain objects and DTOs
+     * @param requestValidator                Validator used to check each item on its own
+     * @param maxItems                        The largest number of events accepted in one request
+     */
+    public RunningEventBatchController(
+            CreateRunningEventsBatchUseCase createRunningEventsBatchUseCase,
+            RunningEventDTOMapper dtoMapper,
+            RunningEventRequestValidator requestValidator,
+            @Value("${running-events.batch.max-items:1000}") int maxItems) {
+        if (maxItems <= 0) {
+            throw new IllegalArgumentException("Batch max items must be greater than zero");
+        }
+        this.createRunningEventsBatchUseCase = createRunningEventsBatchUseCase;
+        this.dtoMapper = dtoMapper;
+        this.requestValidator = requestValidator;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Creates many running events in one request.
+     * Each item is validated on its own; invalid items are reported in the response
+     * instead of failing the whole request. Requests with more than the configured number
+     * of items are rejected; larger loads go through the streamed import or file ingestion.
+     *
+     * @param requestDTOs The running events to create
+     * @return HTTP 200 OK with one result (ID or error) per submitted event
+     */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Create running events in bulk",
+            description = "Validates each event and creates the valid ones using batched inserts. "
+                    + "Returns the assigned ID or the validation error for every submitted event.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Batch processed; see the per-item results",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = BatchCreateResponseDTO.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Empty, oversized or malformed request body",
+                        content = @Content)
+            })
+    public ResponseEntity<BatchCreateResponseDTO> createRunningEvents(
+            @RequestBody List<RunningEventRequestDTO> requestDTOs) {
+        if (requestDTOs == null || requestDTOs.isEmpty()) {
+            throw new ValidationException("Batch must contain at least one event");
+        }
+        if (requestDTOs.size() > maxItems) {
+            throw new ValidationException("Batch cannot contain more than " + maxItems
+                    + " events; use POST /api/events/import or file ingestion for bulk loads");
+        }
+
+        BatchItemResult[] results = new BatchItemResult[requestDTOs.size()];
+        List<RunningEvent> validEvents = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+
+        // Validate each item on its own so that one bad item does not reject the whole batch
+        for (int i = 0; i < requestDTOs.size(); i++) {
+            String error = requestValidator.validationError(requestDTOs.get(i));
+            if (error != null) {
+                results[i] = BatchItemResult.failed(i, error);
+            } else {
+                validEvents.add(dtoMapper.toDomain(requestDTOs.get(i)));
+                validIndexes.add(i);
+            }
+        }
+
+        // Map the use case results back to the positions of the items in the request
+        if (!validEvents.isEmpty()) {
+            List<BatchItemResult> created = createRunningEventsBatchUseCase.createRunningEvents(validEvents);
+            for (int i = 0; i < created.size(); i++) {
+                int index = validIndexes.get(i);
+                BatchItemResult result = created.get(i);
+                results[index] = new BatchItemResult(index, result.getId(), result.getError());
+            }
+        }
+
+        return ResponseEntity.ok(dtoMapper.toBatchCreateResponseDTO(List.of(results)));
+    }
+}
@@ -1,8 +1,10 @@
 package com.interview.runningevents.infrastructure.web;
 
+import java.io.IOException;
 import java.net.URI;
-import java.util.Optional;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,12 +12,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.interview.runningevents.application.exception.RunningEventNotFoundException;
+import com.interview.runningevents.application.exception.RunningEventVersionConflictException;
 import com.interview.runningevents.application.model.PaginatedResult;
 import com.interview.runningevents.application.port.in.CreateRunningEventUseCase;
 import com.interview.runningevents.application.port.in.DeleteRunningEventUseCase;
@@ -23,11 +28,14 @@ import com.interview.runningevents.application.port.in.GetRunningEventUseCase;
 import com.interview.runningevents.application.port.in.ListRunningEventsUseCase;
 import com.interview.runningevents.application.port.in.UpdateRunningEventUseCase;
 import com.interview.runningevents.domain.model.RunningEvent;
+import com.interview.runningevents.infrastructure.web.cache.OffHeapResponseStore.StoredResponse;
+import com.interview.runningevents.infrastructure.web.cache.RunningEventResponseCache;
 import com.interview.runningevents.infrastructure.web.dto.PaginatedResponseDTO;
 import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
 import com.interview.runningevents.infrastructure.web.dto.RunningEventQueryDTO;
 import com.interview.runningevents.infrastructure.web.dto.RunningEventRequestDTO;
 import com.interview.runningevents.infrastructure.web.dto.RunningEventResponseDTO;
+import com.interview.runningevents.infrastructure.web.util.ETagConverter;
 import com.interview.runningevents.infrastructure.web.validation.DateValidator;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +45,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 /**
@@ -53,6 +62,7 @@ public class RunningEventController {
     private final UpdateRunningEventUseCase updateRunningEventUseCase;
     private final DeleteRunningEventUseCase deleteRunningEventUseCase;
     private final RunningEventDTOMapper dtoMapper;
+    private final RunningEventResponseCache responseCache;
 
     /**
      * Creates a new RunningEventController with the required dependencies.
@@ -63,6 +73,7 @@ public class RunningEventController {
      * @param updateRunningEventUseCase Use case for updating running events
      * @param deleteRunningEventUseCase Use case for deleting running events
      * @param dtoMapper                 Mapper for converting between domain objects and DTOs
+     * @param responseCache             Off-heap cache of serialized events
      */
     public RunningEventController(
             CreateRunningEventUseCase createRunningEventUseCase,
@@ -70,20 +81,22 @@ public class RunningEventController {
             ListRunningEventsUseCase listRunningEventsUseCase,
             UpdateRunningEventUseCase updateRunningEventUseCase,
             DeleteRunningEventUseCase deleteRunningEventUseCase,
-            RunningEventDTOMapper dtoMapper) {
+            RunningEventDTOMapper dtoMapper,
+            RunningEventResponseCache responseCache) {
         this.createRunningEventUseCase = createRunningEventUseCase;
         this.getRunningEventUseCase = getRunningEventUseCase;
         this.listRunningEventsUseCase = listRunningEventsUseCase;
         this.updateRunningEventUseCase = updateRunningEventUseCase;
         this.deleteRunningEventUseCase = deleteRunningEventUseCase;
         this.dtoMapper = dtoMapper;
+        this.responseCache = responseCache;
     }
 
     /**
      * Creates a new running event.
      *
      * @param requestDTO The running event data to create
-     * @return HTTP 201 Created with the created event data and location header
+     * @return HTTP 201 Created with the created event data, location header and ETag
      */
     @PostMapping
     @Operation(
@@ -121,16 +134,24 @@ public class RunningEventController {
                 .buildAndExpand(createdEvent.getId())
                 .toUri();
 
-        // Return 201 Created with the created event and location header
-        return ResponseEntity.created(location).body(responseDTO);
+        // Return 201 Created with the created event, location header and version
+        return ResponseEntity.created(location)
+                .eTag(ETagConverter.toETag(createdEvent.getVersion()))
+                .body(responseDTO);
     }
 
     /**
      * Retrieves a specific running event by its ID.
+     * A request whose If-None-Match matches the version of the event is answered with
+     * 304 Not Modified and no body. The rendered event (JSON, ETag and gzip variant) is kept
+     * in an off-heap cache, and later requests get its bytes written straight to the response.
      *
-     * @param id The ID of the running event to retrieve
-     * @return HTTP 200 OK with the event data
+     * @param id             The ID of the running event to retrieve
+     * @param acceptEncoding The Accept-Encoding header, used to choose the gzip variant
+     * @param webRequest     The current request, used to evaluate If-None-Match
+     * @param response       The response the rendered event is written to
      * @throws RunningEventNotFoundException If the event is not found
+     * @throws IOException If the body cannot be written to the response
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get a running event by ID", description = "Retrieves a specific running event by its ID")
@@ -143,19 +164,48 @@ public class RunningEventController {
                                 @Content(
                                         mediaType = "application/json",
                                         schema = @Schema(implementation = RunningEventResponseDTO.class))),
+                @ApiResponse(responseCode = "304", description = "Event not modified", content = @Content),
                 @ApiResponse(responseCode = "404", description = "Event not found", content = @Content)
             })
-    public ResponseEntity<RunningEventResponseDTO> getRunningEvent(
-            @Parameter(description = "ID of the running event to retrieve", required = true) @PathVariable Long id) {
-        RunningEvent event =
-                getRunningEventUseCase.getRunningEventById(id).orElseThrow(() -> new RunningEventNotFoundException(id));
+    public void getRunningEvent(
+            @Parameter(description = "ID of the running event to retrieve", required = true) @PathVariable Long id,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                    String acceptEncoding,
+            WebRequest webRequest,
+            HttpServletResponse response)
+            throws IOException {
+        boolean acceptGzip = responseCache.isGzipEnabled() && RunningEventResponseCache.acceptsGzip(acceptEncoding);
+        StoredResponse rendered = responseCache.get(id, acceptGzip);
+        if (rendered == null) {
+            // Take the stamp before loading, so a body loaded while the event changes is not cached
+            long stamp = responseCache.invalidationStamp(id);
+            RunningEvent event = getRunningEventUseCase
+                    .getRunningEventById(id)
+                    .orElseThrow(() -> new RunningEventNotFoundException(id));
+            rendered = responseCache.put(event.getVersion(), dtoMapper.toResponseDTO(event), stamp, acceptGzip);
+        }
 
-        RunningEventResponseDTO responseDTO = dtoMapper.toResponseDTO(event);
-        return ResponseEntity.ok(responseDTO);
+        if (responseCache.isGzipEnabled()) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        // Sets the ETag header and answers 304 if it matches If-None-Match
+        if (webRequest.checkNotModified(rendered.eTag())) {
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (rendered.gzipped()) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(rendered.body().length);
+        response.getOutputStream().write(rendered.body());
     }
 
     /**
      * Lists running events with optional filtering and pagination.
+     * The page's ETag is derived from the table-wide change token, so a request whose If-None-Match
+     * matches it is answered with 304 Not Modified without running the query.
      *
      * @param fromDate Optional minimum date for filtering events in format yyyy-MM-dd HH:mm
      * @param toDate   Optional maximum date for filtering events in format yyyy-MM-dd HH:mm
@@ -163,7 +213,10 @@ public class RunningEventController {
      * @param size     Page size (defaults to 20)
      * @param sortBy   Field to sort by (id, name, or dateTime; defaults to "dateTime")
      * @param sortDir  Sort direction ("ASC" or "DESC", defaults to "ASC")
-     * @return HTTP 200 OK with paginated list of events
+     * @param withTotals Whether to count the matching events (defaults to true)
+     * @param cursor   Optional keyset cursor from a previous page; when given, page is ignored
+     * @param webRequest The current request, used to evaluate If-None-Match
+     * @return HTTP 200 OK with paginated list of events, or HTTP 304 Not Modified
      */
     @GetMapping
     @Operation(
@@ -178,6 +231,7 @@ public class RunningEventController {
                                 @Content(
                                         mediaType = "application/json",
                                         schema = @Schema(implementation = PaginatedResponseDTO.class))),
+                @ApiResponse(responseCode = "304", description = "Events not modified", content = @Content),
                 @ApiResponse(responseCode = "400", description = "Invalid query parameters", content = @Content)
             })
     public ResponseEntity<PaginatedResponseDTO<RunningEventResponseDTO>> listRunningEvents(
@@ -195,7 +249,14 @@ public class RunningEventController {
                     String sortBy,
             @Parameter(description = "Sort direction (ASC or DESC)")
                     @RequestParam(required = false, defaultValue = "ASC")
-                    String sortDir) {
+                    String sortDir,
+            @Parameter(description = "Whether to include totalItems and totalPages (false skips the count query)")
+                    @RequestParam(required = false, defaultValue = "true")
+                    Boolean withTotals,
+            @Parameter(description = "Cursor from a previous page's nextCursor or prevCursor (replaces page)")
+                    @RequestParam(required = false)
+                    String cursor,
+            WebRequest webRequest) {
 
         // Validate query parameters
         QueryParamValidator.validateSortField(sortBy);
@@ -212,11 +273,19 @@ public class RunningEventController {
                 .pageSize(size)
                 .sortBy(sortBy)
                 .sortDirection(sortDir)
+                .withTotals(withTotals)
+                .cursor(cursor)
                 .build();
 
         // Convert to domain query model
         var queryModel = dtoMapper.toQueryModel(queryDTO);
 
+        // Answer repeated reads from the change token alone; this also sets the ETag of a full response
+        String eTag = ETagConverter.toListETag(listRunningEventsUseCase.getChangeToken(), queryModel);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         // Execute the query using the use case
         PaginatedResult<RunningEvent> result = listRunningEventsUseCase.listRunningEvents(queryModel);
 
@@ -230,9 +299,11 @@ public class RunningEventController {
      * Updates an existing running event.
      *
      * @param id         The ID of the running event to update
+     * @param ifMatch    Optional ETag of the version the update is based on
      * @param requestDTO The updated running event data
-     * @return HTTP 200 OK with the updated event data
+     * @return HTTP 200 OK with the updated event data and its new version as ETag
      * @throws RunningEventNotFoundException If the event is not found
+     * @throws RunningEventVersionConflictException If the event no longer matches the If-Match header
      */
     @PutMapping("/{id}")
     @Operation(
@@ -248,57 +319,74 @@ public class RunningEventController {
                                         mediaType = "application/json",
                                         schema = @Schema(implementation = RunningEventResponseDTO.class))),
                 @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
-                @ApiResponse(responseCode = "404", description = "Event not found", content = @Content)
+                @ApiResponse(responseCode = "404", description = "Event not found", content = @Content),
+                @ApiResponse(
+                        responseCode = "412",
+                        description = "Event was modified since the version given in If-Match",
+                        content = @Content)
             })
     public ResponseEntity<RunningEventResponseDTO> updateRunningEvent(
             @Parameter(description = "ID of the running event to update", required = true) @PathVariable Long id,
+            @Parameter(description = "ETag of the version the update is based on")
+                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                    String ifMatch,
             @Valid @RequestBody RunningEventRequestDTO requestDTO) {
 
         // Validate that the date is in the future
         DateValidator.validateFutureDate(requestDTO.getDateTime());
 
-        // First check if the event exists
-        getRunningEventUseCase.getRunningEventById(id).orElseThrow(() -> new RunningEventNotFoundException(id));
-
-        // Convert DTO to domain model and set the ID
+        // Convert DTO to domain model and set the ID and the expected version
         RunningEvent eventToUpdate = dtoMapper.toDomain(requestDTO);
         eventToUpdate.setId(id);
+        eventToUpdate.setVersion(ETagConverter.toExpectedVersion(ifMatch));
 
-        // Update the event using the use case
-        Optional<RunningEvent> updatedEventOptional = updateRunningEventUseCase.updateRunningEvent(eventToUpdate);
-
-        // This should never be empty since we checked existence above, but just to be safe
-        RunningEvent updatedEvent = updatedEventOptional.orElseThrow(() -> new RunningEventNotFoundException(id));
+        // Update the event using the use case; an empty result means no event has this ID
+        RunningEvent updatedEvent = updateRunningEventUseCase
+                .updateRunningEvent(eventToUpdate)
+                .orElseThrow(() -> new RunningEventNotFoundException(id));
+        responseCache.invalidate(id);
 
         // Convert updated domain model back to response DTO
         RunningEventResponseDTO responseDTO = dtoMapper.toResponseDTO(updatedEvent);
 
-        return ResponseEntity.ok(responseDTO);
+        return ResponseEntity.ok()
+                .eTag(ETagConverter.toETag(updatedEvent.getVersion()))
+                .body(responseDTO);
     }
 
     /**
      * Deletes a running event.
      *
-     * @param id The ID of the running event to delete
+     * @param id      The ID of the running event to delete
+     * @param ifMatch Optional ETag of the version the deletion is based on
      * @return HTTP 204 No Content on successful deletion
      * @throws RunningEventNotFoundException If the event is not found
+     * @throws RunningEventVersionConflictException If the event no longer matches the If-Match header
      */
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a running event", description = "Deletes a running event by its ID")
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "204", description = "Event deleted successfully", content = @Content),
-                @ApiResponse(responseCode = "404", description = "Event not found", content = @Content)
+                @ApiResponse(responseCode = "404", description = "Event not found", content = @Content),
+                @ApiResponse(
+                        responseCode = "412",
+                        description = "Event was modified since the version given in If-Match",
+                        content = @Content)
             })
     public ResponseEntity<Void> deleteRunningEvent(
-            @Parameter(description = "ID of the running event to delete", required = true) @PathVariable Long id) {
-        // Try to delete the event
-        boolean deleted = deleteRunningEventUseCase.deleteRunningEvent(id);
+            @Parameter(description = "ID of the running event to delete", required = true) @PathVariable Long id,
+            @Parameter(description = "ETag of the version the deletion is based on")
+                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                    String ifMatch) {
+        // Try to delete the event, conditioned on its version if If-Match was given
+        boolean deleted = deleteRunningEventUseCase.deleteRunningEvent(id, ETagConverter.toExpectedVersion(ifMatch));
 
         // If the deletion was not successful (event not found), throw an exception
         if (!deleted) {
             throw new RunningEventNotFoundException(id);
         }
+        responseCache.invalidate(id);
 
         // Return 204 No Content for successful deletion
         return ResponseEntity.noContent().build();
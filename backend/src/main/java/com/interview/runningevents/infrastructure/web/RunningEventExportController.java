@@ -0,0 +1,180 @@
+package com.interview.runningevents.infrastructure.web;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.port.in.ExportRunningEventsUseCase;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventResponseDTO;
+import com.interview.runningevents.infrastructure.web.util.DateTimeConverter;
+import com.interview.runningevents.infrastructure.web.validation.DateValidator;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * REST controller for exporting running events in bulk.
+ * The events are written to the response while they are read from the database, so the export
+ * of the whole table takes one request and constant memory instead of paging through the list endpoint.
+ */
+@RestController
+@RequestMapping("/api/events")
+@Tag(name = "Running Events", description = "API for managing running events")
+public class RunningEventExportController {
+
+    static final String NDJSON = "ndjson";
+    static final String CSV = "csv";
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    private static final String CSV_CONTENT_TYPE = "text/csv";
+    private static final String CSV_HEADER = "id,name,dateTime,location,description,furtherInformation";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportRunningEventsUseCase exportRunningEventsUseCase;
+    private final RunningEventDTOMapper dtoMapper;
+    private final ObjectWriter jsonWriter;
+
+    /**
+     * Creates a new RunningEventExportController with the required dependencies.
+     *
+     * @param exportRunningEventsUseCase Use case for exporting running events
+     * @param dtoMapper                  Mapper for converting domain objects to DTOs
+     * @param objectMapper               Mapper used to write each event as a JSON line
+     */
+    public RunningEventExportController(
+            ExportRunningEventsUseCase exportRunningEventsUseCase,
+            RunningEventDTOMapper dtoMapper,
+            ObjectMapper objectMapper) {
+        this.exportRunningEventsUseCase = exportRunningEventsUseCase;
+        this.dtoMapper = dtoMapper;
+        this.jsonWriter = objectMapper.writerFor(RunningEventResponseDTO.class);
+    }
+
+    /**
+     * Streams all running events, optionally within a date range, as NDJSON or CSV.
+     * Events are ordered by date and then by ID.
+     *
+     * @param format   The output format, ndjson (default) or csv
+     * @param fromDate Optional minimum date for filtering events in format yyyy-MM-dd HH:mm
+     * @param toDate   Optional maximum date for filtering events in format yyyy-MM-dd HH:mm
+     * @param response The response the events are written to
+     * @throws IOException If the events cannot be written to the response
+     */
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export running events",
+            description = "Streams all running events, optionally within a date range, as newline-delimited JSON "
+                    + "or CSV. Events are ordered by date and then by ID.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Events streamed successfully",
+                        content = {@Content(mediaType = NDJSON_CONTENT_TYPE), @Content(mediaType = CSV_CONTENT_TYPE)}),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Unknown format or invalid date range",
+                        content = @Content)
+            })
+    public void exportRunningEvents(
+            @Parameter(description = "Output format: ndjson or csv") @RequestParam(defaultValue = NDJSON) String format,
+            @Parameter(description = "Minimum date (yyyy-MM-ddTHH:mm) for filtering events")
+                    @RequestParam(required = false)
+                    String fromDate,
+            @Parameter(description = "Maximum date (yyyy-MM-ddTHH:mm) for filtering events")
+                    @RequestParam(required = false)
+                    String toDate,
+            HttpServletResponse response)
+            throws IOException {
+        String normalizedFormat = format.trim().toLowerCase(Locale.ROOT);
+        if (!NDJSON.equals(normalizedFormat) && !CSV.equals(normalizedFormat)) {
+            throw new ValidationException("Format must be one of: ndjson, csv");
+        }
+        DateValidator.validateDateRange(fromDate, toDate);
+        Long fromTimestamp = DateTimeConverter.toTimestamp(fromDate);
+        Long toTimestamp = DateTimeConverter.toTimestamp(toDate);
+
+        boolean csv = CSV.equals(normalizedFormat);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(csv ? CSV_CONTENT_TYPE : NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"running-events." + normalizedFormat + "\"");
+
+        // The buffer bounds what is held per request; it is flushed to the client whenever it fills up
+        OutputStream out = new BufferedOutputStream(response.getOutputStream(), BUFFER_SIZE);
+        if (csv) {
+            writeLine(out, CSV_HEADER);
+        }
+        try {
+            exportRunningEventsUseCase.exportRunningEvents(fromTimestamp, toTimestamp, event -> {
+                RunningEventResponseDTO dto = dtoMapper.toResponseDTO(event);
+                writeLine(out, csv ? toCsvRow(dto) : toJsonLine(dto));
+            });
+        } catch (UncheckedIOException e) {
+            // The client went away; there is nobody left to report the error to
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    private String toJsonLine(RunningEventResponseDTO dto) {
+        try {
+            return jsonWriter.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize running event " + dto.getId(), e);
+        }
+    }
+
+    private static String toCsvRow(RunningEventResponseDTO dto) {
+        return String.join(
+                ",",
+                String.valueOf(dto.getId()),
+                csvField(dto.getName()),
+                csvField(dto.getDateTime()),
+                csvField(dto.getLocation()),
+                csvField(dto.getDescription()),
+                csvField(dto.getFurtherInformation()));
+    }
+
+    /**
+     * Quotes a CSV field (RFC 4180) if it contains a separator, a quote or a line break.
+     */
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static void writeLine(OutputStream out, String line) {
+        try {
+            out.write(line.getBytes(StandardCharsets.UTF_8));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.interview.runningevents.infrastructure.web;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.model.ImportSummary;
+import com.interview.runningevents.application.port.in.ImportRunningEventsUseCase;
+import com.interview.runningevents.infrastructure.web.dto.ImportResponseDTO;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.importer.CsvImportRecordReader;
+import com.interview.runningevents.infrastructure.web.importer.ImportRecordReader;
+import com.interview.runningevents.infrastructure.web.importer.NdjsonImportRecordReader;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * REST controller for importing running events from a file.
+ * The request body is parsed while it is being uploaded, so files of any size are imported
+ * in bounded memory.
+ */
+@RestController
+@RequestMapping("/api/events")
+@Tag(name = "Running Events", description = "API for managing running events")
+public class RunningEventImportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private final ImportRunningEventsUseCase importRunningEventsUseCase;
+    private final RunningEventDTOMapper dtoMapper;
+    private final RunningEventRequestValidator requestValidator;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a new RunningEventImportController with the required dependencies.
+     *
+     * @param importRunningEventsUseCase Use case for importing running events
+     * @param dtoMapper                  Mapper for converting between domain objects and DTOs
+     * @param requestValidator           Validator used to check each record on its own
+     * @param objectMapper               Mapper used to parse NDJSON records
+     */
+    public RunningEventImportController(
+            ImportRunningEventsUseCase importRunningEventsUseCase,
+            RunningEventDTOMapper dtoMapper,
+            RunningEventRequestValidator requestValidator,
+            ObjectMapper objectMapper) {
+        this.importRunningEventsUseCase = importRunningEventsUseCase;
+        this.dtoMapper = dtoMapper;
+        this.requestValidator = requestValidator;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Imports running events from an NDJSON or CSV request body.
+     * Each record is validated on its own; valid records are committed in chunks and invalid ones
+     * are reported with their line number instead of failing the whole import.
+     *
+     * @param request The request whose body is the file to import
+     * @return HTTP 200 OK with the number of inserted and rejected records
+     * @throws IOException If the request body cannot be read
+     */
+    @PostMapping("/import")
+    @Operation(
+            summary = "Import running events",
+            description = "Streams newline-delimited JSON (application/x-ndjson) or CSV with a header line "
+                    + "(text/csv) into the calendar. Valid records are committed in chunks; rejected records "
+                    + "are reported with their line number.")
+    @RequestBody(
+            content = {
+                @Content(mediaType = "application/x-ndjson", schema = @Schema(type = "string")),
+                @Content(mediaType = "text/csv", schema = @Schema(type = "string"))
+            })
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Import processed; see the rejected records",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ImportResponseDTO.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Unsupported content type or invalid CSV header",
+                        content = @Content)
+            })
+    public ResponseEntity<ImportResponseDTO> importRunningEvents(HttpServletRequest request) throws IOException {
+        MediaType contentType = contentType(request);
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+
+        ImportSummary summary;
+        try {
+            ImportRecordReader reader = CSV.equalsTypeAndSubtype(contentType)
+                    ? new CsvImportRecordReader(request.getInputStream(), charset, requestValidator, dtoMapper)
+                    : new NdjsonImportRecordReader(
+                            request.getInputStream(), charset, objectMapper, requestValidator, dtoMapper);
+            summary = importRunningEventsUseCase.importRunningEvents(reader);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return ResponseEntity.ok(dtoMapper.toImportResponseDTO(summary));
+    }
+
+    private static MediaType contentType(HttpServletRequest request) {
+        try {
+            if (request.getContentType() != null) {
+                MediaType contentType = MediaType.parseMediaType(request.getContentType());
+                if (NDJSON.equalsTypeAndSubtype(contentType) || CSV.equalsTypeAndSubtype(contentType)) {
+                    return contentType;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            // Reported as unsupported below
+        }
+        throw new ValidationException("Content-Type must be application/x-ndjson or text/csv");
+    }
+}
@@ -0,0 +1,158 @@
+package com.interview.runningevents.infrastructure.web;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.model.SourcedRunningEvent;
+import com.interview.runningevents.application.model.SyncResult;
+import com.interview.runningevents.application.port.in.SyncRunningEventsUseCase;
+import com.interview.runningevents.infrastructure.web.cache.RunningEventResponseCache;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.dto.SyncEventRequestDTO;
+import com.interview.runningevents.infrastructure.web.dto.SyncResponseDTO;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * REST controller for syncing the events of organizer feeds.
+ */
+@RestController
+@RequestMapping("/api/events")
+@Tag(name = "Running Events", description = "API for managing running events")
+public class RunningEventSyncController {
+
+    private static final Pattern SOURCE_PATTERN = Pattern.compile("^[A-Za-z0-9._-]{1,100}$");
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    private final SyncRunningEventsUseCase syncRunningEventsUseCase;
+    private final RunningEventDTOMapper dtoMapper;
+    private final RunningEventRequestValidator requestValidator;
+    private final RunningEventResponseCache responseCache;
+
+    /**
+     * Creates a new RunningEventSyncController with the required dependencies.
+     *
+     * @param syncRunningEventsUseCase Use case for syncing the events of a feed
+     * @param dtoMapper                Mapper for converting between domain objects and DTOs
+     * @param requestValidator         Validator used to check each event on its own
+     * @param responseCache            Cache of rendered events, cleared for the changed events
+     */
+    public RunningEventSyncController(
+            SyncRunningEventsUseCase syncRunningEventsUseCase,
+            RunningEventDTOMapper dtoMapper,
+            RunningEventRequestValidator requestValidator,
+            RunningEventResponseCache responseCache) {
+        this.syncRunningEventsUseCase = syncRunningEventsUseCase;
+        this.dtoMapper = dtoMapper;
+        this.requestValidator = requestValidator;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Replaces the events of a feed with the submitted complete set.
+     * Only the difference to the stored events of the feed is written. The request is rejected as a whole
+     * if any event is invalid, since leaving the event out would delete its stored copy. Events may lie in
+     * the past.
+     *
+     * @param source The name of the feed
+     * @param requestDTOs The complete set of events of the feed
+     * @return HTTP 200 OK with the number of inserted, updated, deleted and unchanged events
+     */
+    @PutMapping("/sync/{source}")
+    @Operation(
+            summary = "Sync the events of an organizer feed",
+            description = "Takes the complete set of events of a feed, each with a key that is stable across "
+                    + "syncs, and applies only the inserts, updates and deletes needed to match it. "
+                    + "Events created through the other endpoints are never touched.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Feed synced",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = SyncResponseDTO.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Invalid feed name, key or event; nothing was changed",
+                        content = @Content)
+            })
+    public ResponseEntity<SyncResponseDTO> syncRunningEvents(
+            @Parameter(description = "Name of the feed (letters, digits, '.', '_' and '-')", example = "city-runs")
+                    @PathVariable
+                    String source,
+            @RequestBody List<SyncEventRequestDTO> requestDTOs) {
+        if (!SOURCE_PATTERN.matcher(source).matches()) {
+            throw new ValidationException("Source must be 1 to 100 letters, digits, '.', '_' or '-' characters");
+        }
+        if (requestDTOs == null) {
+            throw new ValidationException("Sync must contain the list of events");
+        }
+
+        List<String> errors = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+        List<SourcedRunningEvent> events = new ArrayList<>(requestDTOs.size());
+        for (int i = 0; i < requestDTOs.size(); i++) {
+            String error = validationError(requestDTOs.get(i), keys);
+            if (error != null) {
+                errors.add("item " + i + ": " + error);
+            } else if (errors.isEmpty()) {
+                SyncEventRequestDTO requestDTO = requestDTOs.get(i);
+                events.add(SourcedRunningEvent.builder()
+                        .sourceKey(requestDTO.getKey())
+                        .event(dtoMapper.toDomain(requestDTO.getEvent()))
+                        .build());
+            }
+        }
+        if (!errors.isEmpty()) {
+            String message = String.join("; ", errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS)));
+            if (errors.size() > MAX_REPORTED_ERRORS) {
+                message += "; and " + (errors.size() - MAX_REPORTED_ERRORS) + " more";
+            }
+            throw new ValidationException("Sync rejected: " + message);
+        }
+
+        SyncResult result = syncRunningEventsUseCase.syncRunningEvents(source, events);
+        result.getChangedIds().forEach(responseCache::invalidate);
+
+        return ResponseEntity.ok(dtoMapper.toSyncResponseDTO(result));
+    }
+
+    private String validationError(SyncEventRequestDTO requestDTO, Set<String> keys) {
+        if (requestDTO == null) {
+            return "Running event cannot be null";
+        }
+        String key = requestDTO.getKey();
+        if (key == null || key.isBlank()) {
+            return "key: Key is required";
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return "key: Key must be at most " + MAX_KEY_LENGTH + " characters";
+        }
+        if (!keys.add(key)) {
+            return "key: Key " + key + " is used more than once";
+        }
+        // A feed is the complete calendar and keeps its past events, which must not be deleted for that
+        return requestValidator.validationError(requestDTO.getEvent(), false);
+    }
+}
@@ -0,0 +1,251 @@
+package com.interview.runningevents.infrastructure.web.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Stores serialized response bodies outside the Java heap.
+ * Bodies are appended to direct {@link ByteBuffer} slabs of a fixed size, optionally followed by their
+ * gzip variant; only a small index entry per key, holding the precomputed ETag, lives on the heap.
+ * Once all slabs are allocated, the oldest slab is recycled as a whole and the bodies stored in it
+ * are dropped, so the store never grows beyond its capacity.
+ * Reads take no lock: they copy the body optimistically and discard the copy if its slab was recycled
+ * in the meantime. Each slab lists the keys stored in it, so recycling it only visits those index entries.
+ */
+public class OffHeapResponseStore {
+
+    // Invalidation counters by key stripe; an invalidation only fails the puts of keys in its stripe
+    private static final int STAMP_STRIPES = 64;
+
+    private final int slabSize;
+    private final int maxSlabs;
+    private final ConcurrentMap<Long, Entry> index = new ConcurrentHashMap<>();
+    private final AtomicLongArray invalidations = new AtomicLongArray(STAMP_STRIPES);
+
+    // Guards slab allocation, appends and invalidations
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<Slab> slabs = new ArrayList<>();
+    private int activeSlab = -1;
+
+    /**
+     * Creates a new OffHeapResponseStore. Slabs are allocated on demand.
+     *
+     * @param capacity The maximum number of bytes held off-heap
+     * @param slabSize The size of one slab, which also bounds the size of a body and its gzip variant
+     */
+    public OffHeapResponseStore(long capacity, int slabSize) {
+        if (slabSize <= 0 || capacity < slabSize) {
+            throw new IllegalArgumentException("Off-heap capacity must hold at least one slab");
+        }
+        this.slabSize = slabSize;
+        this.maxSlabs = (int) Math.min(Integer.MAX_VALUE, capacity / slabSize);
+    }
+
+    /**
+     * Returns a copy of the body stored for a key.
+     *
+     * @param key The key of the body
+     * @param gzip Whether the gzip variant is preferred, if one is stored
+     * @return The stored body and its ETag, or null if nothing is stored for the key
+     */
+    public StoredResponse get(Long key, boolean gzip) {
+        Entry entry = index.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        boolean gzipped = gzip && entry.gzipLength() > 0;
+        int offset = gzipped ? entry.offset() + entry.length() : entry.offset();
+        byte[] body = new byte[gzipped ? entry.gzipLength() : entry.length()];
+
+        Slab slab = entry.slab();
+        long stamp = slab.lock.tryOptimisticRead();
+        if (stamp == 0) {
+            return null;
+        }
+        if (slab.generation != entry.generation()) {
+            // The slab was recycled since the body was stored; the entry is dropped here instead
+            index.remove(key, entry);
+            return null;
+        }
+        slab.buffer.get(offset, body);
+        if (!slab.lock.validate(stamp)) {
+            // The slab was recycled while copying, so the copy may be torn
+            return null;
+        }
+        return new StoredResponse(body, entry.eTag(), gzipped);
+    }
+
+    /**
+     * Returns the current invalidation stamp of a key. Pass it to {@link #put} to store a body only if the
+     * key was not invalidated between reading the data and storing its body. Keys share stamps in stripes,
+     * so an invalidation of another key in the same stripe also fails the put.
+     *
+     * @param key The key of the body
+     * @return The number of invalidations of the key's stripe so far
+     */
+    public long invalidationStamp(Long key) {
+        return invalidations.get(stripe(key));
+    }
+
+    /**
+     * Stores the body for a key, replacing any body stored before.
+     *
+     * @param key The key of the body
+     * @param eTag The ETag of the data the body was serialized from
+     * @param body The serialized body
+     * @param gzipBody The gzip variant of the body, or null if there is none
+     * @param stamp The invalidation stamp of the key, read before the data was loaded
+     * @return true if the body was stored, false if it is too large or the key was invalidated since the stamp
+     */
+    public boolean put(Long key, String eTag, byte[] body, byte[] gzipBody, long stamp) {
+        int gzipLength = gzipBody != null ? gzipBody.length : 0;
+        if ((long) body.length + gzipLength > slabSize) {
+            return false;
+        }
+
+        writeLock.lock();
+        try {
+            if (invalidations.get(stripe(key)) != stamp) {
+                return false;
+            }
+            Slab slab = slabWithRoomFor(body.length + gzipLength);
+            int offset = slab.position;
+            slab.buffer.put(offset, body);
+            if (gzipBody != null) {
+                slab.buffer.put(offset + body.length, gzipBody);
+            }
+            slab.position += body.length + gzipLength;
+            slab.keys.add(key);
+            // Publishing the entry through the map makes the written bytes visible to readers
+            index.put(key, new Entry(slab, slab.generation, offset, body.length, gzipLength, eTag));
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the body stored for a key and makes puts based on earlier stamps of the key fail.
+     *
+     * @param key The key of the body
+     */
+    public void invalidate(Long key) {
+        writeLock.lock();
+        try {
+            invalidations.incrementAndGet(stripe(key));
+            index.remove(key);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Drops all stored bodies. The slabs stay allocated and are reused.
+     */
+    public void clear() {
+        writeLock.lock();
+        try {
+            for (int stripe = 0; stripe < STAMP_STRIPES; stripe++) {
+                invalidations.incrementAndGet(stripe);
+            }
+            index.clear();
+            for (Slab slab : slabs) {
+                reset(slab);
+            }
+            activeSlab = slabs.isEmpty() ? -1 : 0;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of stored bodies
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * @return The number of off-heap bytes allocated for slabs
+     */
+    public long allocatedBytes() {
+        writeLock.lock();
+        try {
+            return (long) slabs.size() * slabSize;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Finds room for a body: the active slab if it has room, otherwise a new slab while the capacity
+     * allows it, otherwise the oldest slab, which is emptied first. Called with the write lock held.
+     */
+    private Slab slabWithRoomFor(int length) {
+        if (activeSlab >= 0 && slabs.get(activeSlab).position + length <= slabSize) {
+            return slabs.get(activeSlab);
+        }
+
+        if (slabs.size() < maxSlabs) {
+            slabs.add(new Slab(ByteBuffer.allocateDirect(slabSize)));
+            activeSlab = slabs.size() - 1;
+            return slabs.get(activeSlab);
+        }
+
+        activeSlab = (activeSlab + 1) % slabs.size();
+        Slab oldest = slabs.get(activeSlab);
+        // Drop the entries still pointing into the slab; keys stored again elsewhere keep their new entries
+        for (Long key : oldest.keys) {
+            index.computeIfPresent(key, (k, entry) -> entry.slab() == oldest ? null : entry);
+        }
+        reset(oldest);
+        return oldest;
+    }
+
+    private static int stripe(Long key) {
+        return Long.hashCode(key) & (STAMP_STRIPES - 1);
+    }
+
+    private static void reset(Slab slab) {
+        long stamp = slab.lock.writeLock();
+        try {
+            slab.generation++;
+            slab.position = 0;
+            slab.keys.clear();
+        } finally {
+            slab.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * A stored body together with the ETag of the data it was serialized from.
+     *
+     * @param body The serialized body
+     * @param eTag The ETag of the data
+     * @param gzipped Whether the body is the gzip variant
+     */
+    public record StoredResponse(byte[] body, String eTag, boolean gzipped) {}
+
+    private record Entry(Slab slab, int generation, int offset, int length, int gzipLength, String eTag) {}
+
+    private static final class Slab {
+
+        private final ByteBuffer buffer;
+        private final StampedLock lock = new StampedLock();
+        // Keys stored in the slab since it was last reset; guarded by the store's write lock
+        private final List<Long> keys = new ArrayList<>();
+        private int generation;
+        private int position;
+
+        private Slab(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
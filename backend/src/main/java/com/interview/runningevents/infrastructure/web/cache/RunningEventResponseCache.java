@@ -0,0 +1,182 @@
+package com.interview.runningevents.infrastructure.web.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.runningevents.infrastructure.web.cache.OffHeapResponseStore.StoredResponse;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventResponseDTO;
+import com.interview.runningevents.infrastructure.web.util.ETagConverter;
+
+/**
+ * Off-heap tier for the JSON bodies of single running events, keyed by event ID.
+ * A body is rendered once per event version, together with its ETag and, if enabled, a gzip variant.
+ * Later requests get the stored bytes as they are, so they neither build a DTO nor serialize or
+ * compress it again. The bodies live in direct memory (see {@link OffHeapResponseStore}), so a large
+ * calendar can be kept without adding to the heap the garbage collector has to scan.
+ * Requests handled inside a transaction bypass the tier, as they may see uncommitted writes.
+ */
+@Component
+public class RunningEventResponseCache {
+
+    private final boolean enabled;
+    private final boolean gzipEnabled;
+    private final int gzipMinSize;
+    private final OffHeapResponseStore store;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a new RunningEventResponseCache.
+     *
+     * @param enabled Whether bodies are cached at all
+     * @param capacity The maximum amount of direct memory used for bodies
+     * @param slabSize The size of one direct memory slab
+     * @param gzipEnabled Whether a gzip variant is rendered for clients accepting it
+     * @param gzipMinSize The smallest body that is worth compressing
+     * @param objectMapper The mapper used to serialize the response bodies
+     */
+    public RunningEventResponseCache(
+            @Value("${running-events.cache.off-heap.enabled:true}") boolean enabled,
+            @Value("${running-events.cache.off-heap.capacity:256MB}") DataSize capacity,
+            @Value("${running-events.cache.off-heap.slab-size:16MB}") DataSize slabSize,
+            @Value("${running-events.cache.off-heap.gzip.enabled:true}") boolean gzipEnabled,
+            @Value("${running-events.cache.off-heap.gzip.min-size:256B}") DataSize gzipMinSize,
+            ObjectMapper objectMapper) {
+        this.enabled = enabled;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinSize = Math.toIntExact(gzipMinSize.toBytes());
+        this.store = new OffHeapResponseStore(capacity.toBytes(), Math.toIntExact(slabSize.toBytes()));
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the cached body of an event.
+     *
+     * @param id The ID of the event
+     * @param acceptGzip Whether the client accepts a gzip encoded body
+     * @return The body and the ETag of the event, or null if the body is not cached
+     */
+    public StoredResponse get(Long id, boolean acceptGzip) {
+        if (!isUsable()) {
+            return null;
+        }
+        return store.get(id, acceptGzip);
+    }
+
+    /**
+     * Returns the stamp to pass to {@link #put} for an event about to be loaded.
+     *
+     * @param id The ID of the event
+     * @return The current invalidation stamp of the event
+     */
+    public long invalidationStamp(Long id) {
+        return store.invalidationStamp(id);
+    }
+
+    /**
+     * Renders an event and caches the body, unless the event was invalidated since the stamp was taken.
+     *
+     * @param version The version of the event
+     * @param responseDTO The event to serialize
+     * @param stamp The stamp taken before the event was loaded
+     * @param acceptGzip Whether the client accepts a gzip encoded body
+     * @return The rendered body for this client and the ETag of the event
+     */
+    public StoredResponse put(Long version, RunningEventResponseDTO responseDTO, long stamp, boolean acceptGzip) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(responseDTO);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize running event " + responseDTO.getId(), e);
+        }
+        byte[] gzipBody = gzipEnabled && body.length >= gzipMinSize ? gzip(body) : null;
+        String eTag = ETagConverter.toETag(version);
+
+        if (isUsable()) {
+            store.put(responseDTO.getId(), eTag, body, gzipBody, stamp);
+        }
+        return acceptGzip && gzipBody != null
+                ? new StoredResponse(gzipBody, eTag, true)
+                : new StoredResponse(body, eTag, false);
+    }
+
+    /**
+     * Drops the cached body of an event. Called after the event was updated or deleted.
+     *
+     * @param id The ID of the event
+     */
+    public void invalidate(Long id) {
+        store.invalidate(id);
+    }
+
+    /**
+     * Drops all cached bodies.
+     */
+    public void clear() {
+        store.clear();
+    }
+
+    /**
+     * @return Whether responses may be gzip encoded, so they vary by Accept-Encoding
+     */
+    public boolean isGzipEnabled() {
+        return gzipEnabled;
+    }
+
+    /**
+     * Checks whether an Accept-Encoding header allows a gzip encoded body.
+     *
+     * @param acceptEncoding The Accept-Encoding header, may be null
+     * @return true if gzip (or any encoding) is listed and not refused with q=0
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        // An explicit gzip entry wins over the wildcard
+        Boolean gzip = null;
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            boolean accepted = true;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().toLowerCase();
+                if (parameter.startsWith("q=")) {
+                    accepted = !parameter.substring(2).matches("0(\\.0{0,3})?");
+                }
+            }
+            if (name.equalsIgnoreCase("gzip")) {
+                gzip = accepted;
+            } else if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return gzip != null ? gzip : wildcard;
+    }
+
+    private boolean isUsable() {
+        return enabled && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] gzipBody = compressed.toByteArray();
+        // Keep the variant only if it actually saves bytes
+        return gzipBody.length < body.length ? gzipBody : null;
+    }
+}
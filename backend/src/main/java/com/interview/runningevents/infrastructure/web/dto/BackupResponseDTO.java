@@ -0,0 +1,32 @@
+package com.interview.runningevents.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the response of a backup request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of a backup request")
+public class BackupResponseDTO {
+
+    @Schema(
+            description = "Name of the backup file in the backup directory",
+            example = "runningeventsdb-20300510T090000000Z.sql.gz")
+    private String file;
+
+    @Schema(description = "Kind of backup", example = "script")
+    private String format;
+
+    @Schema(description = "Size of the backup file in bytes", example = "1048576")
+    private long size;
+
+    @Schema(description = "How long the backup took in milliseconds", example = "850")
+    private long durationMillis;
+}
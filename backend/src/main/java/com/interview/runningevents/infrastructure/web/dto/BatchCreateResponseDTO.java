@@ -0,0 +1,29 @@
+package com.interview.runningevents.infrastructure.web.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the response of a batch create request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of a batch create request")
+public class BatchCreateResponseDTO {
+
+    @Schema(description = "Number of events created", example = "998")
+    private int created;
+
+    @Schema(description = "Number of events rejected or not stored", example = "2")
+    private int failed;
+
+    @Schema(description = "One result per submitted event, in request order")
+    private List<BatchItemResultDTO> items;
+}
@@ -0,0 +1,27 @@
+package com.interview.runningevents.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the outcome of one item of a batch request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of one item of a batch request")
+public class BatchItemResultDTO {
+
+    @Schema(description = "Position of the item in the request (0-based)", example = "0")
+    private int index;
+
+    @Schema(description = "ID assigned to the created event; null if the item failed", example = "42")
+    private Long id;
+
+    @Schema(description = "Reason the item failed; null if it was created", example = "Name is required")
+    private String error;
+}
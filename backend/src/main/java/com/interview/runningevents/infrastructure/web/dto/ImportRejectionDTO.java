@@ -0,0 +1,24 @@
+package com.interview.runningevents.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a record of an import that was rejected.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A rejected record of an import")
+public class ImportRejectionDTO {
+
+    @Schema(description = "Line of the file the record starts on (1-based)", example = "17")
+    private long line;
+
+    @Schema(description = "Reason the record was rejected", example = "name: Name is required")
+    private String error;
+}
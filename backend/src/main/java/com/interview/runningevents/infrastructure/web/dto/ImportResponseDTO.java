@@ -0,0 +1,32 @@
+package com.interview.runningevents.infrastructure.web.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the response of an import request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of an import request")
+public class ImportResponseDTO {
+
+    @Schema(description = "Number of events inserted", example = "249998")
+    private long inserted;
+
+    @Schema(description = "Number of records rejected or not stored", example = "2")
+    private long rejected;
+
+    @Schema(description = "The rejected records, ordered by line number")
+    private List<ImportRejectionDTO> rejections;
+
+    @Schema(description = "Whether more records were rejected than are listed in rejections", example = "false")
+    private boolean rejectionsTruncated;
+}
@@ -27,9 +27,9 @@ public class PaginatedResponseDTO<T> {
     private List<T> items;
 
     /**
-     * The total number of items across all pages.
+     * The total number of items across all pages, or -1 if not counted.
      */
-    @Schema(description = "Total number of items across all pages", example = "42")
+    @Schema(description = "Total number of items across all pages, or -1 if not counted", example = "42")
     private long totalItems;
 
     /**
@@ -45,9 +45,9 @@ public class PaginatedResponseDTO<T> {
     private int pageSize;
 
     /**
-     * The total number of pages.
+     * The total number of pages, or -1 if not counted.
      */
-    @Schema(description = "Total number of pages", example = "3")
+    @Schema(description = "Total number of pages, or -1 if not counted", example = "3")
     private int totalPages;
 
     /**
@@ -61,4 +61,16 @@ public class PaginatedResponseDTO<T> {
      */
     @Schema(description = "Whether there is a next page", example = "true")
     private boolean hasNext;
+
+    /**
+     * Cursor for fetching the next page, if there is one.
+     */
+    @Schema(description = "Cursor for fetching the next page, null on the last page")
+    private String nextCursor;
+
+    /**
+     * Cursor for fetching the previous page, if there is one.
+     */
+    @Schema(description = "Cursor for fetching the previous page, null on the first page")
+    private String prevCursor;
 }
@@ -5,9 +5,14 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.model.BatchItemResult;
+import com.interview.runningevents.application.model.ImportSummary;
+import com.interview.runningevents.application.model.PageCursor;
 import com.interview.runningevents.application.model.PaginatedResult;
 import com.interview.runningevents.application.model.RunningEventQuery;
 import com.interview.runningevents.application.model.SortDirection;
+import com.interview.runningevents.application.model.SyncResult;
 import com.interview.runningevents.domain.model.RunningEvent;
 import com.interview.runningevents.infrastructure.web.util.DateTimeConverter;
 
@@ -122,14 +127,23 @@ public class RunningEventDTOMapper {
 
         // Parse the sort direction string to enum
         SortDirection sortDirection = SortDirection.fromString(queryDTO.getSortDirection());
+        String sortBy = queryDTO.getSortBy() != null ? queryDTO.getSortBy() : "dateTime";
+
+        // A cursor can only continue the ordering it was taken from
+        PageCursor cursor = PageCursor.decode(queryDTO.getCursor());
+        if (cursor != null && !cursor.matches(sortBy, sortDirection)) {
+            throw new ValidationException("Cursor does not match the requested sort order");
+        }
 
         return RunningEventQuery.builder()
                 .fromDate(fromTimestamp)
                 .toDate(toTimestamp)
                 .page(queryDTO.getPage() != null ? queryDTO.getPage() : 0)
                 .pageSize(queryDTO.getPageSize() != null ? queryDTO.getPageSize() : 20)
-                .sortBy(queryDTO.getSortBy() != null ? queryDTO.getSortBy() : "dateTime")
+                .sortBy(sortBy)
                 .sortDirection(sortDirection)
+                .withTotals(queryDTO.getWithTotals() == null || queryDTO.getWithTotals())
+                .cursor(cursor)
                 .build();
     }
 
@@ -155,6 +169,84 @@ public class RunningEventDTOMapper {
                 .totalPages(paginatedResult.getTotalPages())
                 .hasPrevious(paginatedResult.isHasPrevious())
                 .hasNext(paginatedResult.isHasNext())
+                .nextCursor(encodeCursor(paginatedResult.getNextCursor()))
+                .prevCursor(encodeCursor(paginatedResult.getPrevCursor()))
+                .build();
+    }
+
+    private String encodeCursor(PageCursor cursor) {
+        return cursor != null ? cursor.encode() : null;
+    }
+
+    /**
+     * Converts the per-item results of a batch create into a BatchCreateResponseDTO.
+     *
+     * @param results The results, one per submitted event
+     * @return The corresponding DTO for API responses
+     */
+    public BatchCreateResponseDTO toBatchCreateResponseDTO(List<BatchItemResult> results) {
+        if (results == null) {
+            return null;
+        }
+
+        List<BatchItemResultDTO> items = results.stream()
+                .map(result -> BatchItemResultDTO.builder()
+                        .index(result.getIndex())
+                        .id(result.getId())
+                        .error(result.getError())
+                        .build())
+                .collect(Collectors.toList());
+        int created = (int) results.stream().filter(BatchItemResult::isSuccess).count();
+
+        return BatchCreateResponseDTO.builder()
+                .created(created)
+                .failed(results.size() - created)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * Converts the summary of an import into an ImportResponseDTO.
+     *
+     * @param summary The summary of the import
+     * @return The corresponding DTO for API responses
+     */
+    public ImportResponseDTO toImportResponseDTO(ImportSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        List<ImportRejectionDTO> rejections = summary.getRejectedRecords().stream()
+                .map(record -> ImportRejectionDTO.builder()
+                        .line(record.getLineNumber())
+                        .error(record.getError())
+                        .build())
+                .collect(Collectors.toList());
+
+        return ImportResponseDTO.builder()
+                .inserted(summary.getInserted())
+                .rejected(summary.getRejected())
+                .rejections(rejections)
+                .rejectionsTruncated(summary.isRejectedRecordsTruncated())
+                .build();
+    }
+
+    /**
+     * Converts the result of a sync into a SyncResponseDTO.
+     *
+     * @param result The result of the sync
+     * @return The corresponding DTO for API responses
+     */
+    public SyncResponseDTO toSyncResponseDTO(SyncResult result) {
+        if (result == null) {
+            return null;
+        }
+
+        return SyncResponseDTO.builder()
+                .inserted(result.getInserted())
+                .updated(result.getUpdated())
+                .deleted(result.getDeleted())
+                .unchanged(result.getUnchanged())
                 .build();
     }
 }
@@ -64,4 +64,20 @@ public class RunningEventQueryDTO {
             allowableValues = {"ASC", "DESC"},
             defaultValue = "ASC")
     private String sortDirection = "ASC";
+
+    /**
+     * Whether to include totalItems and totalPages in the response.
+     */
+    @Builder.Default
+    @Schema(
+            description = "Whether to count the matching events; false skips the count query",
+            example = "true",
+            defaultValue = "true")
+    private Boolean withTotals = true;
+
+    /**
+     * Opaque keyset cursor returned as nextCursor or prevCursor by a previous listing.
+     */
+    @Schema(description = "Cursor from a previous page's nextCursor or prevCursor; when set, page is ignored")
+    private String cursor;
 }
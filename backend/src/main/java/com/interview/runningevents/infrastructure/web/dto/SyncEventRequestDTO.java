@@ -0,0 +1,30 @@
+package com.interview.runningevents.infrastructure.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one event of a synced feed: the fields of a create request plus the key the feed gives the event.
+ * The event fields are written next to the key, not nested.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Running event of an organizer feed")
+public class SyncEventRequestDTO {
+
+    @Schema(
+            description = "Key of the event within the feed; stable across syncs",
+            example = "spring-marathon-2025",
+            required = true)
+    private String key;
+
+    @JsonUnwrapped
+    private RunningEventRequestDTO event;
+}
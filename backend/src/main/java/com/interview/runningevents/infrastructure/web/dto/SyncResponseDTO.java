@@ -0,0 +1,30 @@
+package com.interview.runningevents.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the response of a sync request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of a sync request")
+public class SyncResponseDTO {
+
+    @Schema(description = "Number of events that were new in the feed", example = "12")
+    private long inserted;
+
+    @Schema(description = "Number of events whose fields changed", example = "30")
+    private long updated;
+
+    @Schema(description = "Number of events no longer in the feed", example = "3")
+    private long deleted;
+
+    @Schema(description = "Number of events left as they were", example = "2955")
+    private long unchanged;
+}
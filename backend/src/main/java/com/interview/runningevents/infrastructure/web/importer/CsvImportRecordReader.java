@@ -0,0 +1,225 @@
+package com.interview.runningevents.infrastructure.web.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventRequestDTO;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+/**
+ * Reads CSV (RFC 4180) with a header line naming the columns.
+ * The name, dateTime and location columns are required; description and furtherInformation are optional
+ * and other columns, such as the id column of an export, are ignored. Quoted fields may span lines.
+ */
+public class CsvImportRecordReader extends ImportRecordReader {
+
+    private static final String NAME = "name";
+    private static final String DATE_TIME = "datetime";
+    private static final String LOCATION = "location";
+    private static final String DESCRIPTION = "description";
+    private static final String FURTHER_INFORMATION = "furtherinformation";
+
+    private final Header header;
+
+    /**
+     * Creates a new CsvImportRecordReader and reads the header line.
+     *
+     * @param input The uploaded file
+     * @param charset The charset of the file
+     * @param requestValidator Validator applied to each record
+     * @param dtoMapper Mapper for converting valid records to domain objects
+     * @throws ValidationException If the header is missing or lacks a required column
+     * @throws UncheckedIOException If the header cannot be read
+     */
+    public CsvImportRecordReader(
+            InputStream input,
+            Charset charset,
+            RunningEventRequestValidator requestValidator,
+            RunningEventDTOMapper dtoMapper) {
+        super(input, charset, requestValidator, dtoMapper);
+        this.header = parseHeader(readHeaderLine());
+    }
+
+    /**
+     * Creates a new CsvImportRecordReader for a part of a file whose header was read separately.
+     *
+     * @param input The part of the file, starting at the beginning of a record
+     * @param charset The charset of the file
+     * @param header The header of the file
+     * @param firstLineNumber The number of the first line of the part within the file (1-based)
+     * @param requestValidator Validator applied to each record
+     * @param dtoMapper Mapper for converting valid records to domain objects
+     */
+    public CsvImportRecordReader(
+            InputStream input,
+            Charset charset,
+            Header header,
+            long firstLineNumber,
+            RunningEventRequestValidator requestValidator,
+            RunningEventDTOMapper dtoMapper) {
+        super(input, charset, firstLineNumber, requestValidator, dtoMapper);
+        this.header = header;
+    }
+
+    /**
+     * Parses a header line.
+     *
+     * @param line The header line, possibly starting with a byte order mark
+     * @return The positions of the columns
+     * @throws ValidationException If the line is not a valid header or lacks a required column
+     */
+    public static Header parseHeader(String line) {
+        // Drop a byte order mark written by spreadsheet applications
+        if (line.startsWith("\uFEFF")) {
+            line = line.substring(1);
+        }
+        List<String> fields = parseFields(line);
+        if (fields == null) {
+            throw new ValidationException("CSV header contains an unterminated quoted field");
+        }
+        List<String> columns = fields.stream()
+                .map(field -> field.trim().toLowerCase(Locale.ROOT))
+                .toList();
+
+        return new Header(
+                columns.size(),
+                requiredColumn(columns, NAME),
+                requiredColumn(columns, DATE_TIME),
+                requiredColumn(columns, LOCATION),
+                columns.indexOf(DESCRIPTION),
+                columns.indexOf(FURTHER_INFORMATION));
+    }
+
+    @Override
+    protected ImportRecord readRecord() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            long recordLine = getLineNumber();
+            if (isLineTooLong()) {
+                return ImportRecord.rejected(recordLine, "Line exceeds " + MAX_LINE_LENGTH + " characters");
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+
+            // A quoted field that is still open at the end of the line continues on the next one
+            StringBuilder record = new StringBuilder(line);
+            List<String> fields;
+            while ((fields = parseFields(record)) == null) {
+                String continuation = readLine();
+                if (continuation == null) {
+                    return ImportRecord.rejected(recordLine, "Unterminated quoted field");
+                }
+                if (isLineTooLong() || record.length() + continuation.length() >= MAX_LINE_LENGTH) {
+                    return ImportRecord.rejected(recordLine, "Record exceeds " + MAX_LINE_LENGTH + " characters");
+                }
+                record.append('\n').append(continuation);
+            }
+
+            if (fields.size() != header.columnCount()) {
+                return ImportRecord.rejected(
+                        recordLine, "Expected " + header.columnCount() + " fields but found " + fields.size());
+            }
+            return toImportRecord(recordLine, toRequestDTO(fields));
+        }
+        return null;
+    }
+
+    private RunningEventRequestDTO toRequestDTO(List<String> fields) {
+        return RunningEventRequestDTO.builder()
+                .name(fields.get(header.nameColumn()))
+                .dateTime(fields.get(header.dateTimeColumn()))
+                .location(fields.get(header.locationColumn()))
+                .description(optionalField(fields, header.descriptionColumn()))
+                .furtherInformation(optionalField(fields, header.furtherInformationColumn()))
+                .build();
+    }
+
+    private String readHeaderLine() {
+        String line;
+        try {
+            do {
+                line = readLine();
+            } while (line != null && line.isBlank() && !isLineTooLong());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (line == null || isLineTooLong()) {
+            throw new ValidationException("CSV must start with a header line");
+        }
+        return line;
+    }
+
+    private static int requiredColumn(List<String> header, String column) {
+        int index = header.indexOf(column);
+        if (index < 0) {
+            throw new ValidationException(
+                    "CSV header must contain the columns name, dateTime and location; missing: " + column);
+        }
+        return index;
+    }
+
+    private static String optionalField(List<String> fields, int column) {
+        if (column < 0 || fields.get(column).isEmpty()) {
+            return null;
+        }
+        return fields.get(column);
+    }
+
+    /**
+     * Splits a record into its fields. Quoted fields may contain separators, line breaks and
+     * doubled quotes.
+     *
+     * @return The fields, or null if the record ends inside a quoted field
+     */
+    static List<String> parseFields(CharSequence record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = record.length();
+        for (int i = 0; i < length; i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < length && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * The positions of the columns named in the header line; optional columns that are absent are -1.
+     */
+    public record Header(
+            int columnCount,
+            int nameColumn,
+            int dateTimeColumn,
+            int locationColumn,
+            int descriptionColumn,
+            int furtherInformationColumn) {}
+}
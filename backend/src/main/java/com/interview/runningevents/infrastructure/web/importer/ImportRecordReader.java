@@ -0,0 +1,200 @@
+package com.interview.runningevents.infrastructure.web.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventRequestDTO;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+/**
+ * Reads import records lazily from an uploaded file, one record per call to {@link #next()}.
+ * Only the current line is held in memory, and lines longer than {@link #MAX_LINE_LENGTH} are
+ * skipped rather than buffered, so a file of any size is read in bounded memory.
+ * Each record is validated like a single created event; invalid ones are returned as rejected.
+ * I/O errors are thrown as {@link UncheckedIOException}.
+ */
+public abstract class ImportRecordReader implements Iterator<ImportRecord> {
+
+    /**
+     * The longest line that is read; longer lines are rejected.
+     */
+    public static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber;
+    private boolean lineTooLong;
+
+    private final RunningEventRequestValidator requestValidator;
+    private final RunningEventDTOMapper dtoMapper;
+    private ImportRecord next;
+    private boolean exhausted;
+
+    /**
+     * Creates a new ImportRecordReader.
+     *
+     * @param input The uploaded file
+     * @param charset The charset of the file
+     * @param requestValidator Validator applied to each record
+     * @param dtoMapper Mapper for converting valid records to domain objects
+     */
+    protected ImportRecordReader(
+            InputStream input,
+            Charset charset,
+            RunningEventRequestValidator requestValidator,
+            RunningEventDTOMapper dtoMapper) {
+        this(input, charset, 1, requestValidator, dtoMapper);
+    }
+
+    /**
+     * Creates a new ImportRecordReader for a part of a file.
+     *
+     * @param input The part of the file, starting at the beginning of a line
+     * @param charset The charset of the file
+     * @param firstLineNumber The number of the first line of the part within the file (1-based)
+     * @param requestValidator Validator applied to each record
+     * @param dtoMapper Mapper for converting valid records to domain objects
+     */
+    protected ImportRecordReader(
+            InputStream input,
+            Charset charset,
+            long firstLineNumber,
+            RunningEventRequestValidator requestValidator,
+            RunningEventDTOMapper dtoMapper) {
+        this.reader = new InputStreamReader(input, charset);
+        this.lineNumber = firstLineNumber - 1;
+        this.requestValidator = requestValidator;
+        this.dtoMapper = dtoMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !exhausted) {
+            try {
+                next = readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            exhausted = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportRecord record = next;
+        next = null;
+        return record;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return The next record, or null at the end of the file
+     * @throws IOException If the file cannot be read
+     */
+    protected abstract ImportRecord readRecord() throws IOException;
+
+    /**
+     * Reads the next line without its line terminator (\n or \r\n).
+     * If the line is longer than {@link #MAX_LINE_LENGTH}, its content is skipped, an empty string
+     * is returned and {@link #isLineTooLong()} is true.
+     *
+     * @return The line, or null at the end of the file
+     * @throws IOException If the file cannot be read
+     */
+    protected String readLine() throws IOException {
+        line.setLength(0);
+        lineTooLong = false;
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                position = 0;
+                if (limit == 0) {
+                    if (!read) {
+                        return null;
+                    }
+                    break;
+                }
+            }
+            read = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            append(start, position - start);
+            if (position < limit) {
+                // Skip the line feed
+                position++;
+                break;
+            }
+        }
+
+        lineNumber++;
+        if (lineTooLong) {
+            return "";
+        }
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+
+    /**
+     * @return The number of the line returned by the last call to {@link #readLine()} (1-based)
+     */
+    protected long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return Whether the line returned by the last call to {@link #readLine()} was too long
+     */
+    protected boolean isLineTooLong() {
+        return lineTooLong;
+    }
+
+    /**
+     * Validates a parsed record and converts it to a running event.
+     *
+     * @param lineNumber The line the record starts on
+     * @param requestDTO The parsed record, may be null
+     * @return The parsed running event, or a rejected record with the validation error
+     */
+    protected ImportRecord toImportRecord(long lineNumber, RunningEventRequestDTO requestDTO) {
+        String error = requestValidator.validationError(requestDTO);
+        if (error != null) {
+            return ImportRecord.rejected(lineNumber, error);
+        }
+        return ImportRecord.parsed(lineNumber, dtoMapper.toDomain(requestDTO));
+    }
+
+    private void append(int start, int count) {
+        if (lineTooLong) {
+            return;
+        }
+        if (line.length() + count > MAX_LINE_LENGTH + 1) {
+            // One extra character leaves room for the carriage return of a \r\n terminator
+            lineTooLong = true;
+            line.setLength(0);
+            return;
+        }
+        line.append(buffer, start, count);
+    }
+}
@@ -0,0 +1,87 @@
+package com.interview.runningevents.infrastructure.web.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventRequestDTO;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+/**
+ * Reads newline-delimited JSON: one running event object per line, in the format of the create request.
+ * Blank lines are skipped.
+ */
+public class NdjsonImportRecordReader extends ImportRecordReader {
+
+    private final ObjectReader jsonReader;
+
+    /**
+     * Creates a new NdjsonImportRecordReader.
+     *
+     * @param input The uploaded file
+     * @param charset The charset of the file
+     * @param objectMapper Mapper used to parse each line
+     * @param requestValidator Validator applied to each record
+     * @param dtoMapper Mapper for converting valid records to domain objects
+     */
+    public NdjsonImportRecordReader(
+            InputStream input,
+            Charset charset,
+            ObjectMapper objectMapper,
+            RunningEventRequestValidator requestValidator,
+            RunningEventDTOMapper dtoMapper) {
+        this(input, charset, 1, objectMapper, requestValidator, dtoMapper);
+    }
+
+    /**
+     * Creates a new NdjsonImportRecordReader for a part of a file.
+     *
+     * @param input The part of the file, starting at the beginning of a line
+     * @param charset The charset of the file
+     * @param firstLineNumber The number of the first line of the part within the file (1-based)
+     * @param objectMapper Mapper used to parse each line
+     * @param requestValidator Validator applied to each record
+     * @param dtoMapper Mapper for converting valid records to domain objects
+     */
+    public NdjsonImportRecordReader(
+            InputStream input,
+            Charset charset,
+            long firstLineNumber,
+            ObjectMapper objectMapper,
+            RunningEventRequestValidator requestValidator,
+            RunningEventDTOMapper dtoMapper) {
+        super(input, charset, firstLineNumber, requestValidator, dtoMapper);
+        // Other fields, such as the id of an exported event, are ignored
+        this.jsonReader = objectMapper
+                .readerFor(RunningEventRequestDTO.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    protected ImportRecord readRecord() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            if (isLineTooLong()) {
+                return ImportRecord.rejected(getLineNumber(), "Line exceeds " + MAX_LINE_LENGTH + " characters");
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+
+            RunningEventRequestDTO requestDTO;
+            try {
+                requestDTO = jsonReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                return ImportRecord.rejected(getLineNumber(), "Malformed JSON: " + e.getOriginalMessage());
+            }
+            return toImportRecord(getLineNumber(), requestDTO);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,95 @@
+package com.interview.runningevents.infrastructure.web.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import com.interview.runningevents.application.exception.RunningEventVersionConflictException;
+import com.interview.runningevents.application.model.RunningEventQuery;
+
+/**
+ * Utility class for converting between running event versions and strong HTTP entity tags.
+ * The entity tag of an event is its version in quotes, e.g. {@code "3"}.
+ */
+public class ETagConverter {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * Converts a version to a strong entity tag.
+     *
+     * @param version The version of the running event
+     * @return The quoted entity tag, or null if the version is null
+     */
+    public static String toETag(Long version) {
+        if (version == null) {
+            return null;
+        }
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Builds the entity tag of a list page from the change token of the running events and the query.
+     * The tag stays the same as long as no running event changes, so a repeated read can be answered
+     * with 304 Not Modified without running the query.
+     * The query is written out with every parameter that shapes the page, with the defaults filled in,
+     * and hashed with SHA-256 truncated to 128 bits, so different queries do not share a tag in practice.
+     *
+     * @param changeToken The current change token of the running events
+     * @param query The normalized query the page was requested with
+     * @return The quoted entity tag
+     */
+    public static String toListETag(String changeToken, RunningEventQuery query) {
+        String normalized = String.join(
+                "|",
+                String.valueOf(query.getFromDate()),
+                String.valueOf(query.getToDate()),
+                String.valueOf(query.getPage()),
+                String.valueOf(query.getPageSize()),
+                String.valueOf(query.getSortBy()),
+                String.valueOf(query.getSortDirection()),
+                String.valueOf(query.isWithTotals()),
+                query.getCursor() != null ? query.getCursor().encode() : "");
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        byte[] hash = digest.digest(normalized.getBytes(StandardCharsets.UTF_8));
+        return "\"" + changeToken + "-" + HexFormat.of().formatHex(Arrays.copyOf(hash, 16)) + "\"";
+    }
+
+    /**
+     * Converts the value of an If-Match header to the version a write is conditioned on.
+     * Only a single strong entity tag is supported; weak, malformed or multiple tags can never
+     * match a version and are rejected as a failed precondition.
+     *
+     * @param ifMatch The If-Match header value
+     * @return The expected version, or null if the header is absent or "*" (no version condition)
+     * @throws RunningEventVersionConflictException if the header cannot match any version
+     */
+    public static Long toExpectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().isEmpty()) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (ANY.equals(tag)) {
+            return null;
+        }
+
+        if (!tag.startsWith(WEAK_PREFIX) && tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Fall through to the precondition failure below
+            }
+        }
+        throw new RunningEventVersionConflictException("If-Match does not match the current version: " + ifMatch);
+    }
+}
@@ -15,14 +15,7 @@ public class DateValidator {
      * @throws ValidationException if the date is invalid or in the past
      */
     public static void validateFutureDate(String dateString) {
-        if (dateString == null || dateString.trim().isEmpty()) {
-            throw new ValidationException("Date and time is required");
-        }
-
-        if (!DateTimeConverter.isValidDateFormat(dateString)) {
-            throw new ValidationException(
-                    "Invalid date format. Expected format: yyyy-MM-ddTHH:mm (e.g. 2025-04-30T14:30)");
-        }
+        validateDate(dateString);
 
         // Convert to timestamp
         Long timestamp = DateTimeConverter.toTimestamp(dateString);
@@ -34,28 +27,45 @@ public class DateValidator {
     }
 
     /**
-     * Validates that fromDate is before toDate if both are provided.
+     * Validates if a date string is present and in the correct format, in the past or in the future.
+     *
+     * @param dateString The date string to validate
+     * @throws ValidationException if the date is missing or invalid
+     */
+    public static void validateDate(String dateString) {
+        if (dateString == null || dateString.trim().isEmpty()) {
+            throw new ValidationException("Date and time is required");
+        }
+
+        if (!DateTimeConverter.isValidDateFormat(dateString)) {
+            throw new ValidationException(
+                    "Invalid date format. Expected format: yyyy-MM-ddTHH:mm (e.g. 2025-04-30T14:30)");
+        }
+    }
+
+    /**
+     * Validates the format of each date bound that is provided, and that fromDate is not after toDate
+     * if both are provided. Either bound may be given on its own to filter a half-open range.
      *
      * @param fromDateString The from date string
      * @param toDateString The to date string
-     * @throws ValidationException if fromDate is after toDate
+     * @throws ValidationException if a provided date has an invalid format or fromDate is after toDate
      */
     public static void validateDateRange(String fromDateString, String toDateString) {
-        if (fromDateString != null
-                && !fromDateString.trim().isEmpty()
-                && toDateString != null
-                && !toDateString.trim().isEmpty()) {
+        boolean hasFromDate = fromDateString != null && !fromDateString.trim().isEmpty();
+        boolean hasToDate = toDateString != null && !toDateString.trim().isEmpty();
 
-            if (!DateTimeConverter.isValidDateFormat(fromDateString)) {
-                throw new ValidationException(
-                        "Invalid fromDate format. Expected format: yyyy-MM-ddTHH:mm (e.g. 2025-04-30T14:30)");
-            }
+        if (hasFromDate && !DateTimeConverter.isValidDateFormat(fromDateString)) {
+            throw new ValidationException(
+                    "Invalid fromDate format. Expected format: yyyy-MM-ddTHH:mm (e.g. 2025-04-30T14:30)");
+        }
 
-            if (!DateTimeConverter.isValidDateFormat(toDateString)) {
-                throw new ValidationException(
-                        "Invalid toDate format. Expected format: yyyy-MM-ddTHH:mm (e.g. 2025-04-30T14:30)");
-            }
+        if (hasToDate && !DateTimeConverter.isValidDateFormat(toDateString)) {
+            throw new ValidationException(
+                    "Invalid toDate format. Expected format: yyyy-MM-ddTHH:mm (e.g. 2025-04-30T14:30)");
+        }
 
+        if (hasFromDate && hasToDate) {
             Long fromTimestamp = DateTimeConverter.toTimestamp(fromDateString);
             Long toTimestamp = DateTimeConverter.toTimestamp(toDateString);
 
@@ -0,0 +1,76 @@
+package com.interview.runningevents.infrastructure.web.validation;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventRequestDTO;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Validates single running events submitted as part of a larger request, such as a batch or an import.
+ * Applies the same checks as the single create endpoint, but reports the outcome instead of failing
+ * the whole request.
+ */
+@Component
+public class RunningEventRequestValidator {
+
+    private final Validator validator;
+
+    /**
+     * Creates a new RunningEventRequestValidator.
+     *
+     * @param validator Bean validator used to check the constraints of the request DTO
+     */
+    public RunningEventRequestValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * Validates one running event.
+     *
+     * @param requestDTO The running event to validate, may be null
+     * @return The validation error, or null if the running event is valid
+     */
+    public String validationError(RunningEventRequestDTO requestDTO) {
+        return validationError(requestDTO, true);
+    }
+
+    /**
+     * Validates one running event, optionally accepting a date in the past.
+     *
+     * @param requestDTO The running event to validate, may be null
+     * @param futureDate Whether the event must take place in the future
+     * @return The validation error, or null if the running event is valid
+     */
+    public String validationError(RunningEventRequestDTO requestDTO, boolean futureDate) {
+        if (requestDTO == null) {
+            return "Running event cannot be null";
+        }
+
+        Set<ConstraintViolation<RunningEventRequestDTO>> violations = validator.validate(requestDTO);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .sorted(Comparator.comparing(
+                            violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining("; "));
+        }
+
+        try {
+            if (futureDate) {
+                DateValidator.validateFutureDate(requestDTO.getDateTime());
+            } else {
+                DateValidator.validateDate(requestDTO.getDateTime());
+            }
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+}
@@ -1,25 +1,172 @@
 -- Drop table if exists to ensure clean state
 DROP TABLE IF EXISTS running_event;
+DROP TABLE IF EXISTS ingestion_checkpoint;
+DROP TABLE IF EXISTS running_event_source;
+DROP TABLE IF EXISTS running_event_directory;
+DROP TABLE IF EXISTS running_event_y2025;
+DROP TABLE IF EXISTS running_event_y2026;
+DROP TABLE IF EXISTS running_event_y2027;
+DROP TABLE IF EXISTS running_event_y2028;
+DROP TABLE IF EXISTS running_event_y2029;
+DROP TABLE IF EXISTS running_event_y2030;
+DROP TABLE IF EXISTS running_event_default;
+DROP SEQUENCE IF EXISTS running_event_seq;
+
+-- IDs are allocated in blocks of 50 from this sequence (see RunningEventEntity).
+-- It starts after the IDs of the sample data below.
+CREATE SEQUENCE running_event_seq START WITH 4 INCREMENT BY 50;
 
 -- Create running_event table
 CREATE TABLE running_event (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR running_event_seq PRIMARY KEY,
     name VARCHAR(100) NOT NULL,
     date_time BIGINT NOT NULL,
     location VARCHAR(255) NOT NULL,
     description VARCHAR(1000),
-    further_information VARCHAR(1000)
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    source VARCHAR(100),
+    source_key VARCHAR(255),
+    content_hash VARCHAR(64)
+);
+
+-- Indexes in listing order, ascending and descending (see V7__Index_running_event_by_date_time_and_id.sql)
+CREATE INDEX idx_running_event_date_time_id ON running_event(date_time, id);
+CREATE INDEX idx_running_event_date_time_id_desc ON running_event(date_time DESC, id DESC);
+CREATE UNIQUE INDEX idx_running_event_source_key ON running_event(source, source_key);
+
+-- Tables of the partitioned adapter, empty (see db/partitioned/V7_1__Partition_running_event_by_year.sql)
+CREATE TABLE running_event_directory (
+    id BIGINT PRIMARY KEY,
+    partition_year INT NOT NULL,
+    source VARCHAR(100),
+    source_key VARCHAR(255),
+    content_hash VARCHAR(64)
 );
 
--- Create index on date_time column for efficient querying by date
-CREATE INDEX idx_running_event_date_time ON running_event(date_time);
+CREATE UNIQUE INDEX idx_running_event_directory_source_key ON running_event_directory(source, source_key);
+
+CREATE TABLE running_event_y2025 (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT ck_running_event_y2025_date_time CHECK (date_time >= 1735689600000 AND date_time < 1767225600000)
+);
+
+CREATE INDEX idx_running_event_y2025_date_time_id ON running_event_y2025(date_time, id);
+CREATE INDEX idx_running_event_y2025_date_time_id_desc ON running_event_y2025(date_time DESC, id DESC);
+
+CREATE TABLE running_event_y2026 (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT ck_running_event_y2026_date_time CHECK (date_time >= 1767225600000 AND date_time < 1798761600000)
+);
+
+CREATE INDEX idx_running_event_y2026_date_time_id ON running_event_y2026(date_time, id);
+CREATE INDEX idx_running_event_y2026_date_time_id_desc ON running_event_y2026(date_time DESC, id DESC);
+
+CREATE TABLE running_event_y2027 (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT ck_running_event_y2027_date_time CHECK (date_time >= 1798761600000 AND date_time < 1830297600000)
+);
+
+CREATE INDEX idx_running_event_y2027_date_time_id ON running_event_y2027(date_time, id);
+CREATE INDEX idx_running_event_y2027_date_time_id_desc ON running_event_y2027(date_time DESC, id DESC);
+
+CREATE TABLE running_event_y2028 (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT ck_running_event_y2028_date_time CHECK (date_time >= 1830297600000 AND date_time < 1861920000000)
+);
+
+CREATE INDEX idx_running_event_y2028_date_time_id ON running_event_y2028(date_time, id);
+CREATE INDEX idx_running_event_y2028_date_time_id_desc ON running_event_y2028(date_time DESC, id DESC);
+
+CREATE TABLE running_event_y2029 (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT ck_running_event_y2029_date_time CHECK (date_time >= 1861920000000 AND date_time < 1893456000000)
+);
+
+CREATE INDEX idx_running_event_y2029_date_time_id ON running_event_y2029(date_time, id);
+CREATE INDEX idx_running_event_y2029_date_time_id_desc ON running_event_y2029(date_time DESC, id DESC);
+
+CREATE TABLE running_event_y2030 (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT ck_running_event_y2030_date_time CHECK (date_time >= 1893456000000 AND date_time < 1924992000000)
+);
+
+CREATE INDEX idx_running_event_y2030_date_time_id ON running_event_y2030(date_time, id);
+CREATE INDEX idx_running_event_y2030_date_time_id_desc ON running_event_y2030(date_time DESC, id DESC);
+
+CREATE TABLE running_event_default (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX idx_running_event_default_date_time_id ON running_event_default(date_time, id);
+CREATE INDEX idx_running_event_default_date_time_id_desc ON running_event_default(date_time DESC, id DESC);
+
+-- Feeds that were synced, locked by a sync (see V8__Create_running_event_source_table.sql)
+CREATE TABLE running_event_source (
+    source VARCHAR(100) PRIMARY KEY
+);
+
+-- Progress of files ingested from the watched directory (see V5__Create_ingestion_checkpoint_table.sql)
+CREATE TABLE ingestion_checkpoint (
+    source VARCHAR(255) PRIMARY KEY,
+    fingerprint VARCHAR(100) NOT NULL,
+    byte_offset BIGINT NOT NULL,
+    line_number BIGINT NOT NULL,
+    inserted BIGINT NOT NULL,
+    rejected BIGINT NOT NULL,
+    completed BOOLEAN NOT NULL,
+    updated_at BIGINT NOT NULL
+);
 
 -- Insert sample data
 -- The date_time column stores Unix timestamp values (milliseconds since epoch)
 -- But in the API layer, these will be presented as formatted date strings
 
-INSERT INTO running_event (name, date_time, location, description, further_information)
+INSERT INTO running_event (id, name, date_time, location, description, further_information)
 VALUES (
+    1,
     'Spring Marathon 2025',
     1743484800000, -- Equivalent to "2025-04-29 10:00"
     'Central Park, New York',
@@ -27,8 +174,9 @@ VALUES (
     'Water stations every 2 miles. Registration closes 2 weeks before the event.'
 );
 
-INSERT INTO running_event (name, date_time, location, description, further_information)
+INSERT INTO running_event (id, name, date_time, location, description, further_information)
 VALUES (
+    2,
     'Summer 5K Charity Run',
     1751313600000, -- Equivalent to "2025-07-31 09:00"
     'Riverside Park, Chicago',
@@ -36,8 +184,9 @@ VALUES (
     'Post-run celebration with food and music. Donations welcome.'
 );
 
-INSERT INTO running_event (name, date_time, location, description, further_information)
+INSERT INTO running_event (id, name, date_time, location, description, further_information)
 VALUES (
+    3,
     'Autumn Trail Half Marathon',
     1759608000000, -- Equivalent to "2025-10-04 08:00"
     'Redwood Forest Trail, San Francisco',
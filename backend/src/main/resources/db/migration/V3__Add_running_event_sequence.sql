@@ -0,0 +1,13 @@
+-- Replace the IDENTITY column with a sequence so that IDs can be allocated in blocks.
+-- The sequence increments by the entity's allocation size (50); each value handed out
+-- by the sequence is the first ID of a block that Hibernate assigns in memory (pooled-lo).
+CREATE SEQUENCE running_event_seq START WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM running_event) INCREMENT BY 50;
+
+-- Rows inserted outside of Hibernate take the next sequence value, so they never clash with an allocated block
+ALTER TABLE running_event ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE running_event ALTER COLUMN id SET DEFAULT NEXT VALUE FOR running_event_seq;
+
+-- Rollback:
+-- ALTER TABLE running_event ALTER COLUMN id SET DEFAULT NULL;
+-- ALTER TABLE running_event ALTER COLUMN id BIGINT AUTO_INCREMENT;
+-- DROP SEQUENCE running_event_seq;
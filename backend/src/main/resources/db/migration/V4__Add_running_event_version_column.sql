@@ -0,0 +1,7 @@
+-- Add a version column for optimistic concurrency control.
+-- Every update increments it; writers send the version they read and the change is
+-- only applied if the row still has that version. Existing rows start at version 0.
+ALTER TABLE running_event ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- Rollback:
+-- ALTER TABLE running_event DROP COLUMN version;
@@ -0,0 +1,16 @@
+-- Progress of files ingested from the watched directory, one row per file name.
+-- The row is updated in the same transaction as the events of each chunk, so after a crash
+-- ingestion resumes at byte_offset without inserting a chunk twice.
+CREATE TABLE ingestion_checkpoint (
+    source VARCHAR(255) PRIMARY KEY,
+    fingerprint VARCHAR(100) NOT NULL,
+    byte_offset BIGINT NOT NULL,
+    line_number BIGINT NOT NULL,
+    inserted BIGINT NOT NULL,
+    rejected BIGINT NOT NULL,
+    completed BOOLEAN NOT NULL,
+    updated_at BIGINT NOT NULL
+);
+
+-- Rollback:
+-- DROP TABLE ingestion_checkpoint;
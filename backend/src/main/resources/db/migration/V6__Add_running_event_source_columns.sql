@@ -0,0 +1,15 @@
+-- Track where synced events came from.
+-- source names the organizer feed and source_key identifies the event within it; content_hash is the
+-- hash of the fields last written by a sync, so a sync only rewrites the events that changed.
+-- Events created through the API have no source. The unique index is also the lookup path of a sync.
+ALTER TABLE running_event ADD COLUMN source VARCHAR(100);
+ALTER TABLE running_event ADD COLUMN source_key VARCHAR(255);
+ALTER TABLE running_event ADD COLUMN content_hash VARCHAR(64);
+
+CREATE UNIQUE INDEX idx_running_event_source_key ON running_event(source, source_key);
+
+-- Rollback:
+-- DROP INDEX idx_running_event_source_key;
+-- ALTER TABLE running_event DROP COLUMN content_hash;
+-- ALTER TABLE running_event DROP COLUMN source_key;
+-- ALTER TABLE running_event DROP COLUMN source;
@@ -0,0 +1,13 @@
+-- Index events in the order they are listed.
+-- Pages are sorted by date_time with id as the tie-breaker, and the next page seeks past the last
+-- (date_time, id) seen. With date_time alone the seek condition could not use the index and every page
+-- read and sorted the whole date range; with both columns a page reads only its own rows from the index.
+-- H2 does not read an index backwards, so newest-first pages have their own descending index.
+CREATE INDEX idx_running_event_date_time_id ON running_event(date_time, id);
+CREATE INDEX idx_running_event_date_time_id_desc ON running_event(date_time DESC, id DESC);
+DROP INDEX idx_running_event_date_time;
+
+-- Rollback:
+-- CREATE INDEX idx_running_event_date_time ON running_event(date_time);
+-- DROP INDEX idx_running_event_date_time_id_desc;
+-- DROP INDEX idx_running_event_date_time_id;
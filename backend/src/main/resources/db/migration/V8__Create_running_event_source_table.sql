@@ -0,0 +1,9 @@
+-- One row per organizer feed that was ever synced.
+-- A sync locks the row of its feed before it reads the stored states, so two syncs of the same feed run
+-- one after the other instead of both inserting the same new keys. Syncs of different feeds do not wait.
+CREATE TABLE running_event_source (
+    source VARCHAR(100) PRIMARY KEY
+);
+
+-- Rollback:
+-- DROP TABLE running_event_source;
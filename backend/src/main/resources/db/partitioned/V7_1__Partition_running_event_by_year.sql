@@ -0,0 +1,159 @@
+-- Store running events in one table per year (the partitioned profile; see application-partitioned.properties).
+-- running_event_yYYYY holds the events of one UTC year, enforced by a check constraint, and
+-- running_event_default holds the events of years that have no table of their own. Each table has its
+-- own primary key and (date_time, id) indexes, so a query for a date range only reads the tables of the
+-- years it covers, and the indexes of a year stop growing once the year is over.
+-- running_event_directory maps every ID to the year of its event, so a lookup by ID goes to one table.
+-- It also keeps the feed key and content hash of synced events; the unique index on the feed key covers
+-- all years. IDs still come from running_event_seq.
+--
+-- To add a year, create its table like the ones below and move its events out of running_event_default;
+-- the directory does not change, since it records years rather than tables.
+
+CREATE TABLE running_event_directory (
+    id BIGINT PRIMARY KEY,
+    partition_year INT NOT NULL,
+    source VARCHAR(100),
+    source_key VARCHAR(255),
+    content_hash VARCHAR(64)
+);
+
+CREATE UNIQUE INDEX idx_running_event_directory_source_key ON running_event_directory(source, source_key);
+
+CREATE TABLE running_event_y2025 (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT ck_running_event_y2025_date_time CHECK (date_time >= 1735689600000 AND date_time < 1767225600000)
+);
+
+CREATE INDEX idx_running_event_y2025_date_time_id ON running_event_y2025(date_time, id);
+CREATE INDEX idx_running_event_y2025_date_time_id_desc ON running_event_y2025(date_time DESC, id DESC);
+
+CREATE TABLE running_event_y2026 (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT ck_running_event_y2026_date_time CHECK (date_time >= 1767225600000 AND date_time < 1798761600000)
+);
+
+CREATE INDEX idx_running_event_y2026_date_time_id ON running_event_y2026(date_time, id);
+CREATE INDEX idx_running_event_y2026_date_time_id_desc ON running_event_y2026(date_time DESC, id DESC);
+
+CREATE TABLE running_event_y2027 (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT ck_running_event_y2027_date_time CHECK (date_time >= 1798761600000 AND date_time < 1830297600000)
+);
+
+CREATE INDEX idx_running_event_y2027_date_time_id ON running_event_y2027(date_time, id);
+CREATE INDEX idx_running_event_y2027_date_time_id_desc ON running_event_y2027(date_time DESC, id DESC);
+
+CREATE TABLE running_event_y2028 (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT ck_running_event_y2028_date_time CHECK (date_time >= 1830297600000 AND date_time < 1861920000000)
+);
+
+CREATE INDEX idx_running_event_y2028_date_time_id ON running_event_y2028(date_time, id);
+CREATE INDEX idx_running_event_y2028_date_time_id_desc ON running_event_y2028(date_time DESC, id DESC);
+
+CREATE TABLE running_event_y2029 (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT ck_running_event_y2029_date_time CHECK (date_time >= 1861920000000 AND date_time < 1893456000000)
+);
+
+CREATE INDEX idx_running_event_y2029_date_time_id ON running_event_y2029(date_time, id);
+CREATE INDEX idx_running_event_y2029_date_time_id_desc ON running_event_y2029(date_time DESC, id DESC);
+
+CREATE TABLE running_event_y2030 (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT ck_running_event_y2030_date_time CHECK (date_time >= 1893456000000 AND date_time < 1924992000000)
+);
+
+CREATE INDEX idx_running_event_y2030_date_time_id ON running_event_y2030(date_time, id);
+CREATE INDEX idx_running_event_y2030_date_time_id_desc ON running_event_y2030(date_time DESC, id DESC);
+
+CREATE TABLE running_event_default (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    date_time BIGINT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    further_information VARCHAR(1000),
+    version BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX idx_running_event_default_date_time_id ON running_event_default(date_time, id);
+CREATE INDEX idx_running_event_default_date_time_id_desc ON running_event_default(date_time DESC, id DESC);
+
+-- Move the stored events into the tables of their years
+
+INSERT INTO running_event_y2025 (id, name, date_time, location, description, further_information, version)
+SELECT id, name, date_time, location, description, further_information, version FROM running_event WHERE date_time >= 1735689600000 AND date_time < 1767225600000;
+
+INSERT INTO running_event_y2026 (id, name, date_time, location, description, further_information, version)
+SELECT id, name, date_time, location, description, further_information, version FROM running_event WHERE date_time >= 1767225600000 AND date_time < 1798761600000;
+
+INSERT INTO running_event_y2027 (id, name, date_time, location, description, further_information, version)
+SELECT id, name, date_time, location, description, further_information, version FROM running_event WHERE date_time >= 1798761600000 AND date_time < 1830297600000;
+
+INSERT INTO running_event_y2028 (id, name, date_time, location, description, further_information, version)
+SELECT id, name, date_time, location, description, further_information, version FROM running_event WHERE date_time >= 1830297600000 AND date_time < 1861920000000;
+
+INSERT INTO running_event_y2029 (id, name, date_time, location, description, further_information, version)
+SELECT id, name, date_time, location, description, further_information, version FROM running_event WHERE date_time >= 1861920000000 AND date_time < 1893456000000;
+
+INSERT INTO running_event_y2030 (id, name, date_time, location, description, further_information, version)
+SELECT id, name, date_time, location, description, further_information, version FROM running_event WHERE date_time >= 1893456000000 AND date_time < 1924992000000;
+
+INSERT INTO running_event_default (id, name, date_time, location, description, further_information, version)
+SELECT id, name, date_time, location, description, further_information, version FROM running_event WHERE date_time < 1735689600000 OR date_time >= 1924992000000;
+
+INSERT INTO running_event_directory (id, partition_year, source, source_key, content_hash)
+SELECT id, EXTRACT(YEAR FROM DATEADD(MILLISECOND, date_time, TIMESTAMP '1970-01-01 00:00:00')), source, source_key,
+    content_hash
+FROM running_event;
+
+-- running_event stays, empty, since the JPA entity is still mapped to it
+DELETE FROM running_event;
+
+-- Rollback:
+-- INSERT INTO running_event (id, name, date_time, location, description, further_information, version, source,
+--     source_key, content_hash)
+-- SELECT e.id, e.name, e.date_time, e.location, e.description, e.further_information, e.version, d.source,
+--     d.source_key, d.content_hash
+-- FROM (SELECT * FROM running_event_y2025 UNION ALL ... UNION ALL SELECT * FROM running_event_default) e
+-- JOIN running_event_directory d ON d.id = e.id;
+-- DROP TABLE running_event_default; DROP TABLE running_event_y2025; ... DROP TABLE running_event_y2030;
+-- DROP TABLE running_event_directory;
@@ -0,0 +1,85 @@
+package com.interview.runningevents.application.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+class PageCursorTest {
+
+    private final RunningEvent event = RunningEvent.builder()
+            .id(42L)
+            .name("Marathon | Night Edition")
+            .dateTime(1751313600000L)
+            .location("Riverside Park")
+            .build();
+
+    @Test
+    void shouldRoundTripDateTimeCursor() {
+        // Given
+        PageCursor cursor = PageCursor.after(event, "dateTime", SortDirection.ASC);
+
+        // When
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.getSortKey()).isEqualTo(1751313600000L);
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.isBackward()).isFalse();
+    }
+
+    @Test
+    void shouldRoundTripNameCursorContainingSeparator() {
+        // Given
+        PageCursor cursor = PageCursor.before(event, "name", SortDirection.DESC);
+
+        // When
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded.getSortKey()).isEqualTo("Marathon | Night Edition");
+        assertThat(decoded.getSortDirection()).isEqualTo(SortDirection.DESC);
+        assertThat(decoded.isBackward()).isTrue();
+    }
+
+    @Test
+    void shouldProduceUrlSafeToken() {
+        // When
+        String token = PageCursor.after(event, "name", SortDirection.ASC).encode();
+
+        // Then
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void shouldReturnNullForMissingToken() {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedTokens() {
+        assertThatThrownBy(() -> PageCursor.decode("not a cursor!"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor");
+
+        assertThatThrownBy(() -> PageCursor.decode("ZGF0ZVRpbWV8QVNDfEZ8eHw1"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void shouldMatchOnlyTheOrderingItWasTakenFrom() {
+        // Given
+        PageCursor cursor = PageCursor.after(event, "dateTime", SortDirection.ASC);
+
+        // Then
+        assertThat(cursor.matches("dateTime", SortDirection.ASC)).isTrue();
+        assertThat(cursor.matches("dateTime", SortDirection.DESC)).isFalse();
+        assertThat(cursor.matches("name", SortDirection.ASC)).isFalse();
+    }
+}
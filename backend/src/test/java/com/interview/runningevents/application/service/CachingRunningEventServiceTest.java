@@ -0,0 +1,347 @@
+package com.interview.runningevents.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.interview.runningevents.application.exception.RunningEventVersionConflictException;
+import com.interview.runningevents.application.model.PaginatedResult;
+import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.application.model.SortDirection;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+@ExtendWith(MockitoExtension.class)
+class CachingRunningEventServiceTest {
+
+    @Mock
+    private RunningEventService delegate;
+
+    private CachingRunningEventService cachingService;
+
+    @BeforeEach
+    void setUp() {
+        cachingService =
+                new CachingRunningEventService(delegate, 100, Duration.ofMinutes(10), 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void shouldLoadEventOnceAndServeRepeatedLookupsFromCache() {
+        // Given
+        when(delegate.getRunningEventById(1L)).thenReturn(Optional.of(event(1L, "Berlin Marathon")));
+
+        // When
+        Optional<RunningEvent> first = cachingService.getRunningEventById(1L);
+        Optional<RunningEvent> second = cachingService.getRunningEventById(1L);
+
+        // Then
+        assertThat(first).get().extracting(RunningEvent::getName).isEqualTo("Berlin Marathon");
+        assertThat(second).get().extracting(RunningEvent::getName).isEqualTo("Berlin Marathon");
+        verify(delegate, times(1)).getRunningEventById(1L);
+    }
+
+    @Test
+    void shouldNotCacheMissingEvents() {
+        // Given
+        when(delegate.getRunningEventById(99L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(event(99L, "Created Later")));
+
+        // When
+        Optional<RunningEvent> first = cachingService.getRunningEventById(99L);
+        Optional<RunningEvent> second = cachingService.getRunningEventById(99L);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isPresent();
+        verify(delegate, times(2)).getRunningEventById(99L);
+    }
+
+    @Test
+    void shouldReturnCopiesThatDoNotChangeTheCachedEvent() {
+        // Given
+        when(delegate.getRunningEventById(1L)).thenReturn(Optional.of(event(1L, "Berlin Marathon")));
+
+        // When
+        cachingService.getRunningEventById(1L).orElseThrow().setName("Changed by caller");
+        Optional<RunningEvent> result = cachingService.getRunningEventById(1L);
+
+        // Then
+        assertThat(result).get().extracting(RunningEvent::getName).isEqualTo("Berlin Marathon");
+    }
+
+    @Test
+    void shouldReloadEventAfterUpdate() {
+        // Given
+        RunningEvent updated = event(1L, "Updated Marathon");
+        when(delegate.getRunningEventById(1L))
+                .thenReturn(Optional.of(event(1L, "Berlin Marathon")))
+                .thenReturn(Optional.of(updated));
+        when(delegate.updateRunningEvent(updated)).thenReturn(Optional.of(updated));
+        cachingService.getRunningEventById(1L);
+
+        // When
+        cachingService.updateRunningEvent(updated);
+        Optional<RunningEvent> result = cachingService.getRunningEventById(1L);
+
+        // Then
+        assertThat(result).get().extracting(RunningEvent::getName).isEqualTo("Updated Marathon");
+        verify(delegate, times(2)).getRunningEventById(1L);
+    }
+
+    @Test
+    void shouldForgetEventAfterDelete() {
+        // Given
+        when(delegate.getRunningEventById(1L))
+                .thenReturn(Optional.of(event(1L, "Berlin Marathon")))
+                .thenReturn(Optional.empty());
+        when(delegate.deleteRunningEvent(1L, 0L)).thenReturn(true);
+        cachingService.getRunningEventById(1L);
+
+        // When
+        boolean deleted = cachingService.deleteRunningEvent(1L, 0L);
+        Optional<RunningEvent> result = cachingService.getRunningEventById(1L);
+
+        // Then
+        assertThat(deleted).isTrue();
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldInvalidateEvenWhenTheWriteFails() {
+        // Given
+        RunningEvent stale = event(1L, "Stale Write");
+        stale.setVersion(3L);
+        when(delegate.getRunningEventById(1L)).thenReturn(Optional.of(event(1L, "Berlin Marathon")));
+        when(delegate.updateRunningEvent(stale)).thenThrow(new RunningEventVersionConflictException(1L, 3L));
+        cachingService.getRunningEventById(1L);
+
+        // When
+        assertThrows(RunningEventVersionConflictException.class, () -> cachingService.updateRunningEvent(stale));
+        cachingService.getRunningEventById(1L);
+
+        // Then
+        verify(delegate, times(2)).getRunningEventById(1L);
+    }
+
+    @Test
+    void shouldRejectNullId() {
+        assertThrows(IllegalArgumentException.class, () -> cachingService.getRunningEventById(null));
+        verify(delegate, never()).getRunningEventById(null);
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaximumSize() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new CachingRunningEventService(delegate, 0, Duration.ofMinutes(10), 100, Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void shouldServeRepeatedPageFromCacheWhileNothingChanges() {
+        // Given
+        RunningEventQuery query =
+                RunningEventQuery.builder().page(0).pageSize(10).build();
+        when(delegate.getChangeToken()).thenReturn("1-0");
+        when(delegate.listRunningEvents(query)).thenReturn(page(event(1L, "Berlin Marathon")));
+
+        // When
+        PaginatedResult<RunningEvent> first = cachingService.listRunningEvents(query);
+        PaginatedResult<RunningEvent> second = cachingService.listRunningEvents(query);
+
+        // Then
+        assertThat(first.getItems()).extracting(RunningEvent::getName).containsExactly("Berlin Marathon");
+        assertThat(second.getItems()).extracting(RunningEvent::getName).containsExactly("Berlin Marathon");
+        assertThat(second.getTotalItems()).isEqualTo(1);
+        verify(delegate, times(1)).listRunningEvents(query);
+    }
+
+    @Test
+    void shouldShareOnePageBetweenEquivalentQueries() {
+        // Given
+        RunningEventQuery explicit = RunningEventQuery.builder()
+                .page(0)
+                .pageSize(20)
+                .sortBy("dateTime")
+                .sortDirection(SortDirection.ASC)
+                .build();
+        RunningEventQuery withDefaults = RunningEventQuery.builder()
+                .page(null)
+                .pageSize(null)
+                .sortBy(null)
+                .sortDirection(null)
+                .build();
+        when(delegate.getChangeToken()).thenReturn("1-0");
+        when(delegate.listRunningEvents(explicit)).thenReturn(page(event(1L, "Berlin Marathon")));
+
+        // When
+        cachingService.listRunningEvents(explicit);
+        PaginatedResult<RunningEvent> result = cachingService.listRunningEvents(withDefaults);
+
+        // Then
+        assertThat(result.getItems()).extracting(RunningEvent::getName).containsExactly("Berlin Marathon");
+        verify(delegate, never()).listRunningEvents(withDefaults);
+    }
+
+    @Test
+    void shouldCacheDifferentQueriesSeparately() {
+        // Given
+        RunningEventQuery firstPage = RunningEventQuery.builder().page(0).build();
+        RunningEventQuery secondPage = RunningEventQuery.builder().page(1).build();
+        when(delegate.getChangeToken()).thenReturn("1-0");
+        when(delegate.listRunningEvents(firstPage)).thenReturn(page(event(1L, "First")));
+        when(delegate.listRunningEvents(secondPage)).thenReturn(page(event(2L, "Second")));
+
+        // When
+        PaginatedResult<RunningEvent> first = cachingService.listRunningEvents(firstPage);
+        PaginatedResult<RunningEvent> second = cachingService.listRunningEvents(secondPage);
+
+        // Then
+        assertThat(first.getItems()).extracting(RunningEvent::getName).containsExactly("First");
+        assertThat(second.getItems()).extracting(RunningEvent::getName).containsExactly("Second");
+    }
+
+    @Test
+    void shouldReloadPageOnceTheChangeTokenMoves() {
+        // Given
+        RunningEventQuery query = RunningEventQuery.builder().build();
+        when(delegate.getChangeToken()).thenReturn("1-0").thenReturn("1-1");
+        when(delegate.listRunningEvents(query))
+                .thenReturn(page(event(1L, "Berlin Marathon")))
+                .thenReturn(page(event(1L, "Berlin Marathon"), event(2L, "Paris Marathon")));
+
+        // When
+        cachingService.listRunningEvents(query);
+        PaginatedResult<RunningEvent> result = cachingService.listRunningEvents(query);
+
+        // Then
+        assertThat(result.getItems())
+                .extracting(RunningEvent::getName)
+                .containsExactly("Berlin Marathon", "Paris Marathon");
+        verify(delegate, times(2)).listRunningEvents(query);
+    }
+
+    @Test
+    void shouldReturnPageCopiesThatDoNotChangeTheCachedPage() {
+        // Given
+        RunningEventQuery query = RunningEventQuery.builder().build();
+        when(delegate.getChangeToken()).thenReturn("1-0");
+        when(delegate.listRunningEvents(query)).thenReturn(page(event(1L, "Berlin Marathon")));
+
+        // When
+        cachingService.listRunningEvents(query).getItems().get(0).setName("Changed by caller");
+        PaginatedResult<RunningEvent> result = cachingService.listRunningEvents(query);
+
+        // Then
+        assertThat(result.getItems()).extracting(RunningEvent::getName).containsExactly("Berlin Marathon");
+    }
+
+    @Test
+    void shouldNotCacheFailedPageLoads() {
+        // Given
+        RunningEventQuery query = RunningEventQuery.builder().page(-1).build();
+        when(delegate.getChangeToken()).thenReturn("1-0");
+        when(delegate.listRunningEvents(query))
+                .thenThrow(new IllegalArgumentException("Page number cannot be negative"));
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> cachingService.listRunningEvents(query));
+        assertThrows(IllegalArgumentException.class, () -> cachingService.listRunningEvents(query));
+        verify(delegate, times(2)).listRunningEvents(query);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentMissesForTheSameEvent() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getRunningEventById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(event(1L, "Berlin Marathon"));
+        });
+        SingleFlight<?, ?> eventLoads = cachingService.getSingleFlights().get(0);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // When
+            List<Future<Optional<RunningEvent>>> lookups = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                lookups.add(executor.submit(() -> cachingService.getRunningEventById(1L)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (eventLoads.getExecutedCount() + eventLoads.getCoalescedCount() < 20
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            // Then
+            for (Future<Optional<RunningEvent>> lookup : lookups) {
+                assertThat(lookup.get(5, TimeUnit.SECONDS)).isPresent();
+            }
+        }
+        verify(delegate, times(1)).getRunningEventById(1L);
+        assertThat(eventLoads.getExecutedCount()).isEqualTo(1);
+        assertThat(eventLoads.getCoalescedCount()).isEqualTo(19);
+    }
+
+    @Test
+    void shouldNotCacheEventLoadedWhileItWasInvalidated() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getRunningEventById(1L))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Optional.of(event(1L, "Before Update"));
+                })
+                .thenReturn(Optional.of(event(1L, "After Update")));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Optional<RunningEvent>> staleLookup = executor.submit(() -> cachingService.getRunningEventById(1L));
+            loading.await(5, TimeUnit.SECONDS);
+
+            // When
+            cachingService.invalidate(1L);
+            release.countDown();
+            staleLookup.get(5, TimeUnit.SECONDS);
+        }
+        Optional<RunningEvent> result = cachingService.getRunningEventById(1L);
+
+        // Then
+        assertThat(result).get().extracting(RunningEvent::getName).isEqualTo("After Update");
+    }
+
+    private PaginatedResult<RunningEvent> page(RunningEvent... events) {
+        return PaginatedResult.of(List.of(events), events.length, 0, 20);
+    }
+
+    private RunningEvent event(Long id, String name) {
+        return RunningEvent.builder()
+                .id(id)
+                .name(name)
+                .dateTime(Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli())
+                .location("Berlin, Germany")
+                .version(0L)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.interview.runningevents.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.interview.runningevents.application.model.BatchItemResult;
+import com.interview.runningevents.application.port.out.RunningEventReadModel;
+import com.interview.runningevents.application.port.out.RunningEventRepository;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+@ExtendWith(MockitoExtension.class)
+class RunningEventBatchServiceTest {
+
+    @Mock
+    private RunningEventRepository runningEventRepository;
+
+    @Mock
+    private RunningEventReadModel readModel;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RunningEventBatchService batchService;
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        batchService = new RunningEventBatchService(
+                runningEventRepository, new RunningEventChangeCounter(), readModel, transactionManager, 2);
+    }
+
+    @Test
+    void shouldInsertValidEventsInChunksWithOneTransactionEach() {
+        // Given
+        List<RunningEvent> events = List.of(validEvent("A"), validEvent("B"), validEvent("C"));
+        when(runningEventRepository.saveAll(anyList())).thenAnswer(i -> assignIds(i.getArgument(0)));
+
+        // When
+        List<BatchItemResult> results = batchService.createRunningEvents(events);
+
+        // Then
+        assertThat(results).extracting(BatchItemResult::getIndex).containsExactly(0, 1, 2);
+        assertThat(results).extracting(BatchItemResult::getId).containsExactly(1L, 2L, 3L);
+        assertThat(results).allMatch(BatchItemResult::isSuccess);
+
+        // Three events with a chunk size of two make two batched inserts, each committed on its own
+        verify(runningEventRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void shouldReportInvalidEventsWithoutInsertingThem() {
+        // Given
+        RunningEvent withId = validEvent("Has ID");
+        withId.setId(7L);
+        RunningEvent withoutLocation = validEvent("No Location");
+        withoutLocation.setLocation(" ");
+
+        List<RunningEvent> events = new ArrayList<>();
+        events.add(validEvent("Valid"));
+        events.add(withId);
+        events.add(null);
+        events.add(withoutLocation);
+        when(runningEventRepository.saveAll(anyList())).thenAnswer(i -> assignIds(i.getArgument(0)));
+
+        // When
+        List<BatchItemResult> results = batchService.createRunningEvents(events);
+
+        // Then
+        assertThat(results.get(0).getId()).isEqualTo(1L);
+        assertThat(results.get(1).getError()).isEqualTo("ID must be null when creating a new running event");
+        assertThat(results.get(2).getError()).isEqualTo("Running event cannot be null");
+        assertThat(results.get(3).getError()).startsWith("Invalid running event");
+        verify(runningEventRepository, times(1)).saveAll(List.of(events.get(0)));
+    }
+
+    @Test
+    void shouldFailOnlyTheChunkThatCouldNotBeStored() {
+        // Given
+        List<RunningEvent> events = List.of(validEvent("A"), validEvent("B"), validEvent("C"));
+        when(runningEventRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("constraint violated"))
+                .thenAnswer(i -> assignIds(i.getArgument(0)));
+
+        // When
+        List<BatchItemResult> results = batchService.createRunningEvents(events);
+
+        // Then
+        assertThat(results.get(0).getError()).isEqualTo("Event could not be stored");
+        assertThat(results.get(1).getError()).isEqualTo("Event could not be stored");
+        assertThat(results.get(2).isSuccess()).isTrue();
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    void shouldNotTouchRepositoryWhenNothingIsValid() {
+        // When
+        List<BatchItemResult> results =
+                batchService.createRunningEvents(List.of(RunningEvent.builder().build()));
+
+        // Then
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).isSuccess()).isFalse();
+        verify(runningEventRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldRejectNullListAndInvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> batchService.createRunningEvents(null));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new RunningEventBatchService(
+                        runningEventRepository, new RunningEventChangeCounter(), readModel, transactionManager, 0));
+    }
+
+    private RunningEvent validEvent(String name) {
+        return RunningEvent.builder()
+                .name(name)
+                .dateTime(Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli())
+                .location("Location")
+                .build();
+    }
+
+    private List<RunningEvent> assignIds(List<RunningEvent> events) {
+        return events.stream()
+                .map(event -> new RunningEvent(
+                        nextId.getAndIncrement(),
+                        event.getName(),
+                        event.getDateTime(),
+                        event.getLocation(),
+                        event.getDescription(),
+                        event.getFurtherInformation(),
+                        0L))
+                .toList();
+    }
+}
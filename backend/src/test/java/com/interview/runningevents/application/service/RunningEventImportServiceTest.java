@@ -0,0 +1,220 @@
+package com.interview.runningevents.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.interview.runningevents.application.model.BatchItemResult;
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.application.model.ImportSummary;
+import com.interview.runningevents.application.port.in.CreateRunningEventsBatchUseCase;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+@ExtendWith(MockitoExtension.class)
+class RunningEventImportServiceTest {
+
+    @Mock
+    private CreateRunningEventsBatchUseCase createRunningEventsBatchUseCase;
+
+    private RunningEventImportService importService;
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        importService = new RunningEventImportService(createRunningEventsBatchUseCase, 2, 4, 10);
+    }
+
+    @Test
+    void shouldInsertParsedRecordsInChunksAndReportRejectedOnes() {
+        // Given
+        List<ImportRecord> records = List.of(
+                parsed(1, "A"),
+                ImportRecord.rejected(2, "name: Name is required"),
+                parsed(3, "B"),
+                parsed(4, "C"),
+                parsed(5, "D"),
+                parsed(6, "E"));
+        when(createRunningEventsBatchUseCase.createRunningEvents(anyList()))
+                .thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        // When
+        ImportSummary summary = importService.importRunningEvents(records.iterator());
+
+        // Then
+        assertThat(summary.getInserted()).isEqualTo(5);
+        assertThat(summary.getRejected()).isEqualTo(1);
+        assertThat(summary.getRejectedRecords())
+                .extracting(ImportRecord::getLineNumber, ImportRecord::getError)
+                .containsExactly(tuple(2L, "name: Name is required"));
+        assertThat(summary.isRejectedRecordsTruncated()).isFalse();
+        verify(createRunningEventsBatchUseCase, times(3)).createRunningEvents(anyList());
+    }
+
+    @Test
+    void shouldReportEventsOfFailedChunkWithTheirLineNumbers() {
+        // Given
+        when(createRunningEventsBatchUseCase.createRunningEvents(anyList()))
+                .thenAnswer(invocation -> created(invocation.getArgument(0)))
+                .thenThrow(new IllegalStateException("Database unavailable"));
+
+        // When
+        ImportSummary summary = importService.importRunningEvents(
+                List.of(parsed(1, "A"), parsed(2, "B"), parsed(3, "C")).iterator());
+
+        // Then
+        assertThat(summary.getInserted()).isEqualTo(2);
+        assertThat(summary.getRejectedRecords())
+                .extracting(ImportRecord::getLineNumber, ImportRecord::getError)
+                .containsExactly(tuple(3L, "Event could not be stored"));
+    }
+
+    @Test
+    void shouldMapFailedBatchItemsToTheirLineNumbers() {
+        // Given
+        when(createRunningEventsBatchUseCase.createRunningEvents(anyList()))
+                .thenReturn(List.of(BatchItemResult.created(0, 1L), BatchItemResult.failed(1, "Invalid")));
+
+        // When
+        ImportSummary summary = importService.importRunningEvents(
+                List.of(parsed(7, "A"), parsed(9, "B")).iterator());
+
+        // Then
+        assertThat(summary.getInserted()).isEqualTo(1);
+        assertThat(summary.getRejectedRecords())
+                .extracting(ImportRecord::getLineNumber)
+                .containsExactly(9L);
+    }
+
+    @Test
+    void shouldListRejectedRecordsOnlyUpToTheLimit() {
+        // Given
+        importService = new RunningEventImportService(createRunningEventsBatchUseCase, 2, 4, 2);
+        List<ImportRecord> records = new ArrayList<>();
+        for (int line = 1; line <= 5; line++) {
+            records.add(ImportRecord.rejected(line, "Invalid"));
+        }
+
+        // When
+        ImportSummary summary = importService.importRunningEvents(records.iterator());
+
+        // Then
+        assertThat(summary.getRejected()).isEqualTo(5);
+        assertThat(summary.getRejectedRecords())
+                .extracting(ImportRecord::getLineNumber)
+                .containsExactly(1L, 2L);
+        assertThat(summary.isRejectedRecordsTruncated()).isTrue();
+        verify(createRunningEventsBatchUseCase, never()).createRunningEvents(anyList());
+    }
+
+    @Test
+    void shouldStopReadingWhileTheInserterIsBehind() throws InterruptedException {
+        // Given: the first chunk blocks until released
+        CountDownLatch release = new CountDownLatch(1);
+        when(createRunningEventsBatchUseCase.createRunningEvents(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return created(invocation.getArgument(0));
+        });
+        AtomicInteger read = new AtomicInteger();
+        Iterator<ImportRecord> records = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return read.get() < 100;
+            }
+
+            @Override
+            public ImportRecord next() {
+                int line = read.incrementAndGet();
+                return parsed(line, "Event " + line);
+            }
+        };
+
+        // When
+        Thread importer = Thread.ofVirtual().start(() -> importService.importRunningEvents(records));
+        Thread.sleep(300);
+
+        // Then: one chunk is being inserted and the queue is full, so reading has stopped
+        assertThat(read.get()).isLessThanOrEqualTo(2 + 4 + 1);
+        release.countDown();
+        importer.join(5000);
+        assertThat(importer.isAlive()).isFalse();
+        assertThat(read.get()).isEqualTo(100);
+        verify(createRunningEventsBatchUseCase, times(50)).createRunningEvents(anyList());
+    }
+
+    @Test
+    void shouldCommitParsedChunksBeforeReportingReadFailure() {
+        // Given
+        when(createRunningEventsBatchUseCase.createRunningEvents(anyList()))
+                .thenAnswer(invocation -> created(invocation.getArgument(0)));
+        Iterator<ImportRecord> parsedRecords =
+                List.of(parsed(1, "A"), parsed(2, "B"), parsed(3, "C")).iterator();
+        Iterator<ImportRecord> records = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (!parsedRecords.hasNext()) {
+                    throw new IllegalStateException("Connection reset");
+                }
+                return true;
+            }
+
+            @Override
+            public ImportRecord next() {
+                return parsedRecords.next();
+            }
+        };
+
+        // When/Then
+        assertThrows(IllegalStateException.class, () -> importService.importRunningEvents(records));
+        verify(createRunningEventsBatchUseCase, times(2)).createRunningEvents(anyList());
+    }
+
+    @Test
+    void shouldThrowExceptionForNullRecords() {
+        assertThrows(IllegalArgumentException.class, () -> importService.importRunningEvents(null));
+    }
+
+    @Test
+    void shouldRejectNonPositiveChunkSize() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new RunningEventImportService(createRunningEventsBatchUseCase, 0, 4, 10));
+    }
+
+    private static ImportRecord parsed(long line, String name) {
+        return ImportRecord.parsed(
+                line,
+                RunningEvent.builder()
+                        .name(name)
+                        .dateTime(System.currentTimeMillis() + 86_400_000L)
+                        .location("Somewhere")
+                        .build());
+    }
+
+    private List<BatchItemResult> created(List<RunningEvent> events) {
+        List<BatchItemResult> results = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            results.add(BatchItemResult.created(i, nextId.getAndIncrement()));
+        }
+        return results;
+    }
+}
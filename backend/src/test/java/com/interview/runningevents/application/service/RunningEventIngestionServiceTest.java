@@ -0,0 +1,151 @@
+package com.interview.runningevents.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.application.model.IngestionCheckpoint;
+import com.interview.runningevents.application.port.out.IngestionCheckpointRepository;
+import com.interview.runningevents.application.port.out.RunningEventReadModel;
+import com.interview.runningevents.application.port.out.RunningEventRepository;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+@ExtendWith(MockitoExtension.class)
+class RunningEventIngestionServiceTest {
+
+    @Mock
+    private RunningEventRepository runningEventRepository;
+
+    @Mock
+    private RunningEventReadModel readModel;
+
+    @Mock
+    private IngestionCheckpointRepository checkpointRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RunningEventIngestionService ingestionService;
+
+    private final IngestionCheckpoint start = IngestionCheckpoint.builder()
+            .source("events.csv")
+            .fingerprint("100-1")
+            .offset(10)
+            .lineNumber(2)
+            .inserted(5)
+            .rejected(1)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        ingestionService = new RunningEventIngestionService(
+                runningEventRepository,
+                checkpointRepository,
+                new RunningEventChangeCounter(),
+                readModel,
+                transactionManager);
+    }
+
+    @Test
+    void shouldInsertValidEventsAndSaveCheckpointInOneTransaction() {
+        // Given
+        RunningEvent eventWithoutLocation = RunningEvent.builder()
+                .name("Nowhere")
+                .dateTime(Instant.now().plus(10, ChronoUnit.DAYS).toEpochMilli())
+                .location(" ")
+                .build();
+        List<ImportRecord> records = List.of(
+                ImportRecord.parsed(2, validEvent("A")),
+                ImportRecord.rejected(3, "Malformed JSON"),
+                ImportRecord.parsed(4, eventWithoutLocation),
+                ImportRecord.parsed(5, validEvent("B")));
+
+        // When
+        IngestionCheckpoint next = ingestionService.ingestChunk(start, records, 90, 6);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RunningEvent>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(runningEventRepository).saveAll(inserted.capture());
+        assertThat(inserted.getValue()).extracting(RunningEvent::getName).containsExactly("A", "B");
+
+        assertThat(next.getOffset()).isEqualTo(90);
+        assertThat(next.getLineNumber()).isEqualTo(6);
+        assertThat(next.getInserted()).isEqualTo(7);
+        assertThat(next.getRejected()).isEqualTo(3);
+        assertThat(next.isCompleted()).isFalse();
+        verify(checkpointRepository).save(next);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void shouldNotSaveCheckpointWhenInsertFails() {
+        // Given
+        when(runningEventRepository.saveAll(anyList())).thenThrow(new IllegalStateException("Database unavailable"));
+
+        // When/Then
+        assertThrows(
+                IllegalStateException.class,
+                () -> ingestionService.ingestChunk(start, List.of(ImportRecord.parsed(2, validEvent("A"))), 90, 3));
+        verify(checkpointRepository, never()).save(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void shouldAdvanceCheckpointForChunkWithoutValidEvents() {
+        // When
+        IngestionCheckpoint next =
+                ingestionService.ingestChunk(start, List.of(ImportRecord.rejected(2, "Invalid")), 20, 3);
+
+        // Then
+        assertThat(next.getRejected()).isEqualTo(2);
+        verify(runningEventRepository, never()).saveAll(anyList());
+        verify(checkpointRepository).save(next);
+    }
+
+    @Test
+    void shouldRejectChunkEndingBeforeCheckpoint() {
+        assertThrows(IllegalArgumentException.class, () -> ingestionService.ingestChunk(start, List.of(), 5, 2));
+    }
+
+    @Test
+    void shouldMarkCheckpointCompleted() {
+        // When
+        IngestionCheckpoint completed = ingestionService.completeIngestion(start);
+
+        // Then
+        assertThat(completed.isCompleted()).isTrue();
+        assertThat(completed.getOffset()).isEqualTo(start.getOffset());
+        verify(checkpointRepository).save(completed);
+    }
+
+    @Test
+    void shouldThrowExceptionForNullSource() {
+        assertThrows(IllegalArgumentException.class, () -> ingestionService.findCheckpoint(null));
+    }
+
+    private static RunningEvent validEvent(String name) {
+        return RunningEvent.builder()
+                .name(name)
+                .dateTime(Instant.now().plus(10, ChronoUnit.DAYS).toEpochMilli())
+                .location("Somewhere")
+                .build();
+    }
+}
@@ -7,20 +7,26 @@ import static org.mockito.Mockito.*;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.interview.runningevents.application.exception.RunningEventVersionConflictException;
 import com.interview.runningevents.application.exception.ValidationException;
 import com.interview.runningevents.application.model.PaginatedResult;
 import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.application.port.out.RunningEventReadModel;
 import com.interview.runningevents.application.port.out.RunningEventRepository;
 import com.interview.runningevents.domain.model.RunningEvent;
 
@@ -30,11 +36,17 @@ class RunningEventServiceTest {
     @Mock
     private RunningEventRepository runningEventRepository;
 
+    @Mock
+    private RunningEventReadModel readModel;
+
     private RunningEventService runningEventService;
 
+    private RunningEventChangeCounter changeCounter;
+
     @BeforeEach
     void setUp() {
-        runningEventService = new RunningEventService(runningEventRepository);
+        changeCounter = new RunningEventChangeCounter();
+        runningEventService = new RunningEventService(runningEventRepository, changeCounter, readModel);
     }
 
     @Test
@@ -71,6 +83,7 @@ class RunningEventServiceTest {
         assertEquals("Test Description", result.getDescription());
 
         verify(runningEventRepository, times(1)).save(newEvent);
+        verify(readModel).put(List.of(savedEvent));
     }
 
     @Test
@@ -217,6 +230,24 @@ class RunningEventServiceTest {
         verify(runningEventRepository, times(1)).findAll(query);
     }
 
+    @Test
+    void shouldListRunningEventsFromReadModelOnceLoaded() {
+        // Given
+        RunningEventQuery query =
+                RunningEventQuery.builder().page(0).pageSize(10).build();
+        PaginatedResult<RunningEvent> expectedResult = PaginatedResult.of(Collections.emptyList(), 0, 0, 10);
+
+        when(readModel.isReady()).thenReturn(true);
+        when(readModel.findAll(query)).thenReturn(expectedResult);
+
+        // When
+        PaginatedResult<RunningEvent> result = runningEventService.listRunningEvents(query);
+
+        // Then
+        assertEquals(expectedResult, result);
+        verify(runningEventRepository, never()).findAll(any());
+    }
+
     @Test
     void shouldReturnEmptyResultWhenNoEventsMatch() {
         // Given
@@ -348,6 +379,30 @@ class RunningEventServiceTest {
         verify(runningEventRepository, never()).findAll(any());
     }
 
+    @Test
+    void shouldRejectPageBeyondIntOffsetUnlessCursorIsGiven() {
+        // Given
+        RunningEventQuery deepQuery = RunningEventQuery.builder()
+                .page(Integer.MAX_VALUE)
+                .pageSize(100)
+                .build();
+        RunningEventQuery lastAddressableQuery = RunningEventQuery.builder()
+                .page(Integer.MAX_VALUE / 100)
+                .pageSize(100)
+                .build();
+        when(runningEventRepository.findAll(lastAddressableQuery))
+                .thenReturn(PaginatedResult.of(List.of(), 0, Integer.MAX_VALUE / 100, 100));
+
+        // When/Then
+        ValidationException exception =
+                assertThrows(ValidationException.class, () -> runningEventService.listRunningEvents(deepQuery));
+        assertThat(exception.getMessage()).contains("nextCursor");
+        verify(runningEventRepository, never()).findAll(deepQuery);
+
+        runningEventService.listRunningEvents(lastAddressableQuery);
+        verify(runningEventRepository).findAll(lastAddressableQuery);
+    }
+
     @Test
     void shouldThrowExceptionForInvalidDateRange() {
         // Given
@@ -379,6 +434,48 @@ class RunningEventServiceTest {
         verify(runningEventRepository, never()).findAll(any());
     }
 
+    // Export Running Events Tests
+
+    @Test
+    void shouldExportEventsInDateRange() {
+        // Given
+        long fromDate = Instant.now().plus(10, ChronoUnit.DAYS).toEpochMilli();
+        long toDate = Instant.now().plus(20, ChronoUnit.DAYS).toEpochMilli();
+        Consumer<RunningEvent> consumer = event -> {};
+
+        // When
+        runningEventService.exportRunningEvents(fromDate, toDate, consumer);
+
+        // Then
+        verify(runningEventRepository).forEachInDateRange(fromDate, toDate, consumer);
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidExportDateRange() {
+        // Given
+        long laterDate = Instant.now().plus(20, ChronoUnit.DAYS).toEpochMilli();
+        long earlierDate = Instant.now().plus(10, ChronoUnit.DAYS).toEpochMilli();
+
+        // When/Then
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            runningEventService.exportRunningEvents(laterDate, earlierDate, event -> {});
+        });
+
+        assertThat(exception.getMessage()).contains("From date cannot be after to date");
+        verify(runningEventRepository, never()).forEachInDateRange(any(), any(), any());
+    }
+
+    @Test
+    void shouldThrowExceptionForNullExportConsumer() {
+        // When/Then
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            runningEventService.exportRunningEvents(null, null, null);
+        });
+
+        assertThat(exception.getMessage()).contains("Consumer cannot be null");
+        verify(runningEventRepository, never()).forEachInDateRange(any(), any(), any());
+    }
+
     // Update Running Event Tests
 
     @Test
@@ -402,8 +499,7 @@ class RunningEventServiceTest {
                 .description("Updated Description")
                 .build();
 
-        when(runningEventRepository.existsById(1L)).thenReturn(true);
-        when(runningEventRepository.save(any(RunningEvent.class))).thenReturn(updatedEvent);
+        when(runningEventRepository.update(updatedEvent)).thenReturn(Optional.of(updatedEvent));
 
         // When
         Optional<RunningEvent> result = runningEventService.updateRunningEvent(updatedEvent);
@@ -414,8 +510,9 @@ class RunningEventServiceTest {
         assertEquals("Updated Location", result.get().getLocation());
         assertEquals("Updated Description", result.get().getDescription());
 
-        verify(runningEventRepository).existsById(1L);
-        verify(runningEventRepository).save(updatedEvent);
+        verify(runningEventRepository).update(updatedEvent);
+        verify(runningEventRepository, never()).existsById(any());
+        verify(runningEventRepository, never()).save(any());
     }
 
     @Test
@@ -430,7 +527,7 @@ class RunningEventServiceTest {
                 .location("Event Location")
                 .build();
 
-        when(runningEventRepository.existsById(99L)).thenReturn(false);
+        when(runningEventRepository.update(nonExistentEvent)).thenReturn(Optional.empty());
 
         // When
         Optional<RunningEvent> result = runningEventService.updateRunningEvent(nonExistentEvent);
@@ -438,10 +535,32 @@ class RunningEventServiceTest {
         // Then
         assertFalse(result.isPresent());
 
-        verify(runningEventRepository).existsById(99L);
+        verify(runningEventRepository).update(nonExistentEvent);
         verify(runningEventRepository, never()).save(any());
     }
 
+    @Test
+    void shouldThrowVersionConflictWhenUpdatingStaleVersion() {
+        // Given
+        Long futureTime = Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli();
+
+        RunningEvent staleEvent = RunningEvent.builder()
+                .id(1L)
+                .name("Event Name")
+                .dateTime(futureTime)
+                .location("Event Location")
+                .version(2L)
+                .build();
+
+        when(runningEventRepository.update(staleEvent)).thenReturn(Optional.empty());
+        when(runningEventRepository.existsById(1L)).thenReturn(true);
+
+        // When/Then
+        assertThrows(RunningEventVersionConflictException.class, () -> {
+            runningEventService.updateRunningEvent(staleEvent);
+        });
+    }
+
     @Test
     void shouldThrowExceptionWhenUpdatingWithNullId() {
         // Given
@@ -460,8 +579,7 @@ class RunningEventServiceTest {
         });
 
         assertThat(exception.getMessage()).contains("ID cannot be null");
-        verify(runningEventRepository, never()).existsById(any());
-        verify(runningEventRepository, never()).save(any());
+        verify(runningEventRepository, never()).update(any());
     }
 
     @Test
@@ -478,16 +596,13 @@ class RunningEventServiceTest {
                 .location("Event Location")
                 .build();
 
-        when(runningEventRepository.existsById(1L)).thenReturn(true);
-
         // When/Then
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             runningEventService.updateRunningEvent(invalidEvent);
         });
 
         assertThat(exception.getMessage()).contains("Invalid running event");
-        verify(runningEventRepository).existsById(1L);
-        verify(runningEventRepository, never()).save(any());
+        verify(runningEventRepository, never()).update(any());
     }
 
     @Test
@@ -503,17 +618,7 @@ class RunningEventServiceTest {
                 // Description and furtherInformation left null
                 .build();
 
-        RunningEvent savedEvent = RunningEvent.builder()
-                .id(1L)
-                .name("Updated Name")
-                .dateTime(futureTime)
-                .location("Updated Location")
-                .description(null)
-                .furtherInformation(null)
-                .build();
-
-        when(runningEventRepository.existsById(1L)).thenReturn(true);
-        when(runningEventRepository.save(any(RunningEvent.class))).thenReturn(savedEvent);
+        when(runningEventRepository.update(partialUpdate)).thenReturn(Optional.of(partialUpdate));
 
         // When
         Optional<RunningEvent> result = runningEventService.updateRunningEvent(partialUpdate);
@@ -525,8 +630,7 @@ class RunningEventServiceTest {
         assertNull(result.get().getDescription());
         assertNull(result.get().getFurtherInformation());
 
-        verify(runningEventRepository).existsById(1L);
-        verify(runningEventRepository).save(partialUpdate);
+        verify(runningEventRepository).update(partialUpdate);
     }
 
     @Test
@@ -546,29 +650,69 @@ class RunningEventServiceTest {
     @Test
     void shouldDeleteRunningEventSuccessfully() {
         // Given
-        when(runningEventRepository.existsById(1L)).thenReturn(true);
+        when(runningEventRepository.deleteById(1L, null)).thenReturn(true);
 
         // When
         boolean result = runningEventService.deleteRunningEvent(1L);
 
         // Then
         assertTrue(result);
-        verify(runningEventRepository).existsById(1L);
-        verify(runningEventRepository).deleteById(1L);
+        verify(runningEventRepository).deleteById(1L, null);
+        verify(runningEventRepository, never()).existsById(any());
+        verify(readModel).remove(List.of(1L));
     }
 
     @Test
     void shouldReturnFalseWhenDeletingNonExistentEvent() {
         // Given
-        when(runningEventRepository.existsById(99L)).thenReturn(false);
+        when(runningEventRepository.deleteById(99L, null)).thenReturn(false);
 
         // When
         boolean result = runningEventService.deleteRunningEvent(99L);
 
         // Then
         assertFalse(result);
-        verify(runningEventRepository).existsById(99L);
-        verify(runningEventRepository, never()).deleteById(any());
+        verify(runningEventRepository).deleteById(99L, null);
+        verify(runningEventRepository, never()).existsById(any());
+        verify(readModel, never()).remove(any());
+    }
+
+    @Test
+    void shouldDeleteRunningEventWithExpectedVersion() {
+        // Given
+        when(runningEventRepository.deleteById(1L, 3L)).thenReturn(true);
+
+        // When
+        boolean result = runningEventService.deleteRunningEvent(1L, 3L);
+
+        // Then
+        assertTrue(result);
+        verify(runningEventRepository, never()).existsById(any());
+    }
+
+    @Test
+    void shouldThrowVersionConflictWhenDeletingStaleVersion() {
+        // Given
+        when(runningEventRepository.deleteById(1L, 2L)).thenReturn(false);
+        when(runningEventRepository.existsById(1L)).thenReturn(true);
+
+        // When/Then
+        assertThrows(RunningEventVersionConflictException.class, () -> {
+            runningEventService.deleteRunningEvent(1L, 2L);
+        });
+    }
+
+    @Test
+    void shouldReturnFalseWhenDeletingNonExistentEventWithVersion() {
+        // Given
+        when(runningEventRepository.deleteById(99L, 2L)).thenReturn(false);
+        when(runningEventRepository.existsById(99L)).thenReturn(false);
+
+        // When
+        boolean result = runningEventService.deleteRunningEvent(99L, 2L);
+
+        // Then
+        assertFalse(result);
     }
 
     @Test
@@ -580,6 +724,85 @@ class RunningEventServiceTest {
 
         assertThat(exception.getMessage()).contains("ID cannot be null");
         verify(runningEventRepository, never()).existsById(any());
-        verify(runningEventRepository, never()).deleteById(any());
+        verify(runningEventRepository, never()).deleteById(any(), any());
+    }
+
+    // Change Token Tests
+
+    @Test
+    void shouldChangeTokenWhenEventsAreWritten() {
+        // Given
+        Long futureTime = Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli();
+        RunningEvent event = RunningEvent.builder()
+                .id(1L)
+                .name("Event Name")
+                .dateTime(futureTime)
+                .location("Event Location")
+                .build();
+        when(runningEventRepository.update(event)).thenReturn(Optional.of(event));
+        when(runningEventRepository.deleteById(1L, null)).thenReturn(true);
+
+        // When
+        String initialToken = runningEventService.getChangeToken();
+        runningEventService.updateRunningEvent(event);
+        String tokenAfterUpdate = runningEventService.getChangeToken();
+        runningEventService.deleteRunningEvent(1L);
+        String tokenAfterDelete = runningEventService.getChangeToken();
+
+        // Then
+        assertThat(tokenAfterUpdate).isNotEqualTo(initialToken);
+        assertThat(tokenAfterDelete).isNotEqualTo(tokenAfterUpdate);
+    }
+
+    @Test
+    void shouldKeepTokenWhenNothingWasWritten() {
+        // Given
+        when(runningEventRepository.deleteById(99L, null)).thenReturn(false);
+        String initialToken = runningEventService.getChangeToken();
+
+        // When
+        runningEventService.deleteRunningEvent(99L);
+
+        // Then
+        assertThat(runningEventService.getChangeToken()).isEqualTo(initialToken);
+    }
+
+    @Test
+    void shouldApplyChangesToReadModelBeforeTokenChanges() {
+        // Given
+        Long futureTime = Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli();
+        RunningEvent event = RunningEvent.builder()
+                .name("Event Name")
+                .dateTime(futureTime)
+                .location("Event Location")
+                .build();
+        when(runningEventRepository.save(event)).thenReturn(event);
+        List<String> tokensWhenApplied = new ArrayList<>();
+        // Like the read model, apply the change once the transaction has committed
+        doAnswer(invocation -> {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            tokensWhenApplied.add(changeCounter.currentToken());
+                        }
+                    });
+                    return null;
+                })
+                .when(readModel)
+                .put(any());
+        String initialToken = runningEventService.getChangeToken();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            runningEventService.createRunningEvent(event);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then the read model served the new event before the token announced it
+        assertThat(tokensWhenApplied).containsExactly(initialToken);
+        assertThat(runningEventService.getChangeToken()).isNotEqualTo(initialToken);
     }
 }
@@ -0,0 +1,184 @@
+package com.interview.runningevents.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.model.SourceEventState;
+import com.interview.runningevents.application.model.SourcedRunningEvent;
+import com.interview.runningevents.application.model.SyncResult;
+import com.interview.runningevents.application.port.out.RunningEventCache;
+import com.interview.runningevents.application.port.out.RunningEventReadModel;
+import com.interview.runningevents.application.port.out.RunningEventRepository;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+@ExtendWith(MockitoExtension.class)
+class RunningEventSyncServiceTest {
+
+    private static final long EVENT_TIME =
+            Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli();
+
+    @Mock
+    private RunningEventRepository runningEventRepository;
+
+    @Mock
+    private RunningEventReadModel readModel;
+
+    @Mock
+    private RunningEventCache cache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RunningEventSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new RunningEventSyncService(
+                runningEventRepository, new RunningEventChangeCounter(), readModel, cache, transactionManager);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteOnlyTheDifference() {
+        // Given
+        SourcedRunningEvent same = sourced("a", "City 10K");
+        SourcedRunningEvent changed = sourced("b", "Night Run (new route)");
+        SourcedRunningEvent added = sourced("d", "Trail Run");
+        when(runningEventRepository.findSourceStates("city-runs"))
+                .thenReturn(List.of(
+                        new SourceEventState(1L, "a", RunningEventSyncService.contentHash(same.getEvent()), 0L),
+                        new SourceEventState(2L, "b", RunningEventSyncService.contentHash(event("Night Run")), 3L),
+                        new SourceEventState(3L, "c", "obsolete", 1L)));
+        when(runningEventRepository.insertFromSource(eq("city-runs"), anyList()))
+                .thenReturn(
+                        List.of(added.getEvent().toBuilder().id(4L).version(0L).build()));
+        RunningEvent stored = changed.getEvent().toBuilder().id(2L).version(4L).build();
+        when(runningEventRepository.updateFromSource(anyList())).thenReturn(List.of(stored));
+
+        // When
+        SyncResult result = syncService.syncRunningEvents("city-runs", List.of(same, changed, added));
+
+        // Then
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getDeleted()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(result.getChangedIds()).containsExactly(2L, 3L);
+
+        ArgumentCaptor<List<SourcedRunningEvent>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(runningEventRepository).insertFromSource(eq("city-runs"), inserts.capture());
+        assertThat(inserts.getValue())
+                .extracting(SourcedRunningEvent::getSourceKey)
+                .containsExactly("d");
+        assertThat(inserts.getValue().get(0).getContentHash()).hasSize(64);
+
+        ArgumentCaptor<List<SourcedRunningEvent>> updates = ArgumentCaptor.forClass(List.class);
+        verify(runningEventRepository).updateFromSource(updates.capture());
+        assertThat(updates.getValue().get(0).getEvent().getId()).isEqualTo(2L);
+        assertThat(updates.getValue().get(0).getEvent().getName()).isEqualTo("Night Run (new route)");
+        // The update expects the version the states were read with
+        assertThat(updates.getValue().get(0).getEvent().getVersion()).isEqualTo(3L);
+
+        verify(runningEventRepository).deleteAllById(List.of(3L));
+        verify(readModel)
+                .put(List.of(added.getEvent().toBuilder().id(4L).version(0L).build()));
+        verify(readModel).put(List.of(stored));
+        verify(readModel).remove(List.of(3L));
+        verify(cache).invalidate(2L);
+        verify(cache).invalidate(3L);
+        // One transaction registers the feed, the other applies the sync
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void shouldNotWriteAnythingForUnchangedFeed() {
+        // Given
+        SourcedRunningEvent same = sourced("a", "City 10K");
+        when(runningEventRepository.findSourceStates("city-runs"))
+                .thenReturn(List.of(
+                        new SourceEventState(1L, "a", RunningEventSyncService.contentHash(same.getEvent()), 0L)));
+
+        // When
+        SyncResult result = syncService.syncRunningEvents("city-runs", List.of(same));
+
+        // Then - the feed is locked before its states are read
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        InOrder order = inOrder(runningEventRepository);
+        order.verify(runningEventRepository).registerSource("city-runs");
+        order.verify(runningEventRepository).lockSource("city-runs");
+        order.verify(runningEventRepository).findSourceStates("city-runs");
+        verify(runningEventRepository, never()).insertFromSource(anyString(), anyList());
+        verify(runningEventRepository, never()).updateFromSource(anyList());
+        verify(runningEventRepository, never()).deleteAllById(anyList());
+    }
+
+    @Test
+    void shouldRejectDuplicateKeysBeforeWriting() {
+        List<SourcedRunningEvent> events = List.of(sourced("a", "City 10K"), sourced("a", "Night Run"));
+
+        assertThrows(ValidationException.class, () -> syncService.syncRunningEvents("city-runs", events));
+        verify(runningEventRepository, never()).findSourceStates(anyString());
+    }
+
+    @Test
+    void shouldRejectInvalidEvents() {
+        SourcedRunningEvent invalid = SourcedRunningEvent.builder()
+                .sourceKey("a")
+                .event(RunningEvent.builder()
+                        .name("No location")
+                        .dateTime(EVENT_TIME)
+                        .build())
+                .build();
+
+        assertThrows(ValidationException.class, () -> syncService.syncRunningEvents("city-runs", List.of(invalid)));
+    }
+
+    @Test
+    void shouldHashEveryField() {
+        RunningEvent event = event("City 10K");
+
+        assertThat(RunningEventSyncService.contentHash(event))
+                .isEqualTo(RunningEventSyncService.contentHash(event.toBuilder().build()))
+                .isNotEqualTo(RunningEventSyncService.contentHash(
+                        event.toBuilder().dateTime(EVENT_TIME + 60_000).build()))
+                .isNotEqualTo(RunningEventSyncService.contentHash(
+                        event.toBuilder().description("").build()))
+                .isNotEqualTo(RunningEventSyncService.contentHash(
+                        event.toBuilder().furtherInformation("Bring water").build()));
+    }
+
+    private static SourcedRunningEvent sourced(String key, String name) {
+        return SourcedRunningEvent.builder().sourceKey(key).event(event(name)).build();
+    }
+
+    private static RunningEvent event(String name) {
+        return RunningEvent.builder()
+                .name(name)
+                .dateTime(EVENT_TIME)
+                .location("Harbour Front")
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.interview.runningevents.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int WAITERS = 50;
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>("get");
+
+    @Test
+    void shouldRunConcurrentCallsForTheSameKeyOnce() throws Exception {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                calls.incrementAndGet();
+                await(release);
+                return "Berlin Marathon";
+            }));
+            awaitExecuted(1);
+
+            // When
+            List<Future<String>> waiters = new ArrayList<>();
+            for (int i = 0; i < WAITERS; i++) {
+                waiters.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    calls.incrementAndGet();
+                    return "Second Load";
+                })));
+            }
+            awaitCoalesced(WAITERS);
+            release.countDown();
+
+            // Then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("Berlin Marathon");
+            for (Future<String> waiter : waiters) {
+                assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("Berlin Marathon");
+            }
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(singleFlight.getExecutedCount()).isEqualTo(1);
+        assertThat(singleFlight.getCoalescedCount()).isEqualTo(WAITERS);
+    }
+
+    @Test
+    void shouldRunSequentialCallsEachTime() {
+        // When
+        String first = singleFlight.execute(1L, () -> "First");
+        String second = singleFlight.execute(1L, () -> "Second");
+
+        // Then
+        assertThat(first).isEqualTo("First");
+        assertThat(second).isEqualTo("Second");
+        assertThat(singleFlight.getExecutedCount()).isEqualTo(2);
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void shouldRunCallsForDifferentKeysSeparately() {
+        // When
+        String first = singleFlight.execute(1L, () -> "First");
+        String second = singleFlight.execute(2L, () -> "Second");
+
+        // Then
+        assertThat(first).isEqualTo("First");
+        assertThat(second).isEqualTo("Second");
+    }
+
+    @Test
+    void shouldShareExceptionWithCoalescedCallers() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                await(release);
+                throw new IllegalStateException("Database unavailable");
+            }));
+            awaitExecuted(1);
+
+            // When
+            Future<String> waiter = executor.submit(() -> singleFlight.execute(1L, () -> "Not Run"));
+            awaitCoalesced(1);
+            release.countDown();
+
+            // Then
+            Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception waiterFailure = assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS));
+            assertThat(leaderFailure).hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(waiterFailure).hasCauseInstanceOf(IllegalStateException.class);
+        }
+
+        // A failed call is not remembered
+        assertThat(singleFlight.execute(1L, () -> "Recovered")).isEqualTo("Recovered");
+    }
+
+    @Test
+    void shouldStartNewCallAfterForget() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                await(release);
+                return "Before Write";
+            }));
+            awaitExecuted(1);
+
+            // When
+            singleFlight.forget(1L);
+            String afterForget = singleFlight.execute(1L, () -> "After Write");
+            release.countDown();
+
+            // Then
+            assertThat(afterForget).isEqualTo("After Write");
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("Before Write");
+        }
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+    }
+
+    private void awaitExecuted(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getExecutedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitCoalesced(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalescedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
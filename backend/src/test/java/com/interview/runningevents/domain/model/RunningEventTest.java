@@ -210,7 +210,7 @@ class RunningEventTest {
     @Test
     void shouldSupportAllArgsConstructor() {
         // When
-        RunningEvent event = new RunningEvent(1L, "Name", 123456789L, "Location", "Description", "Further Info");
+        RunningEvent event = new RunningEvent(1L, "Name", 123456789L, "Location", "Description", "Further Info", 2L);
 
         // Then
         assertEquals(1L, event.getId());
@@ -219,6 +219,7 @@ class RunningEventTest {
         assertEquals("Location", event.getLocation());
         assertEquals("Description", event.getDescription());
         assertEquals("Further Info", event.getFurtherInformation());
+        assertEquals(2L, event.getVersion());
     }
 
     @Test
@@ -0,0 +1,104 @@
+package com.interview.runningevents.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.flywaydb.core.api.MigrationState;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FlywayConfigTest {
+
+    private Flyway flyway;
+    private MigrationInfoService info;
+    private MigrationInfo current;
+
+    @BeforeEach
+    void setUp() {
+        flyway = mock(Flyway.class);
+        info = mock(MigrationInfoService.class);
+        current = mock(MigrationInfo.class);
+        when(flyway.info()).thenReturn(info);
+        when(current.getVersion()).thenReturn(MigrationVersion.fromVersion("6"));
+    }
+
+    @Test
+    void shouldSkipMigrateWhenSchemaIsCurrent() {
+        // Given
+        when(info.current()).thenReturn(current);
+        when(current.getState()).thenReturn(MigrationState.SUCCESS);
+        when(info.pending()).thenReturn(new MigrationInfo[0]);
+
+        // When
+        FlywayConfig.migrateIfPending(flyway);
+
+        // Then - the applied migrations are still checked against the scripts
+        verify(flyway, never()).migrate();
+        verify(flyway).validate();
+    }
+
+    @Test
+    void shouldFailStartupWhenCurrentSchemaDoesNotValidate() {
+        // Given
+        when(info.current()).thenReturn(current);
+        when(current.getState()).thenReturn(MigrationState.SUCCESS);
+        when(info.pending()).thenReturn(new MigrationInfo[0]);
+        doThrow(new FlywayException("Validate failed: Migration checksum mismatch for migration version 1"))
+                .when(flyway)
+                .validate();
+
+        // When/Then
+        assertThatThrownBy(() -> FlywayConfig.migrateIfPending(flyway))
+                .isInstanceOf(FlywayException.class)
+                .hasMessageContaining("checksum mismatch");
+        verify(flyway, never()).migrate();
+    }
+
+    @Test
+    void shouldMigrateWhenMigrationsArePending() {
+        // Given
+        when(info.current()).thenReturn(current);
+        when(current.getState()).thenReturn(MigrationState.SUCCESS);
+        when(info.pending()).thenReturn(new MigrationInfo[] {mock(MigrationInfo.class)});
+
+        // When
+        FlywayConfig.migrateIfPending(flyway);
+
+        // Then
+        verify(flyway).migrate();
+    }
+
+    @Test
+    void shouldMigrateNewDatabase() {
+        // Given
+        when(info.current()).thenReturn(null);
+
+        // When
+        FlywayConfig.migrateIfPending(flyway);
+
+        // Then
+        verify(flyway).migrate();
+    }
+
+    @Test
+    void shouldLeaveFailedMigrationToFlyway() {
+        // Given
+        when(info.current()).thenReturn(current);
+        when(current.getState()).thenReturn(MigrationState.FAILED);
+
+        // When
+        FlywayConfig.migrateIfPending(flyway);
+
+        // Then
+        verify(flyway).migrate();
+    }
+}
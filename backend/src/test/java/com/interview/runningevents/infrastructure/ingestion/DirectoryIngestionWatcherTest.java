@@ -0,0 +1,93 @@
+package com.interview.runningevents.infrastructure.ingestion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.interview.runningevents.application.model.IngestionCheckpoint;
+
+class DirectoryIngestionWatcherTest {
+
+    @TempDir
+    Path directory;
+
+    private final FileIngester fileIngester = mock(FileIngester.class);
+
+    private DirectoryIngestionWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        watcher = new DirectoryIngestionWatcher(fileIngester, directory, Duration.ofMillis(100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.stop();
+    }
+
+    @Test
+    void shouldIngestExistingAndNewFilesAndMoveThemToProcessed() throws Exception {
+        // Given
+        Path existing = Files.writeString(directory.resolve("existing.csv"), "name,dateTime,location\n");
+        when(fileIngester.ingest(any())).thenReturn(new IngestionCheckpoint());
+
+        // When
+        watcher.start();
+        Path dropped = Files.writeString(directory.resolve("dropped.ndjson"), "{}\n");
+
+        // Then
+        verify(fileIngester, timeout(5000)).ingest(existing);
+        verify(fileIngester, timeout(5000)).ingest(dropped);
+        awaitFile(directory.resolve("processed/existing.csv"));
+        awaitFile(directory.resolve("processed/dropped.ndjson"));
+        assertThat(existing).doesNotExist();
+    }
+
+    @Test
+    void shouldMoveFailedFilesToFailed() throws Exception {
+        // Given
+        when(fileIngester.ingest(any())).thenThrow(new IOException("Disk error"));
+
+        // When
+        watcher.start();
+        Path dropped = Files.writeString(directory.resolve("dropped.csv"), "name,dateTime,location\n");
+
+        // Then
+        verify(fileIngester, timeout(5000)).ingest(dropped);
+        awaitFile(directory.resolve("failed/dropped.csv"));
+    }
+
+    @Test
+    void shouldIgnoreHiddenAndPartialFiles() throws Exception {
+        // When
+        watcher.start();
+        Files.writeString(directory.resolve("upload.csv.part"), "name");
+        Files.writeString(directory.resolve(".events.csv"), "name");
+        Thread.sleep(500);
+
+        // Then
+        verify(fileIngester, never()).ingest(any());
+    }
+
+    private static void awaitFile(Path file) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Files.exists(file) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(file).exists();
+    }
+}
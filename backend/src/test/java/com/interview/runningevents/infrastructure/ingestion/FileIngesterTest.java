@@ -0,0 +1,279 @@
+package com.interview.runningevents.infrastructure.ingestion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.application.model.IngestionCheckpoint;
+import com.interview.runningevents.application.port.in.IngestRunningEventsUseCase;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+import jakarta.validation.Validation;
+
+class FileIngesterTest {
+
+    @TempDir
+    Path directory;
+
+    private final RecordingIngestUseCase useCase = new RecordingIngestUseCase();
+
+    private final FileIngester ingester = new FileIngester(
+            useCase,
+            new RunningEventRequestValidator(
+                    Validation.buildDefaultValidatorFactory().getValidator()),
+            new RunningEventDTOMapper(),
+            new ObjectMapper(),
+            DataSize.ofBytes(40),
+            2);
+
+    @AfterEach
+    void tearDown() {
+        ingester.close();
+    }
+
+    @Test
+    void shouldIngestCsvInChunksKeepingQuotedLineBreaksTogether() throws IOException {
+        // Given
+        Path file = write(
+                "events.csv",
+                "﻿name,dateTime,location,description\r\n"
+                        + "City 10K,2030-05-10T09:00,Harbour Front,\r\n"
+                        + "Night Run,2030-06-01T21:00,Old Town,\"First line\nsecond line\nthird line\"\r\n"
+                        + "Trail Run,2030-07-01T08:00,Forest,\r\n"
+                        + "Broken,not-a-date,Nowhere,\r\n"
+                        + "Marathon,2030-09-01T08:00,City Centre,");
+
+        // When
+        IngestionCheckpoint checkpoint = ingester.ingest(file);
+
+        // Then
+        assertThat(useCase.parsedNames()).containsExactly("City 10K", "Night Run", "Trail Run", "Marathon");
+        assertThat(useCase.parsedRecords().get(1).getEvent().getDescription())
+                .isEqualTo("First line\nsecond line\nthird line");
+        assertThat(useCase.parsedRecords())
+                .extracting(ImportRecord::getLineNumber)
+                .containsExactly(2L, 3L, 6L, 8L);
+        assertThat(useCase.rejectedLines()).containsExactly(7L);
+        assertThat(useCase.chunks).isGreaterThan(1);
+
+        assertThat(checkpoint.isCompleted()).isTrue();
+        assertThat(checkpoint.getOffset()).isEqualTo(Files.size(file));
+        assertThat(checkpoint.getInserted()).isEqualTo(4);
+        assertThat(checkpoint.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIngestNdjsonWithLineNumbersAcrossChunks() throws IOException {
+        // Given
+        Path file = write(
+                "events.ndjson",
+                """
+                {"name":"City 10K","dateTime":"2030-05-10T09:00","location":"Harbour Front"}
+
+                {"name":"Night Run","dateTime":"2030-06-01T21:00"
+                {"name":"Trail Run","dateTime":"2030-07-01T08:00","location":"Forest"}
+                """);
+
+        // When
+        IngestionCheckpoint checkpoint = ingester.ingest(file);
+
+        // Then
+        assertThat(useCase.parsedNames()).containsExactly("City 10K", "Trail Run");
+        assertThat(useCase.parsedRecords())
+                .extracting(ImportRecord::getLineNumber)
+                .containsExactly(1L, 4L);
+        assertThat(useCase.rejectedLines()).containsExactly(3L);
+        assertThat(checkpoint.getLineNumber()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldResumeAfterLastCommittedChunk() throws IOException {
+        // Given
+        StringBuilder csv = new StringBuilder("name,dateTime,location\n");
+        for (int i = 1; i <= 20; i++) {
+            csv.append("Run ").append(i).append(",2030-05-10T09:00,Harbour Front\n");
+        }
+        Path file = write("events.csv", csv.toString());
+        useCase.failOnChunk = 3;
+
+        // When
+        assertThrows(IllegalStateException.class, () -> ingester.ingest(file));
+        int committedBeforeFailure = useCase.parsedNames().size();
+        useCase.failOnChunk = -1;
+        IngestionCheckpoint checkpoint = ingester.ingest(file);
+
+        // Then
+        assertThat(committedBeforeFailure).isBetween(1, 19);
+        assertThat(useCase.parsedNames()).doesNotHaveDuplicates().hasSize(20);
+        assertThat(useCase.parsedRecords())
+                .extracting(ImportRecord::getLineNumber)
+                .isSorted()
+                .startsWith(2L)
+                .endsWith(21L);
+        assertThat(checkpoint.getInserted()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldSkipCompletedFileAndRestartChangedFile() throws IOException {
+        // Given
+        Path file = write("events.csv", "name,dateTime,location\nCity 10K,2030-05-10T09:00,Harbour Front\n");
+        ingester.ingest(file);
+
+        // When
+        ingester.ingest(file);
+
+        // Then
+        assertThat(useCase.parsedNames()).containsExactly("City 10K");
+
+        // When the file is replaced
+        Files.writeString(
+                file,
+                "name,dateTime,location\nNight Run,2030-06-01T21:00,Old Town\nTrail Run,2030-07-01T08:00,Forest\n");
+        IngestionCheckpoint checkpoint = ingester.ingest(file);
+
+        // Then
+        assertThat(useCase.parsedNames()).containsExactly("City 10K", "Night Run", "Trail Run");
+        assertThat(checkpoint.getInserted()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectCsvWithoutRequiredColumns() throws IOException {
+        Path file = write("events.csv", "name,location\nCity 10K,Harbour Front\n");
+
+        assertThrows(ValidationException.class, () -> ingester.ingest(file));
+    }
+
+    @Test
+    void shouldRejectUnsupportedFile() throws IOException {
+        Path file = write("events.txt", "City 10K");
+
+        assertThat(FileIngester.isSupported(file)).isFalse();
+        assertThrows(ValidationException.class, () -> ingester.ingest(file));
+    }
+
+    @Test
+    void shouldMoveSplitToNextRecordBoundary() {
+        ByteBuffer csv = ByteBuffer.wrap("a,\"b\nc\"\nd\ne\n".getBytes(StandardCharsets.UTF_8));
+
+        // The line feed inside the quoted field is not a boundary in CSV, but is in NDJSON
+        assertThat(FileIngester.boundary(csv, true, false)).isEqualTo(8);
+        assertThat(FileIngester.boundary(csv, false, false)).isEqualTo(5);
+        // A split inside a quoted field moves past the line feed that follows the closing quote
+        assertThat(FileIngester.boundary(csv.slice(5, 7), true, true)).isEqualTo(3);
+        // With a quote left open, the split moves past the first line feed
+        assertThat(FileIngester.boundary(csv.slice(2, 3), true, false)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldTallyLineFeedsAndQuoteParityOfSplit() {
+        ByteBuffer csv = ByteBuffer.wrap("a,\"b\nc\"\"\nd\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(FileIngester.tally(csv, true)).isEqualTo(new FileIngester.Tally(3, true));
+        assertThat(FileIngester.tally(csv, false)).isEqualTo(new FileIngester.Tally(3, false));
+    }
+
+    @Test
+    void shouldCarryQuotedLineBreaksAcrossSeveralSplits() throws IOException {
+        // Given
+        String description = "line\n".repeat(30);
+        Path file = write(
+                "events.csv",
+                "name,dateTime,location,description\n"
+                        + "Night Run,2030-06-01T21:00,Old Town,\"" + description + "\"\n"
+                        + "Trail Run,2030-07-01T08:00,Forest,\n");
+
+        // When
+        IngestionCheckpoint checkpoint = ingester.ingest(file);
+
+        // Then
+        assertThat(useCase.parsedNames()).containsExactly("Night Run", "Trail Run");
+        assertThat(useCase.parsedRecords().get(0).getEvent().getDescription()).isEqualTo(description);
+        assertThat(useCase.parsedRecords())
+                .extracting(ImportRecord::getLineNumber)
+                .containsExactly(2L, 33L);
+        assertThat(checkpoint.getLineNumber()).isEqualTo(34);
+        assertThat(checkpoint.getOffset()).isEqualTo(Files.size(file));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content);
+    }
+
+    /**
+     * Keeps checkpoints in memory and records the committed records in order.
+     */
+    private static class RecordingIngestUseCase implements IngestRunningEventsUseCase {
+
+        private final Map<String, IngestionCheckpoint> checkpoints = new HashMap<>();
+        private final List<ImportRecord> records = new ArrayList<>();
+        private int chunks;
+        private int failOnChunk = -1;
+
+        @Override
+        public Optional<IngestionCheckpoint> findCheckpoint(String source) {
+            return Optional.ofNullable(checkpoints.get(source));
+        }
+
+        @Override
+        public IngestionCheckpoint ingestChunk(
+                IngestionCheckpoint checkpoint, List<ImportRecord> chunk, long endOffset, long endLineNumber) {
+            if (++chunks == failOnChunk) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            long parsed = chunk.stream().filter(ImportRecord::isParsed).count();
+            IngestionCheckpoint next = checkpoint.toBuilder()
+                    .offset(endOffset)
+                    .lineNumber(endLineNumber)
+                    .inserted(checkpoint.getInserted() + parsed)
+                    .rejected(checkpoint.getRejected() + chunk.size() - parsed)
+                    .build();
+            records.addAll(chunk);
+            checkpoints.put(next.getSource(), next);
+            return next;
+        }
+
+        @Override
+        public IngestionCheckpoint completeIngestion(IngestionCheckpoint checkpoint) {
+            IngestionCheckpoint completed =
+                    checkpoint.toBuilder().completed(true).build();
+            checkpoints.put(completed.getSource(), completed);
+            return completed;
+        }
+
+        List<ImportRecord> parsedRecords() {
+            return records.stream().filter(ImportRecord::isParsed).toList();
+        }
+
+        List<String> parsedNames() {
+            return parsedRecords().stream()
+                    .map(record -> record.getEvent().getName())
+                    .toList();
+        }
+
+        List<Long> rejectedLines() {
+            return records.stream()
+                    .filter(record -> !record.isParsed())
+                    .map(ImportRecord::getLineNumber)
+                    .toList();
+        }
+    }
+}
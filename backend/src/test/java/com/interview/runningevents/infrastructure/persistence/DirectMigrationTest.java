@@ -92,10 +92,37 @@ public class DirectMigrationTest {
         }
 
         assertThat(columnNames)
-                .containsExactlyInAnyOrder("id", "name", "date_time", "location", "description", "further_information");
+                .containsExactlyInAnyOrder(
+                        "id",
+                        "name",
+                        "date_time",
+                        "location",
+                        "description",
+                        "further_information",
+                        "version",
+                        "source",
+                        "source_key",
+                        "content_hash");
         connection.close();
     }
 
+    @Test
+    public void shouldGenerateIdsFromSequenceAfterExistingRows() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM running_event", Long.class);
+
+        jdbcTemplate.update(
+                "INSERT INTO running_event (name, date_time, location) VALUES ('Sequence Test', 1767225600000, 'Test')");
+
+        Long newId =
+                jdbcTemplate.queryForObject("SELECT id FROM running_event WHERE name = 'Sequence Test'", Long.class);
+        Integer increment = jdbcTemplate.queryForObject(
+                "SELECT CAST(INCREMENT AS INT) FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'running_event_seq'",
+                Integer.class);
+
+        assertThat(newId).isGreaterThan(maxId);
+        assertThat(increment).isEqualTo(RunningEventEntity.ID_ALLOCATION_SIZE);
+    }
+
     @Test
     public void shouldHaveCorrectIndices() throws SQLException {
         Connection connection = dataSource.getConnection();
@@ -110,10 +137,32 @@ public class DirectMigrationTest {
             }
         }
 
-        assertThat(indexNames).contains("idx_running_event_date_time");
+        assertThat(indexNames)
+                .contains(
+                        "idx_running_event_date_time_id",
+                        "idx_running_event_date_time_id_desc",
+                        "idx_running_event_source_key")
+                .doesNotContain("idx_running_event_date_time");
         connection.close();
     }
 
+    @Test
+    public void shouldSeekPagesInIndexOrder() {
+        // The shape of the cursor page queries of both persistence adapters
+        String ascending = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM running_event WHERE date_time >= 0"
+                        + " AND date_time >= 1747000000000 AND (date_time > 1747000000000 OR id > 2)"
+                        + " ORDER BY date_time ASC, id ASC FETCH FIRST 20 ROWS ONLY",
+                String.class);
+        String descending = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM running_event WHERE date_time <= 1747000000000 AND (date_time < 1747000000000 OR id < 2)"
+                        + " ORDER BY date_time DESC, id DESC FETCH FIRST 20 ROWS ONLY",
+                String.class);
+
+        assertThat(ascending).contains("idx_running_event_date_time_id:").contains("index sorted");
+        assertThat(descending).contains("idx_running_event_date_time_id_desc").contains("index sorted");
+    }
+
     @Test
     public void shouldHaveSampleData() {
         int count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM running_event", Integer.class);
@@ -0,0 +1,119 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.interview.runningevents.application.exception.ValidationException;
+
+public class H2DatabaseBackupsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRestoreScriptBackupIntoEmptyDatabase() {
+        // Given
+        DriverManagerDataSource source = inMemoryDatabase();
+        JdbcTemplate sourceJdbc = new JdbcTemplate(source);
+        sourceJdbc.execute("CREATE TABLE running_event (id BIGINT PRIMARY KEY, name VARCHAR(100))");
+        sourceJdbc.update("INSERT INTO running_event VALUES (1, 'City 10K'), (2, 'Night Run')");
+        H2DatabaseBackups.Backup backup =
+                new H2DatabaseBackups(source, directory).backup(H2DatabaseBackups.Format.SCRIPT);
+        DriverManagerDataSource target = inMemoryDatabase();
+        H2DatabaseBackups targetBackups = new H2DatabaseBackups(target, directory);
+
+        // When
+        boolean restored = targetBackups.restoreIfEmpty(backup.file());
+        boolean restoredAgain = targetBackups.restoreIfEmpty(backup.file());
+
+        // Then
+        assertThat(backup.file()).exists().hasParent(directory);
+        assertThat(backup.file().getFileName().toString()).endsWith(".sql.gz");
+        assertThat(backup.size()).isEqualTo(backup.file().toFile().length());
+        assertThat(restored).isTrue();
+        assertThat(restoredAgain).isFalse();
+        assertThat(new JdbcTemplate(target).queryForList("SELECT name FROM running_event ORDER BY id", String.class))
+                .containsExactly("City 10K", "Night Run");
+    }
+
+    @Test
+    void shouldWriteFileBackupOfFileDatabase() {
+        // Given
+        DriverManagerDataSource database = new DriverManagerDataSource(
+                "jdbc:h2:file:" + directory.resolve("db").resolve("runningeventsdb"));
+        new JdbcTemplate(database).execute("CREATE TABLE running_event (id BIGINT PRIMARY KEY)");
+
+        // When
+        H2DatabaseBackups.Backup backup =
+                new H2DatabaseBackups(database, directory.resolve("backups")).backup(H2DatabaseBackups.Format.BACKUP);
+
+        // Then
+        assertThat(backup.file()).exists();
+        assertThat(backup.file().getFileName().toString()).endsWith(".zip");
+        assertThat(backup.size()).isPositive();
+    }
+
+    @Test
+    void shouldRefuseABackupWhileAnotherIsBeingWritten() throws Exception {
+        // Given: a backup that is held up while it connects to the database
+        CountDownLatch connecting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        H2DatabaseBackups backups = new H2DatabaseBackups(
+                new DelegatingDataSource(inMemoryDatabase()) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        connecting.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return super.getConnection();
+                    }
+                },
+                directory);
+        CompletableFuture<H2DatabaseBackups.Backup> first =
+                CompletableFuture.supplyAsync(() -> backups.backup(H2DatabaseBackups.Format.SCRIPT));
+        connecting.await();
+
+        // When & Then
+        assertThrows(BackupInProgressException.class, () -> backups.backup(H2DatabaseBackups.Format.SCRIPT));
+        release.countDown();
+        assertThat(first.get(10, TimeUnit.SECONDS).file()).exists();
+    }
+
+    @Test
+    void shouldRejectFileBackupOfInMemoryDatabase() {
+        H2DatabaseBackups backups = new H2DatabaseBackups(inMemoryDatabase(), directory);
+
+        assertThrows(ValidationException.class, () -> backups.backup(H2DatabaseBackups.Format.BACKUP));
+    }
+
+    @Test
+    void shouldOnlyRestoreExistingScriptBackups() throws Exception {
+        H2DatabaseBackups backups = new H2DatabaseBackups(inMemoryDatabase(), directory);
+        Path zip = Files.createFile(directory.resolve("runningeventsdb.zip"));
+
+        assertThrows(IllegalArgumentException.class, () -> backups.restoreIfEmpty(zip));
+        assertThrows(IllegalArgumentException.class, () -> backups.restoreIfEmpty(directory.resolve("missing.sql.gz")));
+    }
+
+    private static DriverManagerDataSource inMemoryDatabase() {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    }
+}
@@ -0,0 +1,318 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.interview.runningevents.application.model.PageCursor;
+import com.interview.runningevents.application.model.PaginatedResult;
+import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.application.model.RunningEventsFingerprint;
+import com.interview.runningevents.application.model.SortDirection;
+import com.interview.runningevents.application.port.out.RunningEventRepository;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+public class InMemoryRunningEventReadModelTest {
+
+    @TempDir
+    Path directory;
+
+    private RunningEventRepository repository;
+    private InMemoryRunningEventReadModel readModel;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(RunningEventRepository.class);
+        doAnswer(invocation -> {
+                    Consumer<RunningEvent> action = invocation.getArgument(2);
+                    action.accept(event(1L, "Trail Run", 3000L, 0L));
+                    action.accept(event(2L, "City 10K", 1000L, 0L));
+                    action.accept(event(3L, "Marathon", 2000L, 0L));
+                    action.accept(event(4L, "Night Run", 2000L, 0L));
+                    return null;
+                })
+                .when(repository)
+                .forEachInDateRange(isNull(), isNull(), any(Consumer.class));
+        readModel = new InMemoryRunningEventReadModel(
+                repository,
+                mock(PlatformTransactionManager.class),
+                true,
+                false,
+                Path.of("unused"),
+                Duration.ofMinutes(5));
+    }
+
+    @Test
+    void shouldNotBeReadyBeforeLoading() {
+        assertThat(readModel.isReady()).isFalse();
+        assertThrows(
+                IllegalStateException.class,
+                () -> readModel.findAll(RunningEventQuery.builder().build()));
+    }
+
+    @Test
+    void shouldListLoadedEventsByDateThenId() {
+        // Given
+        readModel.start();
+
+        // When
+        PaginatedResult<RunningEvent> result =
+                readModel.findAll(RunningEventQuery.builder().pageSize(3).build());
+
+        // Then
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(result.getItems()).extracting(RunningEvent::getId).containsExactly(2L, 3L, 4L);
+        assertThat(result.getTotalItems()).isEqualTo(4);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+        assertThat(result.isHasNext()).isTrue();
+    }
+
+    @Test
+    void shouldFilterAndCountDateRange() {
+        // Given
+        readModel.start();
+
+        // When
+        PaginatedResult<RunningEvent> result = readModel.findAll(RunningEventQuery.builder()
+                .fromDate(2000L)
+                .toDate(2000L)
+                .sortDirection(SortDirection.DESC)
+                .build());
+
+        // Then
+        assertThat(result.getItems()).extracting(RunningEvent::getId).containsExactly(4L, 3L);
+        assertThat(result.getTotalItems()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSortByNameAndSkipEventsOutsideRange() {
+        // Given
+        readModel.start();
+
+        // When
+        PaginatedResult<RunningEvent> result = readModel.findAll(
+                RunningEventQuery.builder().fromDate(2000L).sortBy("name").build());
+
+        // Then
+        assertThat(result.getItems())
+                .extracting(RunningEvent::getName)
+                .containsExactly("Marathon", "Night Run", "Trail Run");
+    }
+
+    @Test
+    void shouldContinueFromCursor() {
+        // Given
+        readModel.start();
+        PageCursor cursor = new PageCursor("dateTime", SortDirection.ASC, 2000L, 3L, false);
+
+        // When
+        PaginatedResult<RunningEvent> result = readModel.findAll(RunningEventQuery.builder()
+                .pageSize(1)
+                .withTotals(false)
+                .cursor(cursor)
+                .build());
+
+        // Then
+        assertThat(result.getItems()).extracting(RunningEvent::getId).containsExactly(4L);
+        assertThat(result.getNextCursor()).isEqualTo(new PageCursor("dateTime", SortDirection.ASC, 2000L, 4L, false));
+    }
+
+    @Test
+    void shouldMoveUpdatedEventWithinIndexes() {
+        // Given
+        readModel.start();
+
+        // When
+        readModel.put(List.of(event(2L, "City 10K", 4000L, 1L)));
+
+        // Then
+        PaginatedResult<RunningEvent> result =
+                readModel.findAll(RunningEventQuery.builder().build());
+        assertThat(result.getItems()).extracting(RunningEvent::getId).containsExactly(3L, 4L, 1L, 2L);
+        assertThat(result.getTotalItems()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldIgnoreOlderVersionsAndDeletedEvents() {
+        // Given
+        readModel.start();
+        readModel.put(List.of(event(1L, "Trail Run (new route)", 3000L, 2L)));
+        readModel.remove(List.of(2L));
+
+        // When
+        readModel.put(List.of(event(1L, "Trail Run", 3000L, 1L), event(2L, "City 10K", 1000L, 0L)));
+
+        // Then
+        PaginatedResult<RunningEvent> result =
+                readModel.findAll(RunningEventQuery.builder().build());
+        assertThat(result.getItems()).extracting(RunningEvent::getId).containsExactly(3L, 4L, 1L);
+        assertThat(result.getItems().get(2).getName()).isEqualTo("Trail Run (new route)");
+        assertThat(result.getTotalItems()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldApplyChangesOnlyAfterCommit() {
+        // Given
+        readModel.start();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            readModel.put(List.of(event(5L, "Fun Run", 500L, 0L)));
+
+            // Then
+            assertThat(readModel.findAll(RunningEventQuery.builder().build()).getTotalItems())
+                    .isEqualTo(4);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(readModel.findAll(RunningEventQuery.builder().build()).getItems())
+                    .extracting(RunningEvent::getId)
+                    .startsWith(5L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldReturnCopiesOfIndexedEvents() {
+        // Given
+        readModel.start();
+
+        // When
+        readModel.findAll(RunningEventQuery.builder().build()).getItems().get(0).setName("Changed");
+
+        // Then
+        assertThat(readModel.findAll(RunningEventQuery.builder().build()).getItems())
+                .extracting(RunningEvent::getName)
+                .contains("City 10K")
+                .doesNotContain("Changed");
+    }
+
+    @Test
+    void shouldStayUnloadedWhenDisabled() {
+        // Given
+        InMemoryRunningEventReadModel disabled = new InMemoryRunningEventReadModel(
+                repository,
+                mock(PlatformTransactionManager.class),
+                false,
+                false,
+                Path.of("unused"),
+                Duration.ofMinutes(5));
+
+        // When
+        disabled.start();
+        disabled.put(List.of(event(5L, "Fun Run", 500L, 0L)));
+
+        // Then
+        assertThat(disabled.isReady()).isFalse();
+        verify(repository, never()).forEachInDateRange(any(), any(), any());
+    }
+
+    @Test
+    void shouldRestoreMatchingSnapshotWithoutReadingEvents() throws IOException {
+        // Given
+        Path file = directory.resolve("read-model.snapshot");
+        RunningEventsFingerprint fingerprint = RunningEventSnapshotFile.write(
+                file, List.of(event(8L, "Fun Run", 500L, 1L), event(9L, "City 10K", 1000L, 0L)), 0L);
+        when(repository.fingerprint()).thenReturn(fingerprint);
+        InMemoryRunningEventReadModel restored = withSnapshot(file);
+
+        // When
+        restored.start();
+
+        // Then
+        assertThat(restored.findAll(RunningEventQuery.builder().build()).getItems())
+                .extracting(RunningEvent::getId)
+                .containsExactly(8L, 9L);
+        verify(repository, never()).forEachInDateRange(any(), any(), any());
+        restored.stop();
+    }
+
+    @Test
+    void shouldLoadFromDatabaseWhenSnapshotIsStale() throws IOException {
+        // Given
+        Path file = directory.resolve("read-model.snapshot");
+        RunningEventSnapshotFile.write(file, List.of(event(8L, "Fun Run", 500L, 1L)), 0L);
+        when(repository.fingerprint()).thenReturn(new RunningEventsFingerprint(4L, 4L, 10L, 0L));
+        InMemoryRunningEventReadModel loaded = withSnapshot(file);
+
+        // When
+        loaded.start();
+
+        // Then
+        assertThat(loaded.findAll(RunningEventQuery.builder().build()).getItems())
+                .extracting(RunningEvent::getId)
+                .containsExactly(2L, 3L, 4L, 1L);
+        loaded.stop();
+    }
+
+    @Test
+    void shouldWriteSnapshotOnlyWhenChanged() throws IOException {
+        // Given
+        Path file = directory.resolve("read-model.snapshot");
+        InMemoryRunningEventReadModel loaded = withSnapshot(file);
+        loaded.start();
+
+        // When loaded from the database, the first snapshot is written
+        loaded.writeSnapshotIfChanged();
+
+        // Then
+        assertThat(RunningEventSnapshotFile.read(file).fingerprint())
+                .isEqualTo(new RunningEventsFingerprint(4L, 4L, 10L, 0L));
+
+        // When nothing changed
+        Files.delete(file);
+        loaded.writeSnapshotIfChanged();
+
+        // Then
+        assertThat(file).doesNotExist();
+
+        // When an event is deleted, the snapshot is written on shutdown
+        loaded.remove(List.of(4L));
+        loaded.stop();
+
+        // Then
+        assertThat(RunningEventSnapshotFile.read(file).fingerprint())
+                .isEqualTo(new RunningEventsFingerprint(3L, 3L, 6L, 0L));
+    }
+
+    @Test
+    void shouldRejectEventsWithoutId() {
+        assertThrows(IllegalArgumentException.class, () -> readModel.put(List.of(event(null, "Fun Run", 500L, 0L))));
+    }
+
+    private InMemoryRunningEventReadModel withSnapshot(Path file) {
+        return new InMemoryRunningEventReadModel(
+                repository, mock(PlatformTransactionManager.class), true, true, file, Duration.ofMinutes(5));
+    }
+
+    private static RunningEvent event(Long id, String name, long dateTime, long version) {
+        return RunningEvent.builder()
+                .id(id)
+                .name(name)
+                .dateTime(dateTime)
+                .location("Harbour Front")
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.interview.runningevents.application.model.IngestionCheckpoint;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+class IngestionCheckpointRepositoryImplTest {
+
+    @Autowired
+    private IngestionCheckpointJpaRepository jpaRepository;
+
+    private IngestionCheckpointRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new IngestionCheckpointRepositoryImpl(jpaRepository);
+    }
+
+    @Test
+    void shouldSaveAndReplaceCheckpointBySource() {
+        // Given
+        IngestionCheckpoint checkpoint = IngestionCheckpoint.builder()
+                .source("events.csv")
+                .fingerprint("2048-1700000000000")
+                .offset(1024)
+                .lineNumber(40)
+                .inserted(37)
+                .rejected(2)
+                .build();
+
+        // When
+        repository.save(checkpoint);
+        repository.save(checkpoint.toBuilder().offset(2048).completed(true).build());
+
+        // Then
+        assertThat(repository.findBySource("events.csv"))
+                .contains(checkpoint.toBuilder().offset(2048).completed(true).build());
+        assertThat(jpaRepository.count()).isEqualTo(1);
+        assertThat(jpaRepository.findById("events.csv").orElseThrow().getUpdatedAt())
+                .isGreaterThan(0);
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownSource() {
+        assertThat(repository.findBySource("unknown.csv")).isEmpty();
+    }
+
+    @Test
+    void shouldThrowExceptionForCheckpointWithoutSource() {
+        assertThrows(IllegalArgumentException.class, () -> repository.save(new IngestionCheckpoint()));
+    }
+}
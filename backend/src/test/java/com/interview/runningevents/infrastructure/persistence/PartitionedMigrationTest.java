@@ -0,0 +1,71 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Applies the migrations of the partitioned profile to a database of its own.
+ */
+public class PartitionedMigrationTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:partitioneddb;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        dataSource.setPassword("password");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/partitioned")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+    }
+
+    @Test
+    public void shouldMoveStoredEventsIntoTheTablesOfTheirYears() {
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM running_event", Integer.class))
+                .isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM running_event_y2025 ORDER BY id", Long.class))
+                .containsExactly(1L, 2L, 3L);
+        assertThat(jdbcTemplate.queryForList(
+                        "SELECT DISTINCT partition_year FROM running_event_directory", Integer.class))
+                .containsExactly(2025);
+    }
+
+    @Test
+    public void shouldRejectEventsOutsideTheYearOfTheirTable() {
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO running_event_y2025 (id, name, date_time, location) "
+                        + "VALUES (100, 'Next Year', 1767225600000, 'Test')"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    public void shouldCreateATableForEachYear() {
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT LOWER(TABLE_NAME) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME LIKE 'RUNNING_EVENT_%'"
+                        + " ORDER BY 1",
+                String.class);
+
+        assertThat(tables)
+                .contains(
+                        "running_event_default",
+                        "running_event_directory",
+                        "running_event_y2025",
+                        "running_event_y2030");
+    }
+}
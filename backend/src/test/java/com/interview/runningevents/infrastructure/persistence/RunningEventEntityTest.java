@@ -51,6 +51,31 @@ public class RunningEventEntityTest {
         assertThat(retrieved.get().getFurtherInformation()).isEqualTo("Further Information");
     }
 
+    @Test
+    public void shouldAssignIdsFromSequenceBlockWithoutFlushing() {
+        // Given
+        Long futureTime = Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli();
+        RunningEventEntity first = RunningEventEntity.builder()
+                .name("First")
+                .dateTime(futureTime)
+                .location("Location")
+                .build();
+        RunningEventEntity second = RunningEventEntity.builder()
+                .name("Second")
+                .dateTime(futureTime)
+                .location("Location")
+                .build();
+
+        // When
+        entityManager.persist(first);
+        entityManager.persist(second);
+
+        // Then - IDs are handed out from the in-memory block before anything is inserted
+        assertThat(first.getId()).isNotNull();
+        assertThat(second.getId()).isEqualTo(first.getId() + 1);
+        assertThat(first.getId()).isGreaterThan(3L);
+    }
+
     @Test
     public void shouldUpdateRunningEvent() {
         // Given
@@ -5,16 +5,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
+import com.interview.runningevents.domain.model.RunningEvent;
+
+import jakarta.persistence.EntityManager;
+
 @DataJpaTest
 @ActiveProfiles("test")
 @TestPropertySource(locations = "classpath:application-test.properties")
@@ -23,6 +30,9 @@ public class RunningEventJpaRepositoryTest {
     @Autowired
     private RunningEventJpaRepository repository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setup() {
         // Clear all existing data
@@ -145,4 +155,190 @@ public class RunningEventJpaRepositoryTest {
                 .extracting("name")
                 .containsExactly("Future Event 1", "Future Event 2");
     }
+
+    @Test
+    public void shouldProjectEventsWithoutLoadingEntities() {
+        // Given
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<RunningEvent> events = repository.findEvents(null, null, "dateTime", Sort.Direction.ASC, 1, 2);
+
+        // Then
+        assertThat(events).extracting(RunningEvent::getName).containsExactly("Present Event", "Future Event 1");
+        assertThat(events.get(0).getLocation()).isEqualTo("Present Location");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount())
+                .isZero();
+    }
+
+    @Test
+    public void shouldProjectEventsWithinOneSidedDateRanges() {
+        // Given
+        Long startDate = Instant.now().plus(5, ChronoUnit.DAYS).toEpochMilli();
+        Long endDate = Instant.now().plus(15, ChronoUnit.DAYS).toEpochMilli();
+
+        // When
+        List<RunningEvent> upcoming = repository.findEvents(startDate, null, "dateTime", Sort.Direction.DESC, 0, 10);
+        List<RunningEvent> earlier = repository.findEvents(null, endDate, "dateTime", Sort.Direction.ASC, 0, 10);
+
+        // Then
+        assertThat(upcoming)
+                .extracting(RunningEvent::getName)
+                .containsExactly("Future Event 3", "Future Event 2", "Future Event 1");
+        assertThat(earlier)
+                .extracting(RunningEvent::getName)
+                .containsExactly("Past Event", "Present Event", "Future Event 1");
+    }
+
+    @Test
+    public void shouldStreamEventsInDateOrderWithoutLoadingEntities() {
+        // Given
+        Long startDate = Instant.now().minus(5, ChronoUnit.DAYS).toEpochMilli();
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<RunningEvent> all;
+        List<RunningEvent> upcoming;
+        try (Stream<RunningEvent> events = repository.streamEvents(null, null, 2)) {
+            all = events.toList();
+        }
+        try (Stream<RunningEvent> events = repository.streamEvents(startDate, null, 2)) {
+            upcoming = events.toList();
+        }
+
+        // Then
+        assertThat(all)
+                .extracting(RunningEvent::getName)
+                .containsExactly("Past Event", "Present Event", "Future Event 1", "Future Event 2", "Future Event 3");
+        assertThat(upcoming).extracting(RunningEvent::getName).hasSize(4).doesNotContain("Past Event");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount())
+                .isZero();
+    }
+
+    @Test
+    public void shouldCountEventsWithinDateRange() {
+        // Given
+        Long startDate = Instant.now().minus(5, ChronoUnit.DAYS).toEpochMilli();
+        Long endDate = Instant.now().plus(15, ChronoUnit.DAYS).toEpochMilli();
+
+        // When & Then
+        assertThat(repository.countEvents(null, null)).isEqualTo(5);
+        assertThat(repository.countEvents(startDate, endDate)).isEqualTo(2);
+        assertThat(repository.countEvents(startDate, null)).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldUpdateEventInPlace() {
+        // Given
+        RunningEventEntity existing = repository.findAll().get(0);
+        Long newTime = Instant.now().plus(50, ChronoUnit.DAYS).toEpochMilli();
+
+        // When
+        int updatedRows = repository.updateById(
+                existing.getId(), null, "Renamed Event", newTime, "New Location", "New Description", null);
+        int missingRows = repository.updateById(-1L, null, "Ghost", newTime, "Nowhere", null, null);
+        repository.evictEvent(existing.getId());
+
+        // Then
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(missingRows).isZero();
+        RunningEventEntity reloaded = repository.findById(existing.getId()).orElseThrow();
+        assertThat(reloaded.getName()).isEqualTo("Renamed Event");
+        assertThat(reloaded.getDateTime()).isEqualTo(newTime);
+        assertThat(reloaded.getLocation()).isEqualTo("New Location");
+        assertThat(reloaded.getDescription()).isEqualTo("New Description");
+        assertThat(reloaded.getVersion()).isEqualTo(existing.getVersion() + 1);
+    }
+
+    @Test
+    public void shouldEvictOnlyTheUpdatedEventFromPersistenceContext() {
+        // Given - both events are managed by the persistence context
+        List<RunningEventEntity> managed = repository.findAll();
+        RunningEventEntity updated = managed.get(0);
+        RunningEventEntity untouched = managed.get(1);
+        Long newTime = Instant.now().plus(50, ChronoUnit.DAYS).toEpochMilli();
+
+        // When
+        repository.updateById(updated.getId(), null, "Renamed Event", newTime, "New Location", null, null);
+        repository.evictEvent(updated.getId());
+
+        // Then - the updated event is read again, the other one stays managed
+        assertThat(entityManager.contains(updated)).isFalse();
+        assertThat(entityManager.contains(untouched)).isTrue();
+        RunningEventEntity reloaded = repository.findById(updated.getId()).orElseThrow();
+        assertThat(reloaded.getName()).isEqualTo("Renamed Event");
+        assertThat(reloaded.getVersion()).isEqualTo(updated.getVersion() + 1);
+    }
+
+    @Test
+    public void shouldOnlyUpdateEventWithExpectedVersion() {
+        // Given
+        RunningEventEntity existing = repository.findAll().get(0);
+        Long version = existing.getVersion();
+        Long newTime = Instant.now().plus(50, ChronoUnit.DAYS).toEpochMilli();
+
+        // When
+        int staleRows =
+                repository.updateById(existing.getId(), version + 1, "Stale Write", newTime, "Location", null, null);
+        int updatedRows =
+                repository.updateById(existing.getId(), version, "Current Write", newTime, "Location", null, null);
+        int replayedRows =
+                repository.updateById(existing.getId(), version, "Replayed Write", newTime, "Location", null, null);
+        repository.evictEvent(existing.getId());
+
+        // Then
+        assertThat(staleRows).isZero();
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(replayedRows).isZero();
+        assertThat(repository.findVersionById(existing.getId())).isEqualTo(version + 1);
+        assertThat(repository.findById(existing.getId()).orElseThrow().getName())
+                .isEqualTo("Current Write");
+    }
+
+    @Test
+    public void shouldDeleteEventWithoutLoadingIt() {
+        // Given
+        Long id = repository.findAll().get(0).getId();
+
+        // When
+        int staleRows = repository.deleteEventById(id, 42L);
+        int deletedRows = repository.deleteEventById(id, null);
+        int missingRows = repository.deleteEventById(id, null);
+
+        // Then
+        assertThat(staleRows).isZero();
+        assertThat(deletedRows).isEqualTo(1);
+        assertThat(missingRows).isZero();
+        assertThat(repository.existsById(id)).isFalse();
+    }
+
+    @Test
+    public void shouldInsertEventsAsBatchAndReturnGeneratedIds() {
+        // Given
+        Long eventTime = Instant.now().plus(60, ChronoUnit.DAYS).toEpochMilli();
+        List<RunningEvent> events = List.of(
+                RunningEvent.builder()
+                        .name("Batch Event 1")
+                        .dateTime(eventTime)
+                        .location("Batch Location")
+                        .build(),
+                RunningEvent.builder()
+                        .name("Batch Event 2")
+                        .dateTime(eventTime)
+                        .location("Batch Location")
+                        .description("Second")
+                        .build());
+
+        // When
+        List<Long> ids = repository.insertAll(events);
+
+        // Then
+        assertThat(ids).hasSize(2).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(repository.findById(ids.get(0)).orElseThrow().getName()).isEqualTo("Batch Event 1");
+        assertThat(repository.findById(ids.get(1)).orElseThrow().getDescription())
+                .isEqualTo("Second");
+        assertThat(repository.count()).isEqualTo(7);
+    }
 }
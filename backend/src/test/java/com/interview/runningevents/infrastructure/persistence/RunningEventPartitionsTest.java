@@ -0,0 +1,75 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RunningEventPartitionsTest {
+
+    private static final long START_2025 = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    private static final long START_2026 = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+    private static final long START_2027 = Instant.parse("2027-01-01T00:00:00Z").toEpochMilli();
+    private static final long START_2028 = Instant.parse("2028-01-01T00:00:00Z").toEpochMilli();
+
+    private final RunningEventPartitions partitions = new RunningEventPartitions(List.of(2027, 2025));
+
+    @Test
+    void shouldRouteEventsToTheTablesOfTheirYears() {
+        assertThat(partitions.tableOf(START_2025)).isEqualTo("running_event_y2025");
+        assertThat(partitions.tableOf(START_2026 - 1)).isEqualTo("running_event_y2025");
+        assertThat(partitions.tableOf(START_2026)).isEqualTo(RunningEventPartitions.DEFAULT_TABLE);
+        assertThat(partitions.tableOf(START_2027)).isEqualTo("running_event_y2027");
+        assertThat(partitions.tableOf(START_2025 - 1)).isEqualTo(RunningEventPartitions.DEFAULT_TABLE);
+        assertThat(partitions.tables())
+                .containsExactly("running_event_y2025", "running_event_y2027", RunningEventPartitions.DEFAULT_TABLE);
+    }
+
+    @Test
+    void shouldCutTheTimelineIntoSegmentsInTimeOrder() {
+        assertThat(partitions.segments(null, null))
+                .containsExactly(
+                        new RunningEventPartitions.Segment(
+                                RunningEventPartitions.DEFAULT_TABLE, Long.MIN_VALUE, START_2025 - 1),
+                        new RunningEventPartitions.Segment("running_event_y2025", START_2025, START_2026 - 1),
+                        new RunningEventPartitions.Segment(
+                                RunningEventPartitions.DEFAULT_TABLE, START_2026, START_2027 - 1),
+                        new RunningEventPartitions.Segment("running_event_y2027", START_2027, START_2028 - 1),
+                        new RunningEventPartitions.Segment(
+                                RunningEventPartitions.DEFAULT_TABLE, START_2028, Long.MAX_VALUE));
+    }
+
+    @Test
+    void shouldOnlyTouchTheSegmentsOfADateRange() {
+        assertThat(partitions.segments(START_2025 + 10, START_2025 + 20))
+                .containsExactly(
+                        new RunningEventPartitions.Segment("running_event_y2025", START_2025 + 10, START_2025 + 20));
+        assertThat(partitions.segments(START_2026 - 1, START_2026))
+                .extracting(RunningEventPartitions.Segment::table)
+                .containsExactly("running_event_y2025", RunningEventPartitions.DEFAULT_TABLE);
+        assertThat(partitions.segments(START_2027, null))
+                .extracting(RunningEventPartitions.Segment::table)
+                .containsExactly("running_event_y2027", RunningEventPartitions.DEFAULT_TABLE);
+        assertThat(partitions.segments(START_2026, START_2025)).isEmpty();
+    }
+
+    @Test
+    void shouldKeepEverythingInTheDefaultTableWithoutYearTables() {
+        RunningEventPartitions none = new RunningEventPartitions(List.of());
+
+        assertThat(none.tableOf(START_2025)).isEqualTo(RunningEventPartitions.DEFAULT_TABLE);
+        assertThat(none.segments(null, null))
+                .containsExactly(new RunningEventPartitions.Segment(
+                        RunningEventPartitions.DEFAULT_TABLE, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    void shouldReadTheYearOfAPartitionTable() {
+        assertThat(RunningEventPartitions.yearOfTable("RUNNING_EVENT_Y2030")).isEqualTo(2030);
+        assertThat(RunningEventPartitions.yearOfTable("running_event_default")).isNull();
+        assertThat(RunningEventPartitions.yearOfTable("running_event")).isNull();
+        assertThat(RunningEventPartitions.yearOfTable("running_event_y")).isNull();
+    }
+}
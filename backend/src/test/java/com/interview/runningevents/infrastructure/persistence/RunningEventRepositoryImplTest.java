@@ -12,18 +12,19 @@ import static org.mockito.Mockito.when;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import com.interview.runningevents.application.model.PageCursor;
 import com.interview.runningevents.application.model.PaginatedResult;
 import com.interview.runningevents.application.model.RunningEventQuery;
 import com.interview.runningevents.application.model.SortDirection;
@@ -96,6 +97,119 @@ public class RunningEventRepositoryImplTest {
         verify(jpaRepository, never()).save(any());
     }
 
+    @Test
+    void shouldSaveAllWithGeneratedIdsInOrder() {
+        // Given
+        List<RunningEvent> events = List.of(
+                RunningEvent.builder()
+                        .name("Event 1")
+                        .dateTime(1000L)
+                        .location("Location 1")
+                        .build(),
+                RunningEvent.builder()
+                        .name("Event 2")
+                        .dateTime(2000L)
+                        .location("Location 2")
+                        .build());
+        when(jpaRepository.insertAll(events)).thenReturn(List.of(11L, 12L));
+
+        // When
+        List<RunningEvent> saved = repository.saveAll(events);
+
+        // Then
+        assertThat(saved).extracting(RunningEvent::getId).containsExactly(11L, 12L);
+        assertThat(saved).extracting(RunningEvent::getName).containsExactly("Event 1", "Event 2");
+        verify(jpaRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectSaveAllWithExistingIds() {
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> repository.saveAll(null));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> repository.saveAll(List.of(RunningEvent.builder().id(1L).build())));
+        verify(jpaRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void shouldUpdateRunningEventWithSingleStatement() {
+        // Given
+        RunningEvent event = RunningEvent.builder()
+                .id(1L)
+                .name("Updated Event")
+                .dateTime(1000L)
+                .location("Updated Location")
+                .description("Updated Description")
+                .build();
+
+        when(jpaRepository.updateById(
+                        1L, null, "Updated Event", 1000L, "Updated Location", "Updated Description", null))
+                .thenReturn(1);
+        when(jpaRepository.findVersionById(1L)).thenReturn(4L);
+
+        // When
+        Optional<RunningEvent> updated = repository.update(event);
+
+        // Then
+        assertThat(updated).isPresent();
+        assertThat(updated.get().getName()).isEqualTo("Updated Event");
+        assertThat(updated.get().getVersion()).isEqualTo(4L);
+        verify(jpaRepository, never()).findById(any());
+        verify(jpaRepository, never()).existsById(any());
+        verify(jpaRepository, never()).save(any());
+        verify(jpaRepository).evictEvent(1L);
+    }
+
+    @Test
+    void shouldReturnFalseWhenUpdatingNonExistentEvent() {
+        // Given
+        RunningEvent event = RunningEvent.builder()
+                .id(99L)
+                .name("Event")
+                .dateTime(1000L)
+                .location("Location")
+                .build();
+
+        when(jpaRepository.updateById(eq(99L), any(), any(), any(), any(), any(), any()))
+                .thenReturn(0);
+
+        // When/Then
+        assertThat(repository.update(event)).isEmpty();
+    }
+
+    @Test
+    void shouldUpdateRunningEventWithExpectedVersion() {
+        // Given
+        RunningEvent event = RunningEvent.builder()
+                .id(1L)
+                .name("Event")
+                .dateTime(1000L)
+                .location("Location")
+                .version(2L)
+                .build();
+
+        when(jpaRepository.updateById(1L, 2L, "Event", 1000L, "Location", null, null))
+                .thenReturn(1);
+
+        // When
+        Optional<RunningEvent> updated = repository.update(event);
+
+        // Then - the new version follows from the expected one without reading it back
+        assertThat(updated).isPresent();
+        assertThat(updated.get().getVersion()).isEqualTo(3L);
+        verify(jpaRepository, never()).findVersionById(any());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenUpdatingWithoutId() {
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> repository.update(null));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> repository.update(RunningEvent.builder().name("Event").build()));
+    }
+
     @Test
     void shouldFindRunningEventById() {
         // Given
@@ -159,20 +273,6 @@ public class RunningEventRepositoryImplTest {
                 .sortDirection(SortDirection.ASC)
                 .build();
 
-        RunningEventEntity entity1 = RunningEventEntity.builder()
-                .id(1L)
-                .name("Event 1")
-                .dateTime(Instant.now().plus(1, ChronoUnit.DAYS).toEpochMilli())
-                .location("Location 1")
-                .build();
-
-        RunningEventEntity entity2 = RunningEventEntity.builder()
-                .id(2L)
-                .name("Event 2")
-                .dateTime(Instant.now().plus(2, ChronoUnit.DAYS).toEpochMilli())
-                .location("Location 2")
-                .build();
-
         RunningEvent domainEvent1 = RunningEvent.builder()
                 .id(1L)
                 .name("Event 1")
@@ -187,33 +287,23 @@ public class RunningEventRepositoryImplTest {
                 .location("Location 2")
                 .build();
 
-        List<RunningEventEntity> entities = List.of(entity1, entity2);
-        Page<RunningEventEntity> page = new PageImpl<>(entities, PageRequest.of(0, 10), 2);
-
-        when(jpaRepository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(entity1)).thenReturn(domainEvent1);
-        when(mapper.toDomain(entity2)).thenReturn(domainEvent2);
+        when(jpaRepository.findEvents(null, null, "dateTime", Sort.Direction.ASC, 0L, 10))
+                .thenReturn(List.of(domainEvent1, domainEvent2));
 
         // When
         PaginatedResult<RunningEvent> result = repository.findAll(query);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getItems()).containsExactly(domainEvent1, domainEvent2);
         assertThat(result.getTotalItems()).isEqualTo(2);
+        assertThat(result.getTotalPages()).isEqualTo(1);
         assertThat(result.getPage()).isEqualTo(0);
         assertThat(result.getPageSize()).isEqualTo(10);
 
-        // Verify that the correct sort parameters were passed to the repository
-        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(jpaRepository, times(1)).findAll(pageableCaptor.capture());
-
-        Pageable capturedPageable = pageableCaptor.getValue();
-        assertThat(capturedPageable.getSort().getOrderFor("dateTime").getDirection())
-                .isEqualTo(Sort.Direction.ASC);
-
-        verify(mapper, times(1)).toDomain(entity1);
-        verify(mapper, times(1)).toDomain(entity2);
+        // Rows are projected directly, so neither entities nor the mapper are involved
+        verify(jpaRepository, never()).findAll(any(Pageable.class));
+        verify(mapper, never()).toDomain(any(RunningEventEntity.class));
     }
 
     @Test
@@ -225,63 +315,75 @@ public class RunningEventRepositoryImplTest {
                 .sortDirection(SortDirection.DESC)
                 .build();
 
-        RunningEventEntity entity1 = RunningEventEntity.builder()
-                .id(1L)
-                .name("Event 1")
-                .dateTime(Instant.now().plus(1, ChronoUnit.DAYS).toEpochMilli())
-                .location("Location 1")
-                .build();
-
-        RunningEventEntity entity2 = RunningEventEntity.builder()
+        RunningEvent domainEvent1 = RunningEvent.builder()
                 .id(2L)
                 .name("Event 2")
                 .dateTime(Instant.now().plus(2, ChronoUnit.DAYS).toEpochMilli())
                 .location("Location 2")
                 .build();
 
-        RunningEvent domainEvent1 = RunningEvent.builder()
+        RunningEvent domainEvent2 = RunningEvent.builder()
                 .id(1L)
                 .name("Event 1")
                 .dateTime(Instant.now().plus(1, ChronoUnit.DAYS).toEpochMilli())
                 .location("Location 1")
                 .build();
 
-        RunningEvent domainEvent2 = RunningEvent.builder()
-                .id(2L)
-                .name("Event 2")
-                .dateTime(Instant.now().plus(2, ChronoUnit.DAYS).toEpochMilli())
-                .location("Location 2")
-                .build();
-
-        // For the descending order test, we'd typically reverse the order of entities
-        // but since we're just mocking the repository call, we can use the same list
-        List<RunningEventEntity> entities = List.of(entity1, entity2);
-        Page<RunningEventEntity> page = new PageImpl<>(entities, PageRequest.of(0, 10), 2);
-
-        when(jpaRepository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(entity1)).thenReturn(domainEvent1);
-        when(mapper.toDomain(entity2)).thenReturn(domainEvent2);
+        when(jpaRepository.findEvents(null, null, "dateTime", Sort.Direction.DESC, 0L, 10))
+                .thenReturn(List.of(domainEvent1, domainEvent2));
 
         // When
         PaginatedResult<RunningEvent> result = repository.findAll(query);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getItems()).containsExactly(domainEvent1, domainEvent2);
         assertThat(result.getTotalItems()).isEqualTo(2);
         assertThat(result.getPage()).isEqualTo(0);
         assertThat(result.getPageSize()).isEqualTo(10);
+    }
 
-        // Verify that the correct sort parameters were passed to the repository
-        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(jpaRepository, times(1)).findAll(pageableCaptor.capture());
+    @Test
+    void shouldCountOnlyWhenThePageIsFull() {
+        // Given
+        RunningEventQuery query =
+                RunningEventQuery.builder().page(1).pageSize(2).build();
 
-        Pageable capturedPageable = pageableCaptor.getValue();
-        assertThat(capturedPageable.getSort().getOrderFor("dateTime").getDirection())
-                .isEqualTo(Sort.Direction.DESC);
+        when(jpaRepository.findEvents(null, null, "dateTime", Sort.Direction.ASC, 2L, 2))
+                .thenReturn(List.of(
+                        RunningEvent.builder().id(3L).dateTime(3000L).build(),
+                        RunningEvent.builder().id(4L).dateTime(4000L).build()));
+        when(jpaRepository.countEvents(null, null)).thenReturn(5L);
+
+        // When
+        PaginatedResult<RunningEvent> result = repository.findAll(query);
 
-        verify(mapper, times(1)).toDomain(entity1);
-        verify(mapper, times(1)).toDomain(entity2);
+        // Then
+        assertThat(result.getTotalItems()).isEqualTo(5);
+        assertThat(result.getTotalPages()).isEqualTo(3);
+        assertThat(result.isHasPrevious()).isTrue();
+        assertThat(result.isHasNext()).isTrue();
+        verify(jpaRepository, times(1)).countEvents(null, null);
+    }
+
+    @Test
+    void shouldDeriveTotalFromShortLastPageWithoutCounting() {
+        // Given
+        RunningEventQuery query =
+                RunningEventQuery.builder().page(2).pageSize(2).build();
+
+        when(jpaRepository.findEvents(null, null, "dateTime", Sort.Direction.ASC, 4L, 2))
+                .thenReturn(
+                        List.of(RunningEvent.builder().id(5L).dateTime(5000L).build()));
+
+        // When
+        PaginatedResult<RunningEvent> result = repository.findAll(query);
+
+        // Then
+        assertThat(result.getTotalItems()).isEqualTo(5);
+        assertThat(result.getTotalPages()).isEqualTo(3);
+        assertThat(result.isHasNext()).isFalse();
+        verify(jpaRepository, never()).countEvents(any(), any());
     }
 
     @Test
@@ -298,9 +400,8 @@ public class RunningEventRepositoryImplTest {
                 .sortDirection(SortDirection.ASC)
                 .build();
 
-        Page<RunningEventEntity> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-        when(jpaRepository.findByDateTimeBetween(eq(fromDate), eq(toDate), any(Pageable.class)))
-                .thenReturn(emptyPage);
+        when(jpaRepository.findEvents(eq(fromDate), eq(toDate), eq("dateTime"), eq(Sort.Direction.ASC), eq(0L), eq(10)))
+                .thenReturn(List.of());
 
         // When
         PaginatedResult<RunningEvent> result = repository.findAll(query);
@@ -308,21 +409,8 @@ public class RunningEventRepositoryImplTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getItems()).isEmpty();
-
-        ArgumentCaptor<Long> fromDateCaptor = ArgumentCaptor.forClass(Long.class);
-        ArgumentCaptor<Long> toDateCaptor = ArgumentCaptor.forClass(Long.class);
-        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-
-        verify(jpaRepository, times(1))
-                .findByDateTimeBetween(fromDateCaptor.capture(), toDateCaptor.capture(), pageableCaptor.capture());
-
-        assertThat(fromDateCaptor.getValue()).isEqualTo(fromDate);
-        assertThat(toDateCaptor.getValue()).isEqualTo(toDate);
-
-        // Verify sort direction is ascending
-        Pageable capturedPageable = pageableCaptor.getValue();
-        assertThat(capturedPageable.getSort().getOrderFor("dateTime").getDirection())
-                .isEqualTo(Sort.Direction.ASC);
+        assertThat(result.getTotalItems()).isZero();
+        verify(jpaRepository, never()).countEvents(any(), any());
     }
 
     @Test
@@ -339,31 +427,35 @@ public class RunningEventRepositoryImplTest {
                 .sortDirection(SortDirection.DESC)
                 .build();
 
-        Page<RunningEventEntity> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-        when(jpaRepository.findByDateTimeBetween(eq(fromDate), eq(toDate), any(Pageable.class)))
-                .thenReturn(emptyPage);
+        when(jpaRepository.findEvents(any(), any(), any(), any(), any(Long.class), any(Integer.class)))
+                .thenReturn(List.of());
 
         // When
-        PaginatedResult<RunningEvent> result = repository.findAll(query);
+        repository.findAll(query);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result.getItems()).isEmpty();
+        ArgumentCaptor<Sort.Direction> directionCaptor = ArgumentCaptor.forClass(Sort.Direction.class);
+        verify(jpaRepository, times(1))
+                .findEvents(eq(fromDate), eq(toDate), eq("dateTime"), directionCaptor.capture(), eq(0L), eq(10));
+        assertThat(directionCaptor.getValue()).isEqualTo(Sort.Direction.DESC);
+    }
 
-        ArgumentCaptor<Long> fromDateCaptor = ArgumentCaptor.forClass(Long.class);
-        ArgumentCaptor<Long> toDateCaptor = ArgumentCaptor.forClass(Long.class);
-        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+    @Test
+    void shouldFindEventsWithOneSidedDateFilters() {
+        // Given
+        RunningEventQuery fromOnly = RunningEventQuery.builder().fromDate(1000L).build();
+        RunningEventQuery toOnly = RunningEventQuery.builder().toDate(2000L).build();
 
-        verify(jpaRepository, times(1))
-                .findByDateTimeBetween(fromDateCaptor.capture(), toDateCaptor.capture(), pageableCaptor.capture());
+        when(jpaRepository.findEvents(any(), any(), any(), any(), any(Long.class), any(Integer.class)))
+                .thenReturn(List.of());
 
-        assertThat(fromDateCaptor.getValue()).isEqualTo(fromDate);
-        assertThat(toDateCaptor.getValue()).isEqualTo(toDate);
+        // When
+        repository.findAll(fromOnly);
+        repository.findAll(toOnly);
 
-        // Verify sort direction is descending
-        Pageable capturedPageable = pageableCaptor.getValue();
-        assertThat(capturedPageable.getSort().getOrderFor("dateTime").getDirection())
-                .isEqualTo(Sort.Direction.DESC);
+        // Then
+        verify(jpaRepository, times(1)).findEvents(1000L, null, "dateTime", Sort.Direction.ASC, 0L, 20);
+        verify(jpaRepository, times(1)).findEvents(null, 2000L, "dateTime", Sort.Direction.ASC, 0L, 20);
     }
 
     @Test
@@ -376,48 +468,17 @@ public class RunningEventRepositoryImplTest {
                 .sortDirection(SortDirection.ASC)
                 .build();
 
-        RunningEventEntity entity1 = RunningEventEntity.builder()
-                .id(1L)
-                .name("Alpha Event")
-                .dateTime(Instant.now().plus(1, ChronoUnit.DAYS).toEpochMilli())
-                .location("Location 1")
-                .build();
-
-        RunningEventEntity entity2 = RunningEventEntity.builder()
-                .id(2L)
-                .name("Beta Event")
-                .dateTime(Instant.now().plus(2, ChronoUnit.DAYS).toEpochMilli())
-                .location("Location 2")
-                .build();
-
-        List<RunningEventEntity> entities = List.of(entity1, entity2);
-        Page<RunningEventEntity> page = new PageImpl<>(entities, PageRequest.of(0, 10), 2);
-
-        when(jpaRepository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(any(RunningEventEntity.class))).thenAnswer(i -> {
-            RunningEventEntity entity = i.getArgument(0);
-            return RunningEvent.builder()
-                    .id(entity.getId())
-                    .name(entity.getName())
-                    .dateTime(entity.getDateTime())
-                    .location(entity.getLocation())
-                    .build();
-        });
+        when(jpaRepository.findEvents(null, null, "name", Sort.Direction.ASC, 0L, 10))
+                .thenReturn(List.of(
+                        RunningEvent.builder().id(1L).name("Alpha Event").build(),
+                        RunningEvent.builder().id(2L).name("Beta Event").build()));
 
         // When
         PaginatedResult<RunningEvent> result = repository.findAll(query);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.getItems()).hasSize(2);
-
-        // Verify that the correct sort parameters were passed to the repository
-        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(jpaRepository, times(1)).findAll(pageableCaptor.capture());
-
-        Pageable capturedPageable = pageableCaptor.getValue();
-        assertThat(capturedPageable.getSort().getOrderFor("name").getDirection())
-                .isEqualTo(Sort.Direction.ASC);
+        assertThat(result.getItems()).extracting(RunningEvent::getName).containsExactly("Alpha Event", "Beta Event");
     }
 
     @Test
@@ -435,9 +496,8 @@ public class RunningEventRepositoryImplTest {
                 .sortDirection(SortDirection.DESC)
                 .build();
 
-        Page<RunningEventEntity> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-        when(jpaRepository.findByDateTimeBetween(eq(fromDate), eq(toDate), any(Pageable.class)))
-                .thenReturn(emptyPage);
+        when(jpaRepository.findEvents(fromDate, toDate, "location", Sort.Direction.DESC, 0L, 10))
+                .thenReturn(List.of());
 
         // When
         PaginatedResult<RunningEvent> result = repository.findAll(query);
@@ -445,14 +505,7 @@ public class RunningEventRepositoryImplTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getItems()).isEmpty();
-
-        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(jpaRepository, times(1)).findByDateTimeBetween(eq(fromDate), eq(toDate), pageableCaptor.capture());
-
-        // Verify sort is by location in descending order
-        Pageable capturedPageable = pageableCaptor.getValue();
-        assertThat(capturedPageable.getSort().getOrderFor("location").getDirection())
-                .isEqualTo(Sort.Direction.DESC);
+        verify(jpaRepository, times(1)).findEvents(fromDate, toDate, "location", Sort.Direction.DESC, 0L, 10);
     }
 
     @Test
@@ -465,20 +518,147 @@ public class RunningEventRepositoryImplTest {
                 .sortDirection(SortDirection.ASC)
                 .build();
 
-        Page<RunningEventEntity> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-        when(jpaRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
+        when(jpaRepository.findEvents(any(), any(), any(), any(), any(Long.class), any(Integer.class)))
+                .thenReturn(List.of());
 
         // When
         repository.findAll(query);
 
         // Then
-        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(jpaRepository, times(1)).findAll(pageableCaptor.capture());
+        verify(jpaRepository, times(1)).findEvents(null, null, "dateTime", Sort.Direction.ASC, 0L, 10);
+    }
+
+    @Test
+    void shouldFetchSliceWithoutCountingWhenTotalsAreNotRequested() {
+        // Given
+        RunningEventQuery query = RunningEventQuery.builder()
+                .page(1)
+                .pageSize(2)
+                .withTotals(false)
+                .build();
+
+        // One row beyond the page size signals that there is a next page
+        when(jpaRepository.findEvents(null, null, "dateTime", Sort.Direction.ASC, 2L, 3))
+                .thenReturn(List.of(
+                        RunningEvent.builder().id(3L).dateTime(3000L).build(),
+                        RunningEvent.builder().id(4L).dateTime(4000L).build(),
+                        RunningEvent.builder().id(5L).dateTime(5000L).build()));
+
+        // When
+        PaginatedResult<RunningEvent> result = repository.findAll(query);
+
+        // Then
+        assertThat(result.getItems()).extracting(RunningEvent::getId).containsExactly(3L, 4L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.isHasPrevious()).isTrue();
+        assertThat(result.getTotalItems()).isEqualTo(PaginatedResult.UNKNOWN_TOTAL);
+        assertThat(result.getTotalPages()).isEqualTo(PaginatedResult.UNKNOWN_TOTAL);
+        verify(jpaRepository, never()).countEvents(any(), any());
+    }
+
+    @Test
+    void shouldFetchDateRangeSliceWhenTotalsAreNotRequested() {
+        // Given
+        RunningEventQuery query = RunningEventQuery.builder()
+                .fromDate(1000L)
+                .toDate(2000L)
+                .withTotals(false)
+                .build();
+
+        when(jpaRepository.findEvents(1000L, 2000L, "dateTime", Sort.Direction.ASC, 0L, 21))
+                .thenReturn(List.of());
 
-        Pageable capturedPageable = pageableCaptor.getValue();
-        assertThat(capturedPageable.getSort().getOrderFor("dateTime")).isNotNull();
-        assertThat(capturedPageable.getSort().getOrderFor("dateTime").getDirection())
-                .isEqualTo(Sort.Direction.ASC);
+        // When
+        PaginatedResult<RunningEvent> result = repository.findAll(query);
+
+        // Then
+        assertThat(result.getItems()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        verify(jpaRepository, never()).countEvents(any(), any());
+    }
+
+    @Test
+    void shouldFindNextPageByKeysetWithoutCounting() {
+        // Given
+        PageCursor cursor = new PageCursor("dateTime", SortDirection.ASC, 1000L, 7L, false);
+        RunningEventQuery query = RunningEventQuery.builder()
+                .pageSize(2)
+                .sortBy("dateTime")
+                .sortDirection(SortDirection.ASC)
+                .cursor(cursor)
+                .build();
+
+        List<RunningEvent> rows = List.of(
+                RunningEvent.builder().id(8L).dateTime(1000L).build(),
+                RunningEvent.builder().id(3L).dateTime(2000L).build(),
+                RunningEvent.builder().id(4L).dateTime(3000L).build());
+
+        when(jpaRepository.findByKeyset(null, null, "dateTime", Sort.Direction.ASC, 1000L, 7L, 3))
+                .thenReturn(rows);
+
+        // When
+        PaginatedResult<RunningEvent> result = repository.findAll(query);
+
+        // Then
+        assertThat(result.getItems()).extracting(RunningEvent::getId).containsExactly(8L, 3L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.isHasPrevious()).isTrue();
+        assertThat(result.getTotalItems()).isEqualTo(PaginatedResult.UNKNOWN_TOTAL);
+        assertThat(result.getNextCursor()).isEqualTo(new PageCursor("dateTime", SortDirection.ASC, 2000L, 3L, false));
+        assertThat(result.getPrevCursor()).isEqualTo(new PageCursor("dateTime", SortDirection.ASC, 1000L, 8L, true));
+
+        verify(jpaRepository, never()).findEvents(any(), any(), any(), any(), any(Long.class), any(Integer.class));
+        verify(jpaRepository, never()).countEvents(any(), any());
+    }
+
+    @Test
+    void shouldFindPreviousPageByKeysetInReverse() {
+        // Given
+        PageCursor cursor = new PageCursor("name", SortDirection.DESC, "Marathon", 5L, true);
+        RunningEventQuery query = RunningEventQuery.builder()
+                .pageSize(2)
+                .sortBy("name")
+                .sortDirection(SortDirection.DESC)
+                .cursor(cursor)
+                .build();
+
+        // Seeking backwards through a DESC listing reads ascending rows after the cursor
+        List<RunningEvent> rows = List.of(
+                RunningEvent.builder().id(6L).name("Night Run").build(),
+                RunningEvent.builder().id(2L).name("Trail Run").build());
+
+        when(jpaRepository.findByKeyset(null, null, "name", Sort.Direction.ASC, "Marathon", 5L, 3))
+                .thenReturn(rows);
+
+        // When
+        PaginatedResult<RunningEvent> result = repository.findAll(query);
+
+        // Then
+        assertThat(result.getItems()).extracting(RunningEvent::getName).containsExactly("Trail Run", "Night Run");
+        assertThat(result.isHasPrevious()).isFalse();
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getPrevCursor()).isNull();
+        assertThat(result.getNextCursor())
+                .isEqualTo(new PageCursor("name", SortDirection.DESC, "Night Run", 6L, false));
+    }
+
+    @Test
+    void shouldReturnNextCursorForOffsetPages() {
+        // Given
+        RunningEventQuery query =
+                RunningEventQuery.builder().page(0).pageSize(1).build();
+
+        when(jpaRepository.findEvents(null, null, "dateTime", Sort.Direction.ASC, 0L, 1))
+                .thenReturn(
+                        List.of(RunningEvent.builder().id(1L).dateTime(1000L).build()));
+        when(jpaRepository.countEvents(null, null)).thenReturn(2L);
+
+        // When
+        PaginatedResult<RunningEvent> result = repository.findAll(query);
+
+        // Then
+        assertThat(result.getNextCursor()).isEqualTo(new PageCursor("dateTime", SortDirection.ASC, 1000L, 1L, false));
+        assertThat(result.getPrevCursor()).isNull();
     }
 
     @Test
@@ -489,40 +669,65 @@ public class RunningEventRepositoryImplTest {
         verify(jpaRepository, never()).findByDateTimeBetween(any(), any(), any(Pageable.class));
     }
 
+    @Test
+    void shouldPassStreamedEventsToActionAndCloseTheStream() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        RunningEvent first = RunningEvent.builder().id(1L).dateTime(1000L).build();
+        RunningEvent second = RunningEvent.builder().id(2L).dateTime(2000L).build();
+        when(jpaRepository.streamEvents(500L, 3000L, RunningEventRepositoryImpl.STREAM_FETCH_SIZE))
+                .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        List<RunningEvent> received = new ArrayList<>();
+
+        // When
+        repository.forEachInDateRange(500L, 3000L, received::add);
+
+        // Then
+        assertThat(received).containsExactly(first, second);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenStreamingWithNullAction() {
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> repository.forEachInDateRange(null, null, null));
+        verify(jpaRepository, never()).streamEvents(any(), any(), eq(RunningEventRepositoryImpl.STREAM_FETCH_SIZE));
+    }
+
     @Test
     void shouldDeleteRunningEventById() {
         // Given
-        when(jpaRepository.existsById(1L)).thenReturn(true);
+        when(jpaRepository.deleteEventById(1L, null)).thenReturn(1);
 
         // When
         boolean result = repository.deleteById(1L);
 
         // Then
         assertThat(result).isTrue();
-        verify(jpaRepository, times(1)).existsById(1L);
-        verify(jpaRepository, times(1)).deleteById(1L);
+        verify(jpaRepository, times(1)).deleteEventById(1L, null);
+        verify(jpaRepository, never()).existsById(any());
+        verify(jpaRepository, never()).deleteById(any());
     }
 
     @Test
     void shouldReturnFalseWhenDeletingNonExistentEvent() {
         // Given
-        when(jpaRepository.existsById(99L)).thenReturn(false);
+        when(jpaRepository.deleteEventById(99L, null)).thenReturn(0);
 
         // When
         boolean result = repository.deleteById(99L);
 
         // Then
         assertThat(result).isFalse();
-        verify(jpaRepository, times(1)).existsById(99L);
-        verify(jpaRepository, never()).deleteById(any());
+        verify(jpaRepository, times(1)).deleteEventById(99L, null);
+        verify(jpaRepository, never()).existsById(any());
     }
 
     @Test
     void shouldThrowExceptionWhenDeletingWithNullId() {
         // When/Then
         assertThrows(IllegalArgumentException.class, () -> repository.deleteById(null));
-        verify(jpaRepository, never()).existsById(any());
-        verify(jpaRepository, never()).deleteById(any());
+        verify(jpaRepository, never()).deleteEventById(any(), any());
     }
 
     @Test
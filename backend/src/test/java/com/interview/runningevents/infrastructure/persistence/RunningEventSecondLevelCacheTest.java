@@ -0,0 +1,152 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.interview.runningevents.domain.model.RunningEvent;
+import com.interview.runningevents.infrastructure.config.HibernateCacheConfig;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(HibernateCacheConfig.class)
+public class RunningEventSecondLevelCacheTest {
+
+    @Autowired
+    private RunningEventJpaRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManager
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    // Runs without the test transaction: a read-write cache entry is only visible to sessions
+    // started after it was cached, so each lookup needs its own session as in a real request
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void shouldServeRepeatedFindByIdFromSecondLevelCache() {
+        // Given - a committed event from the sample data, loaded once
+        RunningEventEntity entity = repository.findById(1L).orElseThrow();
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        // When
+        RunningEventEntity cached = repository.findById(1L).orElseThrow();
+
+        // Then
+        assertThat(cached.getName()).isEqualTo(entity.getName());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore);
+        assertThat(statistics
+                        .getDomainDataRegionStatistics(RunningEventEntity.CACHE_REGION)
+                        .getHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void shouldServeRepeatedListQueryFromQueryCache() {
+        // Given
+        List<RunningEvent> firstRead = repository.findEvents(null, null, "dateTime", Sort.Direction.ASC, 0, 20);
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        // When
+        List<RunningEvent> secondRead = repository.findEvents(null, null, "dateTime", Sort.Direction.ASC, 0, 20);
+
+        // Then - the first read missed and stored the page, the second was a hit
+        assertThat(secondRead).isEqualTo(firstRead);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore);
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCachePutCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCacheDateRangeQueriesByTheirParameters() {
+        // Given
+        long from = Instant.now().toEpochMilli();
+        repository.findEvents(from, null, "dateTime", Sort.Direction.ASC, 20, 20);
+
+        // When
+        repository.findEvents(from, null, "dateTime", Sort.Direction.ASC, 20, 20);
+        repository.findEvents(from, null, "dateTime", Sort.Direction.ASC, 40, 20);
+
+        // Then - a different page of the range is a different cache entry
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(2);
+        assertThat(statistics.getQueryCachePutCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotCacheKeysetOrDeeperUnfilteredPages() {
+        // When
+        repository.findByKeyset(null, null, "dateTime", Sort.Direction.ASC, 0L, 0L, 20);
+        repository.findByKeyset(null, null, "dateTime", Sort.Direction.ASC, 0L, 0L, 20);
+        repository.findEvents(null, null, "dateTime", Sort.Direction.ASC, 20, 20);
+        repository.findEvents(null, null, "dateTime", Sort.Direction.ASC, 20, 20);
+
+        // Then - every read went to the database without touching the query cache
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+        assertThat(statistics.getQueryCacheMissCount()).isZero();
+        assertThat(statistics.getQueryCachePutCount()).isZero();
+    }
+
+    @Test
+    public void shouldInvalidateCachedListQueryAfterWrite() {
+        // Given
+        long countBefore = repository.countEvents(null, null);
+
+        // When
+        repository.saveAndFlush(RunningEventEntity.builder()
+                .name("New Event")
+                .dateTime(Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli())
+                .location("New Location")
+                .build());
+
+        // Then - the count is read again instead of served from the cache
+        assertThat(repository.countEvents(null, null)).isEqualTo(countBefore + 1);
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldInvalidateCachedListQueryAfterUpdate() {
+        // Given
+        RunningEvent first = repository
+                .findEvents(null, null, "id", Sort.Direction.ASC, 0, 1)
+                .get(0);
+
+        // When
+        repository.updateById(
+                first.getId(), null, "Renamed Event", first.getDateTime(), first.getLocation(), null, null);
+
+        // Then - the page is read again and shows the updated row
+        List<RunningEvent> reread = repository.findEvents(null, null, "id", Sort.Direction.ASC, 0, 1);
+        assertThat(reread.get(0).getName()).isEqualTo("Renamed Event");
+        assertThat(reread.get(0).getVersion()).isEqualTo(first.getVersion() + 1);
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(2);
+    }
+}
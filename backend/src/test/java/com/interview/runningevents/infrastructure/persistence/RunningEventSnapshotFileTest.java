@@ -0,0 +1,119 @@
+package com.interview.runningevents.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.interview.runningevents.application.model.RunningEventsFingerprint;
+import com.interview.runningevents.domain.model.RunningEvent;
+
+public class RunningEventSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRestoreWrittenEvents() throws IOException {
+        // Given
+        List<RunningEvent> events = List.of(
+                new RunningEvent(7L, "City 10K", 1000L, "Harbour Front", "Flat course", null, 2L),
+                new RunningEvent(3L, "Nachtlauf Zürich", 2000L, "Harbour Front", null, "Start: 21:00 🏃", 0L));
+        Path file = directory.resolve("snapshots").resolve("read-model.snapshot");
+
+        // When
+        RunningEventsFingerprint written = RunningEventSnapshotFile.write(file, events, 1234L);
+        RunningEventSnapshotFile.Snapshot snapshot = RunningEventSnapshotFile.read(file);
+        List<RunningEvent> restored = new ArrayList<>();
+        snapshot.forEach(restored::add);
+
+        // Then
+        assertThat(written).isEqualTo(new RunningEventsFingerprint(2L, 7L, 10L, 2L));
+        assertThat(snapshot.fingerprint()).isEqualTo(written);
+        assertThat(snapshot.createdAt()).isEqualTo(1234L);
+        assertThat(restored).isEqualTo(events);
+        // Equal strings are stored once and shared after restoring
+        assertThat(restored.get(0).getLocation()).isSameAs(restored.get(1).getLocation());
+        assertThat(Files.size(file))
+                .isLessThan(RunningEventSnapshotFile.HEADER_BYTES + 2L * RunningEventSnapshotFile.ROW_BYTES + 70);
+        try (var files = Files.list(file.getParent())) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    void shouldRestoreEmptySnapshot() throws IOException {
+        // Given
+        Path file = directory.resolve("read-model.snapshot");
+
+        // When
+        RunningEventSnapshotFile.write(file, List.of(), 0L);
+        RunningEventSnapshotFile.Snapshot snapshot = RunningEventSnapshotFile.read(file);
+
+        // Then
+        assertThat(snapshot.fingerprint()).isEqualTo(new RunningEventsFingerprint(0L, 0L, 0L, 0L));
+        assertThat(Files.size(file)).isEqualTo(RunningEventSnapshotFile.HEADER_BYTES);
+    }
+
+    @Test
+    void shouldReplacePreviousSnapshot() throws IOException {
+        // Given
+        Path file = directory.resolve("read-model.snapshot");
+        RunningEventSnapshotFile.write(file, List.of(event(1L, "City 10K")), 0L);
+
+        // When
+        RunningEventSnapshotFile.write(file, List.of(event(2L, "Night Run")), 0L);
+
+        // Then
+        List<RunningEvent> restored = new ArrayList<>();
+        RunningEventSnapshotFile.read(file).forEach(restored::add);
+        assertThat(restored).extracting(RunningEvent::getName).containsExactly("Night Run");
+    }
+
+    @Test
+    void shouldRejectCorruptSnapshot() throws IOException {
+        // Given
+        Path file = directory.resolve("read-model.snapshot");
+        RunningEventSnapshotFile.write(file, List.of(event(1L, "City 10K")), 0L);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), Files.size(file) - 1);
+        }
+
+        // When / Then
+        assertThrows(IOException.class, () -> RunningEventSnapshotFile.read(file));
+    }
+
+    @Test
+    void shouldRejectTruncatedSnapshot() throws IOException {
+        // Given
+        Path file = directory.resolve("read-model.snapshot");
+        RunningEventSnapshotFile.write(file, List.of(event(1L, "City 10K")), 0L);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 1);
+        }
+
+        // When / Then
+        assertThrows(IOException.class, () -> RunningEventSnapshotFile.read(file));
+    }
+
+    @Test
+    void shouldRejectOtherFiles() throws IOException {
+        Path file = Files.writeString(directory.resolve("events.csv"), "name,dateTime,location\n".repeat(10));
+
+        assertThrows(IOException.class, () -> RunningEventSnapshotFile.read(file));
+    }
+
+    private static RunningEvent event(Long id, String name) {
+        return new RunningEvent(id, name, 1000L, "Harbour Front", null, null, 0L);
+    }
+}
@@ -0,0 +1,101 @@
+package com.interview.runningevents.infrastructure.web;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.infrastructure.persistence.BackupInProgressException;
+import com.interview.runningevents.infrastructure.persistence.H2DatabaseBackups;
+
+@WebMvcTest(
+        controllers = DatabaseBackupController.class,
+        properties = {"running-events.backup.enabled=true", "running-events.backup.admin-token=s3cret"})
+public class DatabaseBackupControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private H2DatabaseBackups backups;
+
+    @Test
+    public void shouldTakeScriptBackupByDefault() throws Exception {
+        // Given
+        when(backups.backup(H2DatabaseBackups.Format.SCRIPT))
+                .thenReturn(new H2DatabaseBackups.Backup(
+                        Path.of("/var/backups/runningeventsdb-20300510T090000000Z.sql.gz"),
+                        H2DatabaseBackups.Format.SCRIPT,
+                        1024,
+                        85));
+
+        // When & Then
+        mockMvc.perform(post("/api/admin/backups").header("Authorization", "Bearer s3cret"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.file", is("runningeventsdb-20300510T090000000Z.sql.gz")))
+                .andExpect(jsonPath("$.format", is("script")))
+                .andExpect(jsonPath("$.size", is(1024)))
+                .andExpect(jsonPath("$.durationMillis", is(85)));
+    }
+
+    @Test
+    public void shouldReturnBadRequestForFileBackupOfInMemoryDatabase() throws Exception {
+        // Given
+        when(backups.backup(H2DatabaseBackups.Format.BACKUP))
+                .thenThrow(new ValidationException("An in-memory database has no file to back up"));
+
+        // When & Then
+        mockMvc.perform(post("/api/admin/backups")
+                        .header("Authorization", "Bearer s3cret")
+                        .param("format", "BACKUP"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void shouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(post("/api/admin/backups")
+                        .header("Authorization", "Bearer s3cret")
+                        .param("format", "tar"))
+                .andExpect(status().isBadRequest());
+
+        verify(backups, never()).backup(any());
+    }
+
+    @Test
+    public void shouldRejectRequestsWithoutTheAdminToken() throws Exception {
+        mockMvc.perform(post("/api/admin/backups"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string("WWW-Authenticate", "Bearer"));
+        mockMvc.perform(post("/api/admin/backups").header("Authorization", "Bearer wrong"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/admin/backups").header("Authorization", "s3cret"))
+                .andExpect(status().isUnauthorized());
+
+        verify(backups, never()).backup(any());
+    }
+
+    @Test
+    public void shouldReturnConflictWhileAnotherBackupIsRunning() throws Exception {
+        // Given
+        when(backups.backup(H2DatabaseBackups.Format.SCRIPT))
+                .thenThrow(new BackupInProgressException("A backup is already being written"));
+
+        // When & Then
+        mockMvc.perform(post("/api/admin/backups").header("Authorization", "Bearer s3cret"))
+                .andExpect(status().isConflict());
+    }
+}
@@ -9,6 +9,10 @@ import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -61,6 +65,27 @@ public class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getDetails()).isEmpty();
     }
 
+    @Test
+    public void shouldHandleConcurrentWriteConflicts() {
+        // Given
+        List<DataAccessException> conflicts = List.of(
+                new OptimisticLockingFailureException("Running event 123 was changed during the sync"),
+                new CannotAcquireLockException("Timeout trying to lock table RUNNING_EVENT_SOURCE"),
+                new DataIntegrityViolationException("Unique index violation: IDX_RUNNING_EVENT_SOURCE_KEY"));
+
+        for (DataAccessException ex : conflicts) {
+            // When
+            ResponseEntity<ErrorResponseDTO> response = exceptionHandler.handleConcurrentWriteConflict(ex, mockRequest);
+
+            // Then - the database message is not passed on
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getStatus()).isEqualTo(409);
+            assertThat(response.getBody().getMessage()).doesNotContain("RUNNING_EVENT");
+            assertThat(response.getBody().getPath()).isEqualTo("/api/events/123");
+        }
+    }
+
     @Test
     public void shouldHandleValidationException() {
         // Given
@@ -0,0 +1,149 @@
+package com.interview.runningevents.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.runningevents.application.model.BatchItemResult;
+import com.interview.runningevents.application.port.in.CreateRunningEventsBatchUseCase;
+import com.interview.runningevents.domain.model.RunningEvent;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventRequestDTO;
+import com.interview.runningevents.infrastructure.web.util.DateTimeConverter;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+@WebMvcTest(controllers = RunningEventBatchController.class, properties = "running-events.batch.max-items=5")
+@Import({RunningEventDTOMapper.class, RunningEventRequestValidator.class})
+public class RunningEventBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private CreateRunningEventsBatchUseCase createRunningEventsBatchUseCase;
+
+    @Test
+    public void shouldReturnPerItemResults() throws Exception {
+        // Given
+        String futureTime = DateTimeConverter.fromTimestamp(
+                Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli());
+        String pastTime = DateTimeConverter.fromTimestamp(
+                Instant.now().minus(1, ChronoUnit.DAYS).toEpochMilli());
+
+        List<RunningEventRequestDTO> request = List.of(
+                RunningEventRequestDTO.builder()
+                        .name("First")
+                        .dateTime(futureTime)
+                        .location("Here")
+                        .build(),
+                RunningEventRequestDTO.builder()
+                        .name("")
+                        .dateTime(futureTime)
+                        .location("")
+                        .build(),
+                RunningEventRequestDTO.builder()
+                        .name("Past")
+                        .dateTime(pastTime)
+                        .location("There")
+                        .build(),
+                RunningEventRequestDTO.builder()
+                        .name("Second")
+                        .dateTime(futureTime)
+                        .location("Elsewhere")
+                        .build());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RunningEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+        when(createRunningEventsBatchUseCase.createRunningEvents(eventsCaptor.capture()))
+                .thenReturn(List.of(BatchItemResult.created(0, 10L), BatchItemResult.created(1, 11L)));
+
+        // When & Then
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(2)))
+                .andExpect(jsonPath("$.failed", is(2)))
+                .andExpect(jsonPath("$.items.length()", is(4)))
+                .andExpect(jsonPath("$.items[0].index", is(0)))
+                .andExpect(jsonPath("$.items[0].id", is(10)))
+                .andExpect(jsonPath("$.items[0].error", nullValue()))
+                .andExpect(jsonPath("$.items[1].id", nullValue()))
+                .andExpect(jsonPath("$.items[1].error", is("location: Location is required; name: Name is required")))
+                .andExpect(jsonPath("$.items[2].error", is("Event date must be in the future")))
+                .andExpect(jsonPath("$.items[3].index", is(3)))
+                .andExpect(jsonPath("$.items[3].id", is(11)));
+
+        // Only the valid items reach the use case
+        assertThat(eventsCaptor.getValue()).extracting(RunningEvent::getName).containsExactly("First", "Second");
+    }
+
+    @Test
+    public void shouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Batch must contain at least one event")));
+
+        verify(createRunningEventsBatchUseCase, never()).createRunningEvents(anyList());
+    }
+
+    @Test
+    public void shouldRejectBatchLargerThanMaxItems() throws Exception {
+        // Given
+        String futureTime = DateTimeConverter.fromTimestamp(
+                Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli());
+        List<RunningEventRequestDTO> request = IntStream.range(0, 6)
+                .mapToObj(i -> RunningEventRequestDTO.builder()
+                        .name("Event " + i)
+                        .dateTime(futureTime)
+                        .location("Here")
+                        .build())
+                .toList();
+
+        // When & Then
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("more than 5 events")))
+                .andExpect(jsonPath("$.message", containsString("/api/events/import")));
+
+        verify(createRunningEventsBatchUseCase, never()).createRunningEvents(anyList());
+    }
+
+    @Test
+    public void shouldRejectMalformedBody() throws Exception {
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"not an array\"}"))
+                .andExpect(status().isBadRequest());
+    }
+}
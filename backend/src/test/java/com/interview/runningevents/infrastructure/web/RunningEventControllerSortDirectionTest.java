@@ -29,6 +29,7 @@ import com.interview.runningevents.application.port.in.GetRunningEventUseCase;
 import com.interview.runningevents.application.port.in.ListRunningEventsUseCase;
 import com.interview.runningevents.application.port.in.UpdateRunningEventUseCase;
 import com.interview.runningevents.domain.model.RunningEvent;
+import com.interview.runningevents.infrastructure.web.cache.RunningEventResponseCache;
 import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
 
 @WebMvcTest(RunningEventController.class)
@@ -53,6 +54,9 @@ class RunningEventControllerSortDirectionTest {
     @MockBean
     private DeleteRunningEventUseCase deleteRunningEventUseCase;
 
+    @MockBean
+    private RunningEventResponseCache responseCache;
+
     @Test
     void shouldUseAscendingSortByDefault() throws Exception {
         // Given
@@ -24,6 +24,7 @@ import com.interview.runningevents.application.port.in.DeleteRunningEventUseCase
 import com.interview.runningevents.application.port.in.GetRunningEventUseCase;
 import com.interview.runningevents.application.port.in.ListRunningEventsUseCase;
 import com.interview.runningevents.application.port.in.UpdateRunningEventUseCase;
+import com.interview.runningevents.infrastructure.web.cache.RunningEventResponseCache;
 import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
 
 @WebMvcTest(RunningEventController.class)
@@ -48,6 +49,9 @@ class RunningEventControllerSortFieldTest {
     @MockBean
     private DeleteRunningEventUseCase deleteRunningEventUseCase;
 
+    @MockBean
+    private RunningEventResponseCache responseCache;
+
     @Test
     void shouldUseSortByParameterFromRequest() throws Exception {
         // Given
@@ -2,19 +2,25 @@ package com.interview.runningevents.infrastructure.web;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -23,6 +29,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,7 +42,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.runningevents.application.exception.RunningEventVersionConflictException;
 import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.model.PageCursor;
 import com.interview.runningevents.application.model.PaginatedResult;
 import com.interview.runningevents.application.model.RunningEventQuery;
 import com.interview.runningevents.application.model.SortDirection;
@@ -45,12 +54,13 @@ import com.interview.runningevents.application.port.in.GetRunningEventUseCase;
 import com.interview.runningevents.application.port.in.ListRunningEventsUseCase;
 import com.interview.runningevents.application.port.in.UpdateRunningEventUseCase;
 import com.interview.runningevents.domain.model.RunningEvent;
+import com.interview.runningevents.infrastructure.web.cache.RunningEventResponseCache;
 import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
 import com.interview.runningevents.infrastructure.web.dto.RunningEventRequestDTO;
 import com.interview.runningevents.infrastructure.web.util.DateTimeConverter;
 
 @WebMvcTest(RunningEventController.class)
-@Import({RunningEventDTOMapper.class})
+@Import({RunningEventDTOMapper.class, RunningEventResponseCache.class})
 public class RunningEventControllerTest {
 
     @Autowired
@@ -74,12 +84,16 @@ public class RunningEventControllerTest {
     @MockBean
     private DeleteRunningEventUseCase deleteRunningEventUseCase;
 
+    @Autowired
+    private RunningEventResponseCache responseCache;
+
     private static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneId.systemDefault());
 
     @BeforeEach
     public void setUp() {
-        // Common setup code
+        // The off-heap cache outlives a single test, so each test starts without cached events
+        responseCache.clear();
     }
 
     @Test
@@ -184,6 +198,7 @@ public class RunningEventControllerTest {
                 .location("Test Location")
                 .description("Test Description")
                 .furtherInformation("Further Information")
+                .version(3L)
                 .build();
 
         when(getRunningEventUseCase.getRunningEventById(eventId)).thenReturn(Optional.of(event));
@@ -191,6 +206,7 @@ public class RunningEventControllerTest {
         // When & Then
         mockMvc.perform(get("/api/events/{id}", eventId).accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.name", is("Test Marathon")))
                 .andExpect(jsonPath("$.dateTime", is(DateTimeConverter.fromTimestamp(eventTime.toEpochMilli()))))
@@ -351,6 +367,35 @@ public class RunningEventControllerTest {
         assertThat(capturedQuery.getToDate()).isEqualTo(expectedToDate);
     }
 
+    @Test
+    public void shouldFilterByFromDateOnly() throws Exception {
+        // Given
+        ArgumentCaptor<RunningEventQuery> queryCaptor = ArgumentCaptor.forClass(RunningEventQuery.class);
+        when(listRunningEventsUseCase.listRunningEvents(queryCaptor.capture()))
+                .thenReturn(PaginatedResult.of(Collections.emptyList(), 0, 0, 20));
+
+        String fromDateString = DateTimeConverter.fromTimestamp(
+                Instant.now().plus(10, ChronoUnit.DAYS).toEpochMilli());
+
+        // When
+        mockMvc.perform(get("/api/events").param("fromDate", fromDateString).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // Then
+        RunningEventQuery capturedQuery = queryCaptor.getValue();
+        assertThat(capturedQuery.getFromDate()).isEqualTo(DateTimeConverter.toTimestamp(fromDateString));
+        assertThat(capturedQuery.getToDate()).isNull();
+    }
+
+    @Test
+    public void shouldRejectInvalidFromDateWithoutToDate() throws Exception {
+        mockMvc.perform(get("/api/events").param("fromDate", "not-a-date").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath(
+                        "$.message",
+                        is("Invalid fromDate format. Expected format: yyyy-MM-ddTHH:mm (e.g. 2025-04-30T14:30)")));
+    }
+
     @Test
     public void shouldHandleEmptyResults() throws Exception {
         // Given
@@ -397,6 +442,78 @@ public class RunningEventControllerTest {
         assertThat(capturedQuery.getSortDirection()).isEqualTo(SortDirection.DESC);
     }
 
+    @Test
+    public void shouldSkipTotalsWhenRequested() throws Exception {
+        // Given
+        PaginatedResult<RunningEvent> result =
+                PaginatedResult.withoutTotals(Collections.emptyList(), 0, 20, false, false, null, null);
+
+        ArgumentCaptor<RunningEventQuery> queryCaptor = ArgumentCaptor.forClass(RunningEventQuery.class);
+        when(listRunningEventsUseCase.listRunningEvents(queryCaptor.capture())).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(get("/api/events").param("withTotals", "false").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems", is(-1)))
+                .andExpect(jsonPath("$.totalPages", is(-1)))
+                .andExpect(jsonPath("$.hasNext", is(false)));
+
+        assertThat(queryCaptor.getValue().isWithTotals()).isFalse();
+    }
+
+    @Test
+    public void shouldPassCursorAndReturnNeighbourCursors() throws Exception {
+        // Given
+        RunningEvent event = RunningEvent.builder()
+                .id(3L)
+                .name("Event 3")
+                .dateTime(Instant.now().plus(10, ChronoUnit.DAYS).toEpochMilli())
+                .location("Location 3")
+                .build();
+        PageCursor requestCursor = new PageCursor("dateTime", SortDirection.ASC, 1000L, 2L, false);
+        PageCursor nextCursor = PageCursor.after(event, "dateTime", SortDirection.ASC);
+        PageCursor prevCursor = PageCursor.before(event, "dateTime", SortDirection.ASC);
+        PaginatedResult<RunningEvent> result =
+                PaginatedResult.withoutTotals(List.of(event), 0, 1, true, true, nextCursor, prevCursor);
+
+        ArgumentCaptor<RunningEventQuery> queryCaptor = ArgumentCaptor.forClass(RunningEventQuery.class);
+        when(listRunningEventsUseCase.listRunningEvents(queryCaptor.capture())).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                        .param("size", "1")
+                        .param("cursor", requestCursor.encode())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id", is(3)))
+                .andExpect(jsonPath("$.totalItems", is(-1)))
+                .andExpect(jsonPath("$.nextCursor", is(nextCursor.encode())))
+                .andExpect(jsonPath("$.prevCursor", is(prevCursor.encode())));
+
+        assertThat(queryCaptor.getValue().getCursor()).isEqualTo(requestCursor);
+    }
+
+    @Test
+    public void shouldRejectInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/events").param("cursor", "not-a-cursor").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid cursor")));
+    }
+
+    @Test
+    public void shouldRejectCursorFromDifferentSortOrder() throws Exception {
+        // Given
+        String cursor = new PageCursor("name", SortDirection.ASC, "Marathon", 2L, false).encode();
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                        .param("cursor", cursor)
+                        .param("sortBy", "dateTime")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Cursor does not match the requested sort order")));
+    }
+
     @Test
     public void shouldUpdateRunningEventSuccessfully() throws Exception {
         // Given
@@ -404,14 +521,6 @@ public class RunningEventControllerTest {
         Instant eventTime = Instant.now().plus(30, ChronoUnit.DAYS);
         String formattedTime = DATE_FORMATTER.format(eventTime);
 
-        RunningEvent existingEvent = RunningEvent.builder()
-                .id(eventId)
-                .name("Original Name")
-                .dateTime(Instant.now().plus(20, ChronoUnit.DAYS).toEpochMilli())
-                .location("Original Location")
-                .description("Original Description")
-                .build();
-
         RunningEventRequestDTO updateRequestDTO = RunningEventRequestDTO.builder()
                 .name("Updated Name")
                 .dateTime(DateTimeConverter.fromTimestamp(eventTime.toEpochMilli()))
@@ -430,8 +539,6 @@ public class RunningEventControllerTest {
                 .build();
 
         // Mock the dependencies
-        when(getRunningEventUseCase.getRunningEventById(eventId)).thenReturn(Optional.of(existingEvent));
-
         when(updateRunningEventUseCase.updateRunningEvent(any(RunningEvent.class)))
                 .thenReturn(Optional.of(updatedEvent));
 
@@ -446,6 +553,9 @@ public class RunningEventControllerTest {
                 .andExpect(jsonPath("$.location", is("Updated Location")))
                 .andExpect(jsonPath("$.description", is("Updated Description")))
                 .andExpect(jsonPath("$.furtherInformation", is("Updated Further Information")));
+
+        // The update itself is the existence check
+        verify(getRunningEventUseCase, never()).getRunningEventById(any());
     }
 
     @Test
@@ -462,7 +572,8 @@ public class RunningEventControllerTest {
                 .build();
 
         // Mock the dependencies
-        when(getRunningEventUseCase.getRunningEventById(nonExistentId)).thenReturn(Optional.empty());
+        when(updateRunningEventUseCase.updateRunningEvent(any(RunningEvent.class)))
+                .thenReturn(Optional.empty());
 
         // When & Then
         mockMvc.perform(put("/api/events/{id}", nonExistentId)
@@ -478,13 +589,6 @@ public class RunningEventControllerTest {
         // Given
         Long eventId = 1L;
 
-        RunningEvent existingEvent = RunningEvent.builder()
-                .id(eventId)
-                .name("Original Name")
-                .dateTime(Instant.now().plus(20, ChronoUnit.DAYS).toEpochMilli())
-                .location("Original Location")
-                .build();
-
         RunningEventRequestDTO invalidDTO = RunningEventRequestDTO.builder()
                 .name("") // Empty name - should fail validation
                 .dateTime(null) // Null dateTime - should fail validation
@@ -492,8 +596,6 @@ public class RunningEventControllerTest {
                 .build();
 
         // Mock the dependencies
-        when(getRunningEventUseCase.getRunningEventById(eventId)).thenReturn(Optional.of(existingEvent));
-
         // When & Then
         mockMvc.perform(put("/api/events/{id}", eventId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -514,13 +616,6 @@ public class RunningEventControllerTest {
         Long eventId = 1L;
         Instant pastTime = Instant.now().minus(1, ChronoUnit.DAYS);
 
-        RunningEvent existingEvent = RunningEvent.builder()
-                .id(eventId)
-                .name("Original Name")
-                .dateTime(Instant.now().plus(20, ChronoUnit.DAYS).toEpochMilli())
-                .location("Original Location")
-                .build();
-
         RunningEventRequestDTO requestDTO = RunningEventRequestDTO.builder()
                 .name("Updated Name")
                 .dateTime(DateTimeConverter.fromTimestamp(
@@ -529,8 +624,6 @@ public class RunningEventControllerTest {
                 .build();
 
         // Mock the dependencies
-        when(getRunningEventUseCase.getRunningEventById(eventId)).thenReturn(Optional.of(existingEvent));
-
         when(updateRunningEventUseCase.updateRunningEvent(any(RunningEvent.class)))
                 .thenThrow(new ValidationException("Event date must be in the future"));
 
@@ -550,13 +643,6 @@ public class RunningEventControllerTest {
         String eventTime = DateTimeConverter.fromTimestamp(
                 Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli());
 
-        RunningEvent existingEvent = RunningEvent.builder()
-                .id(eventId)
-                .name("Original Name")
-                .dateTime(Instant.now().plus(20, ChronoUnit.DAYS).toEpochMilli())
-                .location("Original Location")
-                .build();
-
         RunningEventRequestDTO updateRequestDTO = RunningEventRequestDTO.builder()
                 .name("Updated Name")
                 .dateTime(eventTime)
@@ -576,8 +662,6 @@ public class RunningEventControllerTest {
         ArgumentCaptor<RunningEvent> eventCaptor = ArgumentCaptor.forClass(RunningEvent.class);
 
         // Mock the dependencies
-        when(getRunningEventUseCase.getRunningEventById(eventId)).thenReturn(Optional.of(existingEvent));
-
         when(updateRunningEventUseCase.updateRunningEvent(eventCaptor.capture()))
                 .thenReturn(Optional.of(updatedEvent));
 
@@ -601,13 +685,13 @@ public class RunningEventControllerTest {
         // Given
         Long eventId = 1L;
 
-        when(deleteRunningEventUseCase.deleteRunningEvent(eventId)).thenReturn(true);
+        when(deleteRunningEventUseCase.deleteRunningEvent(eventId, null)).thenReturn(true);
 
         // When & Then
         mockMvc.perform(delete("/api/events/{id}", eventId)).andExpect(status().isNoContent());
 
         // Verify the correct ID was passed to the use case
-        verify(deleteRunningEventUseCase).deleteRunningEvent(eq(eventId));
+        verify(deleteRunningEventUseCase).deleteRunningEvent(eq(eventId), eq(null));
     }
 
     @Test
@@ -615,7 +699,7 @@ public class RunningEventControllerTest {
         // Given
         Long nonExistentId = 999L;
 
-        when(deleteRunningEventUseCase.deleteRunningEvent(nonExistentId)).thenReturn(false);
+        when(deleteRunningEventUseCase.deleteRunningEvent(nonExistentId, null)).thenReturn(false);
 
         // When & Then
         mockMvc.perform(delete("/api/events/{id}", nonExistentId))
@@ -624,6 +708,281 @@ public class RunningEventControllerTest {
                 .andExpect(jsonPath("$.message", is("Running event not found with ID: 999")));
 
         // Verify the correct ID was passed to the use case
-        verify(deleteRunningEventUseCase).deleteRunningEvent(eq(nonExistentId));
+        verify(deleteRunningEventUseCase).deleteRunningEvent(eq(nonExistentId), eq(null));
+    }
+
+    @Test
+    public void shouldUpdateWithIfMatchVersionAndReturnNewETag() throws Exception {
+        // Given
+        Long eventId = 1L;
+        Instant eventTime = Instant.now().plus(30, ChronoUnit.DAYS);
+
+        RunningEventRequestDTO updateRequestDTO = RunningEventRequestDTO.builder()
+                .name("Updated Name")
+                .dateTime(DateTimeConverter.fromTimestamp(eventTime.toEpochMilli()))
+                .location("Updated Location")
+                .build();
+
+        ArgumentCaptor<RunningEvent> eventCaptor = ArgumentCaptor.forClass(RunningEvent.class);
+        when(updateRunningEventUseCase.updateRunningEvent(eventCaptor.capture()))
+                .thenAnswer(invocation -> {
+                    RunningEvent event = invocation.getArgument(0);
+                    return Optional.of(RunningEvent.builder()
+                            .id(event.getId())
+                            .name(event.getName())
+                            .dateTime(event.getDateTime())
+                            .location(event.getLocation())
+                            .version(event.getVersion() + 1)
+                            .build());
+                });
+
+        // When & Then
+        mockMvc.perform(put("/api/events/{id}", eventId)
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequestDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+
+        assertThat(eventCaptor.getValue().getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    public void shouldReturn412WhenUpdatingStaleVersion() throws Exception {
+        // Given
+        Instant eventTime = Instant.now().plus(30, ChronoUnit.DAYS);
+
+        RunningEventRequestDTO updateRequestDTO = RunningEventRequestDTO.builder()
+                .name("Updated Name")
+                .dateTime(DateTimeConverter.fromTimestamp(eventTime.toEpochMilli()))
+                .location("Updated Location")
+                .build();
+
+        when(updateRunningEventUseCase.updateRunningEvent(any(RunningEvent.class)))
+                .thenThrow(new RunningEventVersionConflictException(1L, 2L));
+
+        // When & Then
+        mockMvc.perform(put("/api/events/{id}", 1L)
+                        .header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequestDTO)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status", is(412)))
+                .andExpect(jsonPath("$.message", is("Running event with ID 1 no longer has version 2")));
+    }
+
+    @Test
+    public void shouldDeleteWithIfMatchVersion() throws Exception {
+        // Given
+        when(deleteRunningEventUseCase.deleteRunningEvent(1L, 5L)).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(delete("/api/events/{id}", 1L).header("If-Match", "\"5\""))
+                .andExpect(status().isNoContent());
+
+        verify(deleteRunningEventUseCase).deleteRunningEvent(eq(1L), eq(5L));
+    }
+
+    @Test
+    public void shouldReturn412ForWeakIfMatch() throws Exception {
+        // When & Then - a weak tag can never match the strong version tag
+        mockMvc.perform(delete("/api/events/{id}", 1L).header("If-Match", "W/\"5\""))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(deleteRunningEventUseCase, never()).deleteRunningEvent(any(), any());
+    }
+
+    @Test
+    public void shouldReturn304WhenEventVersionIsUnchanged() throws Exception {
+        // Given
+        RunningEvent event = RunningEvent.builder()
+                .id(1L)
+                .name("Test Marathon")
+                .dateTime(Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli())
+                .location("Test Location")
+                .version(3L)
+                .build();
+
+        when(getRunningEventUseCase.getRunningEventById(1L)).thenReturn(Optional.of(event));
+
+        // When & Then
+        mockMvc.perform(get("/api/events/{id}", 1L).header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void shouldServeRepeatedGetFromResponseCache() throws Exception {
+        // Given
+        RunningEvent event = RunningEvent.builder()
+                .id(1L)
+                .name("Test Marathon")
+                .dateTime(Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli())
+                .location("Test Location")
+                .version(3L)
+                .build();
+
+        when(getRunningEventUseCase.getRunningEventById(1L)).thenReturn(Optional.of(event));
+
+        String firstBody = mockMvc.perform(get("/api/events/{id}", 1L))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // When & Then
+        mockMvc.perform(get("/api/events/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(firstBody))
+                .andExpect(jsonPath("$.name", is("Test Marathon")));
+
+        verify(getRunningEventUseCase, times(1)).getRunningEventById(1L);
+    }
+
+    @Test
+    public void shouldServeGzipVariantToClientsAcceptingIt() throws Exception {
+        // Given
+        RunningEvent event = RunningEvent.builder()
+                .id(1L)
+                .name("Test Marathon")
+                .dateTime(Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli())
+                .location("Test Location")
+                .description("Scenic course along the river. ".repeat(20))
+                .version(3L)
+                .build();
+
+        when(getRunningEventUseCase.getRunningEventById(1L)).thenReturn(Optional.of(event));
+
+        // When
+        byte[] gzipped = mockMvc.perform(get("/api/events/{id}", 1L).header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(header().string("ETag", "\"3\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Then
+        String plain = mockMvc.perform(get("/api/events/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(plain);
+        }
+        verify(getRunningEventUseCase, times(1)).getRunningEventById(1L);
+    }
+
+    @Test
+    public void shouldReloadCachedEventAfterUpdate() throws Exception {
+        // Given
+        Instant eventTime = Instant.now().plus(30, ChronoUnit.DAYS);
+        RunningEvent original = RunningEvent.builder()
+                .id(1L)
+                .name("Test Marathon")
+                .dateTime(eventTime.toEpochMilli())
+                .location("Test Location")
+                .version(3L)
+                .build();
+        RunningEvent updated =
+                original.toBuilder().name("Updated Marathon").version(4L).build();
+
+        when(getRunningEventUseCase.getRunningEventById(1L))
+                .thenReturn(Optional.of(original))
+                .thenReturn(Optional.of(updated));
+        when(updateRunningEventUseCase.updateRunningEvent(any(RunningEvent.class)))
+                .thenReturn(Optional.of(updated));
+
+        RunningEventRequestDTO requestDTO = RunningEventRequestDTO.builder()
+                .name("Updated Marathon")
+                .dateTime(DateTimeConverter.fromTimestamp(eventTime.toEpochMilli()))
+                .location("Test Location")
+                .build();
+
+        mockMvc.perform(get("/api/events/{id}", 1L)).andExpect(status().isOk());
+
+        // When
+        mockMvc.perform(put("/api/events/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/api/events/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.name", is("Updated Marathon")));
+    }
+
+    @Test
+    public void shouldReturn304ForListWithoutQueryingWhenNothingChanged() throws Exception {
+        // Given
+        when(listRunningEventsUseCase.getChangeToken()).thenReturn("100-7");
+        when(listRunningEventsUseCase.listRunningEvents(any(RunningEventQuery.class)))
+                .thenReturn(PaginatedResult.of(Collections.emptyList(), 0, 0, 20));
+
+        String eTag = mockMvc.perform(get("/api/events").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/events").param("size", "20").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(listRunningEventsUseCase, times(1)).listRunningEvents(any(RunningEventQuery.class));
+    }
+
+    @Test
+    public void shouldReturnFullListWhenEventsChanged() throws Exception {
+        // Given
+        when(listRunningEventsUseCase.getChangeToken()).thenReturn("100-7", "100-8");
+        when(listRunningEventsUseCase.listRunningEvents(any(RunningEventQuery.class)))
+                .thenReturn(PaginatedResult.of(Collections.emptyList(), 0, 0, 20));
+
+        String eTag =
+                mockMvc.perform(get("/api/events")).andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/events").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)));
+    }
+
+    @Test
+    public void shouldTagEquivalentListQueriesAlike() throws Exception {
+        // Given
+        when(listRunningEventsUseCase.getChangeToken()).thenReturn("100-7");
+        when(listRunningEventsUseCase.listRunningEvents(any(RunningEventQuery.class)))
+                .thenReturn(PaginatedResult.of(Collections.emptyList(), 0, 0, 20));
+
+        // When
+        String defaults =
+                mockMvc.perform(get("/api/events")).andReturn().getResponse().getHeader("ETag");
+        String explicit = mockMvc.perform(get("/api/events")
+                        .param("page", "0")
+                        .param("size", "20")
+                        .param("sortBy", "dateTime")
+                        .param("sortDir", "ASC"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        String otherPage = mockMvc.perform(get("/api/events").param("page", "1"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // Then
+        assertThat(explicit).isEqualTo(defaults);
+        assertThat(otherPage).isNotEqualTo(defaults);
     }
 }
@@ -0,0 +1,152 @@
+package com.interview.runningevents.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.runningevents.application.port.in.ExportRunningEventsUseCase;
+import com.interview.runningevents.domain.model.RunningEvent;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventResponseDTO;
+import com.interview.runningevents.infrastructure.web.util.DateTimeConverter;
+
+@WebMvcTest(RunningEventExportController.class)
+@Import({RunningEventDTOMapper.class})
+public class RunningEventExportControllerTest {
+
+    private static final long FIRST_DATE = DateTimeConverter.toTimestamp("2030-04-21T10:00");
+    private static final long SECOND_DATE = DateTimeConverter.toTimestamp("2030-09-29T09:00");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ExportRunningEventsUseCase exportRunningEventsUseCase;
+
+    @Test
+    public void shouldStreamEventsAsNdjson() throws Exception {
+        // Given
+        givenExportedEvents(
+                RunningEvent.builder()
+                        .id(1L)
+                        .name("Boston Marathon")
+                        .dateTime(FIRST_DATE)
+                        .location("Boston, USA")
+                        .build(),
+                RunningEvent.builder()
+                        .id(2L)
+                        .name("Berlin Marathon")
+                        .dateTime(SECOND_DATE)
+                        .location("Berlin, Germany")
+                        .description("Fast course")
+                        .build());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/events/export"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string(
+                                HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"running-events.ndjson\""))
+                .andReturn();
+
+        // Then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        RunningEventResponseDTO first = objectMapper.readValue(lines[0], RunningEventResponseDTO.class);
+        RunningEventResponseDTO second = objectMapper.readValue(lines[1], RunningEventResponseDTO.class);
+        assertThat(first.getId()).isEqualTo(1L);
+        assertThat(first.getDateTime()).isEqualTo("2030-04-21T10:00");
+        assertThat(second.getName()).isEqualTo("Berlin Marathon");
+        assertThat(second.getDescription()).isEqualTo("Fast course");
+        verify(exportRunningEventsUseCase).exportRunningEvents(isNull(), isNull(), any());
+    }
+
+    @Test
+    public void shouldStreamEventsAsCsvWithQuotedFields() throws Exception {
+        // Given
+        givenExportedEvents(RunningEvent.builder()
+                .id(7L)
+                .name("Paris Marathon")
+                .dateTime(FIRST_DATE)
+                .location("Paris, France")
+                .description("The \"classic\" route\nalong the Seine")
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/events/export").param("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(result -> assertThat(result.getResponse().getContentAsString())
+                        .isEqualTo("id,name,dateTime,location,description,furtherInformation\n"
+                                + "7,Paris Marathon,2030-04-21T10:00,\"Paris, France\","
+                                + "\"The \"\"classic\"\" route\nalong the Seine\",\n"));
+    }
+
+    @Test
+    public void shouldPassDateRangeToUseCase() throws Exception {
+        // When
+        mockMvc.perform(get("/api/events/export")
+                        .param("fromDate", "2030-04-21T10:00")
+                        .param("toDate", "2030-09-29T09:00"))
+                .andExpect(status().isOk());
+
+        // Then
+        verify(exportRunningEventsUseCase).exportRunningEvents(eq(FIRST_DATE), eq(SECOND_DATE), any());
+    }
+
+    @Test
+    public void shouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/events/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Format must be one of: ndjson, csv")));
+
+        verify(exportRunningEventsUseCase, never()).exportRunningEvents(any(), any(), any());
+    }
+
+    @Test
+    public void shouldRejectInvalidDateRange() throws Exception {
+        mockMvc.perform(get("/api/events/export")
+                        .param("fromDate", "2030-09-29T09:00")
+                        .param("toDate", "2030-04-21T10:00"))
+                .andExpect(status().isBadRequest());
+
+        verify(exportRunningEventsUseCase, never()).exportRunningEvents(any(), any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenExportedEvents(RunningEvent... events) {
+        doAnswer(invocation -> {
+                    Consumer<RunningEvent> consumer = invocation.getArgument(2);
+                    for (RunningEvent event : events) {
+                        consumer.accept(event);
+                    }
+                    return null;
+                })
+                .when(exportRunningEventsUseCase)
+                .exportRunningEvents(any(), any(), any(Consumer.class));
+    }
+}
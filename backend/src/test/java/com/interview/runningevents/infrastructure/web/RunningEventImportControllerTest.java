@@ -0,0 +1,110 @@
+package com.interview.runningevents.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.application.model.ImportSummary;
+import com.interview.runningevents.application.port.in.ImportRunningEventsUseCase;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+@WebMvcTest(RunningEventImportController.class)
+@Import({RunningEventDTOMapper.class, RunningEventRequestValidator.class})
+public class RunningEventImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImportRunningEventsUseCase importRunningEventsUseCase;
+
+    private final List<ImportRecord> readRecords = new ArrayList<>();
+
+    @Test
+    public void shouldImportNdjsonAndReportRejectedLines() throws Exception {
+        // Given
+        givenImportReadsAllRecords();
+        String body = "{\"name\":\"City 10K\",\"dateTime\":\"2030-05-10T09:00\",\"location\":\"Harbour Front\"}\n"
+                + "{\"name\":\"\",\"dateTime\":\"2030-05-11T09:00\",\"location\":\"Old Town\"}\n";
+
+        // When & Then
+        mockMvc.perform(post("/api/events/import")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted", is(1)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.rejections[0].line", is(2)))
+                .andExpect(jsonPath("$.rejections[0].error", is("name: Name is required")))
+                .andExpect(jsonPath("$.rejectionsTruncated", is(false)));
+
+        assertThat(readRecords).extracting(ImportRecord::isParsed).containsExactly(true, false);
+    }
+
+    @Test
+    public void shouldImportCsv() throws Exception {
+        // Given
+        givenImportReadsAllRecords();
+        String body = "name,dateTime,location\nCity 10K,2030-05-10T09:00,Harbour Front\n";
+
+        // When & Then
+        mockMvc.perform(post("/api/events/import")
+                        .contentType("text/csv; charset=UTF-8")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted", is(1)))
+                .andExpect(jsonPath("$.rejected", is(0)));
+
+        assertThat(readRecords).hasSize(1);
+        assertThat(readRecords.get(0).getLineNumber()).isEqualTo(2L);
+        assertThat(readRecords.get(0).getEvent().getLocation()).isEqualTo("Harbour Front");
+    }
+
+    @Test
+    public void shouldRejectCsvWithoutRequiredColumns() throws Exception {
+        mockMvc.perform(post("/api/events/import").contentType("text/csv").content("name,location\n"))
+                .andExpect(status().isBadRequest());
+
+        verify(importRunningEventsUseCase, never()).importRunningEvents(any());
+    }
+
+    @Test
+    public void shouldRejectUnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/api/events/import")
+                        .contentType("application/json")
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Content-Type must be application/x-ndjson or text/csv")));
+
+        verify(importRunningEventsUseCase, never()).importRunningEvents(any());
+    }
+
+    private void givenImportReadsAllRecords() {
+        when(importRunningEventsUseCase.importRunningEvents(any())).thenAnswer(invocation -> {
+            Iterator<ImportRecord> records = invocation.getArgument(0);
+            records.forEachRemaining(readRecords::add);
+            List<ImportRecord> rejected =
+                    readRecords.stream().filter(record -> !record.isParsed()).toList();
+            return new ImportSummary(readRecords.size() - rejected.size(), rejected.size(), rejected, false);
+        });
+    }
+}
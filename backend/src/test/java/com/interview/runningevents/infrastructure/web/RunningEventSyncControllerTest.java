@@ -0,0 +1,139 @@
+package com.interview.runningevents.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.interview.runningevents.application.model.SourcedRunningEvent;
+import com.interview.runningevents.application.model.SyncResult;
+import com.interview.runningevents.application.port.in.SyncRunningEventsUseCase;
+import com.interview.runningevents.infrastructure.web.cache.RunningEventResponseCache;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+@WebMvcTest(RunningEventSyncController.class)
+@Import({RunningEventDTOMapper.class, RunningEventRequestValidator.class})
+public class RunningEventSyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SyncRunningEventsUseCase syncRunningEventsUseCase;
+
+    @MockBean
+    private RunningEventResponseCache responseCache;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldSyncFeedAndDropRenderedCopiesOfChangedEvents() throws Exception {
+        // Given
+        when(syncRunningEventsUseCase.syncRunningEvents(eq("city-runs"), anyList()))
+                .thenReturn(new SyncResult(1, 1, 1, 2, List.of(7L, 9L)));
+        String body = "[{\"key\":\"c10k\",\"name\":\"City 10K\",\"dateTime\":\"2030-05-10T09:00\","
+                + "\"location\":\"Harbour Front\",\"description\":\"Flat and fast\"}]";
+
+        // When & Then
+        mockMvc.perform(put("/api/events/sync/city-runs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted", is(1)))
+                .andExpect(jsonPath("$.updated", is(1)))
+                .andExpect(jsonPath("$.deleted", is(1)))
+                .andExpect(jsonPath("$.unchanged", is(2)));
+
+        ArgumentCaptor<List<SourcedRunningEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(syncRunningEventsUseCase).syncRunningEvents(eq("city-runs"), events.capture());
+        assertThat(events.getValue()).hasSize(1);
+        assertThat(events.getValue().get(0).getSourceKey()).isEqualTo("c10k");
+        assertThat(events.getValue().get(0).getEvent().getDescription()).isEqualTo("Flat and fast");
+        verify(responseCache).invalidate(7L);
+        verify(responseCache).invalidate(9L);
+    }
+
+    @Test
+    public void shouldRejectWholeFeedWhenAnItemIsInvalid() throws Exception {
+        String body = "[{\"key\":\"a\",\"name\":\"City 10K\",\"dateTime\":\"2030-05-10T09:00\",\"location\":\"Port\"},"
+                + "{\"key\":\"a\",\"name\":\"Night Run\",\"dateTime\":\"2030-05-10T21:00\",\"location\":\"Port\"},"
+                + "{\"name\":\"Trail Run\",\"dateTime\":\"2030-05-11T09:00\",\"location\":\"\"}]";
+
+        mockMvc.perform(put("/api/events/sync/city-runs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath(
+                        "$.message",
+                        is("Sync rejected: item 1: key: Key a is used more than once; item 2: key: Key is required")));
+
+        verify(syncRunningEventsUseCase, never()).syncRunningEvents(any(), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldAcceptPastEventsOfUnchangedFeed() throws Exception {
+        // Given
+        when(syncRunningEventsUseCase.syncRunningEvents(eq("city-runs"), anyList()))
+                .thenReturn(new SyncResult(0, 0, 0, 2, List.of()));
+        String body = "[{\"key\":\"spring\",\"name\":\"Spring 10K\",\"dateTime\":\"2020-04-05T09:00\","
+                + "\"location\":\"Harbour Front\"},"
+                + "{\"key\":\"autumn\",\"name\":\"Autumn 10K\",\"dateTime\":\"2030-10-04T09:00\","
+                + "\"location\":\"Harbour Front\"}]";
+
+        // When & Then
+        mockMvc.perform(put("/api/events/sync/city-runs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unchanged", is(2)))
+                .andExpect(jsonPath("$.deleted", is(0)));
+
+        ArgumentCaptor<List<SourcedRunningEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(syncRunningEventsUseCase).syncRunningEvents(eq("city-runs"), events.capture());
+        assertThat(events.getValue())
+                .extracting(SourcedRunningEvent::getSourceKey)
+                .containsExactly("spring", "autumn");
+    }
+
+    @Test
+    public void shouldRejectFeedWithInvalidDate() throws Exception {
+        String body = "[{\"key\":\"a\",\"name\":\"City 10K\",\"dateTime\":\"2030-13-10T09:00\",\"location\":\"Port\"}]";
+
+        mockMvc.perform(put("/api/events/sync/city-runs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", startsWith("Sync rejected: item 0: ")));
+
+        verify(syncRunningEventsUseCase, never()).syncRunningEvents(any(), anyList());
+    }
+
+    @Test
+    public void shouldRejectInvalidSourceName() throws Exception {
+        mockMvc.perform(put("/api/events/sync/city runs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", startsWith("Source must be")));
+    }
+}
@@ -0,0 +1,207 @@
+package com.interview.runningevents.infrastructure.web.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.interview.runningevents.infrastructure.web.cache.OffHeapResponseStore.StoredResponse;
+
+class OffHeapResponseStoreTest {
+
+    private static final int SLAB_SIZE = 64;
+
+    @Test
+    void shouldReturnStoredBodyAndVersion() {
+        // Given
+        OffHeapResponseStore store = new OffHeapResponseStore(SLAB_SIZE * 4, SLAB_SIZE);
+
+        // When
+        boolean stored = store.put(1L, "\"3\"", bytes("{\"id\":1}"), null, store.invalidationStamp(1L));
+        StoredResponse response = store.get(1L, false);
+
+        // Then
+        assertThat(stored).isTrue();
+        assertThat(text(response.body())).isEqualTo("{\"id\":1}");
+        assertThat(response.eTag()).isEqualTo("\"3\"");
+        assertThat(response.gzipped()).isFalse();
+    }
+
+    @Test
+    void shouldReturnNullForUnknownKey() {
+        OffHeapResponseStore store = new OffHeapResponseStore(SLAB_SIZE * 4, SLAB_SIZE);
+
+        assertThat(store.get(1L, false)).isNull();
+    }
+
+    @Test
+    void shouldReplaceBodyStoredBefore() {
+        // Given
+        OffHeapResponseStore store = new OffHeapResponseStore(SLAB_SIZE * 4, SLAB_SIZE);
+        store.put(1L, "\"3\"", bytes("old"), null, store.invalidationStamp(1L));
+
+        // When
+        store.put(1L, "\"4\"", bytes("new"), null, store.invalidationStamp(1L));
+
+        // Then
+        assertThat(text(store.get(1L, false).body())).isEqualTo("new");
+        assertThat(store.get(1L, false).eTag()).isEqualTo("\"4\"");
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropBodyOnInvalidate() {
+        // Given
+        OffHeapResponseStore store = new OffHeapResponseStore(SLAB_SIZE * 4, SLAB_SIZE);
+        store.put(1L, "\"3\"", bytes("body"), null, store.invalidationStamp(1L));
+
+        // When
+        store.invalidate(1L);
+
+        // Then
+        assertThat(store.get(1L, false)).isNull();
+    }
+
+    @Test
+    void shouldRejectPutBasedOnStampTakenBeforeInvalidation() {
+        // Given
+        OffHeapResponseStore store = new OffHeapResponseStore(SLAB_SIZE * 4, SLAB_SIZE);
+        long stamp = store.invalidationStamp(1L);
+        store.invalidate(1L);
+
+        // When
+        boolean stored = store.put(1L, "\"3\"", bytes("stale"), null, stamp);
+
+        // Then
+        assertThat(stored).isFalse();
+        assertThat(store.get(1L, false)).isNull();
+    }
+
+    @Test
+    void shouldStoreBodiesOfOtherKeysAfterAnInvalidation() {
+        // Given
+        OffHeapResponseStore store = new OffHeapResponseStore(SLAB_SIZE * 4, SLAB_SIZE);
+        long stamp = store.invalidationStamp(2L);
+        store.invalidate(1L);
+
+        // When
+        boolean stored = store.put(2L, "\"3\"", bytes("fresh"), null, stamp);
+
+        // Then
+        assertThat(stored).isTrue();
+        assertThat(store.get(2L, false).body()).isEqualTo(bytes("fresh"));
+    }
+
+    @Test
+    void shouldNotStoreBodiesLargerThanASlab() {
+        // Given
+        OffHeapResponseStore store = new OffHeapResponseStore(SLAB_SIZE * 4, SLAB_SIZE);
+
+        // When
+        boolean stored = store.put(1L, "\"0\"", new byte[SLAB_SIZE + 1], null, store.invalidationStamp(1L));
+
+        // Then
+        assertThat(stored).isFalse();
+        assertThat(store.allocatedBytes()).isZero();
+    }
+
+    @Test
+    void shouldRecycleOldestSlabWhenCapacityIsReached() {
+        // Given: two slabs with room for two 32 byte bodies each
+        OffHeapResponseStore store = new OffHeapResponseStore(SLAB_SIZE * 2, SLAB_SIZE);
+        for (long id = 1; id <= 4; id++) {
+            store.put(id, "\"0\"", body(id), null, store.invalidationStamp(id));
+        }
+
+        // When
+        store.put(5L, "\"0\"", body(5), null, store.invalidationStamp(5L));
+
+        // Then: the bodies in the first slab are gone, the others are intact
+        assertThat(store.get(1L, false)).isNull();
+        assertThat(store.get(2L, false)).isNull();
+        assertThat(store.get(3L, false).body()).isEqualTo(body(3));
+        assertThat(store.get(4L, false).body()).isEqualTo(body(4));
+        assertThat(store.get(5L, false).body()).isEqualTo(body(5));
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.allocatedBytes()).isEqualTo(SLAB_SIZE * 2);
+    }
+
+    @Test
+    void shouldKeepBodiesStoredAgainInANewerSlabWhenRecycling() {
+        // Given: body 1 is stored in the first slab and again in the second one
+        OffHeapResponseStore store = new OffHeapResponseStore(SLAB_SIZE * 2, SLAB_SIZE);
+        store.put(1L, "\"0\"", body(1), null, store.invalidationStamp(1L));
+        store.put(2L, "\"0\"", body(2), null, store.invalidationStamp(2L));
+        store.put(1L, "\"1\"", body(1), null, store.invalidationStamp(1L));
+        store.put(3L, "\"0\"", body(3), null, store.invalidationStamp(3L));
+
+        // When: the first slab is recycled
+        store.put(4L, "\"0\"", body(4), null, store.invalidationStamp(4L));
+
+        // Then
+        assertThat(store.get(1L, false).eTag()).isEqualTo("\"1\"");
+        assertThat(store.get(2L, false)).isNull();
+        assertThat(store.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDropAllBodiesOnClear() {
+        // Given
+        OffHeapResponseStore store = new OffHeapResponseStore(SLAB_SIZE * 4, SLAB_SIZE);
+        store.put(1L, "\"0\"", body(1), null, store.invalidationStamp(1L));
+        store.put(2L, "\"0\"", body(2), null, store.invalidationStamp(2L));
+
+        // When
+        store.clear();
+        store.put(3L, "\"0\"", body(3), null, store.invalidationStamp(3L));
+
+        // Then
+        assertThat(store.get(1L, false)).isNull();
+        assertThat(store.get(2L, false)).isNull();
+        assertThat(store.get(3L, false).body()).isEqualTo(body(3));
+        assertThat(store.allocatedBytes()).isEqualTo(SLAB_SIZE);
+    }
+
+    @Test
+    void shouldReturnGzipVariantOnlyWhenPreferredAndStored() {
+        // Given
+        OffHeapResponseStore store = new OffHeapResponseStore(SLAB_SIZE * 4, SLAB_SIZE);
+        store.put(1L, "\"0\"", bytes("plain"), bytes("gz"), store.invalidationStamp(1L));
+        store.put(2L, "\"0\"", bytes("plain only"), null, store.invalidationStamp(2L));
+
+        // When
+        StoredResponse gzipped = store.get(1L, true);
+        StoredResponse plain = store.get(1L, false);
+        StoredResponse withoutVariant = store.get(2L, true);
+
+        // Then
+        assertThat(text(gzipped.body())).isEqualTo("gz");
+        assertThat(gzipped.gzipped()).isTrue();
+        assertThat(text(plain.body())).isEqualTo("plain");
+        assertThat(plain.gzipped()).isFalse();
+        assertThat(text(withoutVariant.body())).isEqualTo("plain only");
+        assertThat(withoutVariant.gzipped()).isFalse();
+    }
+
+    @Test
+    void shouldRejectCapacitySmallerThanASlab() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapResponseStore(SLAB_SIZE - 1, SLAB_SIZE));
+    }
+
+    private static byte[] body(long id) {
+        byte[] body = new byte[SLAB_SIZE / 2];
+        Arrays.fill(body, (byte) id);
+        return body;
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,123 @@
+package com.interview.runningevents.infrastructure.web.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.runningevents.infrastructure.web.cache.OffHeapResponseStore.StoredResponse;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventResponseDTO;
+
+class RunningEventResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RunningEventResponseCache responseCache = new RunningEventResponseCache(
+            true, DataSize.ofMegabytes(1), DataSize.ofKilobytes(64), true, DataSize.ofBytes(256), objectMapper);
+
+    @Test
+    void shouldRenderBodyAndETagOnceAndServeThemFromTheCache() throws IOException {
+        // Given
+        RunningEventResponseDTO event = event(1L, "Short");
+        long stamp = responseCache.invalidationStamp(1L);
+
+        // When
+        StoredResponse rendered = responseCache.put(3L, event, stamp, false);
+        StoredResponse cached = responseCache.get(1L, false);
+
+        // Then
+        assertThat(objectMapper.readValue(rendered.body(), RunningEventResponseDTO.class))
+                .isEqualTo(event);
+        assertThat(rendered.eTag()).isEqualTo("\"3\"");
+        assertThat(cached.body()).isEqualTo(rendered.body());
+        assertThat(cached.eTag()).isEqualTo("\"3\"");
+    }
+
+    @Test
+    void shouldRenderGzipVariantForLargeBodies() throws IOException {
+        // Given
+        RunningEventResponseDTO event = event(1L, "x".repeat(1000));
+
+        // When
+        StoredResponse rendered = responseCache.put(0L, event, responseCache.invalidationStamp(1L), true);
+        StoredResponse plain = responseCache.get(1L, false);
+        StoredResponse gzipped = responseCache.get(1L, true);
+
+        // Then
+        assertThat(rendered.gzipped()).isTrue();
+        assertThat(gzipped.gzipped()).isTrue();
+        assertThat(gzipped.body().length).isLessThan(plain.body().length);
+        assertThat(gunzip(gzipped.body())).isEqualTo(plain.body());
+    }
+
+    @Test
+    void shouldNotCompressSmallBodies() {
+        // When
+        StoredResponse rendered = responseCache.put(0L, event(1L, "Short"), responseCache.invalidationStamp(1L), true);
+
+        // Then
+        assertThat(rendered.gzipped()).isFalse();
+        assertThat(responseCache.get(1L, true).gzipped()).isFalse();
+    }
+
+    @Test
+    void shouldNotCacheBodyOfEventInvalidatedWhileLoading() {
+        // Given
+        long stamp = responseCache.invalidationStamp(1L);
+        responseCache.invalidate(1L);
+
+        // When
+        StoredResponse rendered = responseCache.put(0L, event(1L, "Stale"), stamp, false);
+
+        // Then
+        assertThat(rendered).isNotNull();
+        assertThat(responseCache.get(1L, false)).isNull();
+    }
+
+    @Test
+    void shouldNotCacheWhenDisabled() {
+        // Given
+        RunningEventResponseCache disabled = new RunningEventResponseCache(
+                false, DataSize.ofMegabytes(1), DataSize.ofKilobytes(64), true, DataSize.ofBytes(256), objectMapper);
+
+        // When
+        disabled.put(0L, event(1L, "Short"), disabled.invalidationStamp(1L), false);
+
+        // Then
+        assertThat(disabled.get(1L, false)).isNull();
+    }
+
+    @Test
+    void shouldParseAcceptEncoding() {
+        assertThat(RunningEventResponseCache.acceptsGzip("gzip")).isTrue();
+        assertThat(RunningEventResponseCache.acceptsGzip("deflate, GZIP;q=0.8, br"))
+                .isTrue();
+        assertThat(RunningEventResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(RunningEventResponseCache.acceptsGzip("*;q=0, gzip")).isTrue();
+        assertThat(RunningEventResponseCache.acceptsGzip(null)).isFalse();
+        assertThat(RunningEventResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(RunningEventResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(RunningEventResponseCache.acceptsGzip("gzip;q=0.000, *")).isFalse();
+    }
+
+    private RunningEventResponseDTO event(Long id, String description) {
+        return RunningEventResponseDTO.builder()
+                .id(id)
+                .name("Berlin Marathon")
+                .dateTime("2030-09-29T09:00")
+                .location("Berlin, Germany")
+                .description(description)
+                .build();
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -115,7 +115,8 @@ public class RunningEventQueryDTOTest {
                 Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli());
 
         // When
-        RunningEventQueryDTO dto = new RunningEventQueryDTO(fromDate, toDate, 1, 15, "name", "DESC");
+        RunningEventQueryDTO dto =
+                new RunningEventQueryDTO(fromDate, toDate, 1, 15, "name", "DESC", false, "cursor-token");
 
         // Then
         assertThat(dto.getFromDate()).isEqualTo(fromDate);
@@ -124,5 +125,7 @@ public class RunningEventQueryDTOTest {
         assertThat(dto.getPageSize()).isEqualTo(15);
         assertThat(dto.getSortBy()).isEqualTo("name");
         assertThat(dto.getSortDirection()).isEqualTo("DESC");
+        assertThat(dto.getWithTotals()).isFalse();
+        assertThat(dto.getCursor()).isEqualTo("cursor-token");
     }
 }
@@ -0,0 +1,159 @@
+package com.interview.runningevents.infrastructure.web.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.interview.runningevents.application.exception.ValidationException;
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+import jakarta.validation.Validation;
+
+class CsvImportRecordReaderTest {
+
+    private final RunningEventRequestValidator requestValidator = new RunningEventRequestValidator(
+            Validation.buildDefaultValidatorFactory().getValidator());
+    private final RunningEventDTOMapper dtoMapper = new RunningEventDTOMapper();
+
+    @Test
+    void shouldReadRecordsByHeaderNameAndIgnoreOtherColumns() {
+        // Given
+        String csv = "id,location,name,dateTime,description\r\n"
+                + "4,Harbour Front,City 10K,2030-05-10T09:00,\r\n"
+                + "\r\n"
+                + "5,\"Old Town, North\",Night Run,2030-06-01T21:00,\"Lights \"\"on\"\"\"\r\n";
+
+        // When
+        List<ImportRecord> records = readAll(csv);
+
+        // Then
+        assertThat(records).extracting(ImportRecord::getLineNumber).containsExactly(2L, 4L);
+        assertThat(records).allMatch(ImportRecord::isParsed);
+        assertThat(records.get(0).getEvent().getName()).isEqualTo("City 10K");
+        assertThat(records.get(0).getEvent().getId()).isNull();
+        assertThat(records.get(0).getEvent().getDescription()).isNull();
+        assertThat(records.get(1).getEvent().getLocation()).isEqualTo("Old Town, North");
+        assertThat(records.get(1).getEvent().getDescription()).isEqualTo("Lights \"on\"");
+    }
+
+    @Test
+    void shouldReadQuotedFieldsSpanningLines() {
+        // Given
+        String csv = "name,dateTime,location,description\n"
+                + "City 10K,2030-05-10T09:00,Harbour Front,\"First line\n"
+                + "second line\"\n"
+                + "Night Run,2030-06-01T21:00,Old Town,\n";
+
+        // When
+        List<ImportRecord> records = readAll(csv);
+
+        // Then
+        assertThat(records).extracting(ImportRecord::getLineNumber).containsExactly(2L, 4L);
+        assertThat(records.get(0).getEvent().getDescription()).isEqualTo("First line\nsecond line");
+    }
+
+    @Test
+    void shouldRejectInvalidRecordsWithTheirLineNumbers() {
+        // Given
+        String csv = "name,dateTime,location\n"
+                + ",2030-05-10T09:00,Harbour Front\n"
+                + "Past Run,2000-01-01T09:00,Old Town\n"
+                + "Short,2030-05-10T09:00\n"
+                + "Open,2030-05-10T09:00,\"Never closed\n";
+
+        // When
+        List<ImportRecord> records = readAll(csv);
+
+        // Then
+        assertThat(records).noneMatch(ImportRecord::isParsed);
+        assertThat(records).extracting(ImportRecord::getLineNumber).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(records)
+                .extracting(ImportRecord::getError)
+                .containsExactly(
+                        "name: Name is required",
+                        "Event date must be in the future",
+                        "Expected 3 fields but found 2",
+                        "Unterminated quoted field");
+    }
+
+    @Test
+    void shouldRejectLinesLongerThanTheLimitWithoutBufferingThem() {
+        // Given
+        String csv = "name,dateTime,location\n"
+                + "x".repeat(ImportRecordReader.MAX_LINE_LENGTH + 10) + "\n"
+                + "City 10K,2030-05-10T09:00,Harbour Front\n";
+
+        // When
+        List<ImportRecord> records = readAll(csv);
+
+        // Then
+        assertThat(records.get(0).getLineNumber()).isEqualTo(2L);
+        assertThat(records.get(0).getError()).startsWith("Line exceeds");
+        assertThat(records.get(1).isParsed()).isTrue();
+        assertThat(records.get(1).getLineNumber()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldRejectHeaderWithoutRequiredColumns() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> reader("name,location\n"));
+
+        assertThat(exception.getMessage()).endsWith("missing: datetime");
+    }
+
+    @Test
+    void shouldRejectEmptyFile() {
+        assertThrows(ValidationException.class, () -> reader(""));
+    }
+
+    @Test
+    void shouldSplitFields() {
+        assertThat(CsvImportRecordReader.parseFields("a,,\"b,c\",\"d\"\"e\"")).containsExactly("a", "", "b,c", "d\"e");
+        assertThat(CsvImportRecordReader.parseFields("a,\"b")).isNull();
+    }
+
+    @Test
+    void shouldReadPartOfFileWithSeparatelyParsedHeader() {
+        // Given
+        CsvImportRecordReader.Header header = CsvImportRecordReader.parseHeader("\uFEFFName, dateTime,LOCATION");
+        String part = "City 10K,2030-05-10T09:00,Harbour Front\n" + "Night Run,2030-06-01T21:00\n";
+
+        // When
+        CsvImportRecordReader reader = new CsvImportRecordReader(
+                new ByteArrayInputStream(part.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8,
+                header,
+                41,
+                requestValidator,
+                dtoMapper);
+        List<ImportRecord> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+
+        // Then
+        assertThat(header.descriptionColumn()).isEqualTo(-1);
+        assertThat(records).extracting(ImportRecord::getLineNumber).containsExactly(41L, 42L);
+        assertThat(records.get(0).getEvent().getName()).isEqualTo("City 10K");
+        assertThat(records.get(1).getError()).isEqualTo("Expected 3 fields but found 2");
+    }
+
+    private List<ImportRecord> readAll(String csv) {
+        List<ImportRecord> records = new ArrayList<>();
+        reader(csv).forEachRemaining(records::add);
+        return records;
+    }
+
+    private CsvImportRecordReader reader(String csv) {
+        return new CsvImportRecordReader(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8,
+                requestValidator,
+                dtoMapper);
+    }
+}
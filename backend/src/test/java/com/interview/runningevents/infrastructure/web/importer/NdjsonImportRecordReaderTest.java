@@ -0,0 +1,72 @@
+package com.interview.runningevents.infrastructure.web.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.runningevents.application.model.ImportRecord;
+import com.interview.runningevents.infrastructure.web.dto.RunningEventDTOMapper;
+import com.interview.runningevents.infrastructure.web.validation.RunningEventRequestValidator;
+
+import jakarta.validation.Validation;
+
+class NdjsonImportRecordReaderTest {
+
+    private final RunningEventRequestValidator requestValidator = new RunningEventRequestValidator(
+            Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Test
+    void shouldReadOneEventPerLineAndSkipBlankLines() {
+        // Given
+        String ndjson = "{\"name\":\"City 10K\",\"dateTime\":\"2030-05-10T09:00\",\"location\":\"Harbour Front\"}\n"
+                + "\n"
+                + "{\"id\":4,\"name\":\"Night Run\",\"dateTime\":\"2030-06-01T21:00\",\"location\":\"Old Town\","
+                + "\"description\":\"Lights on\"}";
+
+        // When
+        List<ImportRecord> records = readAll(ndjson);
+
+        // Then
+        assertThat(records).extracting(ImportRecord::getLineNumber).containsExactly(1L, 3L);
+        assertThat(records).allMatch(ImportRecord::isParsed);
+        assertThat(records.get(0).getEvent().getName()).isEqualTo("City 10K");
+        assertThat(records.get(1).getEvent().getId()).isNull();
+        assertThat(records.get(1).getEvent().getDescription()).isEqualTo("Lights on");
+    }
+
+    @Test
+    void shouldRejectMalformedAndInvalidLines() {
+        // Given
+        String ndjson = "{\"name\":\"City 10K\"\n"
+                + "null\n"
+                + "{\"name\":\"City 10K\",\"dateTime\":\"2030-05-10T09:00\",\"location\":\"\"}\n";
+
+        // When
+        List<ImportRecord> records = readAll(ndjson);
+
+        // Then
+        assertThat(records).noneMatch(ImportRecord::isParsed);
+        assertThat(records).extracting(ImportRecord::getLineNumber).containsExactly(1L, 2L, 3L);
+        assertThat(records.get(0).getError()).startsWith("Malformed JSON");
+        assertThat(records.get(1).getError()).isEqualTo("Running event cannot be null");
+        assertThat(records.get(2).getError()).isEqualTo("location: Location is required");
+    }
+
+    private List<ImportRecord> readAll(String ndjson) {
+        NdjsonImportRecordReader reader = new NdjsonImportRecordReader(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8,
+                new ObjectMapper(),
+                requestValidator,
+                new RunningEventDTOMapper());
+        List<ImportRecord> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+        return records;
+    }
+}
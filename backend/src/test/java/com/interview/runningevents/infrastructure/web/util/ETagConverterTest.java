@@ -0,0 +1,66 @@
+package com.interview.runningevents.infrastructure.web.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.interview.runningevents.application.exception.RunningEventVersionConflictException;
+import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.application.model.SortDirection;
+
+class ETagConverterTest {
+
+    @Test
+    void shouldConvertVersionToStrongETag() {
+        assertThat(ETagConverter.toETag(3L)).isEqualTo("\"3\"");
+        assertThat(ETagConverter.toETag(null)).isNull();
+    }
+
+    @Test
+    void shouldConvertIfMatchToExpectedVersion() {
+        assertThat(ETagConverter.toExpectedVersion("\"3\"")).isEqualTo(3L);
+        assertThat(ETagConverter.toExpectedVersion(" \"0\" ")).isZero();
+    }
+
+    @Test
+    void shouldTreatMissingOrWildcardIfMatchAsUnconditional() {
+        assertThat(ETagConverter.toExpectedVersion(null)).isNull();
+        assertThat(ETagConverter.toExpectedVersion("  ")).isNull();
+        assertThat(ETagConverter.toExpectedVersion("*")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"3", "W/\"3\"", "\"abc\"", "\"\"", "\"3\", \"4\""})
+    void shouldRejectIfMatchThatCannotMatchAVersion(String ifMatch) {
+        assertThatThrownBy(() -> ETagConverter.toExpectedVersion(ifMatch))
+                .isInstanceOf(RunningEventVersionConflictException.class);
+    }
+
+    @Test
+    void shouldTagListPagesByChangeTokenAndFullQuery() {
+        RunningEventQuery query = RunningEventQuery.builder()
+                .fromDate(1000L)
+                .page(2)
+                .pageSize(20)
+                .sortBy("name")
+                .sortDirection(SortDirection.DESC)
+                .build();
+
+        String eTag = ETagConverter.toListETag("100-7", query);
+
+        assertThat(eTag).matches("\"100-7-[0-9a-f]{32}\"");
+        assertThat(ETagConverter.toListETag("100-7", query.toBuilder().build())).isEqualTo(eTag);
+        assertThat(ETagConverter.toListETag("100-8", query)).isNotEqualTo(eTag);
+        assertThat(ETagConverter.toListETag("100-7", query.toBuilder().page(3).build()))
+                .isNotEqualTo(eTag);
+        assertThat(ETagConverter.toListETag(
+                        "100-7", query.toBuilder().toDate(1000L).build()))
+                .isNotEqualTo(eTag);
+        assertThat(ETagConverter.toListETag(
+                        "100-7", query.toBuilder().fromDate(null).toDate(1000L).build()))
+                .isNotEqualTo(ETagConverter.toListETag("100-7", query));
+    }
+}
@@ -0,0 +1,26 @@
+package com.interview.runningevents.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.interview.runningevents.application.port.out.RunningEventRepository;
+import com.interview.runningevents.infrastructure.persistence.JdbcRunningEventRepositoryImpl;
+
+/**
+ * Runs the repository integration tests against the JDBC adapter.
+ */
+@RunningEventIntegrationTestConfig
+@TestPropertySource(properties = "running-events.persistence.adapter=jdbc")
+public class JdbcRunningEventRepositoryIntegrationTest extends RunningEventRepositoryIntegrationTest {
+
+    @Autowired
+    private RunningEventRepository repository;
+
+    @Test
+    public void shouldUseJdbcAdapter() {
+        assertThat(repository).isInstanceOf(JdbcRunningEventRepositoryImpl.class);
+    }
+}
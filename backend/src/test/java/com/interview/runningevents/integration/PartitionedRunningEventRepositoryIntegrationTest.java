@@ -0,0 +1,173 @@
+package com.interview.runningevents.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.interview.runningevents.application.model.PaginatedResult;
+import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.application.model.SortDirection;
+import com.interview.runningevents.application.port.out.RunningEventRepository;
+import com.interview.runningevents.domain.model.RunningEvent;
+import com.interview.runningevents.infrastructure.persistence.PartitionedRunningEventRepositoryImpl;
+
+/**
+ * Runs the repository integration tests against the partitioned adapter, and checks how it routes
+ * events to the tables of their years.
+ */
+@RunningEventIntegrationTestConfig
+@TestPropertySource(properties = "running-events.persistence.adapter=partitioned")
+public class PartitionedRunningEventRepositoryIntegrationTest extends RunningEventRepositoryIntegrationTest {
+
+    private static final long FROM_2019 = Instant.parse("2019-01-01T00:00:00Z").toEpochMilli();
+    private static final long TO_2041 = Instant.parse("2041-12-31T23:59:59Z").toEpochMilli();
+
+    @Autowired
+    private RunningEventRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void shouldUsePartitionedAdapter() {
+        assertThat(repository).isInstanceOf(PartitionedRunningEventRepositoryImpl.class);
+    }
+
+    @Test
+    public void shouldStoreEventsInTheTablesOfTheirYears() {
+        // When
+        List<RunningEvent> saved = repository.saveAll(List.of(
+                eventAt("In 2026", "2026-06-01T10:00:00Z"),
+                eventAt("In 2040", "2040-06-01T10:00:00Z"),
+                eventAt("In 2020", "2020-06-01T10:00:00Z")));
+
+        // Then
+        assertThat(tableOf(saved.get(0).getId())).isEqualTo("running_event_y2026");
+        assertThat(tableOf(saved.get(1).getId())).isEqualTo("running_event_default");
+        assertThat(tableOf(saved.get(2).getId())).isEqualTo("running_event_default");
+        assertThat(jdbcTemplate.queryForObject(
+                        "SELECT partition_year FROM running_event_directory WHERE id = ?",
+                        Integer.class,
+                        saved.get(1).getId()))
+                .isEqualTo(2040);
+        assertThat(repository.findById(saved.get(1).getId()))
+                .get()
+                .extracting(RunningEvent::getName)
+                .isEqualTo("In 2040");
+    }
+
+    @Test
+    public void shouldMoveAnEventToTheTableOfItsNewYear() {
+        // Given
+        RunningEvent saved = repository.save(eventAt("Moving Event", "2026-12-31T20:00:00Z"));
+
+        // When
+        RunningEvent moved = repository.save(saved.toBuilder()
+                .dateTime(Instant.parse("2027-01-01T08:00:00Z").toEpochMilli())
+                .build());
+        RunningEvent movedBack = repository
+                .update(moved.toBuilder()
+                        .dateTime(Instant.parse("2026-12-30T08:00:00Z").toEpochMilli())
+                        .version(null)
+                        .build())
+                .orElseThrow();
+
+        // Then
+        assertThat(moved.getVersion()).isEqualTo(1L);
+        assertThat(movedBack.getVersion()).isEqualTo(2L);
+        assertThat(tableOf(saved.getId())).isEqualTo("running_event_y2026");
+        assertThat(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM running_event_y2027 WHERE id = ?", Integer.class, saved.getId()))
+                .isZero();
+        assertThat(repository.findById(saved.getId()))
+                .get()
+                .extracting(RunningEvent::getVersion)
+                .isEqualTo(2L);
+        assertThat(repository.update(moved.toBuilder()
+                        .dateTime(Instant.parse("2028-01-01T08:00:00Z").toEpochMilli())
+                        .build()))
+                .isEmpty();
+    }
+
+    @Test
+    public void shouldMergePagesAcrossPartitions() {
+        // Given
+        repository.saveAll(List.of(
+                eventAt("Delta", "2026-03-01T10:00:00Z"),
+                eventAt("Alpha", "2027-03-01T10:00:00Z"),
+                eventAt("Echo", "2040-03-01T10:00:00Z"),
+                eventAt("Charlie", "2020-03-01T10:00:00Z"),
+                eventAt("Bravo", "2026-09-01T10:00:00Z")));
+
+        // When
+        List<String> byName = pagedNames(RunningEventQuery.builder()
+                .fromDate(FROM_2019)
+                .toDate(TO_2041)
+                .sortBy("name")
+                .pageSize(2)
+                .build());
+        List<String> byDateDescending = pagedNames(RunningEventQuery.builder()
+                .fromDate(FROM_2019)
+                .toDate(TO_2041)
+                .sortDirection(SortDirection.DESC)
+                .pageSize(2)
+                .build());
+        PaginatedResult<RunningEvent> secondPage = repository.findAll(RunningEventQuery.builder()
+                .fromDate(FROM_2019)
+                .toDate(TO_2041)
+                .sortDirection(SortDirection.DESC)
+                .page(1)
+                .pageSize(2)
+                .build());
+
+        // Then
+        assertThat(byName).containsExactly("Alpha", "Bravo", "Charlie", "Delta", "Echo");
+        assertThat(byDateDescending).containsExactly("Echo", "Alpha", "Bravo", "Delta", "Charlie");
+        assertThat(secondPage.getItems()).extracting(RunningEvent::getName).containsExactly("Bravo", "Delta");
+        assertThat(secondPage.getTotalItems()).isEqualTo(5);
+    }
+
+    /**
+     * Follows the next-page cursors from the first page and collects the names of all events.
+     */
+    private List<String> pagedNames(RunningEventQuery query) {
+        List<String> names = new ArrayList<>();
+        PaginatedResult<RunningEvent> page = repository.findAll(query);
+        while (true) {
+            page.getItems().forEach(event -> names.add(event.getName()));
+            if (page.getNextCursor() == null) {
+                return names;
+            }
+            page = repository.findAll(
+                    query.toBuilder().cursor(page.getNextCursor()).build());
+        }
+    }
+
+    private String tableOf(Long id) {
+        List<String> tables = new ArrayList<>();
+        for (String table : List.of("running_event_y2026", "running_event_y2027", "running_event_default")) {
+            Integer count =
+                    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+            if (count > 0) {
+                tables.add(table);
+            }
+        }
+        assertThat(tables).hasSize(1);
+        return tables.get(0);
+    }
+
+    private RunningEvent eventAt(String name, String dateTime) {
+        return RunningEvent.builder()
+                .name(name)
+                .dateTime(Instant.parse(dateTime).toEpochMilli())
+                .location("Test Location")
+                .build();
+    }
+}
@@ -7,6 +7,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,8 +16,11 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.runningevents.infrastructure.web.dto.BatchCreateResponseDTO;
 import com.interview.runningevents.infrastructure.web.dto.RunningEventRequestDTO;
 import com.interview.runningevents.infrastructure.web.dto.RunningEventResponseDTO;
 import com.interview.runningevents.infrastructure.web.util.DateTimeConverter;
@@ -66,6 +71,85 @@ public class RunningEventControllerIntegrationTest {
         assertThat(createdEvent.getId()).isNotNull();
     }
 
+    // Test creating running events in bulk
+    @Test
+    public void shouldCreateRunningEventsInBatch() throws Exception {
+        // Given
+        String futureDateTime = DateTimeConverter.fromTimestamp(
+                Instant.now().plus(30, ChronoUnit.DAYS).toEpochMilli());
+
+        List<RunningEventRequestDTO> requestDTOs = List.of(
+                RunningEventRequestDTO.builder()
+                        .name("Batch Event 1")
+                        .dateTime(futureDateTime)
+                        .location("Batch Location")
+                        .build(),
+                RunningEventRequestDTO.builder()
+                        .name("Batch Event 2")
+                        .dateTime(futureDateTime)
+                        .location("")
+                        .build(),
+                RunningEventRequestDTO.builder()
+                        .name("Batch Event 3")
+                        .dateTime(futureDateTime)
+                        .location("Batch Location")
+                        .build());
+
+        // When
+        MvcResult result = mockMvc.perform(post(BASE_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTOs)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[1].error").value("location: Location is required"))
+                .andReturn();
+
+        // Then - the created events can be fetched by their IDs
+        BatchCreateResponseDTO response =
+                objectMapper.readValue(result.getResponse().getContentAsString(), BatchCreateResponseDTO.class);
+        Long thirdId = response.getItems().get(2).getId();
+        mockMvc.perform(get(BASE_URL + "/{id}", thirdId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Batch Event 3"));
+    }
+
+    @Test
+    public void shouldSyncOnlyTheChangedEventsOfAFeed() throws Exception {
+        // Given - a feed with three events, far enough ahead to be the only events in their window
+        Instant eventDate = Instant.now().plus(900, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MINUTES);
+        String dateTime = DateTimeConverter.fromTimestamp(eventDate.toEpochMilli());
+        mockMvc.perform(put(BASE_URL + "/sync/city-runs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                syncItem("c10k", "City 10K", dateTime),
+                                syncItem("night", "Night Run", dateTime),
+                                syncItem("trail", "Trail Run", dateTime)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(3))
+                .andExpect(jsonPath("$.unchanged").value(0));
+
+        // When - one event changed, one was dropped, one is new
+        mockMvc.perform(put(BASE_URL + "/sync/city-runs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                syncItem("c10k", "City 10K", dateTime),
+                                syncItem("night", "Night Run (new route)", dateTime),
+                                syncItem("marathon", "Marathon", dateTime)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.deleted").value(1))
+                .andExpect(jsonPath("$.unchanged").value(1));
+
+        // Then
+        mockMvc.perform(get(BASE_URL).param("fromDate", dateTime).param("toDate", dateTime))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems").value(3))
+                .andExpect(jsonPath(
+                        "$.items[*].name", containsInAnyOrder("City 10K", "Night Run (new route)", "Marathon")));
+    }
+
     // Test retrieving a running event
     @Test
     public void shouldGetRunningEventById() throws Exception {
@@ -112,6 +196,79 @@ public class RunningEventControllerIntegrationTest {
                 .andExpect(jsonPath("$.name").value("Updated Event Name"));
     }
 
+    // Test optimistic concurrency with ETag and If-Match
+    @Test
+    public void shouldRejectWritesBasedOnStaleETag() throws Exception {
+        // Given
+        Long eventId = createEventAndReturnId();
+        String etag = mockMvc.perform(get(BASE_URL + "/{id}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        RunningEventRequestDTO updateDTO = RunningEventRequestDTO.builder()
+                .name("Versioned Update")
+                .dateTime(DateTimeConverter.fromTimestamp(
+                        Instant.now().plus(60, ChronoUnit.DAYS).toEpochMilli()))
+                .location("Updated Location")
+                .build();
+
+        // When - the first write based on the ETag succeeds and yields a new ETag
+        String newEtag = mockMvc.perform(put(BASE_URL + "/{id}", eventId)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // Then - writes based on the old ETag are rejected, writes based on the new one succeed
+        assertThat(newEtag).isNotEqualTo(etag);
+        mockMvc.perform(put(BASE_URL + "/{id}", eventId)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete(BASE_URL + "/{id}", eventId).header("If-Match", etag))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete(BASE_URL + "/{id}", eventId).header("If-Match", newEtag))
+                .andExpect(status().isNoContent());
+    }
+
+    // Test conditional GET of list pages; runs without the test transaction because the
+    // change token only moves once a write has committed
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void shouldReturn304ForUnchangedListUntilEventsChange() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get(BASE_URL).param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // When & Then - a repeated read is not modified
+        mockMvc.perform(get(BASE_URL).param("size", "5").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        // Another query gets its own ETag
+        mockMvc.perform(get(BASE_URL).param("size", "6").header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+
+        // A write invalidates the ETag of every page
+        Long eventId = createEventAndReturnId();
+        try {
+            mockMvc.perform(get(BASE_URL).param("size", "5").header("If-None-Match", eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", not(eTag)));
+        } finally {
+            mockMvc.perform(delete(BASE_URL + "/{id}", eventId));
+        }
+    }
+
     // Test deleting a running event
     @Test
     public void shouldDeleteRunningEvent() throws Exception {
@@ -154,6 +311,17 @@ public class RunningEventControllerIntegrationTest {
                 .andExpect(jsonPath("$.hasPrevious").value(true));
     }
 
+    // Test that an offset beyond the int range is rejected instead of failing the query
+    @Test
+    public void shouldRejectPageTooDeepForOffsetPagination() throws Exception {
+        // When & Then
+        mockMvc.perform(get(BASE_URL)
+                        .param("page", String.valueOf(Integer.MAX_VALUE))
+                        .param("size", "100"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("nextCursor")));
+    }
+
     // Test listing running events with date filtering
     @Test
     public void shouldListRunningEventsWithDateFiltering() throws Exception {
@@ -419,4 +587,11 @@ public class RunningEventControllerIntegrationTest {
                     .andExpect(status().isCreated());
         }
     }
+
+    /**
+     * Helper method to build an item of a feed sync
+     */
+    private static Map<String, String> syncItem(String key, String name, String dateTime) {
+        return Map.of("key", key, "name", name, "dateTime", dateTime, "location", "Harbour Front");
+    }
 }
@@ -5,14 +5,33 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.interview.runningevents.application.model.PaginatedResult;
 import com.interview.runningevents.application.model.RunningEventQuery;
+import com.interview.runningevents.application.model.RunningEventsFingerprint;
 import com.interview.runningevents.application.model.SortDirection;
+import com.interview.runningevents.application.model.SourceEventState;
+import com.interview.runningevents.application.model.SourcedRunningEvent;
 import com.interview.runningevents.application.port.out.RunningEventRepository;
 import com.interview.runningevents.domain.model.RunningEvent;
 
@@ -22,6 +41,9 @@ public class RunningEventRepositoryIntegrationTest {
     @Autowired
     private RunningEventRepository repository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
     public void shouldSaveAndFindRunningEvent() {
         // Given
@@ -123,6 +145,27 @@ public class RunningEventRepositoryIntegrationTest {
                 .isTrue();
     }
 
+    @Test
+    public void shouldFilterRunningEventsByOneSidedDateRange() {
+        // Given
+        Instant now = Instant.now();
+        repository.save(createTestEventWithDate("Near Future Event", now.plus(10, ChronoUnit.DAYS)));
+        repository.save(createTestEventWithDate("Far Future Event", now.plus(500, ChronoUnit.DAYS)));
+        Long cutoff = now.plus(100, ChronoUnit.DAYS).toEpochMilli();
+
+        // When
+        PaginatedResult<RunningEvent> upcoming = repository.findAll(
+                RunningEventQuery.builder().fromDate(cutoff).pageSize(100).build());
+        PaginatedResult<RunningEvent> before = repository.findAll(
+                RunningEventQuery.builder().toDate(cutoff).pageSize(100).build());
+
+        // Then
+        assertThat(upcoming.getItems()).allMatch(e -> e.getDateTime() >= cutoff);
+        assertThat(upcoming.getItems()).extracting(RunningEvent::getName).contains("Far Future Event");
+        assertThat(before.getItems()).allMatch(e -> e.getDateTime() <= cutoff);
+        assertThat(before.getItems()).extracting(RunningEvent::getName).contains("Near Future Event");
+    }
+
     @Test
     public void shouldSortRunningEvents() {
         // Given
@@ -187,6 +230,251 @@ public class RunningEventRepositoryIntegrationTest {
         assertThat(secondPageResult.isHasPrevious()).isTrue();
     }
 
+    @Test
+    public void shouldPageThroughEventsWithCursors() {
+        // Given - events sharing a date, so the ID tie-breaker decides their order
+        Instant sharedDate = Instant.now().plus(400, ChronoUnit.DAYS);
+        for (int i = 0; i < 5; i++) {
+            repository.save(createTestEventWithDate("Cursor Event " + i, sharedDate));
+        }
+        RunningEventQuery firstPageQuery = RunningEventQuery.builder()
+                .fromDate(sharedDate.toEpochMilli())
+                .toDate(sharedDate.toEpochMilli())
+                .pageSize(2)
+                .build();
+
+        // When - walk forward from the first offset page
+        PaginatedResult<RunningEvent> firstPage = repository.findAll(firstPageQuery);
+        PaginatedResult<RunningEvent> secondPage = repository.findAll(
+                firstPageQuery.toBuilder().cursor(firstPage.getNextCursor()).build());
+        PaginatedResult<RunningEvent> thirdPage = repository.findAll(
+                firstPageQuery.toBuilder().cursor(secondPage.getNextCursor()).build());
+
+        // Then
+        assertThat(firstPage.getItems())
+                .extracting(RunningEvent::getName)
+                .containsExactly("Cursor Event 0", "Cursor Event 1");
+        assertThat(secondPage.getItems())
+                .extracting(RunningEvent::getName)
+                .containsExactly("Cursor Event 2", "Cursor Event 3");
+        assertThat(thirdPage.getItems()).extracting(RunningEvent::getName).containsExactly("Cursor Event 4");
+        assertThat(thirdPage.isHasNext()).isFalse();
+        assertThat(thirdPage.getNextCursor()).isNull();
+
+        // When - walk back from the last page
+        PaginatedResult<RunningEvent> backToSecond = repository.findAll(
+                firstPageQuery.toBuilder().cursor(thirdPage.getPrevCursor()).build());
+
+        // Then
+        assertThat(backToSecond.getItems())
+                .extracting(RunningEvent::getName)
+                .containsExactly("Cursor Event 2", "Cursor Event 3");
+        assertThat(backToSecond.isHasPrevious()).isTrue();
+    }
+
+    @Test
+    public void shouldInsertBatchWithDistinctIds() {
+        // Given - more events than one block of IDs
+        List<RunningEvent> events = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            events.add(createTestEvent("Batch Event " + i));
+        }
+
+        // When
+        List<RunningEvent> saved = repository.saveAll(events);
+
+        // Then
+        assertThat(saved).extracting(RunningEvent::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(saved).extracting(RunningEvent::getVersion).containsOnly(0L);
+        assertThat(repository.findById(saved.get(119).getId()))
+                .get()
+                .extracting(RunningEvent::getName)
+                .isEqualTo("Batch Event 119");
+    }
+
+    @Test
+    public void shouldApplyVersionedUpdatesAndDeletes() {
+        // Given
+        RunningEvent saved = repository.save(createTestEvent("Versioned Event"));
+
+        // When
+        Optional<RunningEvent> updated = repository.update(
+                saved.toBuilder().name("Versioned Event (moved)").build());
+        Optional<RunningEvent> stale =
+                repository.update(saved.toBuilder().name("Stale Write").build());
+        boolean staleDelete = repository.deleteById(saved.getId(), saved.getVersion());
+        boolean delete = repository.deleteById(saved.getId(), saved.getVersion() + 1);
+
+        // Then
+        assertThat(updated).get().extracting(RunningEvent::getVersion).isEqualTo(saved.getVersion() + 1);
+        assertThat(stale).isEmpty();
+        assertThat(staleDelete).isFalse();
+        assertThat(delete).isTrue();
+        assertThat(repository.existsById(saved.getId())).isFalse();
+    }
+
+    @Test
+    public void shouldFingerprintStoredEvents() {
+        // Given
+        RunningEventsFingerprint before = repository.fingerprint();
+
+        // When
+        RunningEvent saved = repository.save(createTestEvent("Fingerprinted Event"));
+        RunningEventsFingerprint afterInsert = repository.fingerprint();
+        repository.update(saved.toBuilder().name("Fingerprinted Event (moved)").build());
+        RunningEventsFingerprint afterUpdate = repository.fingerprint();
+        repository.deleteById(saved.getId(), null);
+        RunningEventsFingerprint afterDelete = repository.fingerprint();
+
+        // Then
+        assertThat(afterInsert.getCount()).isEqualTo(before.getCount() + 1);
+        assertThat(afterInsert.getMaxId()).isEqualTo(saved.getId());
+        assertThat(afterInsert.getIdSum()).isEqualTo(before.getIdSum() + saved.getId());
+        assertThat(afterUpdate.getVersionSum()).isEqualTo(afterInsert.getVersionSum() + 1);
+        assertThat(afterDelete.getCount()).isEqualTo(before.getCount());
+        assertThat(afterDelete.getIdSum()).isEqualTo(before.getIdSum());
+    }
+
+    @Test
+    public void shouldVisitEventsInDateRangeInDateOrder() {
+        // Given
+        Instant base = Instant.now().plus(700, ChronoUnit.DAYS);
+        repository.save(createTestEventWithDate("Second", base.plus(1, ChronoUnit.DAYS)));
+        repository.save(createTestEventWithDate("First", base));
+        repository.save(createTestEventWithDate("Outside", base.plus(5, ChronoUnit.DAYS)));
+
+        // When
+        List<String> names = new ArrayList<>();
+        repository.forEachInDateRange(
+                base.toEpochMilli(), base.plus(2, ChronoUnit.DAYS).toEpochMilli(), event -> names.add(event.getName()));
+
+        // Then
+        assertThat(names).containsExactly("First", "Second");
+    }
+
+    @Test
+    public void shouldKeepEventsOfAFeedByKey() {
+        // Given
+        repository.insertFromSource(
+                "city-runs",
+                List.of(
+                        sourced("a", createTestEvent("Feed Event A"), "hash-a"),
+                        sourced("b", createTestEvent("Feed Event B"), "hash-b")));
+        Map<String, SourceEventState> states = repository.findSourceStates("city-runs").stream()
+                .collect(Collectors.toMap(SourceEventState::getSourceKey, state -> state));
+        // Another write lands after the states were read
+        repository.update(createTestEvent("Feed Event A (edited)").toBuilder()
+                .id(states.get("a").getId())
+                .build());
+        repository.deleteAllById(List.of(states.get("b").getId()));
+
+        // When
+        List<RunningEvent> updatedEvents = repository.updateFromSource(List.of(
+                sourced(
+                        "a",
+                        createTestEvent("Feed Event A (moved)").toBuilder()
+                                .id(states.get("a").getId())
+                                .build(),
+                        "hash-a2"),
+                sourced(
+                        "b",
+                        createTestEvent("Feed Event B (moved)").toBuilder()
+                                .id(states.get("b").getId())
+                                .build(),
+                        "hash-b2")));
+
+        // Then
+        assertThat(updatedEvents)
+                .singleElement()
+                .extracting(RunningEvent::getId, RunningEvent::getVersion)
+                .containsExactly(states.get("a").getId(), 2L);
+        assertThat(states.keySet()).containsExactlyInAnyOrder("a", "b");
+        assertThat(repository.findSourceStates("other-feed")).isEmpty();
+        assertThat(repository.findSourceStates("city-runs"))
+                .singleElement()
+                .extracting(SourceEventState::getContentHash)
+                .isEqualTo("hash-a2");
+        RunningEvent updated = repository.findById(states.get("a").getId()).orElseThrow();
+        assertThat(updated.getName()).isEqualTo("Feed Event A (moved)");
+        assertThat(updated.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    public void shouldRejectFeedUpdateOfEventChangedSinceStatesWereRead() {
+        // Given
+        repository.insertFromSource("trail-runs", List.of(sourced("a", createTestEvent("Feed Event A"), "hash-a")));
+        SourceEventState state = repository.findSourceStates("trail-runs").get(0);
+        // A versioned write lands after the states were read
+        repository.update(createTestEvent("Feed Event A (edited)").toBuilder()
+                .id(state.getId())
+                .version(state.getVersion())
+                .build());
+
+        // When/Then
+        assertThat(state.getVersion()).isZero();
+        assertThatThrownBy(() -> repository.updateFromSource(List.of(sourced(
+                        "a",
+                        createTestEvent("Feed Event A (moved)").toBuilder()
+                                .id(state.getId())
+                                .version(state.getVersion())
+                                .build(),
+                        "hash-a2"))))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(repository.findById(state.getId()).orElseThrow().getName()).isEqualTo("Feed Event A (edited)");
+    }
+
+    // Runs without the test transaction: each lock is held by a transaction of its own
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void shouldMakeASecondLockOfTheSameFeedWait() throws Exception {
+        // Given
+        TransactionTemplate transactions = new TransactionTemplate(transactionManager);
+        String feed = "lock-feed-" + UUID.randomUUID();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            transactions.executeWithoutResult(status -> repository.registerSource(feed));
+            transactions.executeWithoutResult(status -> repository.registerSource("other-" + feed));
+            // Registering twice is harmless
+            transactions.executeWithoutResult(status -> repository.registerSource(feed));
+            Future<?> first = executor.submit(() -> transactions.executeWithoutResult(status -> {
+                repository.lockSource(feed);
+                locked.countDown();
+                awaitQuietly(release);
+            }));
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            long start = System.nanoTime();
+            transactions.executeWithoutResult(status -> repository.lockSource("other-" + feed));
+            long otherFeedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            CompletableFuture<Void> second =
+                    CompletableFuture.runAsync(() -> transactions.executeWithoutResult(status -> {
+                        repository.lockSource(feed);
+                    }));
+
+            // Then - another feed is not held up, the same feed is until the first lock is released
+            assertThat(otherFeedMillis).isLessThan(500);
+            Thread.sleep(200);
+            assertThat(second).isNotDone();
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Test
     public void shouldReturnFalseWhenDeletingNonExistentEvent() {
         // When
@@ -254,6 +542,17 @@ public class RunningEventRepositoryIntegrationTest {
                 .build();
     }
 
+    /**
+     * Helper method to create an event of a feed
+     */
+    private SourcedRunningEvent sourced(String key, RunningEvent event, String contentHash) {
+        return SourcedRunningEvent.builder()
+                .sourceKey(key)
+                .event(event)
+                .contentHash(contentHash)
+                .build();
+    }
+
     /**
      * Helper method to create a test event with specific date
      */